@@ -0,0 +1,86 @@
+package kr.hyfata.rest.api.benchmark;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.hyfata.rest.api.service.TokenBlacklistService;
+import kr.hyfata.rest.api.util.JwtUtil;
+import kr.hyfata.rest.api.util.PkceUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증 경로 벤치마크
+ * 요청마다 실행되는 JWT 검증, 로그인/토큰 갱신 시의 JWT 발급, OAuth 토큰 교환의 PKCE 검증,
+ * 로그아웃/토큰 검사 시의 SHA-256 해시
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AuthBenchmark {
+
+    private JwtUtil jwtUtil;
+    private PkceUtil pkceUtil;
+    private TokenBlacklistService tokenBlacklistService;
+
+    private UserDetails user;
+    private String accessToken;
+    private String codeVerifier;
+    private String codeChallenge;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "jwtSecret", "hyfata-secret-key-for-jwt-token-min-32-characters-required-for-security");
+        ReflectionTestUtils.setField(jwtUtil, "jwtExpiration", 900000L);
+        ReflectionTestUtils.setField(jwtUtil, "refreshTokenExpiration", 1209600000L);
+
+        pkceUtil = new PkceUtil();
+        // hashToken 은 Redis 를 사용하지 않는다
+        tokenBlacklistService = new TokenBlacklistService(null, new SimpleMeterRegistry());
+
+        user = User.builder()
+                .username("bench@example.com")
+                .password("password")
+                .authorities(List.of(new SimpleGrantedAuthority("ROLE_USER")))
+                .build();
+        accessToken = jwtUtil.generateAccessToken(user);
+        codeVerifier = pkceUtil.generateCodeVerifier();
+        codeChallenge = pkceUtil.generateCodeChallenge(codeVerifier);
+    }
+
+    @Benchmark
+    public String jwtGenerateAccessToken() {
+        return jwtUtil.generateAccessToken(user);
+    }
+
+    @Benchmark
+    public Boolean jwtValidateToken() {
+        return jwtUtil.validateToken(accessToken, user);
+    }
+
+    @Benchmark
+    public String jwtExtractEmail() {
+        return jwtUtil.extractEmail(accessToken);
+    }
+
+    @Benchmark
+    public boolean pkceVerifyCodeChallenge() {
+        return pkceUtil.verifyCodeChallenge(codeVerifier, codeChallenge);
+    }
+
+    @Benchmark
+    public String blacklistHashToken() {
+        return tokenBlacklistService.hashToken(accessToken);
+    }
+}
@@ -0,0 +1,131 @@
+package kr.hyfata.rest.api.benchmark;
+
+import kr.hyfata.rest.api.dto.agora.chat.ChatListResponse;
+import kr.hyfata.rest.api.dto.agora.chat.ChatResponse;
+import kr.hyfata.rest.api.dto.agora.chat.MessageDto;
+import kr.hyfata.rest.api.entity.User;
+import kr.hyfata.rest.api.entity.agora.AgoraUserProfile;
+import kr.hyfata.rest.api.entity.agora.Chat;
+import kr.hyfata.rest.api.entity.agora.ChatParticipant;
+import kr.hyfata.rest.api.entity.agora.Message;
+import kr.hyfata.rest.api.repository.agora.AgoraUserProfileRepository;
+import kr.hyfata.rest.api.repository.agora.MessageRepository;
+import kr.hyfata.rest.api.service.agora.impl.AgoraChatServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 채팅 응답 DTO 매핑 벤치마크
+ * 메시지 목록/전송 응답의 MessageDto.from, 채팅 목록의 ChatListResponse.from,
+ * 채팅 상세의 AgoraChatServiceImpl.convertToResponse(참여자 프로필 목록 포함)를 DB 조회 없이 측정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ChatMappingBenchmark {
+
+    @Param({"2", "50"})
+    public int participantCount;
+
+    private Chat chat;
+    private Message message;
+    private AgoraUserProfile senderProfile;
+    private Map<Long, AgoraUserProfile> profiles;
+    private AgoraChatServiceImpl chatService;
+    private Method convertToResponse;
+
+    @Setup
+    public void setUp() {
+        chat = Chat.builder()
+                .id(100L)
+                .type(participantCount == 2 ? Chat.ChatType.DIRECT : Chat.ChatType.GROUP)
+                .name("벤치마크 채팅")
+                .build();
+
+        profiles = new HashMap<>();
+        List<ChatParticipant> participants = new ArrayList<>();
+        for (long userId = 1; userId <= participantCount; userId++) {
+            User user = User.builder().id(userId).email("user" + userId + "@example.com").build();
+            participants.add(ChatParticipant.builder().id(userId).chat(chat).user(user).build());
+            profiles.put(userId, AgoraUserProfile.builder()
+                    .id(userId)
+                    .user(user)
+                    .agoraId("user_" + userId)
+                    .displayName("사용자 " + userId)
+                    .profileImage("https://cdn.hyfata.com/profiles/user_" + userId + ".jpg")
+                    .build());
+        }
+        chat.setParticipants(participants);
+
+        senderProfile = profiles.get(1L);
+        setUpChatService();
+        message = Message.builder()
+                .id(999L)
+                .chat(chat)
+                .sender(participants.get(0).getUser())
+                .content("내일 오후 3시 회의는 2층 회의실에서 진행합니다. 자료는 미리 공유드릴게요.")
+                .build();
+    }
+
+    private void setUpChatService() {
+        AgoraUserProfileRepository profileRepository = stub(AgoraUserProfileRepository.class,
+                Map.of("findById", args -> Optional.ofNullable(profiles.get((Long) args[0]))));
+        MessageRepository messageRepository = stub(MessageRepository.class,
+                Map.of("countByChat_IdAndIsDeletedFalse", args -> 0L));
+
+        chatService = new AgoraChatServiceImpl(null, profileRepository, null, null, messageRepository,
+                null, null, null, null, null, null, null, null, null);
+        convertToResponse = ReflectionUtils.findMethod(AgoraChatServiceImpl.class, "convertToResponse",
+                Chat.class, Long.class);
+        ReflectionUtils.makeAccessible(convertToResponse);
+    }
+
+    @Benchmark
+    public MessageDto messageDtoFrom() {
+        return MessageDto.from(message, senderProfile);
+    }
+
+    @Benchmark
+    public ChatListResponse chatListResponseFrom() {
+        return ChatListResponse.from(chat, message, (long) participantCount, false, null, senderProfile);
+    }
+
+    /**
+     * AgoraChatServiceImpl.convertToResponse 를 그대로 호출 (프로필/메시지 수 조회는 메모리 스텁이 응답)
+     */
+    @Benchmark
+    public ChatResponse chatResponseBuild() {
+        return (ChatResponse) ReflectionUtils.invokeMethod(convertToResponse, chatService, chat, 1L);
+    }
+
+    /**
+     * 리포지토리 인터페이스의 메모리 스텁 (벤치마크가 호출하는 메서드만 응답)
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T stub(Class<T> type, Map<String, Function<Object[], Object>> answers) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            Function<Object[], Object> answer = answers.get(method.getName());
+            if (answer == null) {
+                throw new UnsupportedOperationException(type.getSimpleName() + "." + method.getName());
+            }
+            return answer.apply(args);
+        });
+    }
+}
@@ -0,0 +1,100 @@
+package kr.hyfata.rest.api.benchmark;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import kr.hyfata.rest.api.metrics.SqlStatementCounter;
+import kr.hyfata.rest.api.util.JwtUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 계측 오버헤드 벤치마크
+ * 운영과 같은 설정(Prometheus 레지스트리, hyfata.* 히스토그램 버킷)에서
+ * JwtAuthenticationFilter 의 JWT 검증을 계측 없이/타이머로 감쌌을 때를 비교하고,
+ * 타이머 기록과 요청당 SQL 문 수 집계(SqlStatementCounter) 자체의 비용을 측정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MetricsBenchmark {
+
+    private PrometheusMeterRegistry meterRegistry;
+    private SqlStatementCounter sqlStatementCounter;
+    private JwtUtil jwtUtil;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        meterRegistry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+        // management.metrics.distribution.percentiles-histogram.hyfata=true 와 같은 설정
+        meterRegistry.config().meterFilter(new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if (id.getName().startsWith("hyfata")) {
+                    return DistributionStatisticConfig.builder().percentilesHistogram(true).build().merge(config);
+                }
+                return config;
+            }
+        });
+        sqlStatementCounter = new SqlStatementCounter();
+
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "jwtSecret", "hyfata-secret-key-for-jwt-token-min-32-characters-required-for-security");
+        ReflectionTestUtils.setField(jwtUtil, "jwtExpiration", 900000L);
+        ReflectionTestUtils.setField(jwtUtil, "refreshTokenExpiration", 1209600000L);
+        accessToken = jwtUtil.generateAccessToken(User.builder()
+                .username("bench@example.com")
+                .password("password")
+                .authorities(List.of(new SimpleGrantedAuthority("ROLE_USER")))
+                .build());
+    }
+
+    @Benchmark
+    public Boolean jwtValidate() {
+        return jwtUtil.validateToken(accessToken);
+    }
+
+    /**
+     * JwtAuthenticationFilter 와 같은 방식 (Sample 시작 → 이름/태그로 타이머 조회 → 기록)
+     */
+    @Benchmark
+    public Boolean jwtValidateTimed() {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Boolean valid = jwtUtil.validateToken(accessToken);
+        sample.stop(meterRegistry.timer("hyfata.auth.jwt", "result", valid ? "valid" : "invalid"));
+        return valid;
+    }
+
+    @Benchmark
+    public long timerRecord() {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        return sample.stop(meterRegistry.timer("hyfata.stomp.handler", "handler", "send", "outcome", "success"));
+    }
+
+    /**
+     * 요청 하나에 SQL 10개를 실행했을 때의 집계 비용 (모양별 반복 집계, 한도 검사 포함)
+     */
+    @Benchmark
+    public int sqlStatementCount() {
+        SqlStatementCounter.start(new SqlStatementCounter.Limits(false, 50, 10));
+        for (int i = 0; i < 10; i++) {
+            sqlStatementCounter.inspect("select p1_0.user_id from agora_user_profiles p1_0 where p1_0.user_id in (?,?,?)");
+        }
+        return SqlStatementCounter.stop().count();
+    }
+}
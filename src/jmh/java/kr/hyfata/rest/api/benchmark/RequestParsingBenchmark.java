@@ -0,0 +1,71 @@
+package kr.hyfata.rest.api.benchmark;
+
+import kr.hyfata.rest.api.util.DeviceDetector;
+import kr.hyfata.rest.api.util.IpUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그인/세션 생성 시 요청 정보 파싱 벤치마크 (User-Agent 파싱, 클라이언트 IP 추출)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RequestParsingBenchmark {
+
+    private DeviceDetector deviceDetector;
+    private IpUtil ipUtil;
+    private MockHttpServletRequest proxiedRequest;
+    private MockHttpServletRequest directRequest;
+
+    @Setup
+    public void setUp() {
+        deviceDetector = new DeviceDetector();
+        ipUtil = new IpUtil();
+
+        proxiedRequest = new MockHttpServletRequest();
+        proxiedRequest.addHeader("X-Forwarded-For", "203.0.113.195, 70.41.3.18, 150.172.238.178");
+
+        // 프록시 헤더가 하나도 없어 모든 헤더를 확인한 뒤 remoteAddr 로 내려가는 경우
+        directRequest = new MockHttpServletRequest();
+        directRequest.setRemoteAddr("198.51.100.7");
+    }
+
+    @Benchmark
+    public DeviceDetector.DeviceInfo deviceDetectorParse(UserAgents userAgents) {
+        return deviceDetector.parse(userAgents.userAgent);
+    }
+
+    @Benchmark
+    public String ipUtilForwardedFor() {
+        return ipUtil.getClientIp(proxiedRequest);
+    }
+
+    @Benchmark
+    public String ipUtilRemoteAddr() {
+        return ipUtil.getClientIp(directRequest);
+    }
+
+    /**
+     * User-Agent 종류별 파싱 비용 (deviceDetectorParse 에만 적용)
+     */
+    @State(Scope.Benchmark)
+    public static class UserAgents {
+
+        @Param({
+                "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/120.0.0.0 Safari/537.36",
+                "Mozilla/5.0 (iPhone; CPU iPhone OS 17_2 like Mac OS X) AppleWebKit/605.1.15 (KHTML, like Gecko) Version/17.2 Mobile/15E148 Safari/604.1",
+                "Dart/3.2 (dart:io)"
+        })
+        public String userAgent;
+    }
+}
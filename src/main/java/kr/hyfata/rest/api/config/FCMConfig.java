@@ -17,30 +17,25 @@ public class FCMConfig {
     @Value("${firebase.config.path:}")
     private String firebaseConfigPath;
 
+    /**
+     * Firebase 설정 파일이 없는 환경(개발/테스트)에서는 FirebaseApp 을 만들지 않고 null 을 등록한다.
+     * 이 경우 FirebasePushGateway 는 사용 불가로 보고 푸시 요청은 발송 없이 무시된다.
+     */
     @Bean
     public FirebaseMessaging firebaseMessaging() {
-        try {
-            if (firebaseConfigPath != null && !firebaseConfigPath.isEmpty()) {
-                try (FileInputStream serviceAccount = new FileInputStream(firebaseConfigPath)) {
-                    FirebaseOptions options = new FirebaseOptions.Builder()
-                            .setCredentials(GoogleCredentials.fromStream(serviceAccount))
-                            .build();
+        if (firebaseConfigPath == null || firebaseConfigPath.isEmpty()) {
+            System.err.println("경고: firebase.config.path 가 설정되지 않아 FCM 기능이 비활성화됩니다");
+            return null;
+        }
+        try (FileInputStream serviceAccount = new FileInputStream(firebaseConfigPath)) {
+            FirebaseOptions options = new FirebaseOptions.Builder()
+                    .setCredentials(GoogleCredentials.fromStream(serviceAccount))
+                    .build();
 
-                    if (FirebaseApp.getApps().isEmpty()) {
-                        FirebaseApp.initializeApp(options);
-                    }
-                    return FirebaseMessaging.getInstance();
-                }
-            } else {
-                // Firebase 설정 파일이 없는 경우 (개발/테스트 환경)
-                if (FirebaseApp.getApps().isEmpty()) {
-                    FirebaseOptions options = new FirebaseOptions.Builder()
-                            .setProjectId("dev-project")
-                            .build();
-                    FirebaseApp.initializeApp(options);
-                }
-                return FirebaseMessaging.getInstance();
+            if (FirebaseApp.getApps().isEmpty()) {
+                FirebaseApp.initializeApp(options);
             }
+            return FirebaseMessaging.getInstance();
         } catch (IOException e) {
             System.err.println("경고: Firebase 초기화 실패. FCM 기능이 비활성화됩니다: " + e.getMessage());
             return null;
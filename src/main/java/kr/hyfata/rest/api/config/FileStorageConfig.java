@@ -10,6 +10,7 @@ import java.io.IOException;
 public class FileStorageConfig {
 
     private static final String UPLOAD_DIR = System.getProperty("user.home") + "/uploads";
+    private static final String PARTIAL_DIR = UPLOAD_DIR + "/.partial";
     private static final long MAX_FILE_SIZE = 50 * 1024 * 1024; // 50MB
 
     public static final String[] ALLOWED_MIME_TYPES = {
@@ -37,6 +38,10 @@ public class FileStorageConfig {
             if (!Files.exists(uploadPath)) {
                 Files.createDirectories(uploadPath);
             }
+            Path partialPath = Paths.get(PARTIAL_DIR);
+            if (!Files.exists(partialPath)) {
+                Files.createDirectories(partialPath);
+            }
         } catch (IOException e) {
             System.err.println("경고: 파일 저장 디렉토리 생성 실패: " + UPLOAD_DIR + ". " + e.getMessage());
         }
@@ -46,6 +51,13 @@ public class FileStorageConfig {
         return Paths.get(UPLOAD_DIR);
     }
 
+    /**
+     * 청크 업로드 중인 임시 파일 저장 경로 (파일 서빙 경로와 분리)
+     */
+    public static Path getPartialUploadPath() {
+        return Paths.get(PARTIAL_DIR);
+    }
+
     public static boolean isAllowedMimeType(String mimeType) {
         for (String allowed : ALLOWED_MIME_TYPES) {
             if (allowed.equals(mimeType)) {
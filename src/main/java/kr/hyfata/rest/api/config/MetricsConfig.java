@@ -0,0 +1,38 @@
+package kr.hyfata.rest.api.config;
+
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import kr.hyfata.rest.api.metrics.SqlStatementCounter;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+
+/**
+ * 메트릭 설정
+ * 요청당 SQL 문 수 집계기(SqlStatementCounter)를 Hibernate 에 등록하고,
+ * STOMP 인바운드 채널 실행기의 대기열/활성 스레드 수를 executor.* (name=stomp.inbound) 게이지로 노출한다.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlStatementCounterCustomizer() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new SqlStatementCounter());
+    }
+
+    @Bean
+    public MeterBinder stompInboundChannelMetrics(@Qualifier("clientInboundChannelExecutor") Executor executor) {
+        return registry -> {
+            if (executor instanceof ThreadPoolTaskExecutor taskExecutor) {
+                new ExecutorServiceMetrics(taskExecutor.getThreadPoolExecutor(), "stomp.inbound", Tags.empty())
+                        .bindTo(registry);
+            }
+        };
+    }
+}
@@ -1,16 +1,23 @@
 package kr.hyfata.rest.api.config;
 
+import kr.hyfata.rest.api.service.agora.FriendGraphCache;
+import kr.hyfata.rest.api.service.agora.TeamAuthorizationService;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
 
 /**
  * Redis 설정
- * 토큰 블랙리스트 저장에 사용
+ * 토큰 블랙리스트 저장과 노드 간 캐시 무효화 메시지 수신에 사용
  */
 @Configuration
 public class RedisConfig {
@@ -43,4 +50,25 @@ public class RedisConfig {
         template.setConnectionFactory(connectionFactory);
         return template;
     }
+
+    /**
+     * 다른 노드가 보낸 캐시 무효화 수신 (팀 권한 캐시, 친구/차단 캐시)
+     */
+    @Bean
+    @ConditionalOnProperty(name = "cache.redis-invalidation", havingValue = "true", matchIfMissing = true)
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                       TeamAuthorizationService teamAuthorizationService,
+                                                                       FriendGraphCache friendGraphCache) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(
+                (message, pattern) -> teamAuthorizationService.onRemoteEviction(
+                        new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(TeamAuthorizationService.EVICT_CHANNEL));
+        container.addMessageListener(
+                (message, pattern) -> friendGraphCache.onRemoteEviction(
+                        new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(FriendGraphCache.EVICT_CHANNEL));
+        return container;
+    }
 }
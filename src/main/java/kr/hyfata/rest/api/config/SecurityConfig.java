@@ -49,11 +49,14 @@ public class SecurityConfig {
                         .requestMatchers("/api/auth/**").permitAll()
                         .requestMatchers("/api/public/**").permitAll()
                         .requestMatchers("/api/clients/register").permitAll()
+                        .requestMatchers("/api/agora/files/uploads/**").authenticated()  // 청크 업로드 세션은 조회도 인증 필요
                         .requestMatchers(HttpMethod.GET, "/api/agora/files/**").permitAll()  // 파일 조회만 공개
                         .requestMatchers("/oauth/**").permitAll()
                         .requestMatchers("/ws/**").permitAll()
                         .requestMatchers("/").permitAll()
                         .requestMatchers("/health").permitAll()
+                        // 메트릭 스크레이프 (관리 포트 management.server.port 에서만 열림)
+                        .requestMatchers("/actuator/health", "/actuator/prometheus").permitAll()
                         // Swagger/OpenAPI 관련 엔드포인트 (필요시 추가)
                         .requestMatchers("/swagger-ui/**", "/v3/api-docs/**", "/swagger-resources/**").permitAll()
                         // 그 외 모든 요청은 인증 필요
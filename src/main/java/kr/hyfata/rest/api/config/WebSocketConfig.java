@@ -1,5 +1,6 @@
 package kr.hyfata.rest.api.config;
 
+import kr.hyfata.rest.api.metrics.SqlStatementChannelInterceptor;
 import kr.hyfata.rest.api.security.JwtChannelInterceptor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
@@ -17,6 +18,7 @@ import org.springframework.web.socket.server.support.HttpSessionHandshakeInterce
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     private final JwtChannelInterceptor jwtChannelInterceptor;
+    private final SqlStatementChannelInterceptor sqlStatementChannelInterceptor;
 
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
@@ -50,7 +52,7 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     @Override
     public void configureClientInboundChannel(ChannelRegistration registration) {
-        // JWT 검증 인터셉터 추가
-        registration.interceptors(jwtChannelInterceptor);
+        // JWT 검증 인터셉터, 메시지당 SQL 문 수 집계/한도 인터셉터 추가
+        registration.interceptors(jwtChannelInterceptor, sqlStatementChannelInterceptor);
     }
 }
@@ -0,0 +1,95 @@
+package kr.hyfata.rest.api.controller.agora;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
+import kr.hyfata.rest.api.dto.agora.team.CalendarOccurrence;
+import kr.hyfata.rest.api.service.agora.AgoraCalendarService;
+import kr.hyfata.rest.api.util.RecurrenceUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/agora/calendar")
+@RequiredArgsConstructor
+@Slf4j
+public class AgoraCalendarController {
+
+    private final AgoraCalendarService agoraCalendarService;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 내 캘린더 조회 (소속된 모든 팀의 일정, 날짜별 묶음)
+     * GET /api/agora/calendar?from=2025-01-01&to=2025-01-31
+     * <p>
+     * 응답은 날짜 단위로 나누어 순서대로 스트리밍되며, 일정이 없는 날짜는 생략됩니다.
+     * 여러 날에 걸친 일정은 겹치는 모든 날짜에 포함됩니다.
+     */
+    @GetMapping
+    public void getCalendar(
+            Authentication authentication,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            HttpServletResponse response
+    ) throws IOException {
+        String userEmail = authentication.getName();
+        List<CalendarOccurrence> occurrences = agoraCalendarService.getOccurrences(userEmail, from, to);
+
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+
+        try (JsonGenerator generator = objectMapper.createGenerator(response.getOutputStream())) {
+            generator.writeStartObject();
+            generator.writeObjectField("from", from);
+            generator.writeObjectField("to", to);
+            generator.writeArrayFieldStart("days");
+            writeDays(generator, occurrences, from, to);
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * 시작 시각 순으로 정렬된 발생 목록을 한 번 훑으며 날짜별로 기록
+     */
+    private void writeDays(JsonGenerator generator, List<CalendarOccurrence> occurrences,
+                           LocalDate from, LocalDate to) throws IOException {
+        List<CalendarOccurrence> active = new ArrayList<>();
+        int next = 0;
+
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            LocalDateTime dayStart = date.atStartOfDay();
+            LocalDateTime dayEnd = date.plusDays(1).atStartOfDay();
+
+            while (next < occurrences.size() && occurrences.get(next).getStartTime().isBefore(dayEnd)) {
+                active.add(occurrences.get(next++));
+            }
+            // 이미 끝난 일정은 이후 날짜에도 나타나지 않으므로 제거
+            active.removeIf(o -> !RecurrenceUtil.overlaps(o.getStartTime(), o.getEndTime(), dayStart, dayEnd));
+            if (active.isEmpty()) {
+                continue;
+            }
+
+            generator.writeStartObject();
+            generator.writeObjectField("date", date);
+            generator.writeArrayFieldStart("events");
+            for (CalendarOccurrence occurrence : active) {
+                generator.writeObject(occurrence);
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+            generator.flush();
+        }
+    }
+}
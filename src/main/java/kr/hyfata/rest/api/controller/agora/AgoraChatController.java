@@ -5,7 +5,9 @@ import kr.hyfata.rest.api.dto.agora.chat.ChatListResponse;
 import kr.hyfata.rest.api.dto.agora.chat.CreateChatRequest;
 import kr.hyfata.rest.api.dto.agora.chat.CreateDirectChatRequest;
 import kr.hyfata.rest.api.dto.agora.chat.CreateGroupChatRequest;
+import kr.hyfata.rest.api.dto.agora.chat.MessageCursor;
 import kr.hyfata.rest.api.dto.agora.chat.MessageDto;
+import kr.hyfata.rest.api.dto.agora.chat.MessageSearchResult;
 import kr.hyfata.rest.api.dto.agora.chat.SendMessageRequest;
 import kr.hyfata.rest.api.entity.agora.Chat;
 import kr.hyfata.rest.api.service.agora.AgoraChatService;
@@ -68,21 +70,62 @@ public class AgoraChatController {
     }
 
     /**
-     * 메시지 목록 조회 (커서 페이징)
+     * 메시지 목록 조회 (커서 페이징, 최신순)
      * GET /api/agora/chats/{chatId}/messages?cursor=&limit=20
+     * cursor(=before) 이전, after 이후, around 주변(답장 원문으로 이동) 중 하나를 지정, 없으면 최신 페이지
      */
     @GetMapping("/{chatId}/messages")
     public ResponseEntity<List<MessageDto>> getMessages(
             Authentication authentication,
             @PathVariable Long chatId,
             @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Long before,
+            @RequestParam(required = false) Long after,
+            @RequestParam(required = false) Long around,
             @RequestParam(defaultValue = "20") int limit
     ) {
         String userEmail = authentication.getName();
-        List<MessageDto> messages = agoraChatService.getMessages(userEmail, chatId, cursor, limit);
+        if (cursor != null && before != null) {
+            throw new IllegalArgumentException("Use either cursor or before");
+        }
+        MessageCursor messageCursor = MessageCursor.of(before != null ? before : cursor, after, around);
+        List<MessageDto> messages = agoraChatService.getMessages(userEmail, chatId, messageCursor, limit);
         return ResponseEntity.ok(messages);
     }
 
+    /**
+     * 채팅방 메시지 검색 (최신순 커서 페이징)
+     * GET /api/agora/chats/{chatId}/messages/search?keyword=&cursor=&limit=20
+     */
+    @GetMapping("/{chatId}/messages/search")
+    public ResponseEntity<List<MessageSearchResult>> searchMessages(
+            Authentication authentication,
+            @PathVariable Long chatId,
+            @RequestParam String keyword,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") int limit
+    ) {
+        String userEmail = authentication.getName();
+        List<MessageSearchResult> results = agoraChatService.searchMessages(userEmail, chatId, keyword, cursor, limit);
+        return ResponseEntity.ok(results);
+    }
+
+    /**
+     * 참여 중인 전체 채팅방 메시지 검색 (최신순 커서 페이징)
+     * GET /api/agora/chats/messages/search?keyword=&cursor=&limit=20
+     */
+    @GetMapping("/messages/search")
+    public ResponseEntity<List<MessageSearchResult>> searchAllMessages(
+            Authentication authentication,
+            @RequestParam String keyword,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") int limit
+    ) {
+        String userEmail = authentication.getName();
+        List<MessageSearchResult> results = agoraChatService.searchAllMessages(userEmail, keyword, cursor, limit);
+        return ResponseEntity.ok(results);
+    }
+
     /**
      * 메시지 전송
      * POST /api/agora/chats/{chatId}/messages
@@ -1,7 +1,12 @@
 package kr.hyfata.rest.api.controller.agora;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import kr.hyfata.rest.api.dto.agora.CreateUploadSessionRequest;
 import kr.hyfata.rest.api.dto.agora.FileUploadResponse;
+import kr.hyfata.rest.api.dto.agora.UploadSessionResponse;
 import kr.hyfata.rest.api.service.agora.AgoraFileService;
+import kr.hyfata.rest.api.service.agora.AgoraUploadSessionService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.io.Resource;
@@ -13,6 +18,7 @@ import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
 import java.net.MalformedURLException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -26,6 +32,7 @@ import java.util.Map;
 public class AgoraFileController {
 
     private final AgoraFileService agoraFileService;
+    private final AgoraUploadSessionService agoraUploadSessionService;
 
     /**
      * 파일 업로드
@@ -55,6 +62,82 @@ public class AgoraFileController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 청크 업로드 세션 생성
+     * POST /api/agora/files/uploads
+     */
+    @PostMapping("/uploads")
+    public ResponseEntity<UploadSessionResponse> createUploadSession(
+            Authentication authentication,
+            @Valid @RequestBody CreateUploadSessionRequest request
+    ) {
+        String userEmail = authentication.getName();
+        UploadSessionResponse response = agoraUploadSessionService.createSession(userEmail, request);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 청크 업로드 (application/octet-stream 본문)
+     * PUT /api/agora/files/uploads/{uploadId}?offset=0
+     */
+    @PutMapping("/uploads/{uploadId}")
+    public ResponseEntity<UploadSessionResponse> uploadChunk(
+            Authentication authentication,
+            @PathVariable String uploadId,
+            @RequestParam long offset,
+            HttpServletRequest request
+    ) throws IOException {
+        String userEmail = authentication.getName();
+        UploadSessionResponse response = agoraUploadSessionService.writeChunk(
+                userEmail, uploadId, offset, request.getContentLengthLong(), request.getInputStream());
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 청크 업로드 상태 조회
+     * GET /api/agora/files/uploads/{uploadId}
+     */
+    @GetMapping("/uploads/{uploadId}")
+    public ResponseEntity<UploadSessionResponse> getUploadStatus(
+            Authentication authentication,
+            @PathVariable String uploadId
+    ) {
+        String userEmail = authentication.getName();
+        UploadSessionResponse response = agoraUploadSessionService.getStatus(userEmail, uploadId);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 청크 업로드 완료
+     * POST /api/agora/files/uploads/{uploadId}/complete
+     */
+    @PostMapping("/uploads/{uploadId}/complete")
+    public ResponseEntity<FileUploadResponse> completeUpload(
+            Authentication authentication,
+            @PathVariable String uploadId
+    ) {
+        String userEmail = authentication.getName();
+        FileUploadResponse response = agoraUploadSessionService.complete(userEmail, uploadId);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 청크 업로드 취소
+     * DELETE /api/agora/files/uploads/{uploadId}
+     */
+    @DeleteMapping("/uploads/{uploadId}")
+    public ResponseEntity<?> abortUpload(
+            Authentication authentication,
+            @PathVariable String uploadId
+    ) {
+        String userEmail = authentication.getName();
+        String message = agoraUploadSessionService.abort(userEmail, uploadId);
+
+        Map<String, String> response = new HashMap<>();
+        response.put("message", message);
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * 파일명으로 파일 서빙 (공개 접근)
      * GET /api/agora/files/{fileName}
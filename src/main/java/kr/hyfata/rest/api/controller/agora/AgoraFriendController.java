@@ -1,5 +1,6 @@
 package kr.hyfata.rest.api.controller.agora;
 
+import kr.hyfata.rest.api.dto.agora.friend.FriendBirthdayResponse;
 import kr.hyfata.rest.api.dto.agora.friend.FriendRequestResponse;
 import kr.hyfata.rest.api.dto.agora.friend.FriendResponse;
 import kr.hyfata.rest.api.dto.agora.friend.SendFriendRequestDto;
@@ -185,9 +186,9 @@ public class AgoraFriendController {
      * GET /api/agora/friends/birthdays
      */
     @GetMapping("/birthdays")
-    public ResponseEntity<List<FriendResponse>> getFriendBirthdays(Authentication authentication) {
+    public ResponseEntity<List<FriendBirthdayResponse>> getFriendBirthdays(Authentication authentication) {
         String userEmail = authentication.getName();
-        List<FriendResponse> birthdays = agoraFriendService.getFriendBirthdayList(userEmail);
+        List<FriendBirthdayResponse> birthdays = agoraFriendService.getFriendBirthdayList(userEmail);
         return ResponseEntity.ok(birthdays);
     }
 }
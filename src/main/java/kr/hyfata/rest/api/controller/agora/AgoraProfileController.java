@@ -8,13 +8,12 @@ import kr.hyfata.rest.api.dto.agora.UpdateAgoraProfileRequest;
 import kr.hyfata.rest.api.service.agora.AgoraProfileService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -101,14 +100,17 @@ public class AgoraProfileController {
 
     /**
      * 사용자 검색
-     * GET /api/agora/profile/search?keyword=xxx
+     * GET /api/agora/profile/search?keyword=xxx&cursor=&limit=20
      */
     @GetMapping("/search")
-    public ResponseEntity<Page<PublicAgoraProfileResponse>> searchUsers(
+    public ResponseEntity<List<PublicAgoraProfileResponse>> searchUsers(
+            Authentication authentication,
             @RequestParam String keyword,
-            Pageable pageable
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit
     ) {
-        Page<PublicAgoraProfileResponse> results = agoraProfileService.searchUsers(keyword, pageable);
+        String userEmail = authentication.getName();
+        List<PublicAgoraProfileResponse> results = agoraProfileService.searchUsers(userEmail, keyword, cursor, limit);
         return ResponseEntity.ok(results);
     }
 
@@ -6,11 +6,13 @@ import kr.hyfata.rest.api.dto.agora.team.UpdateEventRequest;
 import kr.hyfata.rest.api.service.agora.AgoraTeamEventService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
 import jakarta.validation.Valid;
+import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -25,15 +27,19 @@ public class AgoraTeamEventController {
 
     /**
      * 일정 목록 조회
-     * GET /api/agora/teams/{teamId}/events
+     * GET /api/agora/teams/{teamId}/events?from=&to=&cursor=&limit=20
      */
     @GetMapping
     public ResponseEntity<List<EventResponse>> getEventList(
             Authentication authentication,
-            @PathVariable Long teamId
+            @PathVariable Long teamId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") int limit
     ) {
         String userEmail = authentication.getName();
-        List<EventResponse> events = agoraTeamEventService.getEventList(userEmail, teamId);
+        List<EventResponse> events = agoraTeamEventService.getEventList(userEmail, teamId, from, to, cursor, limit);
         return ResponseEntity.ok(events);
     }
 
@@ -25,15 +25,17 @@ public class AgoraTeamNoticeController {
 
     /**
      * 공지 목록 조회
-     * GET /api/agora/teams/{teamId}/notices
+     * GET /api/agora/teams/{teamId}/notices?cursor=&limit=20
      */
     @GetMapping
     public ResponseEntity<List<NoticeResponse>> getNoticeList(
             Authentication authentication,
-            @PathVariable Long teamId
+            @PathVariable Long teamId,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") int limit
     ) {
         String userEmail = authentication.getName();
-        List<NoticeResponse> notices = agoraTeamNoticeService.getNoticeList(userEmail, teamId);
+        List<NoticeResponse> notices = agoraTeamNoticeService.getNoticeList(userEmail, teamId, cursor, limit);
         return ResponseEntity.ok(notices);
     }
 
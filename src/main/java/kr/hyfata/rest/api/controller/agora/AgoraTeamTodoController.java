@@ -25,15 +25,19 @@ public class AgoraTeamTodoController {
 
     /**
      * 할일 목록 조회
-     * GET /api/agora/teams/{teamId}/todos
+     * GET /api/agora/teams/{teamId}/todos?status=&assigneeId=&cursor=&limit=20
      */
     @GetMapping
     public ResponseEntity<List<TodoResponse>> getTodoList(
             Authentication authentication,
-            @PathVariable Long teamId
+            @PathVariable Long teamId,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) Long assigneeId,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") int limit
     ) {
         String userEmail = authentication.getName();
-        List<TodoResponse> todos = agoraTeamTodoService.getTodoList(userEmail, teamId);
+        List<TodoResponse> todos = agoraTeamTodoService.getTodoList(userEmail, teamId, status, assigneeId, cursor, limit);
         return ResponseEntity.ok(todos);
     }
 
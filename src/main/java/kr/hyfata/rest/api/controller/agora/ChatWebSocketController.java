@@ -1,20 +1,29 @@
 package kr.hyfata.rest.api.controller.agora;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import kr.hyfata.rest.api.dto.agora.chat.ChatMessageDto;
+import kr.hyfata.rest.api.dto.agora.chat.MessageDto;
 import kr.hyfata.rest.api.dto.agora.chat.ReadStatusDto;
 import kr.hyfata.rest.api.entity.User;
 import kr.hyfata.rest.api.entity.agora.Chat;
 import kr.hyfata.rest.api.entity.agora.Message;
 import kr.hyfata.rest.api.entity.agora.MessageReadStatus;
 import kr.hyfata.rest.api.entity.agora.AgoraUserProfile;
+import kr.hyfata.rest.api.event.NotificationEvent;
+import kr.hyfata.rest.api.ratelimit.RateLimitRules;
+import kr.hyfata.rest.api.ratelimit.RateLimiter;
 import kr.hyfata.rest.api.repository.UserRepository;
 import kr.hyfata.rest.api.repository.agora.AgoraUserProfileRepository;
 import kr.hyfata.rest.api.repository.agora.ChatParticipantRepository;
 import kr.hyfata.rest.api.repository.agora.ChatRepository;
 import kr.hyfata.rest.api.repository.agora.MessageRepository;
 import kr.hyfata.rest.api.repository.agora.MessageReadStatusRepository;
+import kr.hyfata.rest.api.service.DataRetentionService;
+import kr.hyfata.rest.api.service.agora.RecentMessageCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
@@ -24,12 +33,26 @@ import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.stereotype.Controller;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 @Controller
 @RequiredArgsConstructor
 @Slf4j
 public class ChatWebSocketController {
 
+    /**
+     * 핸들러 처리 시간 (handler: send, read / outcome: success, error)
+     */
+    private static final String HANDLER_TIMER = "hyfata.stomp.handler";
+
+    /**
+     * 전송 한도 초과 알림 (클라이언트 → /user/queue/agora/errors 구독)
+     */
+    private static final String ERROR_DESTINATION = "/queue/agora/errors";
+
     private final SimpMessagingTemplate messagingTemplate;
     private final UserRepository userRepository;
     private final AgoraUserProfileRepository agoraUserProfileRepository;
@@ -37,11 +60,18 @@ public class ChatWebSocketController {
     private final ChatParticipantRepository chatParticipantRepository;
     private final MessageRepository messageRepository;
     private final MessageReadStatusRepository messageReadStatusRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+    private final RateLimiter rateLimiter;
+    private final RateLimitRules rateLimitRules;
+    private final RecentMessageCache recentMessageCache;
+    private final DataRetentionService dataRetentionService;
 
     /**
      * 메시지 전송
      * 클라이언트 → /app/agora/chat/{chatId}/send
      * 서버 → /topic/agora/chat/{chatId}
+     * 사용자별 전송 한도(rate-limit.chat-send)를 넘으면 저장/브로드캐스트 없이 /user/queue/agora/errors 로 알린다.
      */
     @MessageMapping("/agora/chat/{chatId}/send")
     @SendTo("/topic/agora/chat/{chatId}")
@@ -50,6 +80,22 @@ public class ChatWebSocketController {
             @Payload ChatMessageDto messageDto,
             StompHeaderAccessor accessor
     ) {
+        if (rateLimitRules.isEnabled()) {
+            String userEmail = accessor.getUser().getName();
+            RateLimiter.Decision decision = rateLimiter.tryAcquire(rateLimitRules.getChatSend(), userEmail);
+            if (!decision.allowed()) {
+                log.warn("Message rate limit exceeded: {} in chat {}", userEmail, chatId);
+                messagingTemplate.convertAndSendToUser(userEmail, ERROR_DESTINATION, Map.of(
+                        "eventType", "RATE_LIMITED",
+                        "chatId", chatId,
+                        "retryAfterSeconds", decision.retryAfterSeconds()));
+                return null;
+            }
+        }
+        return timed("send", () -> handleSendMessage(chatId, messageDto, accessor));
+    }
+
+    private ChatMessageDto handleSendMessage(Long chatId, ChatMessageDto messageDto, StompHeaderAccessor accessor) {
         String userEmail = accessor.getUser().getName();
         log.info("Message received from {} in chat {}: {}", userEmail, chatId, messageDto.getContent());
 
@@ -93,6 +139,14 @@ public class ChatWebSocketController {
         // Get sender profile for response
         AgoraUserProfile senderProfile = agoraUserProfileRepository.findById(sender.getId()).orElse(null);
 
+        // Notify other participants
+        List<Long> recipientIds = chatParticipantRepository.findUserIdsByChatId(chatId).stream()
+                .filter(userId -> !userId.equals(sender.getId()))
+                .collect(Collectors.toList());
+        eventPublisher.publishEvent(NotificationEvent.message(this, recipientIds,
+                senderProfile != null ? senderProfile.getDisplayName() : "Unknown", savedMessage.getContent(), chatId));
+        recentMessageCache.messageSent(chatId, null, MessageDto.from(savedMessage, senderProfile));
+
         // Build response DTO
         return ChatMessageDto.builder()
                 .messageId(savedMessage.getId())
@@ -120,6 +174,10 @@ public class ChatWebSocketController {
             @Payload ReadStatusDto readDto,
             StompHeaderAccessor accessor
     ) {
+        return timed("read", () -> handleMarkAsRead(chatId, readDto, accessor));
+    }
+
+    private ReadStatusDto handleMarkAsRead(Long chatId, ReadStatusDto readDto, StompHeaderAccessor accessor) {
         String userEmail = accessor.getUser().getName();
         log.info("Read status received from {} in chat {}", userEmail, chatId);
 
@@ -135,7 +193,10 @@ public class ChatWebSocketController {
                 .orElseThrow(() -> new IllegalArgumentException("Message not found"));
 
         // Create read status if not already exists
-        if (!messageReadStatusRepository.existsByMessage_IdAndUser_Id(message.getId(), user.getId())) {
+        // 보존 기간이 지난 메시지는 읽음 상태를 다시 만들지 않는다 (보존 정책이 지운 행이 되살아나지 않도록)
+        LocalDateTime readStatusCutoff = dataRetentionService.messageReadStatusCutoff();
+        boolean retained = readStatusCutoff == null || !message.getCreatedAt().isBefore(readStatusCutoff);
+        if (retained && !messageReadStatusRepository.existsByMessage_IdAndUser_Id(message.getId(), user.getId())) {
             MessageReadStatus readStatus = MessageReadStatus.builder()
                     .message(message)
                     .user(user)
@@ -153,4 +214,16 @@ public class ChatWebSocketController {
                 .eventType("READ")
                 .build();
     }
+
+    private <T> T timed(String handler, Supplier<T> body) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            T result = body.get();
+            outcome = "success";
+            return result;
+        } finally {
+            sample.stop(meterRegistry.timer(HANDLER_TIMER, "handler", handler, "outcome", outcome));
+        }
+    }
 }
@@ -0,0 +1,27 @@
+package kr.hyfata.rest.api.dto.agora;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CreateUploadSessionRequest {
+
+    @NotBlank(message = "fileName is required")
+    private String fileName;
+
+    @NotBlank(message = "mimeType is required")
+    private String mimeType;
+
+    @NotNull(message = "totalSize is required")
+    @Positive(message = "totalSize must be positive")
+    private Long totalSize;
+
+    // 선택: 완료 시 검증할 SHA-256 (hex)
+    private String sha256;
+}
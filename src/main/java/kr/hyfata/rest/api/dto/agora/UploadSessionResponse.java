@@ -0,0 +1,37 @@
+package kr.hyfata.rest.api.dto.agora;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UploadSessionResponse {
+
+    private String uploadId;
+
+    private String originalName;
+
+    private String mimeType;
+
+    private Long totalSize;
+
+    private Integer chunkSize;
+
+    private Integer totalChunks;
+
+    private Long receivedBytes;
+
+    // 아직 수신되지 않은 청크의 offset 목록
+    private List<Long> missingOffsets;
+
+    private Boolean completable;
+
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,27 @@
+package kr.hyfata.rest.api.dto.agora.chat;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MessageAttachmentDto {
+
+    private Long fileId;
+
+    private String originalName;
+
+    private String fileUrl;
+
+    private String thumbnailUrl;
+
+    private Long fileSize;
+
+    private String mimeType;
+
+    private String fileType;
+}
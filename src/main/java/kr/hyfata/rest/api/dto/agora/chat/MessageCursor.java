@@ -0,0 +1,37 @@
+package kr.hyfata.rest.api.dto.agora.chat;
+
+/**
+ * 메시지 목록 커서
+ * 최신 페이지, 특정 메시지 이전/이후, 특정 메시지 주변(답장 원문으로 이동할 때) 중 하나
+ *
+ * @param direction 조회 방향
+ * @param messageId 기준 메시지 ID (LATEST 면 null)
+ */
+public record MessageCursor(Direction direction, Long messageId) {
+
+    public enum Direction {
+        LATEST, BEFORE, AFTER, AROUND
+    }
+
+    public static final MessageCursor LATEST = new MessageCursor(Direction.LATEST, null);
+
+    /**
+     * 요청 파라미터로 커서 생성 (둘 이상 지정하면 IllegalArgumentException)
+     */
+    public static MessageCursor of(Long before, Long after, Long around) {
+        int given = (before != null ? 1 : 0) + (after != null ? 1 : 0) + (around != null ? 1 : 0);
+        if (given > 1) {
+            throw new IllegalArgumentException("Only one of cursor/before, after and around can be specified");
+        }
+        if (before != null) {
+            return new MessageCursor(Direction.BEFORE, before);
+        }
+        if (after != null) {
+            return new MessageCursor(Direction.AFTER, after);
+        }
+        if (around != null) {
+            return new MessageCursor(Direction.AROUND, around);
+        }
+        return LATEST;
+    }
+}
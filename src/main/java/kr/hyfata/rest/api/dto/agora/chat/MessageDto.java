@@ -8,6 +8,8 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
 @Data
 @NoArgsConstructor
@@ -29,6 +31,11 @@ public class MessageDto {
 
     private String type;
 
+    private Long replyToId;
+
+    @Builder.Default
+    private List<MessageAttachmentDto> attachments = new ArrayList<>();
+
     private Boolean isDeleted;
 
     private Boolean isPinned;
@@ -46,6 +53,7 @@ public class MessageDto {
                 .senderProfileImage(senderProfile != null ? senderProfile.getProfileImage() : null)
                 .content(message.getContent())
                 .type(message.getType().toString())
+                .replyToId(message.getReplyTo() != null ? message.getReplyTo().getId() : null)
                 .isDeleted(message.getIsDeleted())
                 .isPinned(message.getIsPinned())
                 .createdAt(message.getCreatedAt())
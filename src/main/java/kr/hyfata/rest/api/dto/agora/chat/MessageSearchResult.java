@@ -0,0 +1,36 @@
+package kr.hyfata.rest.api.dto.agora.chat;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MessageSearchResult {
+
+    private Long messageId;
+
+    private Long chatId;
+
+    private Long senderId;
+
+    private String senderAgoraId;
+
+    private String senderName;
+
+    private String senderProfileImage;
+
+    /**
+     * 검색어 주변 본문 일부
+     */
+    private String snippet;
+
+    private String type;
+
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,27 @@
+package kr.hyfata.rest.api.dto.agora.friend;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FriendBirthdayResponse {
+
+    private Long friendId;
+
+    private String agoraId;
+
+    private String displayName;
+
+    private String profileImage;
+
+    private LocalDate birthday;
+
+    private Integer daysUntilBirthday;
+}
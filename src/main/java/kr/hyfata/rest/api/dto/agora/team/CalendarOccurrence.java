@@ -0,0 +1,38 @@
+package kr.hyfata.rest.api.dto.agora.team;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 캘린더 조회 결과의 일정 발생 한 건 (반복 일정은 발생마다 한 건)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CalendarOccurrence {
+
+    private Long eventId;
+
+    private Long teamId;
+
+    private String teamName;
+
+    private String createdByEmail;
+
+    private String title;
+
+    private String location;
+
+    private LocalDateTime startTime;
+
+    private LocalDateTime endTime;
+
+    private Boolean isAllDay;
+
+    private Boolean isRecurring;
+}
@@ -24,4 +24,10 @@ public class CreateEventRequest {
     private LocalDateTime endTime;
 
     private Boolean isAllDay;
+
+    private String recurrence;  // NONE, DAILY, WEEKLY, MONTHLY, YEARLY
+
+    private Integer recurrenceInterval;
+
+    private LocalDateTime recurrenceUntil;
 }
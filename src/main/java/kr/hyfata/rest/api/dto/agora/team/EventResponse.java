@@ -32,6 +32,12 @@ public class EventResponse {
 
     private Boolean isAllDay;
 
+    private String recurrence;
+
+    private Integer recurrenceInterval;
+
+    private LocalDateTime recurrenceUntil;
+
     private LocalDateTime createdAt;
 
     private LocalDateTime updatedAt;
@@ -47,6 +53,9 @@ public class EventResponse {
                 .startTime(event.getStartTime())
                 .endTime(event.getEndTime())
                 .isAllDay(event.getIsAllDay())
+                .recurrence(event.getRecurrence() != null ? event.getRecurrence().toString() : Event.Recurrence.NONE.toString())
+                .recurrenceInterval(event.getRecurrenceInterval())
+                .recurrenceUntil(event.getRecurrenceUntil())
                 .createdAt(event.getCreatedAt())
                 .updatedAt(event.getUpdatedAt())
                 .build();
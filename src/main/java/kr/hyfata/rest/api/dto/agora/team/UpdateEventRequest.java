@@ -22,4 +22,10 @@ public class UpdateEventRequest {
     private LocalDateTime endTime;
 
     private Boolean isAllDay;
+
+    private String recurrence;  // NONE, DAILY, WEEKLY, MONTHLY, YEARLY
+
+    private Integer recurrenceInterval;
+
+    private LocalDateTime recurrenceUntil;
 }
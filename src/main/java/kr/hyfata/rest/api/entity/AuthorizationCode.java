@@ -21,7 +21,8 @@ import java.time.LocalDateTime;
 public class AuthorizationCode {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "authorization_codes_seq")
+    @SequenceGenerator(name = "authorization_codes_seq", sequenceName = "authorization_codes_seq", allocationSize = 50)
     private Long id;
 
     @Column(unique = true, nullable = false, length = 255)
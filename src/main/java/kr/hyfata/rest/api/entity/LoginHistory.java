@@ -21,7 +21,8 @@ import java.time.LocalDateTime;
 public class LoginHistory {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "login_history_seq")
+    @SequenceGenerator(name = "login_history_seq", sequenceName = "login_history_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
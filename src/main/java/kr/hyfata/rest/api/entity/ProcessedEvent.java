@@ -0,0 +1,43 @@
+package kr.hyfata.rest.api.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * 핸들러별 이벤트 처리 기록 (V14__create_event_outbox.sql)
+ */
+@Entity
+@Table(name = "processed_events")
+@IdClass(ProcessedEvent.Key.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProcessedEvent {
+
+    @Id
+    @Column(length = 100)
+    private String consumer;
+
+    @Id
+    @Column(length = 200)
+    private String idempotencyKey;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private LocalDateTime processedAt = LocalDateTime.now();
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private String consumer;
+        private String idempotencyKey;
+    }
+}
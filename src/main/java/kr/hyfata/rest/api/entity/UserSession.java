@@ -14,7 +14,7 @@ import java.time.LocalDateTime;
                 @Index(name = "idx_user_sessions_user_id", columnList = "user_id"),
                 @Index(name = "idx_user_sessions_last_active_at", columnList = "last_active_at"),
                 @Index(name = "idx_user_sessions_expires_at", columnList = "expires_at"),
-                @Index(name = "idx_user_sessions_is_revoked", columnList = "is_revoked")
+                @Index(name = "idx_user_sessions_access_token_jti", columnList = "access_token_jti")
         })
 @Data
 @NoArgsConstructor
@@ -22,11 +22,23 @@ import java.time.LocalDateTime;
 public class AgoraFile {
 
     public enum FileType {
-        IMAGE, VIDEO, DOCUMENT, OTHER
+        IMAGE, VIDEO, DOCUMENT, OTHER;
+
+        public static FileType fromMimeType(String mimeType) {
+            if (mimeType.startsWith("image/")) {
+                return IMAGE;
+            } else if (mimeType.startsWith("video/")) {
+                return VIDEO;
+            } else if (mimeType.contains("pdf") || mimeType.contains("document")) {
+                return DOCUMENT;
+            }
+            return OTHER;
+        }
     }
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "files_seq")
+    @SequenceGenerator(name = "files_seq", sequenceName = "files_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -2,6 +2,7 @@ package kr.hyfata.rest.api.entity.agora;
 
 import jakarta.persistence.*;
 import kr.hyfata.rest.api.entity.User;
+import kr.hyfata.rest.api.util.SearchTextUtil;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -35,6 +36,12 @@ public class AgoraUserProfile {
     @Column(nullable = false, length = 100)
     private String displayName;
 
+    /**
+     * 검색용 표시 이름 (SearchTextUtil.normalizeName, 저장 시 displayName 으로부터 갱신)
+     */
+    @Column(nullable = false, length = 400)
+    private String searchName;
+
     @Column(columnDefinition = "TEXT")
     private String profileImage;
 
@@ -55,8 +62,14 @@ public class AgoraUserProfile {
     @Builder.Default
     private LocalDateTime updatedAt = LocalDateTime.now();
 
+    @PrePersist
+    protected void onCreate() {
+        searchName = SearchTextUtil.normalizeName(displayName);
+    }
+
     @PreUpdate
     protected void onUpdate() {
+        searchName = SearchTextUtil.normalizeName(displayName);
         updatedAt = LocalDateTime.now();
     }
 }
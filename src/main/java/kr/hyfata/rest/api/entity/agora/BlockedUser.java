@@ -11,10 +11,7 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "blocked_users",
-        uniqueConstraints = @UniqueConstraint(columnNames = {"user_id", "blocked_user_id"}),
-        indexes = {
-                @Index(name = "idx_blocked_users_user_id", columnList = "user_id")
-        })
+        uniqueConstraints = @UniqueConstraint(columnNames = {"user_id", "blocked_user_id"}))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -22,7 +19,8 @@ import java.time.LocalDateTime;
 public class BlockedUser {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "blocked_users_seq")
+    @SequenceGenerator(name = "blocked_users_seq", sequenceName = "blocked_users_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -23,7 +23,8 @@ import java.util.List;
 public class ChatFolder {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "chat_folders_seq")
+    @SequenceGenerator(name = "chat_folders_seq", sequenceName = "chat_folders_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
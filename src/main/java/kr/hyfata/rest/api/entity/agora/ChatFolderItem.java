@@ -22,7 +22,8 @@ import java.time.LocalDateTime;
 public class ChatFolderItem {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "chat_folder_items_seq")
+    @SequenceGenerator(name = "chat_folder_items_seq", sequenceName = "chat_folder_items_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
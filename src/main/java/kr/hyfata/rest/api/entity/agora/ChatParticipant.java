@@ -13,8 +13,6 @@ import java.time.LocalDateTime;
 @Table(name = "chat_participants",
         uniqueConstraints = @UniqueConstraint(columnNames = {"chat_id", "user_id"}),
         indexes = {
-                @Index(name = "idx_chat_participants_chat_id", columnList = "chat_id"),
-                @Index(name = "idx_chat_participants_user_id", columnList = "user_id"),
                 @Index(name = "idx_chat_participants_pinned", columnList = "user_id, is_pinned, pinned_at DESC")
         })
 @Data
@@ -28,7 +26,8 @@ public class ChatParticipant {
     }
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "chat_participants_seq")
+    @SequenceGenerator(name = "chat_participants_seq", sequenceName = "chat_participants_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
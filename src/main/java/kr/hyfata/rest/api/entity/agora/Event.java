@@ -13,7 +13,8 @@ import java.time.LocalDateTime;
 @Table(name = "events",
         indexes = {
                 @Index(name = "idx_events_team_id", columnList = "team_id"),
-                @Index(name = "idx_events_start_time", columnList = "start_time")
+                @Index(name = "idx_events_start_time", columnList = "start_time"),
+                @Index(name = "idx_events_team_start", columnList = "team_id, start_time, id")
         })
 @Data
 @NoArgsConstructor
@@ -21,8 +22,13 @@ import java.time.LocalDateTime;
 @Builder
 public class Event {
 
+    public enum Recurrence {
+        NONE, DAILY, WEEKLY, MONTHLY, YEARLY
+    }
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "events_seq")
+    @SequenceGenerator(name = "events_seq", sequenceName = "events_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -52,6 +58,18 @@ public class Event {
     @Builder.Default
     private Boolean isAllDay = false;
 
+    // 반복 일정: 원본 행 하나만 저장하고 조회 구간 안에서만 펼친다
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    @Builder.Default
+    private Recurrence recurrence = Recurrence.NONE;
+
+    @Column
+    private Integer recurrenceInterval;
+
+    @Column
+    private LocalDateTime recurrenceUntil;
+
     @Column(nullable = false, updatable = false)
     @Builder.Default
     private LocalDateTime createdAt = LocalDateTime.now();
@@ -64,4 +82,11 @@ public class Event {
     protected void onUpdate() {
         updatedAt = LocalDateTime.now();
     }
+
+    /**
+     * 반복 일정인지 확인
+     */
+    public boolean isRecurring() {
+        return recurrence != null && recurrence != Recurrence.NONE;
+    }
 }
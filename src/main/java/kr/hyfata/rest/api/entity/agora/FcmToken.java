@@ -12,8 +12,7 @@ import java.time.LocalDateTime;
 @Entity
 @Table(name = "fcm_tokens",
         indexes = {
-                @Index(name = "idx_fcm_tokens_user_id", columnList = "user_id"),
-                @Index(name = "idx_fcm_tokens_token", columnList = "token")
+                @Index(name = "idx_fcm_tokens_user_device", columnList = "user_id, device_type")
         })
 @Data
 @NoArgsConstructor
@@ -26,7 +25,8 @@ public class FcmToken {
     }
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "fcm_tokens_seq")
+    @SequenceGenerator(name = "fcm_tokens_seq", sequenceName = "fcm_tokens_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
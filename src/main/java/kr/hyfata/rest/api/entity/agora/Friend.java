@@ -13,7 +13,7 @@ import java.time.LocalDateTime;
 @Table(name = "friends",
         uniqueConstraints = @UniqueConstraint(columnNames = {"user_id", "friend_id"}),
         indexes = {
-                @Index(name = "idx_friends_user_id", columnList = "user_id"),
+                @Index(name = "idx_friends_user_favorite_created", columnList = "user_id, is_favorite DESC, created_at DESC"),
                 @Index(name = "idx_friends_friend_id", columnList = "friend_id")
         })
 @Data
@@ -23,7 +23,8 @@ import java.time.LocalDateTime;
 public class Friend {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "friends_seq")
+    @SequenceGenerator(name = "friends_seq", sequenceName = "friends_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -13,8 +13,7 @@ import java.time.LocalDateTime;
 @Table(name = "friend_requests",
         uniqueConstraints = @UniqueConstraint(columnNames = {"from_user_id", "to_user_id"}),
         indexes = {
-                @Index(name = "idx_friend_requests_to_user_id", columnList = "to_user_id"),
-                @Index(name = "idx_friend_requests_status", columnList = "status")
+                @Index(name = "idx_friend_requests_to_status_created", columnList = "to_user_id, status, created_at DESC")
         })
 @Data
 @NoArgsConstructor
@@ -27,7 +26,8 @@ public class FriendRequest {
     }
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "friend_requests_seq")
+    @SequenceGenerator(name = "friend_requests_seq", sequenceName = "friend_requests_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -14,7 +14,7 @@ import java.util.List;
 @Entity
 @Table(name = "messages",
         indexes = {
-                @Index(name = "idx_messages_chat_id", columnList = "chat_id"),
+                @Index(name = "idx_messages_chat_id_id", columnList = "chat_id, id DESC"),
                 @Index(name = "idx_messages_sender_id", columnList = "sender_id"),
                 @Index(name = "idx_messages_created_at", columnList = "created_at DESC")
         })
@@ -29,7 +29,9 @@ public class Message {
     }
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "messages_seq")
+    // ID 순으로 정렬/페이지네이션하므로 노드별 블록 할당 없이 INSERT 마다 nextval (V15)
+    @SequenceGenerator(name = "messages_seq", sequenceName = "messages_seq", allocationSize = 1)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
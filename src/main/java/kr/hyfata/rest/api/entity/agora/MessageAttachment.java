@@ -22,7 +22,8 @@ import java.time.LocalDateTime;
 public class MessageAttachment {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "message_attachments_seq")
+    @SequenceGenerator(name = "message_attachments_seq", sequenceName = "message_attachments_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -11,8 +11,7 @@ import lombok.NoArgsConstructor;
 @Table(name = "message_read_status",
         uniqueConstraints = @UniqueConstraint(columnNames = {"message_id", "user_id"}),
         indexes = {
-                @Index(name = "idx_message_read_status_message_id", columnList = "message_id"),
-                @Index(name = "idx_message_read_status_user_id", columnList = "user_id")
+                @Index(name = "idx_message_read_status_user_message", columnList = "user_id, message_id")
         })
 @Data
 @NoArgsConstructor
@@ -21,7 +20,8 @@ import lombok.NoArgsConstructor;
 public class MessageReadStatus {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "message_read_status_seq")
+    @SequenceGenerator(name = "message_read_status_seq", sequenceName = "message_read_status_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
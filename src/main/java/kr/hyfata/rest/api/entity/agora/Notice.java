@@ -13,7 +13,8 @@ import java.time.LocalDateTime;
 @Table(name = "notices",
         indexes = {
                 @Index(name = "idx_notices_team_id", columnList = "team_id"),
-                @Index(name = "idx_notices_created_at", columnList = "created_at DESC")
+                @Index(name = "idx_notices_created_at", columnList = "created_at DESC"),
+                @Index(name = "idx_notices_team_id_id", columnList = "team_id, id DESC")
         })
 @Data
 @NoArgsConstructor
@@ -22,7 +23,9 @@ import java.time.LocalDateTime;
 public class Notice {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notices_seq")
+    // ID 순으로 정렬/페이지네이션하므로 노드별 블록 할당 없이 INSERT 마다 nextval (V15)
+    @SequenceGenerator(name = "notices_seq", sequenceName = "notices_seq", allocationSize = 1)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
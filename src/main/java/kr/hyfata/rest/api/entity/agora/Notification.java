@@ -12,8 +12,9 @@ import java.time.LocalDateTime;
 @Entity
 @Table(name = "notifications",
         indexes = {
-                @Index(name = "idx_notifications_user_id", columnList = "user_id"),
-                @Index(name = "idx_notifications_is_read", columnList = "is_read"),
+                @Index(name = "idx_notifications_user_read_created", columnList = "user_id, is_read, created_at DESC"),
+                @Index(name = "idx_notifications_user_created", columnList = "user_id, created_at DESC"),
+                @Index(name = "idx_notifications_related", columnList = "related_type, related_id"),
                 @Index(name = "idx_notifications_created_at", columnList = "created_at DESC")
         })
 @Data
@@ -23,7 +24,8 @@ import java.time.LocalDateTime;
 public class Notification {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notifications_seq")
+    @SequenceGenerator(name = "notifications_seq", sequenceName = "notifications_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
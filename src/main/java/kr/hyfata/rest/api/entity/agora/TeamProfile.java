@@ -15,9 +15,7 @@ import java.time.LocalDateTime;
                 @UniqueConstraint(columnNames = {"team_id", "user_id"})
         },
         indexes = {
-                @Index(name = "idx_team_profiles_team_id", columnList = "team_id"),
-                @Index(name = "idx_team_profiles_user_id", columnList = "user_id"),
-                @Index(name = "idx_team_profiles_team_user", columnList = "team_id,user_id")
+                @Index(name = "idx_team_profiles_user_id", columnList = "user_id")
         })
 @Data
 @NoArgsConstructor
@@ -26,7 +24,8 @@ import java.time.LocalDateTime;
 public class TeamProfile {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "team_profiles_seq")
+    @SequenceGenerator(name = "team_profiles_seq", sequenceName = "team_profiles_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -21,7 +21,8 @@ import java.time.LocalDateTime;
 public class TeamRole {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "team_roles_seq")
+    @SequenceGenerator(name = "team_roles_seq", sequenceName = "team_roles_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
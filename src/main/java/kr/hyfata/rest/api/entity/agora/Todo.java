@@ -14,7 +14,9 @@ import java.time.LocalDateTime;
         indexes = {
                 @Index(name = "idx_todos_team_id", columnList = "team_id"),
                 @Index(name = "idx_todos_assigned_to", columnList = "assigned_to"),
-                @Index(name = "idx_todos_status", columnList = "status")
+                @Index(name = "idx_todos_status", columnList = "status"),
+                @Index(name = "idx_todos_team_status_due", columnList = "team_id, status, due_date, id"),
+                @Index(name = "idx_todos_team_due", columnList = "team_id, due_date, id")
         })
 @Data
 @NoArgsConstructor
@@ -31,7 +33,8 @@ public class Todo {
     }
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "todos_seq")
+    @SequenceGenerator(name = "todos_seq", sequenceName = "todos_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
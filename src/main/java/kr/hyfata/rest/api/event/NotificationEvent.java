@@ -0,0 +1,99 @@
+package kr.hyfata.rest.api.event;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+import java.util.List;
+
+/**
+ * 알림 발생 이벤트
+ * 발행한 트랜잭션 안에서 NotificationEventListener 가 event_outbox 에 옮겨 적고,
+ * 수신자별 설정 필터링, 알림 저장, 푸시 발송은 커밋 이후 NotificationFanoutHandler 가 비동기로 처리한다.
+ */
+@Getter
+public class NotificationEvent extends ApplicationEvent {
+
+    public static final String EVENT_TYPE = "notification";
+
+    private static final int PREVIEW_LENGTH = 100;
+
+    public enum Category {
+        MESSAGE, FRIEND_REQUEST, NOTICE, EVENT, BIRTHDAY
+    }
+
+    private final Category category;
+    private final List<Long> recipientUserIds;
+    private final String title;
+    private final String content;
+    private final Long relatedId;
+    private final String relatedType;
+
+    public NotificationEvent(Object source, Category category, List<Long> recipientUserIds,
+                             String title, String content, Long relatedId, String relatedType) {
+        super(source);
+        this.category = category;
+        this.recipientUserIds = recipientUserIds;
+        this.title = title;
+        this.content = content;
+        this.relatedId = relatedId;
+        this.relatedType = relatedType;
+    }
+
+    public static NotificationEvent message(Object source, List<Long> recipientUserIds,
+                                            String senderName, String messageContent, Long chatId) {
+        return new NotificationEvent(source, Category.MESSAGE, recipientUserIds,
+                "새 메시지", senderName + ": " + preview(messageContent), chatId, "CHAT");
+    }
+
+    public static NotificationEvent friendRequest(Object source, Long recipientUserId,
+                                                  String senderName, Long senderUserId) {
+        return new NotificationEvent(source, Category.FRIEND_REQUEST, List.of(recipientUserId),
+                "친구 요청", senderName + "님이 친구 요청을 보냈습니다", senderUserId, "USER");
+    }
+
+    public static NotificationEvent notice(Object source, List<Long> recipientUserIds,
+                                           String teamName, String noticeTitle, Long noticeId) {
+        return new NotificationEvent(source, Category.NOTICE, recipientUserIds,
+                "새 공지", "[" + teamName + "] " + preview(noticeTitle), noticeId, "NOTICE");
+    }
+
+    public static NotificationEvent event(Object source, List<Long> recipientUserIds,
+                                          String teamName, String eventTitle, Long eventId) {
+        return new NotificationEvent(source, Category.EVENT, recipientUserIds,
+                "새 일정", "[" + teamName + "] " + preview(eventTitle), eventId, "EVENT");
+    }
+
+    public static NotificationEvent birthday(Object source, List<Long> recipientUserIds,
+                                             String friendName, int daysUntil, Long friendUserId) {
+        String content = daysUntil == 0
+                ? "오늘은 " + friendName + "님의 생일입니다"
+                : daysUntil + "일 후 " + friendName + "님의 생일입니다";
+        return new NotificationEvent(source, Category.BIRTHDAY, recipientUserIds,
+                "친구 생일", content, friendUserId, "USER");
+    }
+
+    /**
+     * outbox 페이로드로 변환
+     */
+    public Payload toPayload() {
+        return new Payload(category, recipientUserIds, title, content, relatedId, relatedType);
+    }
+
+    /**
+     * outbox 에 저장되는 알림 내용
+     */
+    public record Payload(Category category, List<Long> recipientUserIds, String title, String content,
+                          Long relatedId, String relatedType) {
+
+        public NotificationEvent toEvent(Object source) {
+            return new NotificationEvent(source, category, recipientUserIds, title, content, relatedId, relatedType);
+        }
+    }
+
+    private static String preview(String text) {
+        if (text == null) {
+            return "";
+        }
+        return text.length() > PREVIEW_LENGTH ? text.substring(0, PREVIEW_LENGTH) + "…" : text;
+    }
+}
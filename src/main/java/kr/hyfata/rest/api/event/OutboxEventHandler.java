@@ -0,0 +1,30 @@
+package kr.hyfata.rest.api.event;
+
+import java.util.Set;
+
+/**
+ * event_outbox 이벤트 처리기
+ * <p>
+ * EventOutboxDispatcher 가 커밋된 이벤트를 비동기로 전달한다. 같은 이벤트가 다시 전달될 수 있으므로(최소 한 번)
+ * 핸들러별 처리 기록(processed_events)으로 이미 성공한 이벤트는 건너뛴다.
+ * handle 은 처리 기록과 같은 트랜잭션에서 실행되며, 예외를 던지면 이벤트는 나중에 다시 전달된다.
+ * 같은 aggregate 의 이벤트는 발행 순서대로 하나씩 전달된다.
+ *
+ * @param <T> 페이로드 타입 (JSON 으로 저장된다)
+ */
+public interface OutboxEventHandler<T> {
+
+    /**
+     * 처리 기록에 쓰는 핸들러 이름 (바꾸면 이미 처리한 이벤트도 다시 처리된다)
+     */
+    String name();
+
+    /**
+     * 처리할 이벤트 타입
+     */
+    Set<String> eventTypes();
+
+    Class<T> payloadType();
+
+    void handle(String eventType, T payload);
+}
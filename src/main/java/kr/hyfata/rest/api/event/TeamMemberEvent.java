@@ -3,8 +3,19 @@ package kr.hyfata.rest.api.event;
 import lombok.Getter;
 import org.springframework.context.ApplicationEvent;
 
+/**
+ * 팀 멤버 변경 이벤트
+ * 발행한 트랜잭션 안에서 TeamMemberEventListener 가 event_outbox 에 옮겨 적고,
+ * 팀 채팅 참여자 반영은 커밋 이후 TeamChatMembershipHandler 가 비동기로 처리한다.
+ */
 @Getter
 public abstract class TeamMemberEvent extends ApplicationEvent {
+
+    public static final String AGGREGATE_TYPE = "TEAM";
+    public static final String TEAM_CREATED = "team.created";
+    public static final String MEMBER_ADDED = "team.member.added";
+    public static final String MEMBER_REMOVED = "team.member.removed";
+
     private final Long teamId;
     private final Long userId;
 
@@ -38,4 +49,10 @@ public abstract class TeamMemberEvent extends ApplicationEvent {
             this.creatorUserId = creatorUserId;
         }
     }
+
+    /**
+     * outbox 페이로드 (팀 생성 이벤트의 userId 는 생성자)
+     */
+    public record Payload(Long teamId, Long userId) {
+    }
 }
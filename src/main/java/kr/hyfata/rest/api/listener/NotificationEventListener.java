@@ -0,0 +1,28 @@
+package kr.hyfata.rest.api.listener;
+
+import kr.hyfata.rest.api.event.NotificationEvent;
+import kr.hyfata.rest.api.service.EventOutboxService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+@Component
+@RequiredArgsConstructor
+public class NotificationEventListener {
+
+    private final EventOutboxService eventOutboxService;
+
+    /**
+     * 발행한 트랜잭션 안에서 event_outbox 에 옮겨 적는다 (롤백된 메시지/공지에 대한 알림 방지)
+     * 알림 저장과 푸시는 커밋 이후 NotificationFanoutHandler 가 처리하므로 요청 지연에 포함되지 않는다.
+     * 트랜잭션 밖에서 발행된 경우(WebSocket 등)에는 별도 트랜잭션으로 저장한다.
+     */
+    @EventListener
+    public void handleNotification(NotificationEvent event) {
+        Long relatedId = event.getRelatedId() != null ? event.getRelatedId() : 0L;
+        eventOutboxService.append(event.getRelatedType(), relatedId, NotificationEvent.EVENT_TYPE,
+                NotificationEvent.EVENT_TYPE + ":" + UUID.randomUUID(), event.toPayload());
+    }
+}
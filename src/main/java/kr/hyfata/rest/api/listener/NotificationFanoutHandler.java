@@ -0,0 +1,39 @@
+package kr.hyfata.rest.api.listener;
+
+import kr.hyfata.rest.api.event.NotificationEvent;
+import kr.hyfata.rest.api.event.OutboxEventHandler;
+import kr.hyfata.rest.api.service.agora.AgoraNotificationFanoutService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+/**
+ * 알림 이벤트를 수신자별 알림 저장/푸시 발송으로 펼친다
+ */
+@Component
+@RequiredArgsConstructor
+public class NotificationFanoutHandler implements OutboxEventHandler<NotificationEvent.Payload> {
+
+    private final AgoraNotificationFanoutService agoraNotificationFanoutService;
+
+    @Override
+    public String name() {
+        return "notification-fanout";
+    }
+
+    @Override
+    public Set<String> eventTypes() {
+        return Set.of(NotificationEvent.EVENT_TYPE);
+    }
+
+    @Override
+    public Class<NotificationEvent.Payload> payloadType() {
+        return NotificationEvent.Payload.class;
+    }
+
+    @Override
+    public void handle(String eventType, NotificationEvent.Payload payload) {
+        agoraNotificationFanoutService.fanout(payload.toEvent(this));
+    }
+}
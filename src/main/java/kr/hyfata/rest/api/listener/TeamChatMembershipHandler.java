@@ -0,0 +1,131 @@
+package kr.hyfata.rest.api.listener;
+
+import kr.hyfata.rest.api.entity.User;
+import kr.hyfata.rest.api.entity.agora.Chat;
+import kr.hyfata.rest.api.entity.agora.ChatParticipant;
+import kr.hyfata.rest.api.entity.agora.Team;
+import kr.hyfata.rest.api.event.OutboxEventHandler;
+import kr.hyfata.rest.api.event.TeamMemberEvent;
+import kr.hyfata.rest.api.repository.UserRepository;
+import kr.hyfata.rest.api.repository.agora.ChatParticipantRepository;
+import kr.hyfata.rest.api.repository.agora.ChatRepository;
+import kr.hyfata.rest.api.repository.agora.TeamRepository;
+import kr.hyfata.rest.api.service.agora.AgoraChatService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 팀 이벤트를 팀 그룹 채팅에 반영 (팀 생성 시 채팅 생성, 멤버 추가/제거 시 참여자 추가/제거)
+ * 멤버 추가 시 팀 채팅이 없으면 그때 만들어, 팀 생성 이벤트가 실패했더라도 뒤 이벤트에서 복구된다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TeamChatMembershipHandler implements OutboxEventHandler<TeamMemberEvent.Payload> {
+
+    private final ChatRepository chatRepository;
+    private final ChatParticipantRepository chatParticipantRepository;
+    private final UserRepository userRepository;
+    private final TeamRepository teamRepository;
+    private final AgoraChatService agoraChatService;
+
+    @Override
+    public String name() {
+        return "team-chat-membership";
+    }
+
+    @Override
+    public Set<String> eventTypes() {
+        return Set.of(TeamMemberEvent.TEAM_CREATED, TeamMemberEvent.MEMBER_ADDED, TeamMemberEvent.MEMBER_REMOVED);
+    }
+
+    @Override
+    public Class<TeamMemberEvent.Payload> payloadType() {
+        return TeamMemberEvent.Payload.class;
+    }
+
+    @Override
+    public void handle(String eventType, TeamMemberEvent.Payload payload) {
+        switch (eventType) {
+            case TeamMemberEvent.TEAM_CREATED -> handleTeamCreated(payload);
+            case TeamMemberEvent.MEMBER_ADDED -> handleTeamMemberAdded(payload);
+            case TeamMemberEvent.MEMBER_REMOVED -> handleTeamMemberRemoved(payload);
+            default -> log.warn("Unexpected team event type: {}", eventType);
+        }
+    }
+
+    private void handleTeamCreated(TeamMemberEvent.Payload payload) {
+        // createTeamGroupChat 은 이미 있으면 예외로 트랜잭션을 롤백 표시하므로 먼저 확인
+        if (chatRepository.existsByTeam_IdAndTypeAndContext(
+                payload.teamId(), Chat.ChatType.GROUP, Chat.ChatContext.TEAM)) {
+            log.info("Team group chat already exists for team: {}", payload.teamId());
+            return;
+        }
+        agoraChatService.createTeamGroupChat(payload.teamId(), payload.userId());
+        log.info("Team group chat created for team: {}", payload.teamId());
+    }
+
+    private void handleTeamMemberAdded(TeamMemberEvent.Payload payload) {
+        // 팀 그룹 채팅 찾기
+        Optional<Chat> teamChatOpt = chatRepository.findByTeam_IdAndTypeAndContext(
+                payload.teamId(), Chat.ChatType.GROUP, Chat.ChatContext.TEAM);
+
+        if (teamChatOpt.isEmpty()) {
+            // 팀 생성 이벤트가 끝내 실패(FAILED)한 팀이면 지금 만든다 (현재 팀 멤버 전체가 참여자로 들어감)
+            Team team = teamRepository.findById(payload.teamId()).orElse(null);
+            if (team == null) {
+                log.warn("Team not found: {}", payload.teamId());
+                return;
+            }
+            agoraChatService.createTeamGroupChat(team.getId(), team.getCreatedBy().getId());
+            log.info("Team group chat created late for team: {}", payload.teamId());
+            return;
+        }
+
+        Chat teamChat = teamChatOpt.get();
+
+        // 이미 참여자인지 확인
+        if (chatParticipantRepository.existsByChat_IdAndUser_Id(teamChat.getId(), payload.userId())) {
+            log.info("User {} is already a participant of team chat {}", payload.userId(), teamChat.getId());
+            return;
+        }
+
+        // 사용자 찾기
+        User user = userRepository.findById(payload.userId()).orElse(null);
+        if (user == null) {
+            log.error("User not found: {}", payload.userId());
+            return;
+        }
+
+        // 참여자 추가
+        ChatParticipant participant = ChatParticipant.builder()
+                .chat(teamChat)
+                .user(user)
+                .role(ChatParticipant.Role.MEMBER)
+                .build();
+
+        chatParticipantRepository.save(participant);
+        log.info("Added user {} to team chat {}", payload.userId(), teamChat.getId());
+    }
+
+    private void handleTeamMemberRemoved(TeamMemberEvent.Payload payload) {
+        // 팀 그룹 채팅 찾기
+        Optional<Chat> teamChatOpt = chatRepository.findByTeam_IdAndTypeAndContext(
+                payload.teamId(), Chat.ChatType.GROUP, Chat.ChatContext.TEAM);
+
+        if (teamChatOpt.isEmpty()) {
+            log.warn("Team group chat not found for team: {}", payload.teamId());
+            return;
+        }
+
+        Chat teamChat = teamChatOpt.get();
+
+        // 참여자 제거
+        chatParticipantRepository.deleteByChat_IdAndUser_Id(teamChat.getId(), payload.userId());
+        log.info("Removed user {} from team chat {}", payload.userId(), teamChat.getId());
+    }
+}
@@ -0,0 +1,11 @@
+package kr.hyfata.rest.api.metrics;
+
+/**
+ * 요청 하나가 SQL 한도(sql.budget.*)를 넘었을 때 (sql.budget.mode=REJECT 에서만 발생)
+ */
+public class SqlBudgetExceededException extends IllegalStateException {
+
+    public SqlBudgetExceededException(String message) {
+        super(message);
+    }
+}
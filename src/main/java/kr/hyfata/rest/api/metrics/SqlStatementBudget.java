@@ -0,0 +1,75 @@
+package kr.hyfata.rest.api.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 요청(HTTP/STOMP)당 SQL 문 한도
+ * <p>
+ * sql.budget.mode 로 동작을 정한다.
+ * OFF 는 집계만, LOG 는 한도를 넘은 요청을 경고 로그와 hyfata.sql.budget.violations 로 남기고,
+ * REJECT 는 한도를 넘는 SQL 을 준비하는 시점에 SqlBudgetExceededException 으로 요청을 실패시킨다 (개발/테스트용).
+ */
+@Slf4j
+@Component
+public class SqlStatementBudget {
+
+    static final String VIOLATIONS_METRIC = "hyfata.sql.budget.violations";
+
+    public enum Mode { OFF, LOG, REJECT }
+
+    private final MeterRegistry meterRegistry;
+    private final Mode mode;
+    private final SqlStatementCounter.Limits limits;
+
+    public SqlStatementBudget(MeterRegistry meterRegistry,
+                              @Value("${sql.budget.mode:OFF}") Mode mode,
+                              @Value("${sql.budget.max-statements:50}") int maxStatements,
+                              @Value("${sql.budget.max-repeats:10}") int maxRepeats) {
+        this.meterRegistry = meterRegistry;
+        this.mode = mode;
+        this.limits = mode == Mode.OFF
+                ? SqlStatementCounter.Limits.NONE
+                : new SqlStatementCounter.Limits(mode == Mode.REJECT, maxStatements, maxRepeats);
+    }
+
+    /**
+     * 현재 스레드에서 요청 하나의 집계 시작
+     */
+    public void begin() {
+        SqlStatementCounter.start(limits);
+    }
+
+    /**
+     * 집계를 끝내고 metricName 분포에 기록, 한도를 넘었으면 위반으로 남긴다
+     *
+     * @param request 로그에 남길 요청 설명 (예: "GET /api/agora/chats")
+     */
+    public void end(String metricName, String description, Tags tags, String request) {
+        SqlStatementCounter.Statements statements = SqlStatementCounter.stop();
+        DistributionSummary.builder(metricName)
+                .description(description)
+                .baseUnit("statements")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(statements.count());
+
+        if (mode == Mode.OFF) {
+            return;
+        }
+        if (statements.statementsExceeded()) {
+            meterRegistry.counter(VIOLATIONS_METRIC, tags.and("type", "statements")).increment();
+            log.warn("SQL statement budget exceeded: {} ran {} statements (limit {})",
+                    request, statements.count(), limits.maxStatements());
+        }
+        if (statements.repeatsExceeded()) {
+            meterRegistry.counter(VIOLATIONS_METRIC, tags.and("type", "repeated")).increment();
+            log.warn("Possible N+1: {} ran the same statement {} times (limit {}): {}",
+                    request, statements.mostRepeatedCount(), limits.maxRepeats(), statements.mostRepeatedShape());
+        }
+    }
+}
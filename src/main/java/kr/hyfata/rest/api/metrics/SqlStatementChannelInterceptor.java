@@ -0,0 +1,53 @@
+package kr.hyfata.rest.api.metrics;
+
+import io.micrometer.core.instrument.Tags;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.annotation.support.SimpAnnotationMethodMessageHandler;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.stereotype.Component;
+
+import java.util.regex.Pattern;
+
+/**
+ * STOMP 메시지(@MessageMapping 처리) 하나당 Hibernate SQL 문 수를 hyfata.stomp.sql.statements 로 기록하고 SQL 한도를 적용
+ * 인바운드 채널은 메시지 하나를 여러 핸들러(브로커, 사용자 목적지 등)에 넘기므로 @MessageMapping 핸들러 호출만 센다.
+ * destination 태그는 숫자 경로를 {id} 로 바꿔 채팅방별로 태그가 늘어나지 않게 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SqlStatementChannelInterceptor implements ExecutorChannelInterceptor {
+
+    static final String METRIC_NAME = "hyfata.stomp.sql.statements";
+
+    private static final Pattern NUMERIC_SEGMENT = Pattern.compile("/\\d+(?=/|$)");
+
+    private final SqlStatementBudget sqlStatementBudget;
+
+    @Override
+    public Message<?> beforeHandle(Message<?> message, MessageChannel channel, MessageHandler handler) {
+        if (isMessageMapping(message, handler)) {
+            sqlStatementBudget.begin();
+        }
+        return message;
+    }
+
+    @Override
+    public void afterMessageHandled(Message<?> message, MessageChannel channel, MessageHandler handler, Exception ex) {
+        if (isMessageMapping(message, handler)) {
+            String destination = SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+            String normalized = destination != null ? NUMERIC_SEGMENT.matcher(destination).replaceAll("/{id}") : "UNKNOWN";
+            sqlStatementBudget.end(METRIC_NAME, "Hibernate SQL statements per STOMP message",
+                    Tags.of("destination", normalized), "STOMP " + destination);
+        }
+    }
+
+    private boolean isMessageMapping(Message<?> message, MessageHandler handler) {
+        return handler instanceof SimpAnnotationMethodMessageHandler
+                && SimpMessageType.MESSAGE.equals(SimpMessageHeaderAccessor.getMessageType(message.getHeaders()));
+    }
+}
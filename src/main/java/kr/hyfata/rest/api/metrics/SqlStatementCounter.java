@@ -0,0 +1,139 @@
+package kr.hyfata.rest.api.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * 요청 단위 SQL 문 수 집계
+ * <p>
+ * Hibernate 가 준비하는 모든 SQL 이 inspect 를 거치므로, 현재 스레드에서 start 로 집계를 시작한 경우에만 센다.
+ * 같은 모양(IN 목록 길이만 다른 것은 같은 모양으로 본다)의 SQL 이 몇 번 반복됐는지도 함께 세어 N+1 을 찾는다.
+ * 한도(Limits)가 거부 모드면 한도를 넘는 SQL 을 준비하는 시점에 SqlBudgetExceededException 을 던진다.
+ * JdbcTemplate 로 직접 실행하는 쿼리는 포함되지 않는다.
+ * MetricsConfig 에서 hibernate.session_factory.statement_inspector 로 등록한다.
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<Statements> CURRENT = new ThreadLocal<>();
+
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\?(?:\\s*,\\s*\\?)+\\)");
+
+    /**
+     * 현재 스레드의 집계 시작 (한도 없음, 이전 집계는 버린다)
+     */
+    public static void start() {
+        start(Limits.NONE);
+    }
+
+    /**
+     * 현재 스레드의 집계 시작 (이전 집계는 버린다)
+     */
+    public static void start(Limits limits) {
+        CURRENT.set(new Statements(limits));
+    }
+
+    /**
+     * 현재 스레드의 집계를 끝내고 그동안 실행된 SQL 문 집계를 돌려준다
+     */
+    public static Statements stop() {
+        Statements statements = CURRENT.get();
+        CURRENT.remove();
+        return statements != null ? statements : new Statements(Limits.NONE);
+    }
+
+    @Override
+    public String inspect(String sql) {
+        Statements statements = CURRENT.get();
+        if (statements != null) {
+            statements.add(sql);
+        }
+        return sql;
+    }
+
+    /**
+     * IN (?, ?, ?) 처럼 바인딩 개수만 다른 SQL 을 같은 모양으로 묶는다
+     */
+    static String shapeOf(String sql) {
+        return sql.contains("?,") ? IN_LIST.matcher(sql).replaceAll("(?)") : sql;
+    }
+
+    /**
+     * 요청당 한도
+     *
+     * @param reject        한도를 넘으면 예외로 요청을 실패시킬지 여부 (false 면 집계만)
+     * @param maxStatements 요청당 최대 SQL 문 수 (0 이하는 제한 없음)
+     * @param maxRepeats    같은 모양 SQL 의 최대 반복 횟수 (0 이하는 제한 없음)
+     */
+    public record Limits(boolean reject, int maxStatements, int maxRepeats) {
+
+        public static final Limits NONE = new Limits(false, 0, 0);
+
+        boolean statementsExceeded(int count) {
+            return maxStatements > 0 && count > maxStatements;
+        }
+
+        boolean repeatsExceeded(int repeats) {
+            return maxRepeats > 0 && repeats > maxRepeats;
+        }
+    }
+
+    /**
+     * 한 요청 동안의 SQL 집계 (한 스레드에서만 접근)
+     */
+    public static final class Statements {
+
+        private final Limits limits;
+        private final Map<String, Integer> shapes = new HashMap<>();
+        private int count;
+        private String mostRepeatedShape;
+        private int mostRepeatedCount;
+
+        private Statements(Limits limits) {
+            this.limits = limits;
+        }
+
+        private void add(String sql) {
+            count++;
+            String shape = shapeOf(sql);
+            int repeats = shapes.merge(shape, 1, Integer::sum);
+            if (repeats > mostRepeatedCount) {
+                mostRepeatedCount = repeats;
+                mostRepeatedShape = shape;
+            }
+
+            if (limits.reject()) {
+                if (limits.statementsExceeded(count)) {
+                    throw new SqlBudgetExceededException("SQL statement budget exceeded: " + count
+                            + " > " + limits.maxStatements());
+                }
+                if (limits.repeatsExceeded(repeats)) {
+                    throw new SqlBudgetExceededException("Possible N+1: same statement executed " + repeats
+                            + " times (limit " + limits.maxRepeats() + "): " + shape);
+                }
+            }
+        }
+
+        public int count() {
+            return count;
+        }
+
+        public int mostRepeatedCount() {
+            return mostRepeatedCount;
+        }
+
+        public String mostRepeatedShape() {
+            return mostRepeatedShape;
+        }
+
+        public boolean statementsExceeded() {
+            return limits.statementsExceeded(count);
+        }
+
+        public boolean repeatsExceeded() {
+            return limits.repeatsExceeded(mostRepeatedCount);
+        }
+    }
+}
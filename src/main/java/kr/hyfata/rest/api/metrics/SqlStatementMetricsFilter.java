@@ -0,0 +1,41 @@
+package kr.hyfata.rest.api.metrics;
+
+import io.micrometer.core.instrument.Tags;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * 요청당 Hibernate SQL 문 수를 hyfata.http.sql.statements 분포로 기록하고 SQL 한도(SqlStatementBudget)를 적용
+ * 태그는 http.server.requests 와 같이 method 와 매핑된 URI 패턴만 사용한다 (경로 변수 값이 태그에 들어가지 않도록).
+ */
+@Component
+@RequiredArgsConstructor
+public class SqlStatementMetricsFilter extends OncePerRequestFilter {
+
+    static final String METRIC_NAME = "hyfata.http.sql.statements";
+
+    private final SqlStatementBudget sqlStatementBudget;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        sqlStatementBudget.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+            sqlStatementBudget.end(METRIC_NAME, "Hibernate SQL statements per HTTP request",
+                    Tags.of("method", request.getMethod(), "uri", uri),
+                    request.getMethod() + " " + request.getRequestURI());
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package kr.hyfata.rest.api.ratelimit;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import kr.hyfata.rest.api.util.IpUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.SequenceInputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 인증/토큰 발급 경로의 요청 한도 적용
+ * BCrypt 검증이나 메일 발송처럼 비싼 처리 전에 IP, 계정(email), client_id 별로 검사하고,
+ * 한도를 넘으면 429 와 Retry-After(초) 헤더로 응답한다.
+ * IP 는 연결 주소 기준이고 X-Forwarded-For 는 rate-limit.trusted-proxies 에서 온 요청에만 따른다.
+ * JSON 본문을 받는 경로는 email/clientId 를 읽으려고 본문 앞부분을 버퍼에 담았다가 컨트롤러에 그대로 다시 넘긴다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final Set<String> JSON_BODY_PATHS =
+            Set.of("/api/auth/login", "/api/auth/verify-2fa", "/api/auth/request-password-reset");
+    private static final int MAX_INSPECTED_BODY_BYTES = 8 * 1024;
+
+    private final RateLimiter rateLimiter;
+    private final RateLimitRules rules;
+    private final IpUtil ipUtil;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !rules.isEnabled() || !"POST".equals(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        BufferedBodyRequest buffered = JSON_BODY_PATHS.contains(request.getServletPath())
+                ? new BufferedBodyRequest(request) : null;
+        HttpServletRequest forwarded = buffered != null ? buffered : request;
+        String ip = ipUtil.normalizeIp(ipUtil.getClientIp(request, rules::isTrustedProxy));
+        RateLimiter.Decision decision = check(request, buffered != null ? readJsonBody(buffered) : null, ip);
+        if (decision != null && !decision.allowed()) {
+            reject(request, response, decision, ip);
+            return;
+        }
+        filterChain.doFilter(forwarded, response);
+    }
+
+    /**
+     * 경로에 맞는 규칙을 IP → 계정 → client_id 순으로 검사해 처음 거부된 결과를 돌려준다 (한도가 없는 경로는 null)
+     */
+    private RateLimiter.Decision check(HttpServletRequest request, JsonNode body, String ip) {
+        return switch (request.getServletPath()) {
+            case "/api/auth/login" -> {
+                RateLimiter.Decision decision = rateLimiter.tryAcquire(rules.getAuthLogin(), ip);
+                decision = thenAcquire(decision, rules.getLoginPerAccount(), account(text(body, "email")));
+                yield thenAcquire(decision, rules.getLoginPerClient(), text(body, "clientId"));
+            }
+            case "/api/auth/verify-2fa" -> thenAcquire(rateLimiter.tryAcquire(rules.getAuthVerifyTwoFactor(), ip),
+                    rules.getVerifyTwoFactorPerAccount(), account(text(body, "email")));
+            case "/api/auth/request-password-reset" -> thenAcquire(
+                    rateLimiter.tryAcquire(rules.getAuthPasswordReset(), ip),
+                    rules.getPasswordResetPerAccount(), account(text(body, "email")));
+            case "/oauth/login" -> {
+                RateLimiter.Decision decision = rateLimiter.tryAcquire(rules.getOauthLogin(), ip);
+                decision = thenAcquire(decision, rules.getLoginPerAccount(), account(request.getParameter("email")));
+                yield thenAcquire(decision, rules.getLoginPerClient(), request.getParameter("client_id"));
+            }
+            case "/oauth/token" -> thenAcquire(rateLimiter.tryAcquire(rules.getOauthTokenPerIp(), ip),
+                    rules.getOauthTokenPerClient(), request.getParameter("client_id"));
+            default -> null;
+        };
+    }
+
+    /**
+     * 앞 검사가 통과했고 키가 있을 때만 다음 규칙 검사 (거부된 요청이 다른 버킷을 소비하지 않도록)
+     */
+    private RateLimiter.Decision thenAcquire(RateLimiter.Decision previous, RateLimitRule rule, String key) {
+        if (!previous.allowed() || !StringUtils.hasText(key)) {
+            return previous;
+        }
+        return rateLimiter.tryAcquire(rule, key);
+    }
+
+    /**
+     * 계정 키 (대소문자만 다른 email 로 버킷을 나누지 못하도록 정규화)
+     */
+    private String account(String email) {
+        return StringUtils.hasText(email) ? email.trim().toLowerCase(Locale.ROOT) : null;
+    }
+
+    private String text(JsonNode body, String field) {
+        if (body == null) {
+            return null;
+        }
+        JsonNode value = body.get(field);
+        return value != null && value.isTextual() ? value.asText() : null;
+    }
+
+    /**
+     * 버퍼에 다 담긴 JSON 본문만 파싱 (너무 크거나 JSON 이 아니면 계정/client_id 검사 없이 IP 한도만 적용)
+     */
+    private JsonNode readJsonBody(BufferedBodyRequest request) {
+        if (request.truncated) {
+            return null;
+        }
+        try {
+            JsonNode body = objectMapper.readTree(request.head);
+            return body != null && body.isObject() ? body : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, RateLimiter.Decision decision,
+                        String ip) throws IOException {
+        log.warn("Rate limit exceeded: {} {} from {}", request.getMethod(), request.getServletPath(), ip);
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(decision.retryAfterSeconds()));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(),
+                Map.of("error", "Too many requests", "retryAfterSeconds", decision.retryAfterSeconds()));
+    }
+
+    /**
+     * 본문 앞부분(최대 MAX_INSPECTED_BODY_BYTES)을 미리 읽어 두고, 이후 읽기에는 그 바이트와 남은 원래 스트림을 이어서 돌려주는 요청
+     */
+    private static final class BufferedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] head;
+        private final boolean truncated;
+        private ServletInputStream inputStream;
+
+        BufferedBodyRequest(HttpServletRequest request) throws IOException {
+            super(request);
+            byte[] read = request.getInputStream().readNBytes(MAX_INSPECTED_BODY_BYTES + 1);
+            this.truncated = read.length > MAX_INSPECTED_BODY_BYTES;
+            this.head = read;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() throws IOException {
+            if (inputStream == null) {
+                InputStream source = new SequenceInputStream(new ByteArrayInputStream(head), super.getInputStream());
+                inputStream = new ServletInputStream() {
+                    private boolean finished;
+
+                    @Override
+                    public int read() throws IOException {
+                        int b = source.read();
+                        finished = b < 0;
+                        return b;
+                    }
+
+                    @Override
+                    public int read(byte[] b, int off, int len) throws IOException {
+                        int n = source.read(b, off, len);
+                        finished = n < 0;
+                        return n;
+                    }
+
+                    @Override
+                    public boolean isFinished() {
+                        return finished;
+                    }
+
+                    @Override
+                    public boolean isReady() {
+                        return true;
+                    }
+
+                    @Override
+                    public void setReadListener(ReadListener readListener) {
+                        throw new UnsupportedOperationException();
+                    }
+                };
+            }
+            return inputStream;
+        }
+
+        @Override
+        public BufferedReader getReader() throws IOException {
+            String encoding = getCharacterEncoding();
+            Charset charset = encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8;
+            return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+        }
+    }
+}
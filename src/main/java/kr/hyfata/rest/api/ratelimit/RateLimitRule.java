@@ -0,0 +1,49 @@
+package kr.hyfata.rest.api.ratelimit;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.time.Duration;
+
+/**
+ * 요청 한도 규칙 (period 동안 limit 회, 비어 있는 버킷은 limit 회까지 한꺼번에 허용)
+ * GCRA 로 계산하므로 요청 사이 간격(emission interval)은 period / limit 이다.
+ *
+ * @param name   메트릭 태그와 Redis 키에 쓰는 규칙 이름
+ * @param limit  period 동안 허용할 요청 수
+ * @param period 기준 기간
+ */
+public record RateLimitRule(String name, int limit, Duration period) {
+
+    public RateLimitRule {
+        if (limit <= 0 || period.isZero() || period.isNegative()) {
+            throw new IllegalArgumentException("Invalid rate limit for " + name + ": " + limit + "/" + period);
+        }
+    }
+
+    /**
+     * "10/1m" 형식(횟수/기간) 설정값을 규칙으로 변환
+     */
+    public static RateLimitRule parse(String name, String spec) {
+        int slash = spec.indexOf('/');
+        if (slash < 0) {
+            throw new IllegalArgumentException("Rate limit must be <limit>/<period>: " + name + "=" + spec);
+        }
+        int limit = Integer.parseInt(spec.substring(0, slash).trim());
+        Duration period = DurationStyle.detectAndParse(spec.substring(slash + 1).trim());
+        return new RateLimitRule(name, limit, period);
+    }
+
+    /**
+     * 요청 하나가 차지하는 시간 (나노초, 최소 1)
+     */
+    long emissionIntervalNanos() {
+        return Math.max(1, period.toNanos() / limit);
+    }
+
+    /**
+     * 요청 하나가 차지하는 시간 (밀리초, 최소 1, Redis 계산용)
+     */
+    long emissionIntervalMillis() {
+        return Math.max(1, period.toMillis() / limit);
+    }
+}
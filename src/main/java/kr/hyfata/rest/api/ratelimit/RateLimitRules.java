@@ -0,0 +1,78 @@
+package kr.hyfata.rest.api.ratelimit;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 경로별 요청 한도 (rate-limit.* 설정, "횟수/기간" 형식)
+ */
+@Getter
+@Component
+public class RateLimitRules {
+
+    private final boolean enabled;
+    private final RateLimitRule authLogin;
+    private final RateLimitRule authVerifyTwoFactor;
+    private final RateLimitRule authPasswordReset;
+    private final RateLimitRule oauthLogin;
+    private final RateLimitRule oauthTokenPerClient;
+    private final RateLimitRule oauthTokenPerIp;
+    private final RateLimitRule loginPerAccount;
+    private final RateLimitRule loginPerClient;
+    private final RateLimitRule verifyTwoFactorPerAccount;
+    private final RateLimitRule passwordResetPerAccount;
+    private final RateLimitRule chatSend;
+    /**
+     * X-Forwarded-For 를 믿어도 되는 프록시 주소 (IP 또는 CIDR)
+     */
+    private final List<IpAddressMatcher> trustedProxies;
+
+    public RateLimitRules(@Value("${rate-limit.enabled:true}") boolean enabled,
+                          @Value("${rate-limit.auth-login:10/1m}") String authLogin,
+                          @Value("${rate-limit.auth-verify-2fa:5/1m}") String authVerifyTwoFactor,
+                          @Value("${rate-limit.auth-password-reset:3/10m}") String authPasswordReset,
+                          @Value("${rate-limit.oauth-login:10/1m}") String oauthLogin,
+                          @Value("${rate-limit.oauth-token-per-client:600/1m}") String oauthTokenPerClient,
+                          @Value("${rate-limit.oauth-token-per-ip:30/1m}") String oauthTokenPerIp,
+                          @Value("${rate-limit.login-per-account:20/10m}") String loginPerAccount,
+                          @Value("${rate-limit.login-per-client:300/1m}") String loginPerClient,
+                          @Value("${rate-limit.verify-2fa-per-account:10/10m}") String verifyTwoFactorPerAccount,
+                          @Value("${rate-limit.password-reset-per-account:3/1h}") String passwordResetPerAccount,
+                          @Value("${rate-limit.chat-send:20/10s}") String chatSend,
+                          @Value("${rate-limit.trusted-proxies:}") String trustedProxies) {
+        this.enabled = enabled;
+        this.authLogin = RateLimitRule.parse("auth-login", authLogin);
+        this.authVerifyTwoFactor = RateLimitRule.parse("auth-verify-2fa", authVerifyTwoFactor);
+        this.authPasswordReset = RateLimitRule.parse("auth-password-reset", authPasswordReset);
+        this.oauthLogin = RateLimitRule.parse("oauth-login", oauthLogin);
+        this.oauthTokenPerClient = RateLimitRule.parse("oauth-token-per-client", oauthTokenPerClient);
+        this.oauthTokenPerIp = RateLimitRule.parse("oauth-token-per-ip", oauthTokenPerIp);
+        this.loginPerAccount = RateLimitRule.parse("login-per-account", loginPerAccount);
+        this.loginPerClient = RateLimitRule.parse("login-per-client", loginPerClient);
+        this.verifyTwoFactorPerAccount = RateLimitRule.parse("verify-2fa-per-account", verifyTwoFactorPerAccount);
+        this.passwordResetPerAccount = RateLimitRule.parse("password-reset-per-account", passwordResetPerAccount);
+        this.chatSend = RateLimitRule.parse("chat-send", chatSend);
+        this.trustedProxies = Arrays.stream(trustedProxies.split(","))
+                .map(String::trim)
+                .filter(StringUtils::hasText)
+                .map(IpAddressMatcher::new)
+                .toList();
+    }
+
+    /**
+     * 신뢰 프록시 주소인지 확인 (IP 형식이 아닌 값은 신뢰하지 않음)
+     */
+    public boolean isTrustedProxy(String address) {
+        try {
+            return trustedProxies.stream().anyMatch(matcher -> matcher.matches(address));
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+}
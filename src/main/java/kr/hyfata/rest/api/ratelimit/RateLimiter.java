@@ -0,0 +1,159 @@
+package kr.hyfata.rest.api.ratelimit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * GCRA 요청 한도 검사
+ * <p>
+ * 먼저 노드 로컬 버킷(키별 AtomicLong 의 CAS)으로 검사해 이 노드에서 이미 한도를 넘은 요청은 Redis 호출 없이 거부하고,
+ * 통과한 요청만 Redis Lua 스크립트로 전체 노드 합산 한도를 검사한다.
+ * Redis 오류 시에는 로컬 결과만으로 판단하고 REDIS_RETRY_NANOS 동안 Redis 호출을 쉰다 (요청마다 연결 타임아웃을 기다리지 않도록).
+ * 결과는 hyfata.ratelimit.decisions (rule, result: allowed, rejected) 로, Redis 대체 판단은 hyfata.ratelimit.redis.fallback 으로 기록한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RateLimiter {
+
+    private static final String KEY_PREFIX = "ratelimit:";
+    private static final String DECISIONS_METRIC = "hyfata.ratelimit.decisions";
+    private static final String FALLBACK_METRIC = "hyfata.ratelimit.redis.fallback";
+    private static final long REDIS_RETRY_NANOS = TimeUnit.SECONDS.toNanos(5);
+
+    /**
+     * KEYS[1]: 버킷 키, ARGV[1]: 요청 간격(ms), ARGV[2]: 기간(ms)
+     * 다음 허용 시각(TAT)을 저장하고, 허용이면 0, 거부면 다시 시도할 수 있을 때까지 남은 ms 를 돌려준다.
+     * 노드 간 시계 차이를 피하려고 Redis 서버 시각(TIME)을 사용한다.
+     */
+    private static final RedisScript<Long> GCRA_SCRIPT = new DefaultRedisScript<>("""
+            local t = redis.call('TIME')
+            local now = tonumber(t[1]) * 1000 + math.floor(tonumber(t[2]) / 1000)
+            local emission = tonumber(ARGV[1])
+            local period = tonumber(ARGV[2])
+            local tat = tonumber(redis.call('GET', KEYS[1]))
+            if not tat or tat < now then
+                tat = now
+            end
+            local newTat = tat + emission
+            local wait = newTat - now - period
+            if wait > 0 then
+                return wait
+            end
+            redis.call('SET', KEYS[1], string.format('%d', newTat), 'PX', newTat - now)
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final MeterRegistry meterRegistry;
+
+    private final ConcurrentHashMap<String, AtomicLong> localBuckets = new ConcurrentHashMap<>();
+    /**
+     * 이 시각(nanoTime)까지 Redis 호출을 쉰다
+     * Long.MIN_VALUE 로 시작하면 now - redisRetryAt 이 넘쳐 음수가 되어 Redis 를 한 번도 부르지 않으므로 생성 시각으로 시작한다.
+     */
+    private volatile long redisRetryAt = System.nanoTime();
+
+    /**
+     * 요청 하나를 소비
+     *
+     * @param rule 적용할 규칙
+     * @param key  버킷을 나누는 값 (IP, 사용자, client_id 등, 규칙 안에서 유일해야 함)
+     */
+    public Decision tryAcquire(RateLimitRule rule, String key) {
+        String bucket = rule.name() + ":" + key;
+
+        long localWaitNanos = acquireLocal(bucket, rule);
+        if (localWaitNanos > 0) {
+            return record(rule, Decision.rejected(TimeUnit.NANOSECONDS.toMillis(localWaitNanos)));
+        }
+
+        long now = System.nanoTime();
+        if (now - redisRetryAt < 0) {
+            meterRegistry.counter(FALLBACK_METRIC, "rule", rule.name()).increment();
+            return record(rule, Decision.ALLOWED);
+        }
+        try {
+            Long waitMillis = redisTemplate.execute(GCRA_SCRIPT, List.of(KEY_PREFIX + bucket),
+                    String.valueOf(rule.emissionIntervalMillis()), String.valueOf(rule.period().toMillis()));
+            return record(rule, waitMillis != null && waitMillis > 0 ? Decision.rejected(waitMillis) : Decision.ALLOWED);
+        } catch (Exception e) {
+            redisRetryAt = now + REDIS_RETRY_NANOS;
+            meterRegistry.counter(FALLBACK_METRIC, "rule", rule.name()).increment();
+            log.warn("Rate limit Redis check failed, using node-local limit: {}", e.getMessage());
+            return record(rule, Decision.ALLOWED);
+        }
+    }
+
+    /**
+     * 다 채워진(마지막 요청 후 기간이 지난) 로컬 버킷 제거
+     *
+     * @return 제거 후 남은 버킷 수
+     */
+    public int evictIdleBuckets() {
+        long now = System.nanoTime();
+        localBuckets.values().removeIf(tat -> tat.get() - now <= 0);
+        return localBuckets.size();
+    }
+
+    /**
+     * 로컬 GCRA (잠금 없이 CAS 로 TAT 갱신)
+     *
+     * @return 허용이면 0, 거부면 남은 대기 시간(ns)
+     */
+    private long acquireLocal(String bucket, RateLimitRule rule) {
+        AtomicLong tat = localBuckets.computeIfAbsent(bucket, k -> new AtomicLong(System.nanoTime()));
+        long emission = rule.emissionIntervalNanos();
+        long period = rule.period().toNanos();
+        while (true) {
+            long now = System.nanoTime();
+            long current = tat.get();
+            long newTat = (current - now > 0 ? current : now) + emission;
+            long wait = newTat - now - period;
+            if (wait > 0) {
+                return wait;
+            }
+            if (tat.compareAndSet(current, newTat)) {
+                return 0;
+            }
+        }
+    }
+
+    private Decision record(RateLimitRule rule, Decision decision) {
+        meterRegistry.counter(DECISIONS_METRIC, "rule", rule.name(),
+                "result", decision.allowed() ? "allowed" : "rejected").increment();
+        return decision;
+    }
+
+    /**
+     * 검사 결과
+     *
+     * @param allowed          허용 여부
+     * @param retryAfterMillis 거부된 경우 다시 시도할 수 있을 때까지 남은 시간 (ms)
+     */
+    public record Decision(boolean allowed, long retryAfterMillis) {
+
+        static final Decision ALLOWED = new Decision(true, 0);
+
+        static Decision rejected(long retryAfterMillis) {
+            return new Decision(false, Math.max(1, retryAfterMillis));
+        }
+
+        /**
+         * Retry-After 헤더 값 (초 단위 올림)
+         */
+        public long retryAfterSeconds() {
+            return (retryAfterMillis + 999) / 1000;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package kr.hyfata.rest.api.repository;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import kr.hyfata.rest.api.entity.EventOutbox;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface EventOutboxRepository extends JpaRepository<EventOutbox, Long> {
+
+    /**
+     * 처리할 이벤트를 잠그고 조회 (aggregate 별로 가장 앞선 PENDING 이벤트만, 다른 노드가 잠근 행은 건너뜀)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT e FROM EventOutbox e WHERE e.status = :status AND e.nextAttemptAt <= :now " +
+           "AND NOT EXISTS (SELECT 1 FROM EventOutbox p WHERE p.aggregateType = e.aggregateType " +
+           "AND p.aggregateId = e.aggregateId AND p.status = :status AND p.id < e.id) " +
+           "ORDER BY e.id")
+    List<EventOutbox> findDueForUpdate(@Param("status") EventOutbox.Status status,
+                                       @Param("now") LocalDateTime now,
+                                       Pageable pageable);
+
+    boolean existsByIdempotencyKey(String idempotencyKey);
+
+    long countByStatus(EventOutbox.Status status);
+
+    @Modifying
+    @Query("UPDATE EventOutbox e SET e.status = :status, e.processedAt = :processedAt, e.lastError = NULL " +
+           "WHERE e.id = :id")
+    int markDone(@Param("id") Long id,
+                 @Param("status") EventOutbox.Status status,
+                 @Param("processedAt") LocalDateTime processedAt);
+
+    @Modifying
+    @Query("UPDATE EventOutbox e SET e.nextAttemptAt = :nextAttemptAt, e.lastError = :error WHERE e.id = :id")
+    int scheduleRetry(@Param("id") Long id,
+                      @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                      @Param("error") String error);
+
+    @Modifying
+    @Query("UPDATE EventOutbox e SET e.status = :status, e.lastError = :error WHERE e.id = :id")
+    int markFailed(@Param("id") Long id,
+                   @Param("status") EventOutbox.Status status,
+                   @Param("error") String error);
+
+    @Modifying
+    @Query("DELETE FROM EventOutbox e WHERE e.status <> :pending AND e.createdAt < :dateTime")
+    int deleteFinishedOlderThan(@Param("pending") EventOutbox.Status pending,
+                                @Param("dateTime") LocalDateTime dateTime);
+}
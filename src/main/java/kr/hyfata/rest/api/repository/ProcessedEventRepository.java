@@ -0,0 +1,28 @@
+package kr.hyfata.rest.api.repository;
+
+import kr.hyfata.rest.api.entity.ProcessedEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface ProcessedEventRepository extends JpaRepository<ProcessedEvent, ProcessedEvent.Key> {
+
+    /**
+     * 처리 기록 추가 (save 는 기존 행을 먼저 조회하므로 INSERT 만 실행, 이미 있으면 PK 위반으로 트랜잭션이 롤백된다)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO processed_events (consumer, idempotency_key, processed_at) " +
+                   "VALUES (:consumer, :idempotencyKey, :processedAt)", nativeQuery = true)
+    int insert(@Param("consumer") String consumer,
+               @Param("idempotencyKey") String idempotencyKey,
+               @Param("processedAt") LocalDateTime processedAt);
+
+    @Modifying
+    @Query("DELETE FROM ProcessedEvent p WHERE p.processedAt < :dateTime")
+    int deleteOlderThan(@Param("dateTime") LocalDateTime dateTime);
+}
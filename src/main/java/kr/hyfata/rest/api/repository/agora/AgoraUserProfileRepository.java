@@ -1,11 +1,12 @@
 package kr.hyfata.rest.api.repository.agora;
 
 import kr.hyfata.rest.api.entity.agora.AgoraUserProfile;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,10 +17,6 @@ public interface AgoraUserProfileRepository extends JpaRepository<AgoraUserProfi
 
     boolean existsByAgoraId(String agoraId);
 
-    List<AgoraUserProfile> findByDisplayNameContaining(String displayName);
-
-    List<AgoraUserProfile> findByAgoraIdContainingOrDisplayNameContaining(String agoraId, String displayName);
-
-    Page<AgoraUserProfile> findByAgoraIdContainingIgnoreCaseOrDisplayNameContainingIgnoreCase(
-            String agoraId, String displayName, Pageable pageable);
+    @Query("SELECT p.user.id FROM AgoraUserProfile p WHERE p.agoraId IN :agoraIds")
+    List<Long> findUserIdsByAgoraIdIn(@Param("agoraIds") Collection<String> agoraIds);
 }
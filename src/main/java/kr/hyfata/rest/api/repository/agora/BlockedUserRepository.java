@@ -2,6 +2,8 @@ package kr.hyfata.rest.api.repository.agora;
 
 import kr.hyfata.rest.api.entity.agora.BlockedUser;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -17,4 +19,7 @@ public interface BlockedUserRepository extends JpaRepository<BlockedUser, Long>
     boolean existsByUser_IdAndBlockedUser_Id(Long userId, Long blockedUserId);
 
     void deleteByUser_IdAndBlockedUser_Id(Long userId, Long blockedUserId);
+
+    @Query("SELECT b.blockedUser.id FROM BlockedUser b WHERE b.user.id = :userId")
+    List<Long> findBlockedUserIdsByUserId(@Param("userId") Long userId);
 }
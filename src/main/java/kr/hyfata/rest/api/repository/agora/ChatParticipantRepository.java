@@ -2,8 +2,11 @@ package kr.hyfata.rest.api.repository.agora;
 
 import kr.hyfata.rest.api.entity.agora.ChatParticipant;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -24,5 +27,20 @@ public interface ChatParticipantRepository extends JpaRepository<ChatParticipant
 
     long countByChat_Id(Long chatId);
 
+    /**
+     * 여러 채팅의 참여자 수를 한 번에 조회 ([chatId, count])
+     */
+    @Query("SELECT p.chat.id, COUNT(p) FROM ChatParticipant p WHERE p.chat.id IN :chatIds GROUP BY p.chat.id")
+    List<Object[]> countByChatIds(@Param("chatIds") Collection<Long> chatIds);
+
     List<ChatParticipant> findByChat_IdAndRole(Long chatId, ChatParticipant.Role role);
+
+    @Query("SELECT p.user.id FROM ChatParticipant p WHERE p.chat.id = :chatId")
+    List<Long> findUserIdsByChatId(@Param("chatId") Long chatId);
+
+    @Query("SELECT p.chat.id FROM ChatParticipant p WHERE p.user.id = :userId")
+    List<Long> findChatIdsByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT p.chat.id FROM ChatParticipant p WHERE p.user.id = :userId AND p.chat.team.id = :teamId")
+    List<Long> findChatIdsByUserIdAndTeamId(@Param("userId") Long userId, @Param("teamId") Long teamId);
 }
@@ -1,6 +1,7 @@
 package kr.hyfata.rest.api.repository.agora;
 
 import kr.hyfata.rest.api.entity.agora.Event;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -16,7 +17,7 @@ public interface EventRepository extends JpaRepository<Event, Long> {
 
     List<Event> findByCreatedBy_Id(Long userId);
 
-    @Query("SELECT e FROM Event e WHERE e.team.id = :teamId AND e.startTime >= :start AND e.endTime <= :end ORDER BY e.startTime ASC")
+    @Query("SELECT e FROM Event e WHERE e.team.id = :teamId AND e.startTime < :end AND e.endTime > :start ORDER BY e.startTime ASC")
     List<Event> findByTeamIdAndDateRange(@Param("teamId") Long teamId,
                                           @Param("start") LocalDateTime start,
                                           @Param("end") LocalDateTime end);
@@ -25,4 +26,68 @@ public interface EventRepository extends JpaRepository<Event, Long> {
     List<Event> findUpcomingEventsByTeamId(@Param("teamId") Long teamId, @Param("now") LocalDateTime now);
 
     long countByTeam_Id(Long teamId);
+
+    /**
+     * 일정 첫 페이지 (시작 시각 오름차순, from/to 지정 시 시작 시각이 [from, to) 구간인 일정만)
+     */
+    @Query("SELECT e FROM Event e JOIN FETCH e.createdBy WHERE e.team.id = :teamId " +
+            "AND (:from IS NULL OR e.startTime >= :from) AND (:to IS NULL OR e.startTime < :to) " +
+            "ORDER BY e.startTime ASC, e.id ASC")
+    List<Event> findPage(@Param("teamId") Long teamId,
+                         @Param("from") LocalDateTime from,
+                         @Param("to") LocalDateTime to,
+                         Pageable pageable);
+
+    /**
+     * 커서 이후 페이지
+     */
+    @Query("SELECT e FROM Event e JOIN FETCH e.createdBy WHERE e.team.id = :teamId " +
+            "AND (:from IS NULL OR e.startTime >= :from) AND (:to IS NULL OR e.startTime < :to) " +
+            "AND (e.startTime > :startTime OR (e.startTime = :startTime AND e.id > :cursor)) " +
+            "ORDER BY e.startTime ASC, e.id ASC")
+    List<Event> findPageAfter(@Param("teamId") Long teamId,
+                              @Param("from") LocalDateTime from,
+                              @Param("to") LocalDateTime to,
+                              @Param("startTime") LocalDateTime startTime,
+                              @Param("cursor") Long cursor,
+                              Pageable pageable);
+
+    /**
+     * 캘린더 조회 행 (일정 + 팀 이름 + 작성자 이메일)
+     */
+    interface CalendarEventRow {
+        Long getEventId();
+        Long getTeamId();
+        String getTeamName();
+        String getCreatedByEmail();
+        String getTitle();
+        String getLocation();
+        LocalDateTime getStartTime();
+        LocalDateTime getEndTime();
+        Boolean getIsAllDay();
+        String getRecurrence();
+        Integer getRecurrenceInterval();
+        LocalDateTime getRecurrenceUntil();
+    }
+
+    /**
+     * 사용자가 속한 모든 팀에서 [from, to) 구간과 겹치는 일정 조회
+     * 단일 일정은 tsrange GiST 인덱스(idx_events_time_range)로 겹침을 찾고,
+     * 반복 일정은 부분 인덱스(idx_events_recurring)로 구간 이전에 시작해 아직 끝나지 않은 원본을 찾는다.
+     */
+    @Query(value = "SELECT e.id AS eventId, e.team_id AS teamId, t.name AS teamName, u.email AS createdByEmail, " +
+            "e.title AS title, e.location AS location, e.start_time AS startTime, e.end_time AS endTime, " +
+            "e.is_all_day AS isAllDay, e.recurrence AS recurrence, e.recurrence_interval AS recurrenceInterval, " +
+            "e.recurrence_until AS recurrenceUntil " +
+            "FROM events e " +
+            "JOIN teams t ON t.id = e.team_id " +
+            "JOIN users u ON u.id = e.created_by " +
+            "WHERE e.team_id IN (SELECT tm.team_id FROM team_members tm WHERE tm.user_id = :userId) " +
+            "AND (tsrange(e.start_time, GREATEST(e.end_time, e.start_time), '[]') && tsrange(:from, :to, '[)') " +
+            "OR (e.recurrence <> 'NONE' AND e.start_time < :to " +
+            "AND (e.recurrence_until IS NULL OR e.recurrence_until >= :from)))",
+            nativeQuery = true)
+    List<CalendarEventRow> findCalendarEvents(@Param("userId") Long userId,
+                                              @Param("from") LocalDateTime from,
+                                              @Param("to") LocalDateTime to);
 }
@@ -6,8 +6,10 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -32,4 +34,12 @@ public interface FcmTokenRepository extends JpaRepository<FcmToken, Long> {
 
     @Query("SELECT f.token FROM FcmToken f WHERE f.user.id = :userId")
     List<String> findTokensByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT f.token FROM FcmToken f WHERE f.user.id IN :userIds")
+    List<String> findTokensByUserIdIn(@Param("userIds") Collection<Long> userIds);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM FcmToken f WHERE f.token IN :tokens")
+    int deleteByTokenIn(@Param("tokens") Collection<String> tokens);
 }
@@ -2,6 +2,8 @@ package kr.hyfata.rest.api.repository.agora;
 
 import kr.hyfata.rest.api.entity.agora.Friend;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -21,4 +23,7 @@ public interface FriendRepository extends JpaRepository<Friend, Long> {
     void deleteByUser_IdAndFriend_Id(Long userId, Long friendId);
 
     long countByUser_Id(Long userId);
+
+    @Query("SELECT f.friend.id FROM Friend f WHERE f.user.id = :userId")
+    List<Long> findFriendIdsByUserId(@Param("userId") Long userId);
 }
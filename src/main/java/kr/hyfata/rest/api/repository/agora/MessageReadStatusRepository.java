@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,4 +23,13 @@ public interface MessageReadStatusRepository extends JpaRepository<MessageReadSt
 
     @Query("SELECT mrs.message.id FROM MessageReadStatus mrs WHERE mrs.user.id = :userId AND mrs.message.chat.id = :chatId ORDER BY mrs.message.id DESC")
     List<Long> findReadMessageIdsByUserAndChat(@Param("userId") Long userId, @Param("chatId") Long chatId);
+
+    /**
+     * 읽음 상태가 없는 메시지 ID (since 이전 메시지는 보존 정책이 읽음 상태를 지우므로 제외, null 이면 전체)
+     */
+    @Query("SELECT m.id FROM Message m WHERE m.chat.id = :chatId " +
+           "AND (:since IS NULL OR m.createdAt >= :since) AND NOT EXISTS " +
+           "(SELECT 1 FROM MessageReadStatus mrs WHERE mrs.message = m AND mrs.user.id = :userId)")
+    List<Long> findUnreadMessageIds(@Param("chatId") Long chatId, @Param("userId") Long userId,
+                                    @Param("since") LocalDateTime since);
 }
@@ -8,16 +8,18 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface MessageRepository extends JpaRepository<Message, Long> {
 
-    List<Message> findByChat_IdOrderByIdDesc(Long chatId, Pageable pageable);
-
-    List<Message> findByChat_IdAndIdLessThanOrderByIdDesc(Long chatId, Long cursor, Pageable pageable);
-
-    List<Message> findByChat_IdAndIdGreaterThanOrderByIdAsc(Long chatId, Long cursor, Pageable pageable);
+    /**
+     * 여러 채팅의 마지막 메시지를 한 번에 조회 (채팅 목록용, 메시지가 없는 채팅은 빠짐)
+     */
+    @Query("SELECT m FROM Message m WHERE m.id IN " +
+           "(SELECT MAX(m2.id) FROM Message m2 WHERE m2.chat.id IN :chatIds GROUP BY m2.chat.id)")
+    List<Message> findLatestByChatIds(@Param("chatIds") Collection<Long> chatIds);
 
     List<Message> findBySender_Id(Long senderId);
 
@@ -3,6 +3,8 @@ package kr.hyfata.rest.api.repository.agora;
 import kr.hyfata.rest.api.entity.agora.Notice;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -14,6 +16,12 @@ public interface NoticeRepository extends JpaRepository<Notice, Long> {
 
     List<Notice> findByTeam_IdOrderByCreatedAtDesc(Long teamId, Pageable pageable);
 
+    @Query("SELECT n FROM Notice n JOIN FETCH n.author WHERE n.team.id = :teamId ORDER BY n.id DESC")
+    List<Notice> findPageByTeamId(@Param("teamId") Long teamId, Pageable pageable);
+
+    @Query("SELECT n FROM Notice n JOIN FETCH n.author WHERE n.team.id = :teamId AND n.id < :cursor ORDER BY n.id DESC")
+    List<Notice> findPageByTeamIdBefore(@Param("teamId") Long teamId, @Param("cursor") Long cursor, Pageable pageable);
+
     List<Notice> findByAuthor_Id(Long authorId);
 
     long countByTeam_Id(Long teamId);
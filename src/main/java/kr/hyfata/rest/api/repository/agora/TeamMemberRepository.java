@@ -2,6 +2,8 @@ package kr.hyfata.rest.api.repository.agora;
 
 import kr.hyfata.rest.api.entity.agora.TeamMember;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -12,6 +14,13 @@ public interface TeamMemberRepository extends JpaRepository<TeamMember, Long> {
 
     List<TeamMember> findByTeam_IdOrderByJoinedAtAsc(Long teamId);
 
+    /**
+     * 팀 멤버 목록 (사용자와 역할을 함께 조회하여 멤버별 지연 로딩 방지)
+     */
+    @Query("SELECT m FROM TeamMember m JOIN FETCH m.user LEFT JOIN FETCH m.role " +
+            "WHERE m.team.id = :teamId ORDER BY m.joinedAt ASC")
+    List<TeamMember> findWithUserAndRoleByTeamId(@Param("teamId") Long teamId);
+
     List<TeamMember> findByUser_Id(Long userId);
 
     Optional<TeamMember> findByTeam_IdAndUser_Id(Long teamId, Long userId);
@@ -23,4 +32,14 @@ public interface TeamMemberRepository extends JpaRepository<TeamMember, Long> {
     long countByTeam_Id(Long teamId);
 
     List<TeamMember> findByTeam_IdAndRole_Id(Long teamId, Long roleId);
+
+    /**
+     * 멤버십 권한 정보 (팀 생성자 ID, 역할 이름, 권한) - 멤버가 아니면 빈 목록
+     */
+    @Query("SELECT t.createdBy.id, r.name, r.permissions FROM TeamMember m JOIN m.team t LEFT JOIN m.role r " +
+            "WHERE t.id = :teamId AND m.user.id = :userId")
+    List<Object[]> findMembershipRow(@Param("teamId") Long teamId, @Param("userId") Long userId);
+
+    @Query("SELECT m.user.id FROM TeamMember m WHERE m.team.id = :teamId")
+    List<Long> findUserIdsByTeamId(@Param("teamId") Long teamId);
 }
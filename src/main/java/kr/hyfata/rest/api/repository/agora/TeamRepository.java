@@ -1,5 +1,6 @@
 package kr.hyfata.rest.api.repository.agora;
 
+import kr.hyfata.rest.api.dto.agora.team.TeamResponse;
 import kr.hyfata.rest.api.entity.agora.Team;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -20,4 +21,24 @@ public interface TeamRepository extends JpaRepository<Team, Long> {
     List<Team> findTeamsByUserId(@Param("userId") Long userId);
 
     List<Team> findByNameContaining(String name);
+
+    /**
+     * 사용자가 속한 팀 요약 목록 (생성자 이메일과 멤버 수를 한 번의 쿼리로 조회)
+     */
+    @Query("SELECT new kr.hyfata.rest.api.dto.agora.team.TeamResponse(" +
+            "t.id, t.name, t.description, t.profileImage, t.isMain, c.email, " +
+            "(SELECT COUNT(m) FROM TeamMember m WHERE m.team = t), t.createdAt, t.updatedAt) " +
+            "FROM Team t JOIN t.createdBy c " +
+            "WHERE EXISTS (SELECT 1 FROM TeamMember my WHERE my.team = t AND my.user.id = :userId) " +
+            "ORDER BY t.createdAt DESC")
+    List<TeamResponse> findTeamSummariesByUserId(@Param("userId") Long userId);
+
+    /**
+     * 팀 요약 단건 조회
+     */
+    @Query("SELECT new kr.hyfata.rest.api.dto.agora.team.TeamResponse(" +
+            "t.id, t.name, t.description, t.profileImage, t.isMain, c.email, " +
+            "(SELECT COUNT(m) FROM TeamMember m WHERE m.team = t), t.createdAt, t.updatedAt) " +
+            "FROM Team t JOIN t.createdBy c WHERE t.id = :teamId")
+    Optional<TeamResponse> findTeamSummaryById(@Param("teamId") Long teamId);
 }
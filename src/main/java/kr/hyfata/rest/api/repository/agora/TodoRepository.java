@@ -1,7 +1,10 @@
 package kr.hyfata.rest.api.repository.agora;
 
 import kr.hyfata.rest.api.entity.agora.Todo;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
@@ -23,4 +26,48 @@ public interface TodoRepository extends JpaRepository<Todo, Long> {
     List<Todo> findByTeam_IdAndPriority(Long teamId, Todo.Priority priority);
 
     long countByTeam_IdAndStatus(Long teamId, Todo.Status status);
+
+    /**
+     * 할일 목록 첫 페이지 (마감일 오름차순, 마감일 없는 항목은 마지막)
+     */
+    @Query("SELECT t FROM Todo t JOIN FETCH t.createdBy LEFT JOIN FETCH t.assignedTo " +
+            "WHERE t.team.id = :teamId " +
+            "AND (:status IS NULL OR t.status = :status) " +
+            "AND (:assigneeId IS NULL OR t.assignedTo.id = :assigneeId) " +
+            "ORDER BY t.dueDate ASC NULLS LAST, t.id ASC")
+    List<Todo> findPage(@Param("teamId") Long teamId,
+                        @Param("status") Todo.Status status,
+                        @Param("assigneeId") Long assigneeId,
+                        Pageable pageable);
+
+    /**
+     * 마감일이 있는 커서 이후 페이지
+     */
+    @Query("SELECT t FROM Todo t JOIN FETCH t.createdBy LEFT JOIN FETCH t.assignedTo " +
+            "WHERE t.team.id = :teamId " +
+            "AND (:status IS NULL OR t.status = :status) " +
+            "AND (:assigneeId IS NULL OR t.assignedTo.id = :assigneeId) " +
+            "AND (t.dueDate > :dueDate OR (t.dueDate = :dueDate AND t.id > :cursor) OR t.dueDate IS NULL) " +
+            "ORDER BY t.dueDate ASC NULLS LAST, t.id ASC")
+    List<Todo> findPageAfter(@Param("teamId") Long teamId,
+                             @Param("status") Todo.Status status,
+                             @Param("assigneeId") Long assigneeId,
+                             @Param("dueDate") LocalDateTime dueDate,
+                             @Param("cursor") Long cursor,
+                             Pageable pageable);
+
+    /**
+     * 마감일이 없는 커서 이후 페이지
+     */
+    @Query("SELECT t FROM Todo t JOIN FETCH t.createdBy LEFT JOIN FETCH t.assignedTo " +
+            "WHERE t.team.id = :teamId " +
+            "AND (:status IS NULL OR t.status = :status) " +
+            "AND (:assigneeId IS NULL OR t.assignedTo.id = :assigneeId) " +
+            "AND t.dueDate IS NULL AND t.id > :cursor " +
+            "ORDER BY t.dueDate ASC NULLS LAST, t.id ASC")
+    List<Todo> findPageAfterUndated(@Param("teamId") Long teamId,
+                                    @Param("status") Todo.Status status,
+                                    @Param("assigneeId") Long assigneeId,
+                                    @Param("cursor") Long cursor,
+                                    Pageable pageable);
 }
@@ -0,0 +1,51 @@
+package kr.hyfata.rest.api.scheduler;
+
+import kr.hyfata.rest.api.service.agora.BirthdayDigestService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * 친구 생일 다이제스트 생성과 생일 알림 발행
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BirthdayDigestScheduler {
+
+    private final BirthdayDigestService birthdayDigestService;
+
+    /**
+     * 날짜가 바뀐 직후 모든 사용자의 다이제스트 생성 (기본 매일 00:05)
+     */
+    @Scheduled(cron = "${birthday.digest.cron:0 5 0 * * *}")
+    public void buildDigest() {
+        try {
+            int rows = birthdayDigestService.rebuild(LocalDate.now());
+            log.info("✅ Birthday digest built: {} rows", rows);
+        } catch (Exception e) {
+            log.error("❌ Error building birthday digest: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 생일 알림 발행 (기본 매일 09:00, 새벽에 푸시가 가지 않도록 다이제스트 생성과 분리)
+     * 다이제스트 생성이 실패했던 날에는 여기서 다시 만든다.
+     */
+    @Scheduled(cron = "${birthday.reminder.cron:0 0 9 * * *}")
+    public void enqueueReminders() {
+        try {
+            LocalDate today = LocalDate.now();
+            if (!birthdayDigestService.isBuilt(today)) {
+                birthdayDigestService.rebuild(today);
+            }
+            int events = birthdayDigestService.enqueueReminders(today);
+            log.info("✅ Birthday reminders enqueued: {} events", events);
+        } catch (Exception e) {
+            log.error("❌ Error enqueueing birthday reminders: {}", e.getMessage(), e);
+        }
+    }
+}
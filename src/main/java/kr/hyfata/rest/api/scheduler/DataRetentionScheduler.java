@@ -0,0 +1,35 @@
+package kr.hyfata.rest.api.scheduler;
+
+import kr.hyfata.rest.api.service.DataRetentionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 보존 기간이 지난 데이터 정리
+ * 알림, 메시지 읽음 상태, 로그인 이력, 만료/폐기된 세션을 정기적으로 삭제
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DataRetentionScheduler {
+
+    private final DataRetentionService dataRetentionService;
+
+    /**
+     * 보존 정책 실행
+     * 트래픽이 적은 새벽 시간에 실행 (기본 매일 04:30)
+     */
+    @Scheduled(cron = "${retention.cron:0 30 4 * * *}")
+    public void purgeExpiredData() {
+        try {
+            Map<String, Integer> purged = dataRetentionService.purgeAll();
+            log.info("✅ Retention purge completed: {}", purged);
+        } catch (Exception e) {
+            log.error("❌ Error running retention purge: {}", e.getMessage(), e);
+        }
+    }
+}
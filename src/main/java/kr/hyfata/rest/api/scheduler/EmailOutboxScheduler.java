@@ -0,0 +1,54 @@
+package kr.hyfata.rest.api.scheduler;
+
+import kr.hyfata.rest.api.entity.EmailOutbox;
+import kr.hyfata.rest.api.repository.EmailOutboxRepository;
+import kr.hyfata.rest.api.service.EmailDispatcher;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 메일 발송 대기열 주기 작업
+ * 재시도 시각이 된 메일과 임대가 끝난 메일을 발송하도록 발송기를 깨우고, 보관 기간이 지난 발송 완료/실패 행을 지운다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EmailOutboxScheduler {
+
+    private final EmailDispatcher emailDispatcher;
+    private final EmailOutboxRepository emailOutboxRepository;
+
+    @Value("${mail.outbox.retention:7d}")
+    private Duration retention;
+
+    /**
+     * 기본 5초마다 실행 (새 메일은 커밋 직후 바로 발송되므로 재시도용)
+     */
+    @Scheduled(initialDelayString = "${mail.outbox.poll-interval-ms:5000}",
+            fixedDelayString = "${mail.outbox.poll-interval-ms:5000}")
+    public void dispatchDueEmails() {
+        emailDispatcher.wakeUp();
+    }
+
+    /**
+     * 매일 새벽 4시 실행
+     */
+    @Transactional
+    @Scheduled(cron = "0 0 4 * * *")
+    public void cleanupFinishedEmails() {
+        try {
+            int deleted = emailOutboxRepository.deleteFinishedOlderThan(
+                    EmailOutbox.Status.PENDING, LocalDateTime.now().minus(retention));
+            log.info("✅ Finished outbox emails cleaned up: {}", deleted);
+        } catch (Exception e) {
+            log.error("❌ Error cleaning up outbox emails: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package kr.hyfata.rest.api.scheduler;
+
+import kr.hyfata.rest.api.entity.EventOutbox;
+import kr.hyfata.rest.api.repository.EventOutboxRepository;
+import kr.hyfata.rest.api.repository.ProcessedEventRepository;
+import kr.hyfata.rest.api.service.EventOutboxDispatcher;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 이벤트 outbox 주기 작업
+ * 재시도 시각이 된 이벤트와 임대가 끝난 이벤트를 처리하도록 전달기를 깨우고,
+ * 보관 기간이 지난 처리 완료/실패 이벤트와 처리 기록을 지운다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EventOutboxScheduler {
+
+    private final EventOutboxDispatcher eventOutboxDispatcher;
+    private final EventOutboxRepository eventOutboxRepository;
+    private final ProcessedEventRepository processedEventRepository;
+
+    @Value("${events.outbox.retention:7d}")
+    private Duration retention;
+
+    /**
+     * 기본 5초마다 실행 (새 이벤트는 커밋 직후 바로 처리되므로 재시도용)
+     */
+    @Scheduled(initialDelayString = "${events.outbox.poll-interval-ms:5000}",
+            fixedDelayString = "${events.outbox.poll-interval-ms:5000}")
+    public void dispatchDueEvents() {
+        eventOutboxDispatcher.wakeUp();
+    }
+
+    /**
+     * 매일 새벽 4시 10분 실행
+     */
+    @Transactional
+    @Scheduled(cron = "0 10 4 * * *")
+    public void cleanupFinishedEvents() {
+        try {
+            LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+            int events = eventOutboxRepository.deleteFinishedOlderThan(EventOutbox.Status.PENDING, cutoff);
+            int processed = processedEventRepository.deleteOlderThan(cutoff);
+            log.info("✅ Finished outbox events cleaned up: events={}, processed={}", events, processed);
+        } catch (Exception e) {
+            log.error("❌ Error cleaning up outbox events: {}", e.getMessage(), e);
+        }
+    }
+}
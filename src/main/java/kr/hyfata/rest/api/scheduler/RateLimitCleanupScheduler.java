@@ -0,0 +1,32 @@
+package kr.hyfata.rest.api.scheduler;
+
+import kr.hyfata.rest.api.ratelimit.RateLimiter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 요청 한도 로컬 버킷 정리
+ * 한도가 다 채워진(더 이상 기억할 필요 없는) IP/사용자별 버킷을 지워 메모리가 계속 늘지 않게 한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RateLimitCleanupScheduler {
+
+    private final RateLimiter rateLimiter;
+
+    /**
+     * 매 분마다 실행 (1분 = 60000ms)
+     */
+    @Scheduled(fixedRate = 60000)
+    public void evictIdleBuckets() {
+        try {
+            int remaining = rateLimiter.evictIdleBuckets();
+            log.debug("Rate limit buckets remaining after cleanup: {}", remaining);
+        } catch (Exception e) {
+            log.error("❌ Error cleaning up rate limit buckets: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package kr.hyfata.rest.api.scheduler;
+
+import kr.hyfata.rest.api.service.agora.AgoraUploadSessionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 만료된 청크 업로드 세션 정리
+ * 완료되지 않은 임시 파일을 정기적으로 삭제
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class UploadSessionCleanupScheduler {
+
+    private final AgoraUploadSessionService agoraUploadSessionService;
+
+    /**
+     * 만료된 업로드 세션 정리
+     * 매 시간마다 실행 (1시간 = 3600000ms)
+     */
+    @Scheduled(fixedRate = 3600000)
+    public void cleanupExpiredUploadSessions() {
+        try {
+            int removed = agoraUploadSessionService.cleanupExpiredSessions();
+            log.info("✅ Expired upload sessions cleaned up: {}", removed);
+        } catch (Exception e) {
+            log.error("❌ Error cleaning up expired upload sessions: {}", e.getMessage(), e);
+        }
+    }
+}
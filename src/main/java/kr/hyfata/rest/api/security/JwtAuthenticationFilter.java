@@ -1,5 +1,7 @@
 package kr.hyfata.rest.api.security;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -27,9 +29,15 @@ import java.util.List;
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    /**
+     * 토큰이 있는 요청의 인증 처리 시간 (result: valid, invalid, revoked, error)
+     */
+    private static final String AUTH_TIMER = "hyfata.auth.jwt";
+
     private final JwtUtil jwtUtil;
     private final UserDetailsService userDetailsService;
     private final TokenBlacklistService tokenBlacklistService;
+    private final MeterRegistry meterRegistry;
 
     @Value("${security.sensitive-endpoints:/api/auth/change-password,/api/users/me,/api/payments,/api/sessions}")
     private String sensitiveEndpointsConfig;
@@ -39,9 +47,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
+        final String jwt = extractJwtFromRequest(request);
+        Timer.Sample sample = jwt != null ? Timer.start(meterRegistry) : null;
+        String result = "invalid";
         try {
-            final String jwt = extractJwtFromRequest(request);
-
             log.debug("JWT from request: {}", jwt != null ? "present" : "null");
 
             if (jwt == null) {
@@ -56,6 +65,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 if (isSensitiveEndpoint(request.getRequestURI())) {
                     String jti = jwtUtil.extractJti(jwt);
                     if (jti != null && tokenBlacklistService.isJtiBlacklisted(jti)) {
+                        result = "revoked";
                         log.warn("Blocked request with revoked token to sensitive endpoint: {}", request.getRequestURI());
                         response.setStatus(HttpStatus.UNAUTHORIZED.value());
                         response.setContentType("application/json");
@@ -75,13 +85,19 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                             new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
                     authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                     SecurityContextHolder.getContext().setAuthentication(authentication);
+                    result = "valid";
                     log.debug("Authentication set successfully for user: {}", email);
                 } else {
                     log.warn("Token validation with userDetails failed for email: {}", email);
                 }
             }
         } catch (Exception e) {
+            result = "error";
             log.error("Cannot set user authentication: {}", e.getMessage());
+        } finally {
+            if (sample != null) {
+                sample.stop(meterRegistry.timer(AUTH_TIMER, "result", result));
+            }
         }
 
         filterChain.doFilter(request, response);
@@ -0,0 +1,177 @@
+package kr.hyfata.rest.api.service;
+
+import kr.hyfata.rest.api.service.agora.NotificationCounterService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 데이터 보존 정책 실행
+ * <p>
+ * 계속 쌓이기만 하는 테이블(notifications, message_read_status, login_history, user_sessions)을
+ * 테이블별 보존 기간에 따라 정리합니다. 한 번의 거대한 DELETE 대신 키 순서로 작은 배치를 조회해
+ * 배치마다 자동 커밋되는 DELETE를 실행하므로, 잠금과 WAL이 짧게 끊기고 다른 트랜잭션을 막지 않습니다.
+ * 월 단위 파티션으로 전환된 테이블은 행 삭제 대신 파티션을 통째로 DROP 합니다.
+ * 보존 기간이 0 이하인 정책은 실행하지 않습니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DataRetentionService {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final PartitionMaintenanceService partitionMaintenanceService;
+    private final NotificationCounterService notificationCounterService;
+
+    @Value("${retention.notifications.days:90}")
+    private int notificationDays;
+
+    @Value("${retention.message-read-status.days:180}")
+    private int messageReadStatusDays;
+
+    @Value("${retention.login-history.days:180}")
+    private int loginHistoryDays;
+
+    @Value("${retention.user-sessions.expired-days:1}")
+    private int expiredSessionDays;
+
+    @Value("${retention.user-sessions.revoked-days:30}")
+    private int revokedSessionDays;
+
+    @Value("${retention.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${retention.max-batches-per-run:1000}")
+    private int maxBatchesPerRun;
+
+    @Value("${retention.batch-pause-ms:50}")
+    private long batchPauseMs;
+
+    /**
+     * 보존 정책
+     *
+     * @param name          정책 이름 (결과 키, 한 테이블에 정책이 여러 개일 수 있음)
+     * @param table         대상 테이블
+     * @param retentionDays 보존 기간 (0 이하이면 비활성)
+     * @param initialKey    키셋 페이지네이션 시작 키
+     * @param selectKeySql  :lastKey 이후의 삭제 대상 키를 :limit 개까지 키 순서로 조회
+     * @param deleteSql     :keys 에 해당하는 행 삭제
+     */
+    record RetentionPolicy(String name, String table, int retentionDays, Object initialKey,
+                           String selectKeySql, String deleteSql) {
+    }
+
+    List<RetentionPolicy> policies() {
+        return List.of(
+                new RetentionPolicy("notifications", "notifications", notificationDays, 0L,
+                        "SELECT id FROM notifications WHERE id > :lastKey AND created_at < :cutoff " +
+                        "ORDER BY id LIMIT :limit",
+                        "DELETE FROM notifications WHERE id IN (:keys)"),
+                // message_read_status에는 시각 컬럼이 없으므로 메시지 작성 시각을 기준으로 삼는다
+                new RetentionPolicy("message_read_status", "message_read_status", messageReadStatusDays, 0L,
+                        "SELECT s.id FROM message_read_status s JOIN messages m ON m.id = s.message_id " +
+                        "WHERE s.id > :lastKey AND m.created_at < :cutoff ORDER BY s.id LIMIT :limit",
+                        "DELETE FROM message_read_status WHERE id IN (:keys)"),
+                new RetentionPolicy("login_history", "login_history", loginHistoryDays, 0L,
+                        "SELECT id FROM login_history WHERE id > :lastKey AND created_at < :cutoff " +
+                        "ORDER BY id LIMIT :limit",
+                        "DELETE FROM login_history WHERE id IN (:keys)"),
+                // 만료된 세션과 폐기된 세션은 각자의 보존 기간으로 삭제 (한쪽을 꺼도 다른 쪽은 계속 정리)
+                new RetentionPolicy("user_sessions.expired", "user_sessions", expiredSessionDays, "",
+                        "SELECT refresh_token_hash FROM user_sessions WHERE refresh_token_hash > :lastKey " +
+                        "AND expires_at < :cutoff ORDER BY refresh_token_hash LIMIT :limit",
+                        "DELETE FROM user_sessions WHERE refresh_token_hash IN (:keys)"),
+                new RetentionPolicy("user_sessions.revoked", "user_sessions", revokedSessionDays, "",
+                        "SELECT refresh_token_hash FROM user_sessions WHERE refresh_token_hash > :lastKey " +
+                        "AND is_revoked = true AND last_active_at < :cutoff ORDER BY refresh_token_hash LIMIT :limit",
+                        "DELETE FROM user_sessions WHERE refresh_token_hash IN (:keys)")
+        );
+    }
+
+    /**
+     * 모든 보존 정책 실행
+     *
+     * @return 정책별 삭제 건수 (파티션 테이블은 삭제된 파티션 수)
+     */
+    public Map<String, Integer> purgeAll() {
+        Map<String, Integer> result = new LinkedHashMap<>();
+        for (RetentionPolicy policy : policies()) {
+            if (policy.retentionDays() <= 0) {
+                continue;
+            }
+            try {
+                result.put(policy.name(), purge(policy));
+            } catch (Exception e) {
+                log.error("Retention failed for {}: {}", policy.name(), e.getMessage(), e);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 읽음 상태를 보관하는 가장 오래된 메시지 작성 시각 (정책이 꺼져 있으면 null)
+     * 이보다 오래된 메시지의 읽음 상태는 보존 정책이 지우므로, 읽음 처리 시 다시 만들지 않는다.
+     */
+    public LocalDateTime messageReadStatusCutoff() {
+        return messageReadStatusDays > 0 ? LocalDateTime.now().minusDays(messageReadStatusDays) : null;
+    }
+
+    private int purge(RetentionPolicy policy) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime cutoff = now.minusDays(policy.retentionDays());
+
+        if (partitionMaintenanceService.isManaged(policy.table())) {
+            partitionMaintenanceService.ensureFuturePartitions(policy.table());
+            int dropped = partitionMaintenanceService.dropPartitionsBefore(policy.table(), cutoff.toLocalDate());
+            afterPurge(policy, dropped);
+            return dropped;
+        }
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("cutoff", cutoff)
+                .addValue("limit", batchSize)
+                .addValue("lastKey", policy.initialKey());
+
+        int deleted = 0;
+        for (int batch = 0; batch < maxBatchesPerRun && !Thread.currentThread().isInterrupted(); batch++) {
+            List<Object> keys = jdbcTemplate.queryForList(policy.selectKeySql(), params, Object.class);
+            if (keys.isEmpty()) {
+                break;
+            }
+            deleted += jdbcTemplate.update(policy.deleteSql(), new MapSqlParameterSource("keys", keys));
+            if (keys.size() < batchSize) {
+                break;
+            }
+            params.addValue("lastKey", keys.get(keys.size() - 1));
+            pause();
+        }
+        afterPurge(policy, deleted);
+        return deleted;
+    }
+
+    private void afterPurge(RetentionPolicy policy, int purged) {
+        if (purged > 0 && "notifications".equals(policy.table())) {
+            // 읽지 않은 알림이 함께 지워졌을 수 있으므로 (행 삭제든 파티션 DROP 이든) 카운터를 다시 계산하게 한다
+            notificationCounterService.invalidateAll();
+        }
+    }
+
+    private void pause() {
+        if (batchPauseMs <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(batchPauseMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,325 @@
+package kr.hyfata.rest.api.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import kr.hyfata.rest.api.entity.EmailOutbox;
+import kr.hyfata.rest.api.repository.EmailOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 메일 발송기 (email_outbox → SMTP)
+ * <p>
+ * 발송 스레드 하나가 due 상태의 행을 SKIP LOCKED 로 가져와 임대(next_attempt_at = 지금 + lease)를 걸고,
+ * messages-per-connection 개씩 나눠 발송 풀(workers)에 넘긴다. 발송 스레드는 SMTP 연결을 스레드별로 열어 두고 재사용한다.
+ * 실패한 메일은 initial-backoff 부터 두 배씩(최대 max-backoff) 늦춰 재시도하고, max-attempts 를 넘으면 FAILED 로 남긴다.
+ * 대기 중인 메일 수(hyfata.mail.outbox.pending), 메일별 결과(hyfata.mail.deliveries), 연결당 발송 시간(hyfata.mail.batch)과
+ * 발송 풀의 대기열(executor.*, name=mail)을 메트릭으로 남긴다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EmailDispatcher {
+
+    private static final String DELIVERIES_METRIC = "hyfata.mail.deliveries";
+    private static final String BATCH_TIMER = "hyfata.mail.batch";
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final MailTemplateRenderer mailTemplateRenderer;
+    private final JavaMailSenderImpl mailSender;
+    private final PlatformTransactionManager transactionManager;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${spring.mail.from:noreply@hyfata.com}")
+    private String fromEmail;
+
+    @Value("${mail.outbox.workers:2}")
+    private int workers;
+
+    @Value("${mail.outbox.messages-per-connection:20}")
+    private int messagesPerConnection;
+
+    @Value("${mail.outbox.max-attempts:6}")
+    private int maxAttempts;
+
+    @Value("${mail.outbox.initial-backoff:30s}")
+    private Duration initialBackoff;
+
+    @Value("${mail.outbox.max-backoff:30m}")
+    private Duration maxBackoff;
+
+    @Value("${mail.outbox.lease:5m}")
+    private Duration lease;
+
+    private final ThreadLocal<Transport> transports = new ThreadLocal<>();
+    private final Set<Transport> openTransports = ConcurrentHashMap.newKeySet();
+
+    private ExecutorService dispatchExecutor;
+    private ExecutorService workerExecutor;
+    private TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+
+        // 실행 중인 발송 한 번 + 대기 한 번이면 충분하므로 나머지 깨우기 요청은 버린다
+        dispatchExecutor = new ThreadPoolExecutor(
+                1, 1,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(1),
+                runnable -> daemon(runnable, "mail-dispatch"),
+                new ThreadPoolExecutor.DiscardPolicy());
+
+        AtomicInteger threadCount = new AtomicInteger();
+        workerExecutor = new ThreadPoolExecutor(
+                workers, workers,
+                60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(workers),
+                runnable -> daemon(runnable, "mail-" + threadCount.incrementAndGet()));
+        new ExecutorServiceMetrics(workerExecutor, "mail", Tags.empty()).bindTo(meterRegistry);
+
+        Gauge.builder("hyfata.mail.outbox.pending", emailOutboxRepository,
+                        repository -> repository.countByStatus(EmailOutbox.Status.PENDING))
+                .description("Emails waiting in the outbox (including scheduled retries)")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        dispatchExecutor.shutdown();
+        workerExecutor.shutdown();
+        for (Transport transport : openTransports) {
+            closeQuietly(transport);
+        }
+    }
+
+    /**
+     * 발송 스레드를 깨운다 (대기열에 넣은 트랜잭션이 커밋된 직후, 그리고 주기적으로 호출)
+     */
+    public void wakeUp() {
+        dispatchExecutor.execute(this::dispatchDue);
+    }
+
+    /**
+     * 발송할 메일이 없을 때까지 가져와 발송 (발송 스레드에서만 실행)
+     */
+    void dispatchDue() {
+        try {
+            int claimSize = workers * messagesPerConnection;
+            List<EmailOutbox> claimed;
+            do {
+                claimed = claim(claimSize);
+                if (!claimed.isEmpty()) {
+                    sendAll(claimed);
+                }
+            } while (claimed.size() == claimSize);
+        } catch (Exception e) {
+            log.error("Mail dispatch failed: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 발송할 행을 가져와 임대를 건다 (시도 횟수 증가, 임대가 끝날 때까지 다른 발송에서 제외)
+     */
+    private List<EmailOutbox> claim(int limit) {
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<EmailOutbox> due = emailOutboxRepository.findDueForUpdate(
+                    EmailOutbox.Status.PENDING, now, PageRequest.of(0, limit));
+            for (EmailOutbox email : due) {
+                email.setAttempts(email.getAttempts() + 1);
+                email.setNextAttemptAt(now.plus(lease));
+            }
+            return due;
+        });
+    }
+
+    private void sendAll(List<EmailOutbox> claimed) throws InterruptedException {
+        List<Future<?>> futures = new ArrayList<>();
+        for (int from = 0; from < claimed.size(); from += messagesPerConnection) {
+            List<EmailOutbox> chunk = claimed.subList(from, Math.min(from + messagesPerConnection, claimed.size()));
+            futures.add(workerExecutor.submit(() -> sendChunk(chunk)));
+        }
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                // 결과를 기록하지 못한 메일은 임대가 끝나면 다시 발송된다
+                log.error("Mail worker failed: {}", e.getCause().getMessage(), e.getCause());
+            }
+        }
+    }
+
+    /**
+     * 한 SMTP 연결로 메일 묶음을 발송하고 결과를 기록 (발송 풀에서 실행)
+     */
+    void sendChunk(List<EmailOutbox> chunk) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        List<Long> sent = new ArrayList<>();
+        List<Failure> failures = new ArrayList<>();
+
+        for (EmailOutbox email : chunk) {
+            MimeMessage message;
+            try {
+                message = render(email);
+            } catch (Exception e) {
+                // 템플릿/변수 오류는 재시도해도 같으므로 바로 실패 처리
+                failures.add(new Failure(email, e, true));
+                continue;
+            }
+            try {
+                Transport transport = transport();
+                transport.sendMessage(message, message.getAllRecipients());
+                sent.add(email.getId());
+            } catch (MessagingException e) {
+                failures.add(new Failure(email, e, false));
+                if (!(e instanceof SendFailedException)) {
+                    // 수신자 거부가 아닌 연결 오류면 다음 메일은 새 연결로 보낸다
+                    discardTransport();
+                }
+            }
+        }
+        sample.stop(meterRegistry.timer(BATCH_TIMER));
+
+        complete(chunk, sent, failures);
+    }
+
+    private MimeMessage render(EmailOutbox email) throws Exception {
+        Map<String, Object> variables = objectMapper.readValue(email.getVariables(), new TypeReference<>() {});
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, "UTF-8");
+        helper.setFrom(fromEmail);
+        helper.setTo(email.getRecipient());
+        helper.setSubject(email.getTemplate().getSubject());
+        helper.setText(mailTemplateRenderer.render(email.getTemplate(), variables), false);
+        message.saveChanges();
+        return message;
+    }
+
+    private void complete(List<EmailOutbox> chunk, List<Long> sent, List<Failure> failures) {
+        LocalDateTime now = LocalDateTime.now();
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!sent.isEmpty()) {
+                emailOutboxRepository.markSent(sent, EmailOutbox.Status.SENT, now);
+            }
+            for (Failure failure : failures) {
+                EmailOutbox email = failure.email();
+                String error = truncate(failure.error().getMessage());
+                if (failure.permanent() || email.getAttempts() >= maxAttempts) {
+                    emailOutboxRepository.markFailed(email.getId(), EmailOutbox.Status.FAILED, error);
+                    record(email, "failed");
+                    log.error("Giving up on {} email {} to {} after {} attempts: {}",
+                            email.getTemplate(), email.getId(), email.getRecipient(), email.getAttempts(), error);
+                } else {
+                    emailOutboxRepository.scheduleRetry(email.getId(), now.plus(backoff(email.getAttempts())), error);
+                    record(email, "retry");
+                    log.warn("Failed to send {} email {} to {} (attempt {}), will retry: {}",
+                            email.getTemplate(), email.getId(), email.getRecipient(), email.getAttempts(), error);
+                }
+            }
+        });
+        for (EmailOutbox email : chunk) {
+            if (sent.contains(email.getId())) {
+                record(email, "sent");
+            }
+        }
+    }
+
+    /**
+     * attempts 번째 실패 후 다음 시도까지 기다릴 시간
+     */
+    Duration backoff(int attempts) {
+        Duration delay = initialBackoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+
+    /**
+     * 현재 발송 스레드의 SMTP 연결 (끊겼으면 새로 연결)
+     */
+    private Transport transport() throws MessagingException {
+        Transport transport = transports.get();
+        if (transport != null && transport.isConnected()) {
+            return transport;
+        }
+        if (transport != null) {
+            discardTransport();
+        }
+        transport = mailSender.getSession().getTransport(mailSender.getProtocol());
+        transport.connect(mailSender.getHost(), mailSender.getPort(), mailSender.getUsername(), mailSender.getPassword());
+        transports.set(transport);
+        openTransports.add(transport);
+        return transport;
+    }
+
+    private void discardTransport() {
+        Transport transport = transports.get();
+        if (transport != null) {
+            transports.remove();
+            openTransports.remove(transport);
+            closeQuietly(transport);
+        }
+    }
+
+    private void closeQuietly(Transport transport) {
+        try {
+            transport.close();
+        } catch (MessagingException e) {
+            log.debug("Failed to close SMTP connection: {}", e.getMessage());
+        }
+    }
+
+    private void record(EmailOutbox email, String result) {
+        meterRegistry.counter(DELIVERIES_METRIC, "template", email.getTemplate().name(), "result", result).increment();
+    }
+
+    private static String truncate(String message) {
+        if (message == null) {
+            return null;
+        }
+        return message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+    }
+
+    private static Thread daemon(Runnable runnable, String name) {
+        Thread thread = new Thread(runnable, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    private record Failure(EmailOutbox email, Exception error, boolean permanent) {
+    }
+}
@@ -1,20 +1,26 @@
 package kr.hyfata.rest.api.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import kr.hyfata.rest.api.dto.ClientResponse;
+import kr.hyfata.rest.api.entity.EmailOutbox;
+import kr.hyfata.rest.api.repository.EmailOutboxRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.mail.MailException;
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
 
 /**
  * 이메일 서비스
  * <p>
- * 비동기로 이메일을 발송하여 API 응답을 지연시키지 않습니다.
- * 메일 발송 실패는 로그에만 기록되며, 비즈니스 로직에는 영향을 주지 않습니다.
+ * 메일을 바로 보내지 않고 호출한 트랜잭션 안에서 발송 대기열(email_outbox)에 넣습니다.
+ * 커밋되면 EmailDispatcher 를 깨워 전용 발송 풀에서 보내고, 실패하면 지수 백오프로 재시도합니다.
+ * 가입 등 비즈니스 트랜잭션이 롤백되면 메일도 함께 취소되고, 발송 전 서버가 재시작돼도 메일이 유실되지 않습니다.
  * clientId를 받아 동적으로 frontendUrl을 결정합니다 (OAuth 방식).
  */
 @Service
@@ -22,11 +28,10 @@ import org.springframework.stereotype.Service;
 @Slf4j
 public class EmailService {
 
-    private final JavaMailSender mailSender;
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final EmailDispatcher emailDispatcher;
     private final ClientService clientService;
-
-    @Value("${spring.mail.from:noreply@hyfata.com}")
-    private String fromEmail;
+    private final ObjectMapper objectMapper;
 
     @Value("${app.frontend.url:http://localhost:3000}")
     private String defaultFrontendUrl;
@@ -35,105 +40,80 @@ public class EmailService {
     private boolean mailEnabled;
 
     /**
-     * 2FA 코드 이메일 발송 (비동기)
+     * 2FA 코드 이메일 발송 예약
      *
      * @param to 받는 사람 이메일
      * @param code 2FA 코드
      * @param clientId OAuth 클라이언트 ID
      */
-    @Async
+    @Transactional
     public void sendTwoFactorEmail(String to, String code, String clientId) {
-        try {
-            if (!mailEnabled) {
-                log.warn("Mail is disabled. Skipping 2FA email to: {}", to);
-                return;
-            }
-
-            SimpleMailMessage message = new SimpleMailMessage();
-            message.setFrom(fromEmail);
-            message.setTo(to);
-            message.setSubject("Your Two-Factor Authentication Code");
-            message.setText("Your authentication code is: " + code + "\n\nThis code will expire in 10 minutes.");
-
-            mailSender.send(message);
-            log.info("2FA email sent successfully to: {} (client: {})", to, clientId);
-        } catch (MailException e) {
-            log.error("Failed to send 2FA email to {}: {}", to, e.getMessage(), e);
-            // 이메일 실패는 비즈니스 로직에 영향을 주지 않음
-        } catch (Exception e) {
-            log.error("Unexpected error while sending 2FA email to {}: {}", to, e.getMessage(), e);
+        if (enqueue(to, EmailOutbox.Template.TWO_FACTOR, Map.of("code", code))) {
+            log.info("2FA email queued for: {} (client: {})", to, clientId);
         }
     }
 
     /**
-     * 비밀번호 재설정 이메일 발송 (비동기)
+     * 비밀번호 재설정 이메일 발송 예약
      *
      * @param to 받는 사람 이메일
      * @param resetToken 재설정 토큰
      * @param clientId OAuth 클라이언트 ID
      */
-    @Async
+    @Transactional
     public void sendPasswordResetEmail(String to, String resetToken, String clientId) {
-        try {
-            if (!mailEnabled) {
-                log.warn("Mail is disabled. Skipping password reset email to: {}", to);
-                return;
-            }
-
-            String frontendUrl = getFrontendUrl(clientId);
-            String resetLink = frontendUrl + "/reset-password?token=" + resetToken;
-            SimpleMailMessage message = new SimpleMailMessage();
-            message.setFrom(fromEmail);
-            message.setTo(to);
-            message.setSubject("Password Reset Request");
-            message.setText("Click the link below to reset your password:\n\n" +
-                    resetLink +
-                    "\n\nThis link will expire in 1 hour.\n\n" +
-                    "If you didn't request this, please ignore this email.");
-
-            mailSender.send(message);
-            log.info("Password reset email sent successfully to: {} (client: {})", to, clientId);
-        } catch (MailException e) {
-            log.error("Failed to send password reset email to {}: {}", to, e.getMessage(), e);
-            // 이메일 실패는 비즈니스 로직에 영향을 주지 않음
-        } catch (Exception e) {
-            log.error("Unexpected error while sending password reset email to {}: {}", to, e.getMessage(), e);
+        String resetLink = getFrontendUrl(clientId) + "/reset-password?token=" + resetToken;
+        if (enqueue(to, EmailOutbox.Template.PASSWORD_RESET, Map.of("resetLink", resetLink))) {
+            log.info("Password reset email queued for: {} (client: {})", to, clientId);
         }
     }
 
     /**
-     * 회원가입 확인 이메일 발송 (비동기)
+     * 회원가입 확인 이메일 발송 예약
      *
      * @param to 받는 사람 이메일
      * @param verificationToken 검증 토큰
      * @param clientId OAuth 클라이언트 ID
      */
-    @Async
+    @Transactional
     public void sendEmailVerificationEmail(String to, String verificationToken, String clientId) {
-        try {
-            if (!mailEnabled) {
-                log.warn("Mail is disabled. Skipping email verification to: {}", to);
-                return;
-            }
+        String verificationLink = getFrontendUrl(clientId) + "/verify-email?token=" + verificationToken;
+        if (enqueue(to, EmailOutbox.Template.EMAIL_VERIFICATION, Map.of("verificationLink", verificationLink))) {
+            log.info("Email verification email queued for: {} (client: {})", to, clientId);
+        }
+    }
 
-            String frontendUrl = getFrontendUrl(clientId);
-            String verificationLink = frontendUrl + "/verify-email?token=" + verificationToken;
-            SimpleMailMessage message = new SimpleMailMessage();
-            message.setFrom(fromEmail);
-            message.setTo(to);
-            message.setSubject("Email Verification");
-            message.setText("Click the link below to verify your email:\n\n" +
-                    verificationLink +
-                    "\n\nThis link will expire in 24 hours.");
+    /**
+     * 발송 대기열에 추가하고 커밋 후 발송기를 깨운다
+     *
+     * @return 대기열에 넣었으면 true (메일 비활성화 시 false)
+     */
+    private boolean enqueue(String to, EmailOutbox.Template template, Map<String, String> variables) {
+        if (!mailEnabled) {
+            log.warn("Mail is disabled. Skipping {} email to: {}", template, to);
+            return false;
+        }
 
-            mailSender.send(message);
-            log.info("Email verification email sent successfully to: {} (client: {})", to, clientId);
-        } catch (MailException e) {
-            log.error("Failed to send email verification email to {}: {}", to, e.getMessage(), e);
-            // 이메일 실패는 비즈니스 로직에 영향을 주지 않음
-        } catch (Exception e) {
-            log.error("Unexpected error while sending email verification to {}: {}", to, e.getMessage(), e);
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(variables);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize mail variables", e);
         }
+
+        emailOutboxRepository.save(EmailOutbox.builder()
+                .recipient(to)
+                .template(template)
+                .variables(json)
+                .build());
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                emailDispatcher.wakeUp();
+            }
+        });
+        return true;
     }
 
     /**
@@ -147,4 +127,4 @@ public class EmailService {
                 .orElse(defaultFrontendUrl);
     }
 
-}
\ No newline at end of file
+}
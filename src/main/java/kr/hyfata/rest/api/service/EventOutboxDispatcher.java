@@ -0,0 +1,267 @@
+package kr.hyfata.rest.api.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import kr.hyfata.rest.api.entity.EventOutbox;
+import kr.hyfata.rest.api.entity.ProcessedEvent;
+import kr.hyfata.rest.api.event.OutboxEventHandler;
+import kr.hyfata.rest.api.repository.EventOutboxRepository;
+import kr.hyfata.rest.api.repository.ProcessedEventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 이벤트 전달기 (event_outbox → OutboxEventHandler)
+ * <p>
+ * 전달 스레드 하나가 aggregate 별로 가장 앞선 PENDING 이벤트만 SKIP LOCKED 로 가져와 임대(next_attempt_at = 지금 + lease)를 걸고,
+ * 처리 풀(workers)에 나눠 넘긴다. 한 번에 aggregate 당 이벤트 하나만 가져오므로 같은 aggregate 의 이벤트는 발행 순서대로 처리되고,
+ * 앞선 이벤트가 재시도를 기다리는 동안 뒤의 이벤트도 기다린다 (FAILED 가 되면 다음 이벤트로 넘어간다).
+ * 핸들러마다 별도 트랜잭션에서 처리 기록(processed_events)과 함께 실행하므로 재전달돼도 이미 성공한 핸들러는 건너뛴다.
+ * 실패한 이벤트는 initial-backoff 부터 두 배씩(최대 max-backoff) 늦춰 재시도하고, max-attempts 를 넘으면 FAILED 로 남긴다.
+ * 대기 중인 이벤트 수(hyfata.events.outbox.pending), 핸들러별 결과(hyfata.events.deliveries),
+ * 발행부터 처리 완료까지의 지연(hyfata.events.lag)과 처리 풀의 대기열(executor.*, name=events)을 메트릭으로 남긴다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EventOutboxDispatcher {
+
+    private static final String DELIVERIES_METRIC = "hyfata.events.deliveries";
+    private static final String LAG_TIMER = "hyfata.events.lag";
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final EventOutboxRepository eventOutboxRepository;
+    private final ProcessedEventRepository processedEventRepository;
+    private final List<OutboxEventHandler<?>> handlers;
+    private final PlatformTransactionManager transactionManager;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${events.outbox.workers:4}")
+    private int workers;
+
+    @Value("${events.outbox.batch-size:100}")
+    private int batchSize;
+
+    @Value("${events.outbox.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${events.outbox.initial-backoff:5s}")
+    private Duration initialBackoff;
+
+    @Value("${events.outbox.max-backoff:10m}")
+    private Duration maxBackoff;
+
+    @Value("${events.outbox.lease:5m}")
+    private Duration lease;
+
+    private final Map<String, List<OutboxEventHandler<?>>> handlersByType = new HashMap<>();
+
+    private ExecutorService dispatchExecutor;
+    private ExecutorService workerExecutor;
+    private TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        for (OutboxEventHandler<?> handler : handlers) {
+            for (String eventType : handler.eventTypes()) {
+                handlersByType.computeIfAbsent(eventType, type -> new ArrayList<>()).add(handler);
+            }
+        }
+
+        // 실행 중인 전달 한 번 + 대기 한 번이면 충분하므로 나머지 깨우기 요청은 버린다
+        dispatchExecutor = new ThreadPoolExecutor(
+                1, 1,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(1),
+                runnable -> daemon(runnable, "events-dispatch"),
+                new ThreadPoolExecutor.DiscardPolicy());
+
+        AtomicInteger threadCount = new AtomicInteger();
+        workerExecutor = new ThreadPoolExecutor(
+                workers, workers,
+                60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(workers),
+                runnable -> daemon(runnable, "events-" + threadCount.incrementAndGet()));
+        new ExecutorServiceMetrics(workerExecutor, "events", Tags.empty()).bindTo(meterRegistry);
+
+        Gauge.builder("hyfata.events.outbox.pending", eventOutboxRepository,
+                        repository -> repository.countByStatus(EventOutbox.Status.PENDING))
+                .description("Events waiting in the outbox (including scheduled retries)")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        dispatchExecutor.shutdown();
+        workerExecutor.shutdown();
+    }
+
+    /**
+     * 전달 스레드를 깨운다 (이벤트를 넣은 트랜잭션이 커밋된 직후, 그리고 주기적으로 호출)
+     */
+    public void wakeUp() {
+        dispatchExecutor.execute(this::dispatchDue);
+    }
+
+    /**
+     * 처리할 이벤트가 없을 때까지 가져와 전달 (전달 스레드에서만 실행)
+     */
+    void dispatchDue() {
+        try {
+            List<EventOutbox> claimed = claim();
+            while (!claimed.isEmpty()) {
+                processAll(claimed);
+                // 방금 끝난 이벤트 뒤에 기다리던 같은 aggregate 의 이벤트를 이어서 가져온다
+                claimed = claim();
+            }
+        } catch (Exception e) {
+            log.error("Event dispatch failed: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 처리할 이벤트를 가져와 임대를 건다 (시도 횟수 증가, 임대가 끝날 때까지 다른 전달에서 제외)
+     */
+    private List<EventOutbox> claim() {
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<EventOutbox> due = eventOutboxRepository.findDueForUpdate(
+                    EventOutbox.Status.PENDING, now, PageRequest.of(0, batchSize));
+            for (EventOutbox event : due) {
+                event.setAttempts(event.getAttempts() + 1);
+                event.setNextAttemptAt(now.plus(lease));
+            }
+            return due;
+        });
+    }
+
+    private void processAll(List<EventOutbox> claimed) throws InterruptedException {
+        // 서로 다른 aggregate 의 이벤트만 들어 있으므로 나눠서 동시에 처리해도 순서가 바뀌지 않는다
+        int chunkSize = (claimed.size() + workers - 1) / workers;
+        List<Future<?>> futures = new ArrayList<>();
+        for (int from = 0; from < claimed.size(); from += chunkSize) {
+            List<EventOutbox> chunk = claimed.subList(from, Math.min(from + chunkSize, claimed.size()));
+            futures.add(workerExecutor.submit(() -> chunk.forEach(this::process)));
+        }
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                // 결과를 기록하지 못한 이벤트는 임대가 끝나면 다시 전달된다
+                log.error("Event worker failed: {}", e.getCause().getMessage(), e.getCause());
+            }
+        }
+    }
+
+    /**
+     * 이벤트 하나를 등록된 핸들러 모두에 전달하고 결과를 기록 (처리 풀에서 실행)
+     */
+    void process(EventOutbox event) {
+        String error = null;
+        for (OutboxEventHandler<?> handler : handlersByType.getOrDefault(event.getEventType(), List.of())) {
+            try {
+                Boolean handled = transactionTemplate.execute(status -> deliver(handler, event));
+                record(event, handler, Boolean.TRUE.equals(handled) ? "success" : "duplicate");
+            } catch (Exception e) {
+                // 다른 핸들러는 계속 진행하고, 재전달 시 성공한 핸들러는 처리 기록으로 건너뛴다
+                error = handler.name() + ": " + e.getMessage();
+                record(event, handler, "error");
+                log.warn("Handler {} failed for {} event {} (attempt {}): {}",
+                        handler.name(), event.getEventType(), event.getId(), event.getAttempts(), e.getMessage());
+            }
+        }
+        complete(event, error);
+    }
+
+    /**
+     * 처리 기록이 없을 때만 핸들러를 실행하고 처리 기록을 남긴다
+     *
+     * @return 핸들러를 실행했으면 true, 이미 처리한 이벤트면 false
+     */
+    private <T> boolean deliver(OutboxEventHandler<T> handler, EventOutbox event) {
+        if (processedEventRepository.existsById(new ProcessedEvent.Key(handler.name(), event.getIdempotencyKey()))) {
+            return false;
+        }
+        T payload;
+        try {
+            payload = objectMapper.readValue(event.getPayload(), handler.payloadType());
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to deserialize event payload", e);
+        }
+        handler.handle(event.getEventType(), payload);
+        processedEventRepository.insert(handler.name(), event.getIdempotencyKey(), LocalDateTime.now());
+        return true;
+    }
+
+    private void complete(EventOutbox event, String error) {
+        LocalDateTime now = LocalDateTime.now();
+        transactionTemplate.executeWithoutResult(status -> {
+            if (error == null) {
+                eventOutboxRepository.markDone(event.getId(), EventOutbox.Status.DONE, now);
+            } else if (event.getAttempts() >= maxAttempts) {
+                eventOutboxRepository.markFailed(event.getId(), EventOutbox.Status.FAILED, truncate(error));
+                log.error("Giving up on {} event {} ({} {}) after {} attempts: {}", event.getEventType(),
+                        event.getId(), event.getAggregateType(), event.getAggregateId(), event.getAttempts(), error);
+            } else {
+                eventOutboxRepository.scheduleRetry(event.getId(), now.plus(backoff(event.getAttempts())),
+                        truncate(error));
+            }
+        });
+        if (error == null) {
+            meterRegistry.timer(LAG_TIMER, "event_type", event.getEventType())
+                    .record(Duration.between(event.getCreatedAt(), now));
+        }
+    }
+
+    /**
+     * attempts 번째 실패 후 다음 시도까지 기다릴 시간
+     */
+    Duration backoff(int attempts) {
+        Duration delay = initialBackoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+
+    private void record(EventOutbox event, OutboxEventHandler<?> handler, String result) {
+        meterRegistry.counter(DELIVERIES_METRIC,
+                "event_type", event.getEventType(), "handler", handler.name(), "result", result).increment();
+    }
+
+    private static String truncate(String message) {
+        if (message == null) {
+            return null;
+        }
+        return message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+    }
+
+    private static Thread daemon(Runnable runnable, String name) {
+        Thread thread = new Thread(runnable, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+}
@@ -0,0 +1,70 @@
+package kr.hyfata.rest.api.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.hyfata.rest.api.entity.EventOutbox;
+import kr.hyfata.rest.api.repository.EventOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 이벤트 outbox 기록
+ * <p>
+ * 호출한 트랜잭션 안에서 event_outbox 에 이벤트를 저장하므로 비즈니스 변경과 이벤트가 함께 커밋되거나 함께 롤백된다.
+ * 커밋되면 EventOutboxDispatcher 를 깨워 등록된 OutboxEventHandler 들에 비동기로 전달한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EventOutboxService {
+
+    private final EventOutboxRepository eventOutboxRepository;
+    private final EventOutboxDispatcher eventOutboxDispatcher;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 이벤트 추가 (같은 멱등 키의 이벤트가 이미 있으면 무시)
+     *
+     * @param aggregateType  순서를 보장할 단위의 종류 (예: TEAM)
+     * @param aggregateId    순서를 보장할 단위의 ID (같은 aggregate 의 이벤트는 발행 순서대로 처리된다)
+     * @param eventType      이벤트 타입
+     * @param idempotencyKey 이벤트 멱등 키
+     * @param payload        JSON 으로 저장할 페이로드
+     * @return 추가했으면 true
+     */
+    @Transactional
+    public boolean append(String aggregateType, Long aggregateId, String eventType, String idempotencyKey,
+                          Object payload) {
+        if (eventOutboxRepository.existsByIdempotencyKey(idempotencyKey)) {
+            log.debug("Duplicate outbox event ignored: {}", idempotencyKey);
+            return false;
+        }
+
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize event payload", e);
+        }
+
+        eventOutboxRepository.save(EventOutbox.builder()
+                .aggregateType(aggregateType)
+                .aggregateId(aggregateId)
+                .eventType(eventType)
+                .idempotencyKey(idempotencyKey)
+                .payload(json)
+                .build());
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                eventOutboxDispatcher.wakeUp();
+            }
+        });
+        return true;
+    }
+}
@@ -1,10 +1,24 @@
 package kr.hyfata.rest.api.service;
 
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 푸시 알림 발송
+ * <p>
+ * 모든 발송은 전용 스레드 풀에서 비동기로 처리되며 호출 스레드를 막지 않습니다.
+ */
 public interface FCMService {
 
     void sendNotification(String fcmToken, String title, String message);
 
     void sendNotificationToUser(Long userId, String title, String message);
 
-    void sendNotificationToMultipleUsers(java.util.List<Long> userIds, String title, String message);
+    void sendNotificationToMultipleUsers(List<Long> userIds, String title, String message);
+
+    /**
+     * 여러 사용자에게 데이터 페이로드와 함께 발송
+     * 토큰은 한 번의 쿼리로 조회하고 최대 500개 단위로 묶어 발송합니다.
+     */
+    void sendNotificationToMultipleUsers(List<Long> userIds, String title, String message, Map<String, String> data);
 }
@@ -0,0 +1,38 @@
+package kr.hyfata.rest.api.service;
+
+import kr.hyfata.rest.api.entity.EmailOutbox;
+import org.springframework.stereotype.Component;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import java.util.Map;
+
+/**
+ * 메일 본문 렌더링 (templates/mail/*.txt, Thymeleaf TEXT 모드)
+ * <p>
+ * 웹 페이지용 템플릿 엔진과 분리된 전용 엔진을 쓰고, 파싱한 템플릿은 템플릿별로 캐시해 발송할 때마다 다시 읽지 않는다.
+ */
+@Component
+public class MailTemplateRenderer {
+
+    private final SpringTemplateEngine templateEngine;
+
+    public MailTemplateRenderer() {
+        ClassLoaderTemplateResolver resolver = new ClassLoaderTemplateResolver();
+        resolver.setPrefix("templates/mail/");
+        resolver.setSuffix(".txt");
+        resolver.setTemplateMode(TemplateMode.TEXT);
+        resolver.setCharacterEncoding("UTF-8");
+        resolver.setCacheable(true);
+
+        // 표현식은 SpEL 로 평가 (기본 TemplateEngine 은 OGNL 이 필요)
+        templateEngine = new SpringTemplateEngine();
+        templateEngine.setTemplateResolver(resolver);
+    }
+
+    public String render(EmailOutbox.Template template, Map<String, Object> variables) {
+        return templateEngine.process(template.getTemplateName(), new Context(null, variables));
+    }
+}
@@ -0,0 +1,101 @@
+package kr.hyfata.rest.api.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * PostgreSQL 월 단위 파티션 관리
+ * <p>
+ * created_at 기준 RANGE 파티션 테이블(db/partitioning 스크립트로 전환)에 대해
+ * 다음 달 파티션을 미리 만들고, 보존 기간이 지난 파티션은 DETACH 후 DROP 합니다.
+ * 행 단위 DELETE 없이 파일 단위로 제거되므로 VACUUM 부하가 생기지 않습니다.
+ * 파티션 이름은 {테이블}_pYYYYMM 규칙을 따릅니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PartitionMaintenanceService {
+
+    private static final DateTimeFormatter SUFFIX_FORMAT = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${retention.partitioning.enabled:false}")
+    private boolean enabled;
+
+    @Value("${retention.partitioning.premake-months:2}")
+    private int premakeMonths;
+
+    /**
+     * 파티션 관리 대상 여부 (기능이 켜져 있고 실제로 파티션 테이블인 경우)
+     */
+    public boolean isManaged(String table) {
+        if (!enabled) {
+            return false;
+        }
+        Boolean partitioned = jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM pg_partitioned_table pt " +
+                "JOIN pg_class c ON c.oid = pt.partrelid WHERE c.relname = ?)",
+                Boolean.class, table);
+        return Boolean.TRUE.equals(partitioned);
+    }
+
+    /**
+     * 이번 달부터 premake-months 만큼 앞선 파티션까지 생성
+     */
+    public void ensureFuturePartitions(String table) {
+        YearMonth month = YearMonth.now();
+        for (int i = 0; i <= premakeMonths; i++) {
+            YearMonth target = month.plusMonths(i);
+            jdbcTemplate.execute(String.format(
+                    "CREATE TABLE IF NOT EXISTS %s PARTITION OF %s FOR VALUES FROM ('%s') TO ('%s')",
+                    partitionName(table, target), table,
+                    target.atDay(1), target.plusMonths(1).atDay(1)));
+        }
+    }
+
+    /**
+     * 모든 행이 cutoff 이전인 파티션(월 말일이 cutoff보다 앞선 파티션)을 분리 후 삭제
+     *
+     * @return 삭제된 파티션 수
+     */
+    public int dropPartitionsBefore(String table, LocalDate cutoff) {
+        List<String> partitions = jdbcTemplate.queryForList(
+                "SELECT c.relname FROM pg_inherits i " +
+                "JOIN pg_class c ON c.oid = i.inhrelid " +
+                "JOIN pg_class p ON p.oid = i.inhparent " +
+                "WHERE p.relname = ?",
+                String.class, table);
+
+        Pattern pattern = Pattern.compile(Pattern.quote(table) + "_p(\\d{6})");
+        int dropped = 0;
+        for (String partition : partitions) {
+            Matcher matcher = pattern.matcher(partition);
+            if (!matcher.matches()) {
+                continue;
+            }
+            YearMonth month = YearMonth.parse(matcher.group(1), SUFFIX_FORMAT);
+            if (!month.plusMonths(1).atDay(1).isAfter(cutoff)) {
+                jdbcTemplate.execute("ALTER TABLE " + table + " DETACH PARTITION " + partition);
+                jdbcTemplate.execute("DROP TABLE " + partition);
+                log.info("Dropped partition {} of {}", partition, table);
+                dropped++;
+            }
+        }
+        return dropped;
+    }
+
+    private String partitionName(String table, YearMonth month) {
+        return table + "_p" + month.format(SUFFIX_FORMAT);
+    }
+}
@@ -0,0 +1,42 @@
+package kr.hyfata.rest.api.service;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 푸시 발송 게이트웨이
+ * <p>
+ * FCM 호출을 추상화하여 테스트에서 로컬 fake로 대체할 수 있도록 합니다.
+ * 한 번의 호출은 최대 {@link #MAX_BATCH_SIZE}개의 토큰을 처리합니다.
+ */
+public interface PushGateway {
+
+    int MAX_BATCH_SIZE = 500;
+
+    enum Result {
+        SUCCESS,
+        // 앱 삭제/토큰 만료 등 더 이상 유효하지 않은 토큰 (삭제 대상)
+        UNREGISTERED,
+        // 일시적인 오류 (재시도 대상)
+        RETRYABLE,
+        FAILED
+    }
+
+    /**
+     * 발송 가능 여부 (Firebase 가 설정되지 않은 환경에서는 false, 이때 푸시 요청은 무시됩니다)
+     */
+    default boolean isAvailable() {
+        return true;
+    }
+
+    /**
+     * 동일한 알림을 여러 토큰에 발송
+     *
+     * @param tokens 대상 토큰 (최대 500개)
+     * @param title 제목
+     * @param body 본문
+     * @param data 추가 데이터 (nullable)
+     * @return tokens와 같은 순서의 토큰별 결과
+     */
+    List<Result> sendEach(List<String> tokens, String title, String body, Map<String, String> data);
+}
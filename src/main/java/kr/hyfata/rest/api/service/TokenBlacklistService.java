@@ -1,5 +1,7 @@
 package kr.hyfata.rest.api.service;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.codec.digest.DigestUtils;
@@ -11,6 +13,7 @@ import java.util.concurrent.TimeUnit;
 /**
  * Redis 기반 토큰 블랙리스트 서비스
  * 민감한 API 요청 시 무효화된 Access Token을 차단
+ * Redis 호출 시간은 hyfata.redis.blacklist 타이머로 기록 (operation: add, check, remove / result: ok, hit, miss, error)
  */
 @Service
 @RequiredArgsConstructor
@@ -18,8 +21,10 @@ import java.util.concurrent.TimeUnit;
 public class TokenBlacklistService {
 
     private final StringRedisTemplate redisTemplate;
+    private final MeterRegistry meterRegistry;
 
     private static final String BLACKLIST_PREFIX = "token:blacklist:";
+    private static final String BLACKLIST_TIMER = "hyfata.redis.blacklist";
 
     /**
      * 토큰을 블랙리스트에 추가
@@ -31,11 +36,14 @@ public class TokenBlacklistService {
             return;
         }
 
+        Timer.Sample sample = Timer.start(meterRegistry);
         try {
             String key = BLACKLIST_PREFIX + hashIfNeeded(tokenOrJti);
             redisTemplate.opsForValue().set(key, "revoked", ttlSeconds, TimeUnit.SECONDS);
             log.debug("Token added to blacklist: {}", key);
+            record(sample, "add", "ok");
         } catch (Exception e) {
+            record(sample, "add", "error");
             log.error("Failed to add token to blacklist: {}", e.getMessage());
         }
     }
@@ -50,11 +58,14 @@ public class TokenBlacklistService {
             return;
         }
 
+        Timer.Sample sample = Timer.start(meterRegistry);
         try {
             String key = BLACKLIST_PREFIX + jti;
             redisTemplate.opsForValue().set(key, "revoked", ttlSeconds, TimeUnit.SECONDS);
             log.debug("JTI added to blacklist: {}", jti);
+            record(sample, "add", "ok");
         } catch (Exception e) {
+            record(sample, "add", "error");
             log.error("Failed to blacklist JTI: {}", e.getMessage());
         }
     }
@@ -69,11 +80,15 @@ public class TokenBlacklistService {
             return false;
         }
 
+        Timer.Sample sample = Timer.start(meterRegistry);
         try {
             String key = BLACKLIST_PREFIX + hashIfNeeded(tokenOrJti);
             Boolean exists = redisTemplate.hasKey(key);
-            return Boolean.TRUE.equals(exists);
+            boolean blacklisted = Boolean.TRUE.equals(exists);
+            record(sample, "check", blacklisted ? "hit" : "miss");
+            return blacklisted;
         } catch (Exception e) {
+            record(sample, "check", "error");
             log.error("Failed to check blacklist: {}", e.getMessage());
             // Redis 오류 시 보안을 위해 false 반환 (기본 JWT 검증만 수행)
             return false;
@@ -90,11 +105,15 @@ public class TokenBlacklistService {
             return false;
         }
 
+        Timer.Sample sample = Timer.start(meterRegistry);
         try {
             String key = BLACKLIST_PREFIX + jti;
             Boolean exists = redisTemplate.hasKey(key);
-            return Boolean.TRUE.equals(exists);
+            boolean blacklisted = Boolean.TRUE.equals(exists);
+            record(sample, "check", blacklisted ? "hit" : "miss");
+            return blacklisted;
         } catch (Exception e) {
+            record(sample, "check", "error");
             log.error("Failed to check JTI blacklist: {}", e.getMessage());
             return false;
         }
@@ -108,15 +127,22 @@ public class TokenBlacklistService {
             return;
         }
 
+        Timer.Sample sample = Timer.start(meterRegistry);
         try {
             String key = BLACKLIST_PREFIX + hashIfNeeded(tokenOrJti);
             redisTemplate.delete(key);
             log.debug("Token removed from blacklist: {}", key);
+            record(sample, "remove", "ok");
         } catch (Exception e) {
+            record(sample, "remove", "error");
             log.error("Failed to remove token from blacklist: {}", e.getMessage());
         }
     }
 
+    private void record(Timer.Sample sample, String operation, String result) {
+        sample.stop(meterRegistry.timer(BLACKLIST_TIMER, "operation", operation, "result", result));
+    }
+
     /**
      * JWT 토큰인 경우 해시 처리, JTI인 경우 그대로 반환
      */
@@ -0,0 +1,14 @@
+package kr.hyfata.rest.api.service.agora;
+
+import kr.hyfata.rest.api.dto.agora.team.CalendarOccurrence;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface AgoraCalendarService {
+
+    /**
+     * 사용자가 속한 모든 팀의 일정 중 [from, to] 기간과 겹치는 발생 목록 (시작 시각 순)
+     */
+    List<CalendarOccurrence> getOccurrences(String userEmail, LocalDate from, LocalDate to);
+}
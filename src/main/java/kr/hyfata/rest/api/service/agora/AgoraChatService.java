@@ -5,7 +5,9 @@ import kr.hyfata.rest.api.dto.agora.chat.ChatListResponse;
 import kr.hyfata.rest.api.dto.agora.chat.CreateChatRequest;
 import kr.hyfata.rest.api.dto.agora.chat.CreateDirectChatRequest;
 import kr.hyfata.rest.api.dto.agora.chat.CreateGroupChatRequest;
+import kr.hyfata.rest.api.dto.agora.chat.MessageCursor;
 import kr.hyfata.rest.api.dto.agora.chat.MessageDto;
+import kr.hyfata.rest.api.dto.agora.chat.MessageSearchResult;
 import kr.hyfata.rest.api.dto.agora.chat.SendMessageRequest;
 import kr.hyfata.rest.api.entity.agora.Chat;
 
@@ -20,7 +22,11 @@ public interface AgoraChatService {
 
     ChatResponse getChatDetail(String userEmail, Long chatId);
 
-    List<MessageDto> getMessages(String userEmail, Long chatId, Long cursor, int limit);
+    List<MessageDto> getMessages(String userEmail, Long chatId, MessageCursor cursor, int limit);
+
+    List<MessageSearchResult> searchMessages(String userEmail, Long chatId, String keyword, Long cursor, int limit);
+
+    List<MessageSearchResult> searchAllMessages(String userEmail, String keyword, Long cursor, int limit);
 
     MessageDto sendMessage(String userEmail, Long chatId, SendMessageRequest request);
 
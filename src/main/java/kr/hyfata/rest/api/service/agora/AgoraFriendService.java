@@ -1,5 +1,6 @@
 package kr.hyfata.rest.api.service.agora;
 
+import kr.hyfata.rest.api.dto.agora.friend.FriendBirthdayResponse;
 import kr.hyfata.rest.api.dto.agora.friend.FriendRequestResponse;
 import kr.hyfata.rest.api.dto.agora.friend.FriendResponse;
 
@@ -95,7 +96,7 @@ public interface AgoraFriendService {
     /**
      * 생일 목록 조회
      * @param userEmail 사용자 이메일
-     * @return 생일 예정인 친구 목록
+     * @return 생일이 다가오는 친구 목록 (가까운 순, 남은 일수 포함)
      */
-    List<FriendResponse> getFriendBirthdayList(String userEmail);
+    List<FriendBirthdayResponse> getFriendBirthdayList(String userEmail);
 }
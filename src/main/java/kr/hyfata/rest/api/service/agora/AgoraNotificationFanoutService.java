@@ -0,0 +1,13 @@
+package kr.hyfata.rest.api.service.agora;
+
+import kr.hyfata.rest.api.event.NotificationEvent;
+
+public interface AgoraNotificationFanoutService {
+
+    /**
+     * 수신자 설정(카테고리, 푸시, 방해 금지)에 따라 알림을 일괄 저장하고 푸시를 비동기로 발송
+     * @param event 알림 이벤트
+     * @return 저장된 알림 수
+     */
+    int fanout(NotificationEvent event);
+}
@@ -4,8 +4,8 @@ import kr.hyfata.rest.api.dto.agora.AgoraProfileResponse;
 import kr.hyfata.rest.api.dto.agora.CreateAgoraProfileRequest;
 import kr.hyfata.rest.api.dto.agora.PublicAgoraProfileResponse;
 import kr.hyfata.rest.api.dto.agora.UpdateAgoraProfileRequest;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+
+import java.util.List;
 
 public interface AgoraProfileService {
 
@@ -40,12 +40,14 @@ public interface AgoraProfileService {
     PublicAgoraProfileResponse getUserProfile(String agoraId);
 
     /**
-     * 사용자 검색
+     * 사용자 검색 (정확히 일치 > 접두어 일치 > 부분 일치 순)
+     * @param userEmail 검색하는 사용자 이메일
      * @param keyword 검색 키워드 (agoraId 또는 displayName)
-     * @param pageable 페이징 정보
+     * @param cursor 이전 페이지의 마지막 agoraId (첫 페이지면 null)
+     * @param limit 조회 개수
      * @return 검색 결과
      */
-    Page<PublicAgoraProfileResponse> searchUsers(String keyword, Pageable pageable);
+    List<PublicAgoraProfileResponse> searchUsers(String userEmail, String keyword, String cursor, int limit);
 
     /**
      * 프로필 이미지 변경
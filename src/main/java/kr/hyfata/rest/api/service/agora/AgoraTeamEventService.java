@@ -4,11 +4,12 @@ import kr.hyfata.rest.api.dto.agora.team.EventResponse;
 import kr.hyfata.rest.api.dto.agora.team.CreateEventRequest;
 import kr.hyfata.rest.api.dto.agora.team.UpdateEventRequest;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface AgoraTeamEventService {
 
-    List<EventResponse> getEventList(String userEmail, Long teamId);
+    List<EventResponse> getEventList(String userEmail, Long teamId, LocalDateTime from, LocalDateTime to, Long cursor, int limit);
 
     EventResponse getEventDetail(String userEmail, Long teamId, Long eventId);
 
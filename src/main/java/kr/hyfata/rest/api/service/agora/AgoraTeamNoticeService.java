@@ -8,7 +8,7 @@ import java.util.List;
 
 public interface AgoraTeamNoticeService {
 
-    List<NoticeResponse> getNoticeList(String userEmail, Long teamId);
+    List<NoticeResponse> getNoticeList(String userEmail, Long teamId, Long cursor, int limit);
 
     NoticeResponse getNoticeDetail(String userEmail, Long teamId, Long noticeId);
 
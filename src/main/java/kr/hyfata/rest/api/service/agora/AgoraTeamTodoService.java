@@ -8,7 +8,7 @@ import java.util.List;
 
 public interface AgoraTeamTodoService {
 
-    List<TodoResponse> getTodoList(String userEmail, Long teamId);
+    List<TodoResponse> getTodoList(String userEmail, Long teamId, String status, Long assigneeId, Long cursor, int limit);
 
     TodoResponse getTodoDetail(String userEmail, Long teamId, Long todoId);
 
@@ -0,0 +1,63 @@
+package kr.hyfata.rest.api.service.agora;
+
+import kr.hyfata.rest.api.dto.agora.CreateUploadSessionRequest;
+import kr.hyfata.rest.api.dto.agora.FileUploadResponse;
+import kr.hyfata.rest.api.dto.agora.UploadSessionResponse;
+
+import java.io.InputStream;
+
+/**
+ * 이어받기 가능한 청크 업로드
+ * 세션 생성 → 청크 PUT (offset 지정, 병렬 가능) → 상태 조회 → 완료
+ */
+public interface AgoraUploadSessionService {
+
+    /**
+     * 업로드 세션 생성 (전체 크기만큼 임시 파일 선할당)
+     * @param userEmail 사용자 이메일
+     * @param request 파일 정보
+     * @return 세션 정보 (uploadId, chunkSize)
+     */
+    UploadSessionResponse createSession(String userEmail, CreateUploadSessionRequest request);
+
+    /**
+     * 청크 기록
+     * @param userEmail 사용자 이메일
+     * @param uploadId 세션 ID
+     * @param offset 청크 시작 위치 (chunkSize의 배수)
+     * @param contentLength 청크 길이
+     * @param data 청크 데이터
+     * @return 갱신된 세션 상태
+     */
+    UploadSessionResponse writeChunk(String userEmail, String uploadId, long offset, long contentLength, InputStream data);
+
+    /**
+     * 세션 상태 조회 (재시도할 청크 확인용)
+     * @param userEmail 사용자 이메일
+     * @param uploadId 세션 ID
+     * @return 세션 상태
+     */
+    UploadSessionResponse getStatus(String userEmail, String uploadId);
+
+    /**
+     * 업로드 완료 (해시 검증 후 파일 등록)
+     * @param userEmail 사용자 이메일
+     * @param uploadId 세션 ID
+     * @return 등록된 파일 정보
+     */
+    FileUploadResponse complete(String userEmail, String uploadId);
+
+    /**
+     * 업로드 취소
+     * @param userEmail 사용자 이메일
+     * @param uploadId 세션 ID
+     * @return 취소 메시지
+     */
+    String abort(String userEmail, String uploadId);
+
+    /**
+     * 만료된 세션과 임시 파일 정리
+     * @return 정리된 세션 수
+     */
+    int cleanupExpiredSessions();
+}
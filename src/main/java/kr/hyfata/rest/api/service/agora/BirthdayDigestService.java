@@ -0,0 +1,234 @@
+package kr.hyfata.rest.api.service.agora;
+
+import kr.hyfata.rest.api.dto.agora.friend.FriendBirthdayResponse;
+import kr.hyfata.rest.api.event.NotificationEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.Month;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 친구 생일 다이제스트
+ * <p>
+ * 매일 새벽 모든 사용자의 다가오는 친구 생일을 INSERT ... SELECT 한 번으로 birthday_digests 에 계산해 두고,
+ * 생일 목록 API 는 그날의 다이제스트를 읽기만 합니다. 다이제스트가 아직 없는 날에는 같은 조건의 조인 쿼리로 대신합니다.
+ * 생일은 월*100+일(MMDD) 식 인덱스로 범위 조회하며, 연말을 넘기는 구간은 두 범위의 OR 로 나눕니다.
+ * 생일 알림은 설정(birthdayReminderEnabled, birthdayReminderDaysBefore)에 따라 생일 N일 전과 당일에
+ * 친구별로 묶어 NotificationEvent 로 발행합니다.
+ * 친구가 생일을 비공개(NONE)로 설정했다면 목록과 알림에서 제외합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BirthdayDigestService {
+
+    /**
+     * V10 의 idx_agora_profiles_birthday_mmdd 와 같은 식 (식이 다르면 인덱스를 타지 않는다)
+     */
+    private static final String BIRTHDAY_MMDD =
+            "(EXTRACT(MONTH FROM p.birthday)::int * 100 + EXTRACT(DAY FROM p.birthday)::int)";
+
+    /**
+     * 오늘 이후 가장 가까운 생일 (2월 29일생은 윤년이 아니면 2월 28일)
+     */
+    private static final String NEXT_BIRTHDAY =
+            "CASE WHEN (p.birthday + make_interval(years => :year - EXTRACT(YEAR FROM p.birthday)::int))::date " +
+            ">= CAST(:today AS date) " +
+            "THEN (p.birthday + make_interval(years => :year - EXTRACT(YEAR FROM p.birthday)::int))::date " +
+            "ELSE (p.birthday + make_interval(years => :year + 1 - EXTRACT(YEAR FROM p.birthday)::int))::date END";
+
+    private static final String VISIBLE_TO_FRIENDS = "COALESCE(fs.birthday_visibility, 'FRIENDS') <> 'NONE'";
+
+    private static final String DEFAULT_DAYS_BEFORE = "3";
+
+    private static final String LIVE_BIRTHDAYS_SQL =
+            "SELECT * FROM (" +
+            "SELECT p.id AS friend_id, p.agora_id, p.display_name, p.profile_image, p.birthday, " +
+            NEXT_BIRTHDAY + " - CAST(:today AS date) AS days_until " +
+            "FROM friends f " +
+            "JOIN agora_user_profiles p ON p.id = f.friend_id " +
+            "LEFT JOIN user_settings fs ON fs.user_id = p.id " +
+            "WHERE f.user_id = :userId AND p.birthday IS NOT NULL AND %s AND " + VISIBLE_TO_FRIENDS +
+            ") b WHERE b.days_until <= :days ORDER BY b.days_until, b.display_name";
+
+    private static final String DIGEST_BIRTHDAYS_SQL =
+            "SELECT d.friend_id, p.agora_id, p.display_name, p.profile_image, d.birthday, d.days_until " +
+            "FROM birthday_digests d " +
+            "JOIN friends f ON f.user_id = d.user_id AND f.friend_id = d.friend_id " +
+            "JOIN agora_user_profiles p ON p.id = d.friend_id " +
+            "LEFT JOIN user_settings fs ON fs.user_id = d.friend_id " +
+            "WHERE d.user_id = :userId AND d.digest_date = :today AND d.days_until <= :days " +
+            "AND " + VISIBLE_TO_FRIENDS + " " +
+            "ORDER BY d.days_until, p.display_name";
+
+    private static final String INSERT_DIGESTS_SQL =
+            "INSERT INTO birthday_digests (user_id, friend_id, birthday, next_birthday, days_until, digest_date) " +
+            "SELECT b.user_id, b.friend_id, b.birthday, b.next_birthday, " +
+            "b.next_birthday - CAST(:today AS date), CAST(:today AS date) FROM (" +
+            "SELECT f.user_id, p.id AS friend_id, p.birthday, " + NEXT_BIRTHDAY + " AS next_birthday, " +
+            "GREATEST(:days, LEAST(COALESCE(us.birthday_reminder_days_before, " + DEFAULT_DAYS_BEFORE + "), " +
+            ":maxDaysBefore)) AS window_days " +
+            "FROM agora_user_profiles p " +
+            "JOIN friends f ON f.friend_id = p.id " +
+            "LEFT JOIN user_settings fs ON fs.user_id = p.id " +
+            "LEFT JOIN user_settings us ON us.user_id = f.user_id " +
+            "WHERE p.birthday IS NOT NULL AND %s AND " + VISIBLE_TO_FRIENDS +
+            ") b WHERE b.next_birthday - CAST(:today AS date) <= b.window_days";
+
+    private static final String REMINDER_TARGETS_SQL =
+            "SELECT d.user_id, d.friend_id, d.days_until, p.display_name " +
+            "FROM birthday_digests d " +
+            "JOIN agora_user_profiles p ON p.id = d.friend_id " +
+            "LEFT JOIN user_settings us ON us.user_id = d.user_id " +
+            "WHERE d.digest_date = :today AND COALESCE(us.birthday_reminder_enabled, true) " +
+            "AND d.days_until IN (0, LEAST(COALESCE(us.birthday_reminder_days_before, " + DEFAULT_DAYS_BEFORE + "), " +
+            ":maxDaysBefore)) " +
+            "ORDER BY d.friend_id, d.days_until";
+
+    private static final RowMapper<FriendBirthdayResponse> BIRTHDAY_ROW_MAPPER = (rs, rowNum) ->
+            FriendBirthdayResponse.builder()
+                    .friendId(rs.getLong("friend_id"))
+                    .agoraId(rs.getString("agora_id"))
+                    .displayName(rs.getString("display_name"))
+                    .profileImage(rs.getString("profile_image"))
+                    .birthday(rs.getObject("birthday", LocalDate.class))
+                    .daysUntilBirthday(rs.getInt("days_until"))
+                    .build();
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${birthday.upcoming-days:7}")
+    private int upcomingDays;
+
+    @Value("${birthday.reminder.max-days-before:30}")
+    private int maxDaysBefore;
+
+    /**
+     * 오늘부터 upcomingDays 일 이내에 생일인 친구 (가까운 순)
+     */
+    public List<FriendBirthdayResponse> getUpcomingBirthdays(Long userId, LocalDate today) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("today", today)
+                .addValue("year", today.getYear())
+                .addValue("days", upcomingDays);
+
+        if (isBuilt(today)) {
+            return jdbcTemplate.query(DIGEST_BIRTHDAYS_SQL, params, BIRTHDAY_ROW_MAPPER);
+        }
+        MmddWindow window = MmddWindow.of(today, upcomingDays);
+        return jdbcTemplate.query(String.format(LIVE_BIRTHDAYS_SQL, window.condition()),
+                window.bind(params), BIRTHDAY_ROW_MAPPER);
+    }
+
+    public boolean isBuilt(LocalDate date) {
+        Boolean built = jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM birthday_digest_runs WHERE digest_date = :date)",
+                new MapSqlParameterSource("date", date), Boolean.class);
+        return Boolean.TRUE.equals(built);
+    }
+
+    /**
+     * 모든 사용자의 다이제스트를 오늘 기준으로 다시 생성
+     * 사용자별 구간은 max(upcomingDays, birthdayReminderDaysBefore) 일 (알림 대상도 같은 행에서 고른다)
+     *
+     * @return 생성된 행 수
+     */
+    @Transactional
+    public int rebuild(LocalDate today) {
+        MmddWindow window = MmddWindow.of(today, Math.max(upcomingDays, maxDaysBefore));
+        MapSqlParameterSource params = window.bind(new MapSqlParameterSource()
+                .addValue("today", today)
+                .addValue("year", today.getYear())
+                .addValue("days", upcomingDays)
+                .addValue("maxDaysBefore", maxDaysBefore));
+
+        jdbcTemplate.update("DELETE FROM birthday_digests", params);
+        int rows = jdbcTemplate.update(String.format(INSERT_DIGESTS_SQL, window.condition()), params);
+
+        params.addValue("rows", rows);
+        jdbcTemplate.update("DELETE FROM birthday_digest_runs WHERE digest_date <> :today", params);
+        jdbcTemplate.update("INSERT INTO birthday_digest_runs (digest_date, row_count) VALUES (:today, :rows) " +
+                "ON CONFLICT (digest_date) DO UPDATE SET row_count = EXCLUDED.row_count, completed_at = now()", params);
+        return rows;
+    }
+
+    /**
+     * 오늘 다이제스트에서 생일 알림 대상을 골라 친구(생일 당사자)와 남은 일수별로 묶어 발행
+     * 이미 발행한 날이면 아무것도 하지 않는다.
+     *
+     * @return 발행한 알림 이벤트 수
+     */
+    public int enqueueReminders(LocalDate today) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("today", today)
+                .addValue("maxDaysBefore", maxDaysBefore);
+
+        int claimed = jdbcTemplate.update("UPDATE birthday_digest_runs SET reminders_enqueued_at = now() " +
+                "WHERE digest_date = :today AND reminders_enqueued_at IS NULL", params);
+        if (claimed == 0) {
+            return 0;
+        }
+
+        Map<ReminderKey, List<Long>> recipients = new LinkedHashMap<>();
+        jdbcTemplate.query(REMINDER_TARGETS_SQL, params, rs -> {
+            ReminderKey key = new ReminderKey(rs.getLong("friend_id"), rs.getString("display_name"),
+                    rs.getInt("days_until"));
+            recipients.computeIfAbsent(key, k -> new ArrayList<>()).add(rs.getLong("user_id"));
+        });
+
+        recipients.forEach((key, userIds) -> eventPublisher.publishEvent(NotificationEvent.birthday(
+                this, userIds, key.displayName(), key.daysUntil(), key.friendId())));
+        return recipients.size();
+    }
+
+    private record ReminderKey(Long friendId, String displayName, int daysUntil) {
+    }
+
+    /**
+     * 오늘부터 days 일 뒤까지의 MMDD 범위 (연말을 넘기면 from > to)
+     */
+    record MmddWindow(int from, int to) {
+
+        static MmddWindow of(LocalDate today, int days) {
+            LocalDate end = today.plusDays(Math.min(Math.max(days, 0), 364));
+            int to = mmdd(end);
+            // 윤년이 아닌 해의 2월 28일에는 2월 29일생도 생일을 맞는다
+            if (end.getMonth() == Month.FEBRUARY && end.getDayOfMonth() == 28 && !end.isLeapYear()) {
+                to = 229;
+            }
+            return new MmddWindow(mmdd(today), to);
+        }
+
+        private static int mmdd(LocalDate date) {
+            return date.getMonthValue() * 100 + date.getDayOfMonth();
+        }
+
+        boolean wrapsYear() {
+            return from > to;
+        }
+
+        String condition() {
+            return wrapsYear()
+                    ? "(" + BIRTHDAY_MMDD + " >= :fromMmdd OR " + BIRTHDAY_MMDD + " <= :toMmdd)"
+                    : BIRTHDAY_MMDD + " BETWEEN :fromMmdd AND :toMmdd";
+        }
+
+        MapSqlParameterSource bind(MapSqlParameterSource params) {
+            return params.addValue("fromMmdd", from).addValue("toMmdd", to);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package kr.hyfata.rest.api.service.agora;
+
+import kr.hyfata.rest.api.entity.agora.ChatParticipant;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+/**
+ * 채팅 참여자 일괄 추가
+ * <p>
+ * 그룹/팀 채팅 생성 시 참여자를 JDBC 배치 또는 INSERT ... SELECT 한 번으로 저장합니다.
+ * ID 는 Hibernate 와 같은 chat_participants_seq 에서 받습니다. Hibernate 의 pooled optimizer 는 nextval 로 받은 v 에 대해
+ * (v - 50, v] 범위를 쓰고 여기서는 nextval 값 하나만 쓰므로 두 경로의 ID 는 겹치지 않습니다 (V7 참고).
+ * 이미 참여 중인 사용자는 (chat_id, user_id) 유니크 제약에 따라 건너뜁니다.
+ * JPA 세션을 거치지 않으므로, 같은 트랜잭션에서 만든 채팅은 호출 전에 flush 되어 있어야 합니다 (chat_id 외래 키).
+ */
+@Component
+@RequiredArgsConstructor
+public class ChatParticipantWriter {
+
+    private static final String INSERT_PARTICIPANT_SQL =
+            "INSERT INTO chat_participants (id, chat_id, user_id, role, is_pinned, joined_at) " +
+            "VALUES (nextval('chat_participants_seq'), ?, ?, ?, false, ?) ON CONFLICT DO NOTHING";
+
+    private static final String INSERT_TEAM_PARTICIPANTS_SQL =
+            "INSERT INTO chat_participants (id, chat_id, user_id, role, is_pinned, joined_at) " +
+            "SELECT nextval('chat_participants_seq'), ?, tm.user_id, CASE WHEN tm.user_id = ? THEN 'ADMIN' ELSE 'MEMBER' END, false, ? " +
+            "FROM team_members tm WHERE tm.team_id = ? " +
+            "ON CONFLICT DO NOTHING";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 관리자와 멤버를 하나의 JDBC 배치로 추가
+     *
+     * @param memberUserIds 존재가 확인된 사용자 ID (관리자 ID가 포함되어 있으면 무시)
+     */
+    public void addParticipants(Long chatId, Long adminUserId, Collection<Long> memberUserIds) {
+        List<Object[]> rows = new ArrayList<>();
+        Timestamp joinedAt = Timestamp.valueOf(LocalDateTime.now());
+
+        rows.add(new Object[]{chatId, adminUserId, ChatParticipant.Role.ADMIN.name(), joinedAt});
+        for (Long userId : new LinkedHashSet<>(memberUserIds)) {
+            if (!userId.equals(adminUserId)) {
+                rows.add(new Object[]{chatId, userId, ChatParticipant.Role.MEMBER.name(), joinedAt});
+            }
+        }
+        jdbcTemplate.batchUpdate(INSERT_PARTICIPANT_SQL, rows);
+    }
+
+    /**
+     * 팀 멤버 전체를 한 문장으로 채팅 참여자로 추가 (생성자는 ADMIN)
+     *
+     * @return 추가된 참여자 수
+     */
+    public int addTeamMembers(Long chatId, Long teamId, Long adminUserId) {
+        return jdbcTemplate.update(INSERT_TEAM_PARTICIPANTS_SQL,
+                chatId, adminUserId, Timestamp.valueOf(LocalDateTime.now()), teamId);
+    }
+}
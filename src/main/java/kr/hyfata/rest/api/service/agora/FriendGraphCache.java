@@ -0,0 +1,217 @@
+package kr.hyfata.rest.api.service.agora;
+
+import kr.hyfata.rest.api.repository.agora.BlockedUserRepository;
+import kr.hyfata.rest.api.repository.agora.FriendRepository;
+import kr.hyfata.rest.api.util.LongHashSet;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 친구/차단 관계 인접 목록 캐시
+ * <p>
+ * 사용자별 친구 ID 집합과 차단한 사용자 ID 집합을 처음 조회할 때 한 번에 읽어 두고(LRU + TTL),
+ * 친구 여부·차단 여부는 O(1), 함께 아는 친구는 작은 집합 크기만큼의 비용으로 답한다.
+ * 친구 수락/삭제, 차단/해제는 이 클래스의 메서드로만 반영되며 트랜잭션 커밋 후 양쪽 사용자에 적용된다.
+ * 변경은 Redis 채널(friend:graph:evict)로 다른 노드에도 전달되어 두 사용자의 캐시를 비운다
+ * (수신은 RedisConfig 의 리스너 컨테이너). 전달하지 못하면 다른 노드의 캐시는 TTL 이 지날 때까지 남으므로,
+ * 친구 요청/수락/차단 같은 쓰기 경로의 검사는 이 캐시가 아니라 DB 로 한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class FriendGraphCache {
+
+    public static final String EVICT_CHANNEL = "friend:graph:evict";
+
+    private final FriendRepository friendRepository;
+    private final BlockedUserRepository blockedUserRepository;
+    private final StringRedisTemplate redisTemplate;
+
+    @Value("${friend.graph-cache.max-size:50000}")
+    private int maxSize;
+
+    @Value("${friend.graph-cache.ttl-seconds:600}")
+    private long ttlSeconds;
+
+    private final Map<Long, Adjacency> adjacencies = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Adjacency> eldest) {
+            return size() > maxSize;
+        }
+    };
+
+    /**
+     * 적용된 변경 횟수 (조회 중에 변경이 끼어든 결과는 캐시하지 않기 위해 사용, adjacencies 로 보호)
+     */
+    private long mutations;
+
+    public boolean areFriends(Long userId, Long otherUserId) {
+        return get(userId).friends.contains(otherUserId);
+    }
+
+    /**
+     * userId 가 targetUserId 를 차단했는지 확인
+     */
+    public boolean isBlocked(Long userId, Long targetUserId) {
+        return get(userId).blocked.contains(targetUserId);
+    }
+
+    /**
+     * 어느 한쪽이라도 상대를 차단했는지 확인
+     */
+    public boolean isBlockedEitherWay(Long userId, Long otherUserId) {
+        return isBlocked(userId, otherUserId) || isBlocked(otherUserId, userId);
+    }
+
+    public long[] getFriendIds(Long userId) {
+        return get(userId).friends.toArray();
+    }
+
+    public long[] getMutualFriendIds(Long userId, Long otherUserId) {
+        return get(userId).friends.intersect(get(otherUserId).friends);
+    }
+
+    public int countMutualFriends(Long userId, Long otherUserId) {
+        return getMutualFriendIds(userId, otherUserId).length;
+    }
+
+    /**
+     * 친구 관계 생성 (양방향, 커밋 후 적용)
+     */
+    public void friendshipCreated(Long userId, Long friendId) {
+        afterCommit(() -> update(userId, friendId, (friends, blocked) -> friends.add(friendId),
+                (friends, blocked) -> friends.add(userId)));
+    }
+
+    /**
+     * 친구 관계 삭제 (양방향, 커밋 후 적용)
+     */
+    public void friendshipDeleted(Long userId, Long friendId) {
+        afterCommit(() -> update(userId, friendId, (friends, blocked) -> friends.remove(friendId),
+                (friends, blocked) -> friends.remove(userId)));
+    }
+
+    /**
+     * 차단 (친구 관계가 있으면 함께 삭제, 커밋 후 적용)
+     */
+    public void userBlocked(Long userId, Long targetUserId) {
+        afterCommit(() -> update(userId, targetUserId,
+                (friends, blocked) -> {
+                    friends.remove(targetUserId);
+                    blocked.add(targetUserId);
+                },
+                (friends, blocked) -> friends.remove(userId)));
+    }
+
+    /**
+     * 차단 해제 (커밋 후 적용)
+     */
+    public void userUnblocked(Long userId, Long targetUserId) {
+        afterCommit(() -> update(userId, targetUserId, (friends, blocked) -> blocked.remove(targetUserId),
+                (friends, blocked) -> {
+                }));
+    }
+
+    /**
+     * 다른 노드(또는 이 노드)가 보낸 무효화 메시지 적용 ("사용자ID:상대ID", 두 사용자의 캐시를 비움)
+     */
+    public void onRemoteEviction(String message) {
+        try {
+            int separator = message.indexOf(':');
+            Long userId = Long.valueOf(message.substring(0, separator));
+            Long otherUserId = Long.valueOf(message.substring(separator + 1));
+            synchronized (adjacencies) {
+                mutations++;
+                adjacencies.remove(userId);
+                adjacencies.remove(otherUserId);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Ignoring malformed friend graph eviction: {}", message);
+        }
+    }
+
+    private Adjacency get(Long userId) {
+        long now = System.currentTimeMillis();
+        long version;
+        synchronized (adjacencies) {
+            Adjacency cached = adjacencies.get(userId);
+            if (cached != null && cached.expiresAt > now) {
+                return cached;
+            }
+            version = mutations;
+        }
+
+        Adjacency loaded = new Adjacency(
+                LongHashSet.of(friendRepository.findFriendIdsByUserId(userId)),
+                LongHashSet.of(blockedUserRepository.findBlockedUserIdsByUserId(userId)),
+                now + ttlSeconds * 1000);
+
+        synchronized (adjacencies) {
+            if (mutations == version) {
+                adjacencies.put(userId, loaded);
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * 캐시에 올라와 있는 사용자만 복사본을 수정해 교체 (읽는 쪽은 잠금 없이 이전 집합을 계속 사용)하고 다른 노드에 알림
+     */
+    private void update(Long userId, Long otherUserId, Mutation onUser, Mutation onOther) {
+        synchronized (adjacencies) {
+            mutations++;
+            apply(userId, onUser);
+            apply(otherUserId, onOther);
+        }
+        publish(userId + ":" + otherUserId);
+    }
+
+    private void publish(String message) {
+        try {
+            redisTemplate.convertAndSend(EVICT_CHANNEL, message);
+        } catch (Exception e) {
+            log.warn("Failed to publish friend graph eviction {}, other nodes expire it by TTL: {}",
+                    message, e.getMessage());
+        }
+    }
+
+    private void apply(Long userId, Mutation mutation) {
+        Adjacency current = adjacencies.get(userId);
+        if (current == null) {
+            return;
+        }
+        LongHashSet friends = current.friends.copy();
+        LongHashSet blocked = current.blocked.copy();
+        mutation.apply(friends, blocked);
+        adjacencies.put(userId, new Adjacency(friends, blocked, current.expiresAt));
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    @FunctionalInterface
+    private interface Mutation {
+        void apply(LongHashSet friends, LongHashSet blocked);
+    }
+
+    private record Adjacency(LongHashSet friends, LongHashSet blocked, long expiresAt) {
+    }
+}
@@ -0,0 +1,151 @@
+package kr.hyfata.rest.api.service.agora;
+
+import kr.hyfata.rest.api.dto.agora.chat.MessageAttachmentDto;
+import kr.hyfata.rest.api.dto.agora.chat.MessageCursor;
+import kr.hyfata.rest.api.dto.agora.chat.MessageDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 메시지 목록 조회 (읽기 모델)
+ * <p>
+ * 메시지 한 페이지를 발신자 프로필, 첨부 파일과 함께 쿼리 하나로 가져와 MessageDto 로 만듭니다.
+ * 페이지는 (chat_id, id DESC) 인덱스로 먼저 잘라낸 뒤 프로필과 첨부를 붙이므로 첨부가 많아도 LIMIT 은 메시지 수 기준입니다.
+ * (첨부는 json_agg 대신 메시지당 여러 행으로 받아 묶습니다. 같은 SQL 이 테스트 프로필의 H2 에서도 실행되도록)
+ * 삭제된 메시지와 다른 사용자 전용(privateOnlyUser) 메시지는 SQL 에서 제외합니다.
+ * 커서 방향과 관계없이 결과는 최신순이며, AROUND 는 기준 메시지와 그 이전 절반, 이후 절반을 돌려줍니다.
+ * 참여 여부 확인은 호출하는 쪽의 몫입니다.
+ * RecentMessageCache 는 getLatestForAll 로 사용자 전용 메시지까지 받아 두고 읽을 때 사용자별로 거릅니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class MessageHistoryService {
+
+    private static final String PAGE_SQL =
+            "SELECT m.id, m.sender_id, m.content, m.type, m.reply_to_id, m.private_only_user_id, " +
+            "m.is_deleted, m.is_pinned, m.created_at, m.updated_at " +
+            "FROM messages m " +
+            "WHERE m.chat_id = :chatId " +
+            "AND m.is_deleted = false " +
+            "%s" +
+            "ORDER BY m.id %s LIMIT %s";
+
+    private static final String HISTORY_SQL =
+            "SELECT m.id, m.sender_id, m.content, m.type, m.reply_to_id, m.private_only_user_id, " +
+            "m.is_deleted, m.is_pinned, m.created_at, m.updated_at, " +
+            "p.agora_id, p.display_name, p.profile_image, " +
+            "f.id AS file_id, f.original_name, f.file_url, f.thumbnail_url, f.file_size, f.mime_type, f.file_type " +
+            "FROM (%s) m " +
+            "LEFT JOIN agora_user_profiles p ON p.id = m.sender_id " +
+            "LEFT JOIN message_attachments a ON a.message_id = m.id " +
+            "LEFT JOIN files f ON f.id = a.file_id " +
+            "ORDER BY m.id DESC, a.order_index, a.id";
+
+    private static final String VISIBLE_TO_USER =
+            "AND (m.private_only_user_id IS NULL OR m.private_only_user_id = :userId) ";
+
+    private static final String BEFORE_CURSOR = "AND m.id < :cursor ";
+    private static final String AFTER_CURSOR = "AND m.id > :cursor ";
+    private static final String AT_OR_BEFORE_CURSOR = "AND m.id <= :cursor ";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * userId 에게 보이는 메시지 한 페이지 (최신순)
+     */
+    public List<MessageDto> getPage(Long userId, Long chatId, MessageCursor cursor, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("chatId", chatId)
+                .addValue("userId", userId)
+                .addValue("cursor", cursor.messageId());
+
+        String page = switch (cursor.direction()) {
+            case LATEST -> page(VISIBLE_TO_USER, "DESC", ":limit");
+            case BEFORE -> page(VISIBLE_TO_USER + BEFORE_CURSOR, "DESC", ":limit");
+            // 기준 바로 다음 메시지부터 가져와야 하므로 오름차순으로 자른다
+            case AFTER -> page(VISIBLE_TO_USER + AFTER_CURSOR, "ASC", ":limit");
+            case AROUND -> {
+                int newer = limit / 2;
+                params.addValue("olderLimit", limit - newer).addValue("newerLimit", newer);
+                yield "(" + page(VISIBLE_TO_USER + AT_OR_BEFORE_CURSOR, "DESC", ":olderLimit") + ") UNION ALL ("
+                        + page(VISIBLE_TO_USER + AFTER_CURSOR, "ASC", ":newerLimit") + ")";
+            }
+        };
+        params.addValue("limit", limit);
+
+        return load(page, params).stream().map(VisibleMessage::message).toList();
+    }
+
+    /**
+     * 삭제되지 않은 최신 메시지 (다른 사용자 전용 메시지 포함, 최신순)
+     */
+    public List<VisibleMessage> getLatestForAll(Long chatId, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("chatId", chatId)
+                .addValue("limit", limit);
+        return load(page("", "DESC", ":limit"), params);
+    }
+
+    private List<VisibleMessage> load(String page, MapSqlParameterSource params) {
+        Map<Long, VisibleMessage> messages = new LinkedHashMap<>();
+        jdbcTemplate.query(String.format(HISTORY_SQL, page), params, rs -> {
+            long messageId = rs.getLong("id");
+            VisibleMessage visible = messages.get(messageId);
+            if (visible == null) {
+                MessageDto message = MessageDto.builder()
+                        .messageId(messageId)
+                        .senderId(rs.getLong("sender_id"))
+                        .senderAgoraId(rs.getString("agora_id") != null ? rs.getString("agora_id") : "")
+                        .senderName(rs.getString("display_name") != null ? rs.getString("display_name") : "")
+                        .senderProfileImage(rs.getString("profile_image"))
+                        .content(rs.getString("content"))
+                        .type(rs.getString("type"))
+                        .replyToId(rs.getObject("reply_to_id", Long.class))
+                        .attachments(new ArrayList<>())
+                        .isDeleted(rs.getBoolean("is_deleted"))
+                        .isPinned(rs.getBoolean("is_pinned"))
+                        .createdAt(rs.getObject("created_at", LocalDateTime.class))
+                        .updatedAt(rs.getObject("updated_at", LocalDateTime.class))
+                        .build();
+                visible = new VisibleMessage(rs.getObject("private_only_user_id", Long.class), message);
+                messages.put(messageId, visible);
+            }
+
+            Long fileId = rs.getObject("file_id", Long.class);
+            if (fileId != null) {
+                visible.message().getAttachments().add(MessageAttachmentDto.builder()
+                        .fileId(fileId)
+                        .originalName(rs.getString("original_name"))
+                        .fileUrl(rs.getString("file_url"))
+                        .thumbnailUrl(rs.getString("thumbnail_url"))
+                        .fileSize(rs.getObject("file_size", Long.class))
+                        .mimeType(rs.getString("mime_type"))
+                        .fileType(rs.getString("file_type"))
+                        .build());
+            }
+        });
+        return new ArrayList<>(messages.values());
+    }
+
+    private static String page(String condition, String order, String limit) {
+        return String.format(PAGE_SQL, condition, order, limit);
+    }
+
+    /**
+     * 메시지와 볼 수 있는 사용자 (privateOnlyUserId 가 null 이면 모든 참여자)
+     */
+    public record VisibleMessage(Long privateOnlyUserId, MessageDto message) {
+
+        public boolean isVisibleTo(Long userId) {
+            return privateOnlyUserId == null || privateOnlyUserId.equals(userId);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package kr.hyfata.rest.api.service.agora;
+
+import kr.hyfata.rest.api.dto.agora.chat.MessageSearchResult;
+import kr.hyfata.rest.api.util.SearchTextUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 메시지 전문 검색
+ * <p>
+ * messages.search_vector(V12 생성 컬럼)와 (chat_id, search_vector) GIN 인덱스로 검색하며,
+ * 검색어는 SearchTextUtil.toMessageTsQuery 로 색인과 같은 규칙(한글 2글자 단위, 그 외 단어 접두어)의 tsquery 로 바꿉니다.
+ * 삭제된 메시지와 다른 사용자 전용(privateOnlyUser) 메시지는 제외하고, 최신순으로 메시지 ID 키셋 페이지를 돌려줍니다.
+ * 참여 여부 확인은 호출하는 쪽의 몫이며, 전체 검색은 사용자가 참여 중인 채팅으로 범위를 한정합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class MessageSearchService {
+
+    private static final int SNIPPET_RADIUS = 40;
+
+    private static final String SEARCH_SQL =
+            "SELECT m.id, m.chat_id, m.sender_id, m.content, m.type, m.created_at, " +
+            "p.agora_id, p.display_name, p.profile_image " +
+            "FROM messages m " +
+            "LEFT JOIN agora_user_profiles p ON p.id = m.sender_id " +
+            "WHERE %s " +
+            "AND m.search_vector @@ to_tsquery('simple', :query) " +
+            "AND m.is_deleted = false " +
+            "AND (m.private_only_user_id IS NULL OR m.private_only_user_id = :userId) " +
+            "%s" +
+            "ORDER BY m.id DESC LIMIT :limit";
+
+    private static final String IN_CHAT = "m.chat_id = :chatId";
+
+    private static final String IN_PARTICIPATING_CHATS =
+            "m.chat_id IN (SELECT cp.chat_id FROM chat_participants cp WHERE cp.user_id = :userId)";
+
+    private static final String BEFORE_CURSOR = "AND m.id < :cursor ";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * 한 채팅방 안에서 검색
+     */
+    public List<MessageSearchResult> searchInChat(Long userId, Long chatId, String keyword, Long cursor, int limit) {
+        return search(IN_CHAT, new MapSqlParameterSource("chatId", chatId), userId, keyword, cursor, limit);
+    }
+
+    /**
+     * 참여 중인 모든 채팅방에서 검색
+     */
+    public List<MessageSearchResult> searchAllChats(Long userId, String keyword, Long cursor, int limit) {
+        return search(IN_PARTICIPATING_CHATS, new MapSqlParameterSource(), userId, keyword, cursor, limit);
+    }
+
+    private List<MessageSearchResult> search(String scope, MapSqlParameterSource params, Long userId,
+                                             String keyword, Long cursor, int limit) {
+        String query = SearchTextUtil.toMessageTsQuery(keyword);
+        if (query == null) {
+            throw new IllegalArgumentException("Search keyword must contain letters or digits");
+        }
+        params.addValue("userId", userId)
+                .addValue("query", query)
+                .addValue("limit", limit);
+        if (cursor != null) {
+            params.addValue("cursor", cursor);
+        }
+
+        String sql = String.format(SEARCH_SQL, scope, cursor != null ? BEFORE_CURSOR : "");
+        return jdbcTemplate.query(sql, params, (rs, rowNum) -> MessageSearchResult.builder()
+                .messageId(rs.getLong("id"))
+                .chatId(rs.getLong("chat_id"))
+                .senderId(rs.getLong("sender_id"))
+                .senderAgoraId(rs.getString("agora_id") != null ? rs.getString("agora_id") : "")
+                .senderName(rs.getString("display_name") != null ? rs.getString("display_name") : "")
+                .senderProfileImage(rs.getString("profile_image"))
+                .snippet(snippet(rs.getString("content"), keyword))
+                .type(rs.getString("type"))
+                .createdAt(rs.getObject("created_at", LocalDateTime.class))
+                .build());
+    }
+
+    /**
+     * 검색어 단어 중 본문에서 가장 먼저 나오는 위치를 중심으로 앞뒤 SNIPPET_RADIUS 글자
+     */
+    private static String snippet(String content, String keyword) {
+        if (content == null) {
+            return "";
+        }
+        String lowerContent = content.toLowerCase(Locale.ROOT);
+        int hit = -1;
+        int hitLength = 0;
+        for (String word : keyword.toLowerCase(Locale.ROOT).split("\\s+")) {
+            int index = word.isEmpty() ? -1 : lowerContent.indexOf(word);
+            if (index >= 0 && (hit < 0 || index < hit)) {
+                hit = index;
+                hitLength = word.length();
+            }
+        }
+        if (hit < 0) {
+            hit = 0;
+        }
+
+        // 소문자 변환으로 길이가 달라지는 문자가 있어도 범위를 벗어나지 않게 원문 길이로 자른다
+        int start = Math.min(content.length(), Math.max(0, hit - SNIPPET_RADIUS));
+        int end = Math.min(content.length(), hit + hitLength + SNIPPET_RADIUS);
+        return (start > 0 ? "…" : "") + content.substring(start, end) + (end < content.length() ? "…" : "");
+    }
+}
@@ -0,0 +1,232 @@
+package kr.hyfata.rest.api.service.agora;
+
+import kr.hyfata.rest.api.repository.UserRepository;
+import kr.hyfata.rest.api.repository.agora.NotificationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 읽지 않은 알림 수 카운터
+ * <p>
+ * 사용자별 미읽음 수를 Redis 키(notification:unread:{userId})에 보관하여 배지 조회를 O(1)로 처리합니다.
+ * 카운터는 알림 생성/읽음/삭제 트랜잭션이 커밋된 뒤 갱신되며, 변경된 값은
+ * /user/queue/notifications 로 전송되어 클라이언트가 폴링하지 않아도 됩니다.
+ * 캐시에 없는 사용자는 DB COUNT로 채우고, Redis 오류 시에는 DB COUNT로 대체합니다.
+ * DB COUNT 와 동시에 일어난 증감이 엇갈려 값이 어긋나더라도 키가 ttl-seconds 후 만료되어 다시 계산됩니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationCounterService {
+
+    private static final String UNREAD_KEY_PREFIX = "notification:unread:";
+    private static final String BADGE_DESTINATION = "/queue/notifications";
+
+    /**
+     * 이미 캐시된 사용자만 delta만큼 증감 (캐시에 없으면 -1 반환)
+     * 캐시에 없는 사용자를 0부터 증가시키면 기존 미읽음 수가 누락되므로 건드리지 않는다.
+     */
+    private static final RedisScript<List> ADD_IF_PRESENT = new DefaultRedisScript<>(
+            "local delta = tonumber(ARGV[1]) " +
+            "local result = {} " +
+            "for i = 1, #KEYS do " +
+            "  if redis.call('EXISTS', KEYS[i]) == 1 then " +
+            "    local value = redis.call('INCRBY', KEYS[i], delta) " +
+            "    if value < 0 then redis.call('DEL', KEYS[i]) value = -1 end " +
+            "    result[#result + 1] = value " +
+            "  else " +
+            "    result[#result + 1] = -1 " +
+            "  end " +
+            "end " +
+            "return result",
+            List.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final NotificationRepository notificationRepository;
+    private final UserRepository userRepository;
+    private final SimpMessagingTemplate messagingTemplate;
+
+    @Value("${notification.unread-counter.ttl-seconds:3600}")
+    private long ttlSeconds;
+
+    /**
+     * 읽지 않은 알림 수 조회
+     */
+    public long getUnreadCount(Long userId) {
+        try {
+            String cached = redisTemplate.opsForValue().get(key(userId));
+            if (cached != null) {
+                return Long.parseLong(cached);
+            }
+        } catch (Exception e) {
+            log.error("Failed to read unread counter: {}", e.getMessage());
+            return notificationRepository.countByUser_IdAndIsReadFalse(userId);
+        }
+
+        long count = notificationRepository.countByUser_IdAndIsReadFalse(userId);
+        warm(Map.of(userId, count));
+        return count;
+    }
+
+    /**
+     * 여러 사용자에게 알림이 생성됨 (커밋 후 +1, 배지 전송)
+     */
+    public void onNotificationsCreated(Collection<Long> userIds) {
+        List<Long> recipients = new ArrayList<>(new LinkedHashSet<>(userIds));
+        afterCommit(() -> {
+            Map<Long, Long> counts = addIfPresent(recipients, 1);
+
+            // 캐시에 없던 사용자는 한 번의 GROUP BY 쿼리로 채움
+            List<Long> missing = recipients.stream()
+                    .filter(userId -> counts.getOrDefault(userId, -1L) < 0)
+                    .toList();
+            if (!missing.isEmpty()) {
+                Map<Long, Long> loaded = new HashMap<>();
+                missing.forEach(userId -> loaded.put(userId, 0L));
+                for (Object[] row : notificationRepository.countUnreadByUserIds(missing)) {
+                    loaded.put((Long) row[0], (Long) row[1]);
+                }
+                warm(loaded);
+                counts.putAll(loaded);
+            }
+
+            publishBadges(counts);
+        });
+    }
+
+    /**
+     * 읽지 않은 알림 하나가 읽음/삭제 처리됨 (커밋 후 -1, 배지 전송)
+     */
+    public void onUnreadRemoved(Long userId, String userEmail) {
+        afterCommit(() -> decrement(userId, userEmail, 1));
+    }
+
+    /**
+     * 모든 알림 읽음 처리됨 (커밋 후 실제로 읽음 처리된 건수만큼 감소, 배지 전송)
+     * <p>
+     * 0으로 덮어쓰면 커밋과 갱신 사이에 생성된 알림의 증가분이 사라지므로,
+     * 다른 갱신과 순서에 상관없이 합산되는 감소 연산으로 처리한다.
+     */
+    public void onAllRead(Long userId, String userEmail, int markedCount) {
+        if (markedCount <= 0) {
+            return;
+        }
+        afterCommit(() -> decrement(userId, userEmail, markedCount));
+    }
+
+    /**
+     * 카운터 무효화 (일괄 삭제 등 개별 증감을 추적할 수 없는 경우, 다음 조회 시 재계산)
+     */
+    public void invalidateAll() {
+        ScanOptions options = ScanOptions.scanOptions().match(UNREAD_KEY_PREFIX + "*").count(1000).build();
+        try (Cursor<String> keys = redisTemplate.scan(options)) {
+            List<String> batch = new ArrayList<>();
+            while (keys.hasNext()) {
+                batch.add(keys.next());
+                if (batch.size() == 1000) {
+                    redisTemplate.delete(batch);
+                    batch.clear();
+                }
+            }
+            if (!batch.isEmpty()) {
+                redisTemplate.delete(batch);
+            }
+        } catch (Exception e) {
+            log.error("Failed to invalidate unread counters: {}", e.getMessage());
+        }
+    }
+
+    private void decrement(Long userId, String userEmail, long amount) {
+        long count = addIfPresent(List.of(userId), -amount).getOrDefault(userId, -1L);
+        if (count < 0) {
+            // 캐시에 없거나 음수가 되어 제거된 경우 DB에서 다시 계산
+            count = notificationRepository.countByUser_IdAndIsReadFalse(userId);
+            warm(Map.of(userId, count));
+        }
+        publishBadge(userEmail, count);
+    }
+
+    private Map<Long, Long> addIfPresent(List<Long> userIds, long delta) {
+        Map<Long, Long> counts = new HashMap<>();
+        if (userIds.isEmpty()) {
+            return counts;
+        }
+
+        List<String> keys = userIds.stream().map(this::key).toList();
+        try {
+            List<?> results = redisTemplate.execute(ADD_IF_PRESENT, keys, Long.toString(delta));
+            for (int i = 0; i < userIds.size(); i++) {
+                counts.put(userIds.get(i), ((Number) results.get(i)).longValue());
+            }
+        } catch (Exception e) {
+            log.error("Failed to update unread counters: {}", e.getMessage());
+        }
+        return counts;
+    }
+
+    private void warm(Map<Long, Long> counts) {
+        try {
+            // 동시에 갱신된 값이 있으면 덮어쓰지 않음 (어긋나도 만료 후 다시 계산)
+            Duration ttl = Duration.ofSeconds(ttlSeconds);
+            counts.forEach((userId, count) ->
+                    redisTemplate.opsForValue().setIfAbsent(key(userId), count.toString(), ttl));
+        } catch (Exception e) {
+            log.error("Failed to cache unread counters: {}", e.getMessage());
+        }
+    }
+
+    private String key(Long userId) {
+        return UNREAD_KEY_PREFIX + userId;
+    }
+
+    private void publishBadges(Map<Long, Long> counts) {
+        if (counts.isEmpty()) {
+            return;
+        }
+        for (Object[] row : userRepository.findEmailsByIdIn(counts.keySet())) {
+            publishBadge((String) row[1], counts.get((Long) row[0]));
+        }
+    }
+
+    private void publishBadge(String userEmail, long unreadCount) {
+        try {
+            Map<String, Object> payload = new HashMap<>();
+            payload.put("eventType", "UNREAD_COUNT");
+            payload.put("unreadCount", unreadCount);
+            messagingTemplate.convertAndSendToUser(userEmail, BADGE_DESTINATION, payload);
+        } catch (Exception e) {
+            log.warn("Failed to push unread count to {}: {}", userEmail, e.getMessage());
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
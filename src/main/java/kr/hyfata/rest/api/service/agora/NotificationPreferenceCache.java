@@ -0,0 +1,139 @@
+package kr.hyfata.rest.api.service.agora;
+
+import kr.hyfata.rest.api.entity.agora.UserSettings;
+import kr.hyfata.rest.api.event.NotificationEvent;
+import kr.hyfata.rest.api.repository.agora.UserSettingsRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 사용자별 알림 설정 캐시
+ * <p>
+ * 알림 대량 발송 시 수신자 설정을 한 번의 IN 쿼리로 읽고, 크기 제한(LRU)과 TTL을 두어 메모리에 보관합니다.
+ * 설정 변경 시 {@link #evict(Long)}로 즉시 무효화합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class NotificationPreferenceCache {
+
+    private final UserSettingsRepository userSettingsRepository;
+
+    @Value("${notification.preference-cache.max-size:10000}")
+    private int maxSize;
+
+    @Value("${notification.preference-cache.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    private final Map<Long, CachedPreference> cache = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, CachedPreference> eldest) {
+            return size() > maxSize;
+        }
+    };
+
+    /**
+     * 여러 사용자의 알림 설정 조회 (캐시 미스만 DB에서 일괄 조회)
+     */
+    public Map<Long, Preference> getAll(Collection<Long> userIds) {
+        Map<Long, Preference> result = new HashMap<>();
+        Set<Long> missing = new LinkedHashSet<>();
+        long now = System.currentTimeMillis();
+
+        synchronized (cache) {
+            for (Long userId : userIds) {
+                CachedPreference cached = cache.get(userId);
+                if (cached != null && cached.expiresAt > now) {
+                    result.put(userId, cached.preference);
+                } else {
+                    missing.add(userId);
+                }
+            }
+        }
+
+        if (missing.isEmpty()) {
+            return result;
+        }
+
+        Map<Long, Preference> loaded = new HashMap<>();
+        for (UserSettings settings : userSettingsRepository.findAllById(missing)) {
+            loaded.put(settings.getId(), Preference.from(settings));
+        }
+        // 설정 행이 없는 사용자는 기본값 (모두 허용)
+        for (Long userId : missing) {
+            loaded.putIfAbsent(userId, Preference.DEFAULT);
+        }
+
+        long expiresAt = now + ttlSeconds * 1000;
+        synchronized (cache) {
+            loaded.forEach((userId, preference) -> cache.put(userId, new CachedPreference(preference, expiresAt)));
+        }
+
+        result.putAll(loaded);
+        return result;
+    }
+
+    public void evict(Long userId) {
+        synchronized (cache) {
+            cache.remove(userId);
+        }
+    }
+
+    private record CachedPreference(Preference preference, long expiresAt) {
+    }
+
+    public record Preference(boolean pushEnabled,
+                             boolean messageNotification,
+                             boolean friendRequestNotification,
+                             boolean teamNotification,
+                             boolean noticeNotification,
+                             LocalTime doNotDisturbStart,
+                             LocalTime doNotDisturbEnd) {
+
+        public static final Preference DEFAULT = new Preference(true, true, true, true, true, null, null);
+
+        public static Preference from(UserSettings settings) {
+            return new Preference(
+                    Boolean.TRUE.equals(settings.getPushEnabled()),
+                    Boolean.TRUE.equals(settings.getMessageNotification()),
+                    Boolean.TRUE.equals(settings.getFriendRequestNotification()),
+                    Boolean.TRUE.equals(settings.getTeamNotification()),
+                    Boolean.TRUE.equals(settings.getNoticeNotification()),
+                    settings.getDoNotDisturbStart(),
+                    settings.getDoNotDisturbEnd()
+            );
+        }
+
+        public boolean allows(NotificationEvent.Category category) {
+            return switch (category) {
+                case MESSAGE -> messageNotification;
+                case FRIEND_REQUEST -> friendRequestNotification;
+                case NOTICE -> noticeNotification;
+                case EVENT -> teamNotification;
+                // 생일 알림 수신 여부(birthdayReminderEnabled)는 BirthdayDigestService 가 대상을 고를 때 반영한다
+                case BIRTHDAY -> true;
+            };
+        }
+
+        /**
+         * 방해 금지 시간대인지 확인 (자정을 넘기는 구간 지원, 예: 23:00 ~ 07:00)
+         */
+        public boolean isDoNotDisturb(LocalTime now) {
+            if (doNotDisturbStart == null || doNotDisturbEnd == null || doNotDisturbStart.equals(doNotDisturbEnd)) {
+                return false;
+            }
+            if (doNotDisturbStart.isBefore(doNotDisturbEnd)) {
+                return !now.isBefore(doNotDisturbStart) && now.isBefore(doNotDisturbEnd);
+            }
+            return !now.isBefore(doNotDisturbStart) || now.isBefore(doNotDisturbEnd);
+        }
+    }
+}
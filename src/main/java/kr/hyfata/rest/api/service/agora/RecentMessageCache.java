@@ -0,0 +1,462 @@
+package kr.hyfata.rest.api.service.agora;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import kr.hyfata.rest.api.dto.agora.chat.MessageCursor;
+import kr.hyfata.rest.api.dto.agora.chat.MessageDto;
+import kr.hyfata.rest.api.service.agora.MessageHistoryService.VisibleMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+/**
+ * 채팅별 최근 메시지 캐시
+ * <p>
+ * 채팅마다 최근 메시지(messages-per-chat 개)를 JSON 으로 직렬화해 링 버퍼에 보관하고, 첫 페이지 조회(커서 없음)를 DB 없이 응답합니다.
+ * 링 버퍼에는 항상 삭제되지 않은 최신 메시지 min(messages-per-chat, 전체) 개가 들어 있습니다.
+ * 캐시에 없는 채팅은 첫 조회 때 DB 에서 채우고, 이후 전송된 메시지는 커밋 후 앞에 추가하며, 삭제되면 채팅 단위로 비웁니다.
+ * 다른 사용자 전용 메시지도 볼 수 있는 사용자와 함께 보관했다가 읽을 때 거르므로 사용자별 결과는 DB 조회와 같습니다.
+ * 전체 크기는 max-bytes 로 제한하고, 넘으면 가장 오래 쓰이지 않은 채팅부터 버립니다 (LRU).
+ * DB 에서 채우는 동안 같은 채팅에 전송/삭제가 있었으면 (버전 비교) 채운 결과를 보관하지 않습니다.
+ * 항목에는 발신자 프로필(agoraId, 이름, 이미지)도 들어 있으므로 프로필이 바뀌면 그 사용자가 참여한 채팅을 비웁니다.
+ * 노드 로컬 버퍼는 local-ttl 동안만 믿습니다 (다른 노드에서 일어난 전송/삭제/프로필 변경이 늦게 보일 수 있는 최대 시간).
+ * <p>
+ * redis-mirror 를 켜면 채팅별 목록을 Redis(chat:recent:{chatId})에도 두어 여러 노드가 공유하고, local-ttl 이 지나면 Redis 에서 다시 채웁니다.
+ * Redis 오류 시에는 REDIS_RETRY_NANOS 동안 Redis 없이 노드 로컬 버퍼와 DB 만 사용합니다.
+ * 조회 결과(hyfata.chat.recent_cache.requests: hit, miss, bypass)와 사용 중인 크기(hyfata.chat.recent_cache.bytes)를 메트릭으로 남깁니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RecentMessageCache {
+
+    private static final String KEY_PREFIX = "chat:recent:";
+    private static final String VERSION_SUFFIX = ":v";
+    private static final String REQUESTS_METRIC = "hyfata.chat.recent_cache.requests";
+    private static final int ENTRY_OVERHEAD_BYTES = 48;
+    private static final int VERSION_STRIPES = 256;
+    private static final long REDIS_RETRY_NANOS = TimeUnit.SECONDS.toNanos(5);
+
+    /**
+     * KEYS[1]: 목록, KEYS[2]: 버전, ARGV[1]: 메시지 ID, ARGV[2]: 항목, ARGV[3]: 최대 개수, ARGV[4]: TTL(초)
+     * 버전을 올리고, 목록이 있을 때만 (같은 메시지가 없으면) 앞에 추가한다. 항목은 "메시지 ID|JSON" 형식이다.
+     */
+    private static final RedisScript<Long> APPEND_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('INCR', KEYS[2])
+            redis.call('EXPIRE', KEYS[2], ARGV[4])
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return 0
+            end
+            local prefix = ARGV[1] .. '|'
+            for _, entry in ipairs(redis.call('LRANGE', KEYS[1], 0, -1)) do
+                if string.sub(entry, 1, #prefix) == prefix then
+                    return 0
+                end
+            end
+            redis.call('LPUSH', KEYS[1], prefix .. ARGV[2])
+            redis.call('LTRIM', KEYS[1], 0, tonumber(ARGV[3]) - 1)
+            redis.call('EXPIRE', KEYS[1], ARGV[4])
+            return 1
+            """, Long.class);
+
+    /**
+     * KEYS[1]: 목록, KEYS[2]: 버전, ARGV[1]: TTL(초)
+     */
+    private static final RedisScript<Long> EVICT_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('INCR', KEYS[2])
+            redis.call('EXPIRE', KEYS[2], ARGV[1])
+            return redis.call('DEL', KEYS[1])
+            """, Long.class);
+
+    /**
+     * KEYS[1]: 목록, KEYS[2]: 버전, ARGV[1]: DB 조회 전에 읽은 버전 (없으면 빈 문자열), ARGV[2]: TTL(초), ARGV[3..]: 항목 (최신순)
+     * DB 를 읽는 동안 다른 노드에서 전송/삭제가 없었을 때만 목록을 채운다.
+     */
+    private static final RedisScript<Long> FILL_SCRIPT = new DefaultRedisScript<>("""
+            if (redis.call('GET', KEYS[2]) or '') ~= ARGV[1] then
+                return 0
+            end
+            redis.call('DEL', KEYS[1])
+            if #ARGV > 2 then
+                redis.call('RPUSH', KEYS[1], unpack(ARGV, 3))
+                redis.call('EXPIRE', KEYS[1], ARGV[2])
+            end
+            return 1
+            """, Long.class);
+
+    private final MessageHistoryService messageHistoryService;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${chat.recent-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${chat.recent-cache.messages-per-chat:50}")
+    private int capacity;
+
+    @Value("${chat.recent-cache.max-bytes:64MB}")
+    private DataSize maxBytes;
+
+    @Value("${chat.recent-cache.redis-mirror:false}")
+    private boolean redisMirror;
+
+    @Value("${chat.recent-cache.local-ttl:2s}")
+    private Duration localTtl;
+
+    @Value("${chat.recent-cache.redis-ttl:1h}")
+    private Duration redisTtl;
+
+    private final Map<Long, Ring> rings = new LinkedHashMap<>(256, 0.75f, true);
+    private long totalBytes;
+
+    // 채팅 ID 줄무늬별 변경 횟수 (DB 에서 채우는 동안 변경이 있었는지 확인)
+    private final AtomicLongArray versions = new AtomicLongArray(VERSION_STRIPES);
+    // Long.MIN_VALUE 로 시작하면 now - redisRetryAt 이 넘쳐 Redis 를 한 번도 부르지 않으므로 생성 시각으로 시작
+    private volatile long redisRetryAt = System.nanoTime();
+
+    @PostConstruct
+    void init() {
+        Gauge.builder("hyfata.chat.recent_cache.bytes", this, RecentMessageCache::totalBytes)
+                .description("Serialized bytes held by the recent message cache")
+                .register(meterRegistry);
+        Gauge.builder("hyfata.chat.recent_cache.chats", this, RecentMessageCache::chatCount)
+                .description("Chats held by the recent message cache")
+                .register(meterRegistry);
+    }
+
+    /**
+     * userId 에게 보이는 최신 메시지 limit 개 (최신순, 캐시에 없으면 DB 에서 채움)
+     */
+    public List<MessageDto> getLatest(Long chatId, Long userId, int limit) {
+        if (!enabled || limit > capacity) {
+            record("bypass");
+            return messageHistoryService.getPage(userId, chatId, MessageCursor.LATEST, limit);
+        }
+
+        Ring ring;
+        List<byte[]> cached = null;
+        synchronized (rings) {
+            ring = rings.get(chatId);
+            if (ring != null && System.nanoTime() - ring.loadedAt > localTtl.toNanos()) {
+                remove(chatId);
+                ring = null;
+            }
+            if (ring != null) {
+                cached = ring.latest(userId, limit);
+            }
+        }
+        if (cached != null) {
+            record("hit");
+            return deserialize(cached);
+        }
+        if (ring != null) {
+            // 최근 메시지 대부분이 다른 사용자 전용이라 버퍼만으로 한 페이지를 채울 수 없는 경우
+            record("bypass");
+            return messageHistoryService.getPage(userId, chatId, MessageCursor.LATEST, limit);
+        }
+
+        record("miss");
+        List<byte[]> loaded = load(chatId).latest(userId, limit);
+        if (loaded == null) {
+            return messageHistoryService.getPage(userId, chatId, MessageCursor.LATEST, limit);
+        }
+        return deserialize(loaded);
+    }
+
+    /**
+     * 전송된 메시지를 커밋 후 추가 (트랜잭션 밖이면 즉시)
+     *
+     * @param privateOnlyUserId 이 사용자에게만 보이는 메시지면 사용자 ID, 아니면 null
+     */
+    public void messageSent(Long chatId, Long privateOnlyUserId, MessageDto message) {
+        if (enabled) {
+            afterCommit(() -> append(chatId, new VisibleMessage(privateOnlyUserId, message)));
+        }
+    }
+
+    /**
+     * 메시지가 삭제/수정된 채팅을 커밋 후 비운다 (트랜잭션 밖이면 즉시)
+     */
+    public void messagesChanged(Long chatId) {
+        if (enabled) {
+            afterCommit(() -> evict(chatId));
+        }
+    }
+
+    /**
+     * 발신자 프로필이 바뀐 사용자의 채팅들을 커밋 후 비운다 (트랜잭션 밖이면 즉시)
+     *
+     * @param chatIds 그 사용자가 참여한 채팅 ID
+     */
+    public void senderProfileChanged(Collection<Long> chatIds) {
+        if (enabled && !chatIds.isEmpty()) {
+            List<Long> snapshot = List.copyOf(chatIds);
+            afterCommit(() -> snapshot.forEach(this::evict));
+        }
+    }
+
+    public long totalBytes() {
+        synchronized (rings) {
+            return totalBytes;
+        }
+    }
+
+    public int chatCount() {
+        synchronized (rings) {
+            return rings.size();
+        }
+    }
+
+    private void append(Long chatId, VisibleMessage visible) {
+        byte[] payload = serialize(visible);
+        long messageId = visible.message().getMessageId();
+        versions.incrementAndGet(stripe(chatId));
+        synchronized (rings) {
+            Ring ring = rings.get(chatId);
+            if (ring != null) {
+                totalBytes += ring.push(messageId, visible.privateOnlyUserId(), payload);
+                evictOverBudget();
+            }
+        }
+        redis(() -> redisTemplate.execute(APPEND_SCRIPT, keys(chatId), String.valueOf(messageId),
+                new String(payload, StandardCharsets.UTF_8), String.valueOf(capacity), redisTtlSeconds()));
+    }
+
+    private void evict(Long chatId) {
+        versions.incrementAndGet(stripe(chatId));
+        synchronized (rings) {
+            remove(chatId);
+        }
+        redis(() -> redisTemplate.execute(EVICT_SCRIPT, keys(chatId), redisTtlSeconds()));
+    }
+
+    /**
+     * Redis 목록 또는 DB 에서 링 버퍼를 채우고, 그동안 변경이 없었으면 보관
+     */
+    private Ring load(Long chatId) {
+        long version = versions.get(stripe(chatId));
+        Ring ring = new Ring(capacity, System.nanoTime());
+
+        List<String> mirrored = redis(() -> redisTemplate.opsForList().range(KEY_PREFIX + chatId, 0, capacity - 1));
+        if (mirrored != null && !mirrored.isEmpty()) {
+            for (int i = mirrored.size() - 1; i >= 0; i--) {
+                String entry = mirrored.get(i);
+                String json = entry.substring(entry.indexOf('|') + 1);
+                VisibleMessage visible = readVisible(json);
+                ring.push(visible.message().getMessageId(), visible.privateOnlyUserId(),
+                        json.getBytes(StandardCharsets.UTF_8));
+            }
+        } else {
+            String redisVersion = redis(() -> redisTemplate.opsForValue().get(KEY_PREFIX + chatId + VERSION_SUFFIX));
+            List<VisibleMessage> latest = messageHistoryService.getLatestForAll(chatId, capacity);
+            List<String> entries = new ArrayList<>(latest.size() + 2);
+            entries.add(redisVersion != null ? redisVersion : "");
+            entries.add(redisTtlSeconds());
+            for (int i = latest.size() - 1; i >= 0; i--) {
+                VisibleMessage visible = latest.get(i);
+                ring.push(visible.message().getMessageId(), visible.privateOnlyUserId(), serialize(visible));
+            }
+            for (VisibleMessage visible : latest) {
+                entries.add(visible.message().getMessageId() + "|" + new String(serialize(visible), StandardCharsets.UTF_8));
+            }
+            redis(() -> redisTemplate.execute(FILL_SCRIPT, keys(chatId), entries.toArray()));
+        }
+
+        synchronized (rings) {
+            if (versions.get(stripe(chatId)) == version) {
+                remove(chatId);
+                rings.put(chatId, ring);
+                totalBytes += ring.bytes;
+                evictOverBudget();
+            }
+        }
+        return ring;
+    }
+
+    /**
+     * 예산을 넘으면 가장 오래 쓰이지 않은 채팅부터 버린다 (rings 잠금 안에서 호출)
+     */
+    private void evictOverBudget() {
+        Iterator<Ring> iterator = rings.values().iterator();
+        while (totalBytes > maxBytes.toBytes() && iterator.hasNext()) {
+            totalBytes -= iterator.next().bytes;
+            iterator.remove();
+        }
+    }
+
+    private void remove(Long chatId) {
+        Ring removed = rings.remove(chatId);
+        if (removed != null) {
+            totalBytes -= removed.bytes;
+        }
+    }
+
+    /**
+     * Redis 미러 호출 (미러가 꺼져 있거나 최근 오류로 쉬는 중이면 호출하지 않고 null)
+     */
+    private <T> T redis(Supplier<T> call) {
+        if (!redisMirror) {
+            return null;
+        }
+        long now = System.nanoTime();
+        if (now - redisRetryAt < 0) {
+            return null;
+        }
+        try {
+            return call.get();
+        } catch (Exception e) {
+            redisRetryAt = now + REDIS_RETRY_NANOS;
+            log.warn("Recent message cache Redis call failed, using node-local cache: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private List<String> keys(Long chatId) {
+        return List.of(KEY_PREFIX + chatId, KEY_PREFIX + chatId + VERSION_SUFFIX);
+    }
+
+    private String redisTtlSeconds() {
+        return String.valueOf(redisTtl.toSeconds());
+    }
+
+    private static int stripe(Long chatId) {
+        return Math.floorMod(Long.hashCode(chatId), VERSION_STRIPES);
+    }
+
+    private byte[] serialize(VisibleMessage visible) {
+        try {
+            return objectMapper.writeValueAsBytes(visible);
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to serialize cached message", e);
+        }
+    }
+
+    private VisibleMessage readVisible(String json) {
+        try {
+            return objectMapper.readValue(json, VisibleMessage.class);
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to deserialize cached message", e);
+        }
+    }
+
+    private List<MessageDto> deserialize(List<byte[]> payloads) {
+        List<MessageDto> messages = new ArrayList<>(payloads.size());
+        try {
+            for (byte[] payload : payloads) {
+                messages.add(objectMapper.readValue(payload, VisibleMessage.class).message());
+            }
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to deserialize cached message", e);
+        }
+        return messages;
+    }
+
+    private void record(String result) {
+        meterRegistry.counter(REQUESTS_METRIC, "result", result).increment();
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * 채팅 하나의 최근 메시지 링 버퍼 (rings 잠금 안에서만 접근, 채우는 동안에는 한 스레드만 접근)
+     */
+    private static final class Ring {
+
+        private final long[] messageIds;
+        private final Long[] privateOnlyUserIds;
+        private final byte[][] payloads;
+        private final long loadedAt;
+        private int head;
+        private int size;
+        private long bytes;
+
+        private Ring(int capacity, long loadedAt) {
+            this.messageIds = new long[capacity];
+            this.privateOnlyUserIds = new Long[capacity];
+            this.payloads = new byte[capacity][];
+            this.loadedAt = loadedAt;
+        }
+
+        /**
+         * 가장 새 메시지로 추가 (이미 있는 메시지면 무시, 가득 차 있으면 가장 오래된 메시지를 덮어씀)
+         *
+         * @return 늘어난 바이트 수
+         */
+        private long push(long messageId, Long privateOnlyUserId, byte[] payload) {
+            for (int i = 0; i < size; i++) {
+                if (messageIds[i] == messageId) {
+                    return 0;
+                }
+            }
+            long delta = weight(payload);
+            if (size == payloads.length) {
+                delta -= weight(payloads[head]);
+            } else {
+                size++;
+            }
+            messageIds[head] = messageId;
+            privateOnlyUserIds[head] = privateOnlyUserId;
+            payloads[head] = payload;
+            head = (head + 1) % payloads.length;
+            bytes += delta;
+            return delta;
+        }
+
+        /**
+         * userId 에게 보이는 최신 메시지 최대 limit 개 (최신순)
+         *
+         * @return 버퍼가 가득 차 있는데 limit 개를 못 채우면 (더 오래된 메시지가 DB 에 있을 수 있으므로) null
+         */
+        private List<byte[]> latest(Long userId, int limit) {
+            List<byte[]> result = new ArrayList<>(Math.min(limit, size));
+            for (int i = 1; i <= size && result.size() < limit; i++) {
+                int index = Math.floorMod(head - i, payloads.length);
+                Long owner = privateOnlyUserIds[index];
+                if (owner == null || owner.equals(userId)) {
+                    result.add(payloads[index]);
+                }
+            }
+            if (result.size() < limit && size == payloads.length) {
+                return null;
+            }
+            return result;
+        }
+
+        private static long weight(byte[] payload) {
+            return payload.length + ENTRY_OVERHEAD_BYTES;
+        }
+    }
+}
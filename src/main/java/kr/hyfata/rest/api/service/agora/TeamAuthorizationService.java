@@ -0,0 +1,231 @@
+package kr.hyfata.rest.api.service.agora;
+
+import kr.hyfata.rest.api.event.TeamMemberEvent;
+import kr.hyfata.rest.api.repository.UserRepository;
+import kr.hyfata.rest.api.repository.agora.TeamMemberRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 팀 멤버십/권한 확인 캐시
+ * <p>
+ * 팀 부가 기능(공지/할일/일정/팀 프로필)은 호출마다 사용자 조회, 팀 조회, 멤버 여부 확인을 반복했습니다.
+ * 이 컴포넌트는 (사용자, 팀) → 역할/권한을 크기 제한(LRU)과 TTL을 두어 캐시하고,
+ * 멤버가 아닌 경우는 짧은 negative-ttl 동안만 캐시하여 반복 조회를 막습니다 (다른 노드에서 막 추가된 멤버가 오래 거부되지 않도록).
+ * 멤버 추가/제거({@link TeamMemberEvent}), 역할 변경, 팀 삭제 시 커밋 후 무효화되고,
+ * 무효화는 Redis 채널(team:auth:evict)로 다른 노드에도 전달됩니다 (수신은 RedisConfig 의 리스너 컨테이너).
+ * Redis 로 전달하지 못하면 다른 노드의 캐시는 TTL 이 지날 때까지 남습니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TeamAuthorizationService {
+
+    public static final String EVICT_CHANNEL = "team:auth:evict";
+
+    private final UserRepository userRepository;
+    private final TeamMemberRepository teamMemberRepository;
+    private final StringRedisTemplate redisTemplate;
+
+    @Value("${team.authorization-cache.max-size:20000}")
+    private int maxSize;
+
+    @Value("${team.authorization-cache.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    @Value("${team.authorization-cache.negative-ttl-seconds:5}")
+    private long negativeTtlSeconds;
+
+    private final Map<String, CachedUserId> userIds = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CachedUserId> eldest) {
+            return size() > maxSize;
+        }
+    };
+
+    private final Map<Key, CachedMembership> memberships = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, CachedMembership> eldest) {
+            return size() > maxSize;
+        }
+    };
+
+    /**
+     * 이메일 사용자의 팀 멤버십 조회 (사용자가 없거나 멤버가 아니면 empty)
+     */
+    public Optional<TeamMembership> findMembership(String userEmail, Long teamId) {
+        return resolveUserId(userEmail).flatMap(userId -> findMembership(userId, teamId));
+    }
+
+    /**
+     * 사용자의 팀 멤버십 조회 (멤버가 아니면 empty)
+     */
+    public Optional<TeamMembership> findMembership(Long userId, Long teamId) {
+        Key key = new Key(userId, teamId);
+        long now = System.currentTimeMillis();
+
+        synchronized (memberships) {
+            CachedMembership cached = memberships.get(key);
+            if (cached != null && cached.expiresAt > now) {
+                return Optional.ofNullable(cached.membership);
+            }
+        }
+
+        List<Object[]> rows = teamMemberRepository.findMembershipRow(teamId, userId);
+        TeamMembership membership = rows.isEmpty() ? null : new TeamMembership(userId, teamId,
+                (Long) rows.get(0)[0], (String) rows.get(0)[1], (String) rows.get(0)[2]);
+
+        long ttlMillis = (membership != null ? ttlSeconds : negativeTtlSeconds) * 1000;
+        synchronized (memberships) {
+            memberships.put(key, new CachedMembership(membership, now + ttlMillis));
+        }
+        return Optional.ofNullable(membership);
+    }
+
+    public boolean isMember(Long userId, Long teamId) {
+        return findMembership(userId, teamId).isPresent();
+    }
+
+    /**
+     * 이메일 → 사용자 ID (이메일은 변경되지 않으므로 TTL 동안 캐시)
+     */
+    public Optional<Long> resolveUserId(String userEmail) {
+        long now = System.currentTimeMillis();
+        synchronized (userIds) {
+            CachedUserId cached = userIds.get(userEmail);
+            if (cached != null && cached.expiresAt > now) {
+                return Optional.of(cached.userId);
+            }
+        }
+
+        Optional<Long> userId = userRepository.findIdByEmail(userEmail);
+        userId.ifPresent(id -> {
+            synchronized (userIds) {
+                userIds.put(userEmail, new CachedUserId(id, now + ttlSeconds * 1000));
+            }
+        });
+        return userId;
+    }
+
+    /**
+     * 멤버십 무효화 (역할 변경 등, 트랜잭션 커밋 후 모든 노드에 적용)
+     */
+    public void evict(Long teamId, Long userId) {
+        afterCommit(() -> {
+            evictLocal(teamId, userId);
+            publish(teamId + ":" + userId);
+        });
+    }
+
+    /**
+     * 팀 전체 무효화 (팀 삭제 등, 트랜잭션 커밋 후 모든 노드에 적용)
+     */
+    public void evictTeam(Long teamId) {
+        afterCommit(() -> {
+            evictLocal(teamId, null);
+            publish(String.valueOf(teamId));
+        });
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTeamMemberChanged(TeamMemberEvent event) {
+        evictLocal(event.getTeamId(), event.getUserId());
+        publish(event.getTeamId() + ":" + event.getUserId());
+    }
+
+    /**
+     * 다른 노드(또는 이 노드)가 보낸 무효화 메시지 적용 ("팀ID:사용자ID" 또는 팀 전체면 "팀ID")
+     */
+    public void onRemoteEviction(String message) {
+        try {
+            int separator = message.indexOf(':');
+            if (separator < 0) {
+                evictLocal(Long.valueOf(message), null);
+            } else {
+                evictLocal(Long.valueOf(message.substring(0, separator)), Long.valueOf(message.substring(separator + 1)));
+            }
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring malformed team authorization eviction: {}", message);
+        }
+    }
+
+    private void evictLocal(Long teamId, Long userId) {
+        synchronized (memberships) {
+            if (userId != null) {
+                memberships.remove(new Key(userId, teamId));
+            } else {
+                memberships.keySet().removeIf(key -> key.teamId.equals(teamId));
+            }
+        }
+    }
+
+    private void publish(String message) {
+        try {
+            redisTemplate.convertAndSend(EVICT_CHANNEL, message);
+        } catch (Exception e) {
+            log.warn("Failed to publish team authorization eviction {}, other nodes expire it by TTL: {}",
+                    message, e.getMessage());
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private record Key(Long userId, Long teamId) {
+    }
+
+    private record CachedUserId(Long userId, long expiresAt) {
+    }
+
+    private record CachedMembership(TeamMembership membership, long expiresAt) {
+    }
+
+    /**
+     * 팀 멤버십 정보
+     *
+     * @param creatorUserId 팀 생성자 (관리자) ID
+     * @param roleName      역할 이름 (역할이 없으면 null)
+     * @param permissions   쉼표로 구분된 권한 목록 ("all"이면 전체 권한)
+     */
+    public record TeamMembership(Long userId, Long teamId, Long creatorUserId, String roleName, String permissions) {
+
+        public boolean isCreator() {
+            return userId.equals(creatorUserId);
+        }
+
+        public boolean hasPermission(String permission) {
+            if (isCreator()) {
+                return true;
+            }
+            if (permissions == null || permissions.isBlank()) {
+                return false;
+            }
+            return Arrays.stream(permissions.split(","))
+                    .map(String::trim)
+                    .anyMatch(p -> p.equals("all") || p.equals(permission));
+        }
+    }
+}
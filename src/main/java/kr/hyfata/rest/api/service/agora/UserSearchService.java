@@ -0,0 +1,131 @@
+package kr.hyfata.rest.api.service.agora;
+
+import kr.hyfata.rest.api.dto.agora.PublicAgoraProfileResponse;
+import kr.hyfata.rest.api.entity.agora.AgoraUserProfile;
+import kr.hyfata.rest.api.util.SearchTextUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 사용자 검색
+ * <p>
+ * agoraId 는 lower(agora_id), 표시 이름은 정규화된 search_name 에 대해 검색합니다 (SearchTextUtil).
+ * 검색어가 3글자 이상이면 pg_trgm GIN 인덱스로 부분 일치를, 더 짧으면 text_pattern_ops 인덱스로 접두어 일치만 찾으므로
+ * 사용자 수가 늘어도 테이블 전체를 읽지 않습니다.
+ * 결과는 정확히 일치 > 접두어 일치 > 부분 일치 순, 같은 순위 안에서는 agoraId 순이며 (순위, agoraId) 키셋으로 페이지를 넘깁니다.
+ * <p>
+ * 검색한 사용자 본인, 어느 한쪽이라도 차단한 사용자는 제외합니다.
+ * 프로필 공개 범위가 NONE 인 사용자는 agoraId 를 정확히 입력했을 때만 나오고,
+ * PUBLIC 이 아니면 친구가 아닌 사용자에게 소개(bio)를, 생일 공개 범위에 맞지 않으면 생일을 숨깁니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class UserSearchService {
+
+    /**
+     * 트라이그램 인덱스로 부분 일치를 찾을 수 있는 최소 검색어 길이
+     */
+    private static final int MIN_INFIX_LENGTH = 3;
+
+    private static final String SEARCH_SQL =
+            "SELECT * FROM (" +
+            "SELECT p.id, p.agora_id, p.display_name, p.profile_image, p.bio, p.birthday, " +
+            "COALESCE(s.profile_visibility, 'FRIENDS') AS profile_visibility, " +
+            "COALESCE(s.birthday_visibility, 'FRIENDS') AS birthday_visibility, " +
+            "EXISTS (SELECT 1 FROM friends f WHERE f.user_id = p.id AND f.friend_id = :userId) AS is_friend, " +
+            "CASE WHEN lower(p.agora_id) = :agoraId OR p.search_name = :name THEN 0 " +
+            "WHEN lower(p.agora_id) LIKE :agoraIdPrefix OR p.search_name LIKE :namePrefix THEN 1 " +
+            "ELSE 2 END AS match_rank " +
+            "FROM agora_user_profiles p " +
+            "LEFT JOIN user_settings s ON s.user_id = p.id " +
+            "WHERE (lower(p.agora_id) LIKE :agoraIdPattern OR p.search_name LIKE :namePattern) " +
+            "AND p.id <> :userId " +
+            "AND (COALESCE(s.profile_visibility, 'FRIENDS') <> 'NONE' OR lower(p.agora_id) = :agoraId) " +
+            "AND NOT EXISTS (SELECT 1 FROM blocked_users b " +
+            "WHERE (b.user_id = :userId AND b.blocked_user_id = p.id) " +
+            "OR (b.user_id = p.id AND b.blocked_user_id = :userId))" +
+            ") r %s ORDER BY r.match_rank, lower(r.agora_id) LIMIT :limit";
+
+    private static final String AFTER_CURSOR = "WHERE (r.match_rank, lower(r.agora_id)) > (:cursorRank, :cursorAgoraId)";
+
+    private static final RowMapper<PublicAgoraProfileResponse> ROW_MAPPER = (rs, rowNum) -> {
+        boolean isFriend = rs.getBoolean("is_friend");
+        boolean showBio = isFriend || "PUBLIC".equals(rs.getString("profile_visibility"));
+        String birthdayVisibility = rs.getString("birthday_visibility");
+        boolean showBirthday = "PUBLIC".equals(birthdayVisibility) || (isFriend && "FRIENDS".equals(birthdayVisibility));
+        return PublicAgoraProfileResponse.builder()
+                .userId(rs.getLong("id"))
+                .agoraId(rs.getString("agora_id"))
+                .displayName(rs.getString("display_name"))
+                .profileImage(rs.getString("profile_image"))
+                .bio(showBio ? rs.getString("bio") : null)
+                .birthday(showBirthday ? rs.getObject("birthday", LocalDate.class) : null)
+                .build();
+    };
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * @param userId 검색하는 사용자 ID
+     * @param after  이전 페이지의 마지막 프로필 (첫 페이지면 null)
+     */
+    public List<PublicAgoraProfileResponse> search(Long userId, String keyword, AgoraUserProfile after, int limit) {
+        Query query = Query.of(keyword);
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("agoraId", query.agoraId())
+                .addValue("name", query.name())
+                .addValue("agoraIdPrefix", SearchTextUtil.escapeLike(query.agoraId()) + "%")
+                .addValue("namePrefix", SearchTextUtil.escapeLike(query.name()) + "%")
+                .addValue("agoraIdPattern", query.pattern(query.agoraId()))
+                .addValue("namePattern", query.pattern(query.name()))
+                .addValue("limit", limit);
+
+        String cursorCondition = "";
+        if (after != null) {
+            cursorCondition = AFTER_CURSOR;
+            params.addValue("cursorRank", query.rank(after))
+                    .addValue("cursorAgoraId", SearchTextUtil.normalizeAgoraId(after.getAgoraId()));
+        }
+        return jdbcTemplate.query(String.format(SEARCH_SQL, cursorCondition), params, ROW_MAPPER);
+    }
+
+    /**
+     * 정규화된 검색어
+     */
+    record Query(String agoraId, String name) {
+
+        static Query of(String keyword) {
+            return new Query(SearchTextUtil.normalizeAgoraId(keyword), SearchTextUtil.normalizeName(keyword));
+        }
+
+        /**
+         * 짧은 검색어는 부분 일치 대신 접두어 일치 (트라이그램을 만들 수 없어 인덱스를 못 타므로)
+         */
+        String pattern(String text) {
+            String escaped = SearchTextUtil.escapeLike(text);
+            return text.length() >= MIN_INFIX_LENGTH ? "%" + escaped + "%" : escaped + "%";
+        }
+
+        /**
+         * SEARCH_SQL 의 match_rank 와 같은 규칙
+         */
+        int rank(AgoraUserProfile profile) {
+            String profileAgoraId = SearchTextUtil.normalizeAgoraId(profile.getAgoraId());
+            String profileName = profile.getSearchName();
+            if (profileAgoraId.equals(agoraId) || profileName.equals(name)) {
+                return 0;
+            }
+            if (profileAgoraId.startsWith(agoraId) || profileName.startsWith(name)) {
+                return 1;
+            }
+            return 2;
+        }
+    }
+}
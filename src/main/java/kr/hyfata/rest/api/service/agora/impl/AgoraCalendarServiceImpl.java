@@ -0,0 +1,86 @@
+package kr.hyfata.rest.api.service.agora.impl;
+
+import kr.hyfata.rest.api.dto.agora.team.CalendarOccurrence;
+import kr.hyfata.rest.api.entity.User;
+import kr.hyfata.rest.api.entity.agora.Event;
+import kr.hyfata.rest.api.repository.UserRepository;
+import kr.hyfata.rest.api.repository.agora.EventRepository;
+import kr.hyfata.rest.api.service.agora.AgoraCalendarService;
+import kr.hyfata.rest.api.util.RecurrenceUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class AgoraCalendarServiceImpl implements AgoraCalendarService {
+
+    private static final int MAX_WINDOW_DAYS = 366;
+    private static final int MAX_OCCURRENCES_PER_EVENT = 1000;
+
+    private final UserRepository userRepository;
+    private final EventRepository eventRepository;
+
+    @Override
+    public List<CalendarOccurrence> getOccurrences(String userEmail, LocalDate from, LocalDate to) {
+        User user = findUserByEmail(userEmail);
+
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("종료일은 시작일 이후여야 합니다");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_WINDOW_DAYS) {
+            throw new IllegalArgumentException("조회 기간은 최대 " + MAX_WINDOW_DAYS + "일입니다");
+        }
+
+        LocalDateTime windowStart = from.atStartOfDay();
+        LocalDateTime windowEnd = to.plusDays(1).atStartOfDay();
+
+        List<CalendarOccurrence> occurrences = new ArrayList<>();
+        for (EventRepository.CalendarEventRow row : eventRepository.findCalendarEvents(user.getId(), windowStart, windowEnd)) {
+            Event.Recurrence recurrence = row.getRecurrence() != null
+                    ? Event.Recurrence.valueOf(row.getRecurrence())
+                    : Event.Recurrence.NONE;
+            Duration duration = Duration.between(row.getStartTime(), row.getEndTime());
+
+            // 반복 일정은 조회 구간 안의 발생만 펼친다
+            List<LocalDateTime> starts = RecurrenceUtil.expand(recurrence, row.getRecurrenceInterval(),
+                    row.getStartTime(), row.getEndTime(), row.getRecurrenceUntil(),
+                    windowStart, windowEnd, MAX_OCCURRENCES_PER_EVENT);
+
+            for (LocalDateTime start : starts) {
+                occurrences.add(CalendarOccurrence.builder()
+                        .eventId(row.getEventId())
+                        .teamId(row.getTeamId())
+                        .teamName(row.getTeamName())
+                        .createdByEmail(row.getCreatedByEmail())
+                        .title(row.getTitle())
+                        .location(row.getLocation())
+                        .startTime(start)
+                        .endTime(duration.isNegative() ? start : start.plus(duration))
+                        .isAllDay(row.getIsAllDay())
+                        .isRecurring(recurrence != Event.Recurrence.NONE)
+                        .build());
+            }
+        }
+
+        occurrences.sort(Comparator.comparing(CalendarOccurrence::getStartTime)
+                .thenComparing(CalendarOccurrence::getEventId));
+        return occurrences;
+    }
+
+    private User findUserByEmail(String userEmail) {
+        return userRepository.findByEmail(userEmail)
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다"));
+    }
+}
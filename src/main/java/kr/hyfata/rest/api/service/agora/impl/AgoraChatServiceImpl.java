@@ -5,7 +5,9 @@ import kr.hyfata.rest.api.dto.agora.chat.ChatListResponse;
 import kr.hyfata.rest.api.dto.agora.chat.CreateChatRequest;
 import kr.hyfata.rest.api.dto.agora.chat.CreateDirectChatRequest;
 import kr.hyfata.rest.api.dto.agora.chat.CreateGroupChatRequest;
+import kr.hyfata.rest.api.dto.agora.chat.MessageCursor;
 import kr.hyfata.rest.api.dto.agora.chat.MessageDto;
+import kr.hyfata.rest.api.dto.agora.chat.MessageSearchResult;
 import kr.hyfata.rest.api.dto.agora.chat.ParticipantProfile;
 import kr.hyfata.rest.api.dto.agora.chat.SendMessageRequest;
 import kr.hyfata.rest.api.entity.User;
@@ -16,6 +18,7 @@ import kr.hyfata.rest.api.entity.agora.MessageReadStatus;
 import kr.hyfata.rest.api.entity.agora.AgoraUserProfile;
 import kr.hyfata.rest.api.entity.agora.Team;
 import kr.hyfata.rest.api.entity.agora.TeamProfile;
+import kr.hyfata.rest.api.event.NotificationEvent;
 import kr.hyfata.rest.api.repository.UserRepository;
 import kr.hyfata.rest.api.repository.agora.AgoraUserProfileRepository;
 import kr.hyfata.rest.api.repository.agora.ChatRepository;
@@ -24,18 +27,26 @@ import kr.hyfata.rest.api.repository.agora.MessageRepository;
 import kr.hyfata.rest.api.repository.agora.MessageReadStatusRepository;
 import kr.hyfata.rest.api.repository.agora.TeamRepository;
 import kr.hyfata.rest.api.repository.agora.TeamProfileRepository;
+import kr.hyfata.rest.api.service.DataRetentionService;
 import kr.hyfata.rest.api.service.agora.AgoraChatService;
+import kr.hyfata.rest.api.service.agora.ChatParticipantWriter;
+import kr.hyfata.rest.api.service.agora.MessageHistoryService;
+import kr.hyfata.rest.api.service.agora.MessageSearchService;
+import kr.hyfata.rest.api.service.agora.RecentMessageCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -44,6 +55,9 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class AgoraChatServiceImpl implements AgoraChatService {
 
+    private static final int MAX_SEARCH_SIZE = 50;
+    private static final int MAX_MESSAGE_PAGE_SIZE = 100;
+
     private final UserRepository userRepository;
     private final AgoraUserProfileRepository agoraUserProfileRepository;
     private final ChatRepository chatRepository;
@@ -52,29 +66,48 @@ public class AgoraChatServiceImpl implements AgoraChatService {
     private final MessageReadStatusRepository messageReadStatusRepository;
     private final TeamRepository teamRepository;
     private final TeamProfileRepository teamProfileRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ChatParticipantWriter chatParticipantWriter;
+    private final MessageSearchService messageSearchService;
+    private final MessageHistoryService messageHistoryService;
+    private final RecentMessageCache recentMessageCache;
+    private final DataRetentionService dataRetentionService;
 
     @Override
     public List<ChatListResponse> getChatList(String userEmail) {
         User user = findUserByEmail(userEmail);
         List<Chat> chats = chatRepository.findChatsByUserId(user.getId());
+        if (chats.isEmpty()) {
+            return List.of();
+        }
+
+        // 채팅마다 조회하지 않고 참여자 수, 마지막 메시지, 내 참여 정보, 발신자 프로필을 한 번씩 모아서 조회
+        List<Long> chatIds = chats.stream().map(Chat::getId).collect(Collectors.toList());
+        Map<Long, Long> participantCounts = chatParticipantRepository.countByChatIds(chatIds).stream()
+                .collect(Collectors.toMap(row -> (Long) row[0], row -> (Long) row[1]));
+        Map<Long, Message> lastMessages = messageRepository.findLatestByChatIds(chatIds).stream()
+                .collect(Collectors.toMap(message -> message.getChat().getId(), Function.identity()));
+        Map<Long, ChatParticipant> myParticipants = chatParticipantRepository
+                .findByUser_IdOrderByIsPinnedDescPinnedAtDesc(user.getId()).stream()
+                .collect(Collectors.toMap(participant -> participant.getChat().getId(), Function.identity(),
+                        (first, second) -> first));
+        Map<Long, AgoraUserProfile> senderProfiles = findProfilesByIds(lastMessages.values().stream()
+                .map(message -> message.getSender().getId())
+                .collect(Collectors.toSet()));
 
         return chats.stream()
                 .map(chat -> {
-                    Long participantCount = chatParticipantRepository.countByChat_Id(chat.getId());
-                    List<Message> messages = messageRepository.findByChat_IdOrderByIdDesc(chat.getId(), PageRequest.of(0, 1));
-                    Message lastMessage = messages.isEmpty() ? null : messages.get(0);
+                    Message lastMessage = lastMessages.get(chat.getId());
+                    AgoraUserProfile senderProfile = lastMessage != null
+                            ? senderProfiles.get(lastMessage.getSender().getId())
+                            : null;
 
-                    AgoraUserProfile senderProfile = null;
-                    if (lastMessage != null) {
-                        senderProfile = agoraUserProfileRepository.findById(lastMessage.getSender().getId()).orElse(null);
-                    }
-
-                    ChatParticipant chatParticipant = chatParticipantRepository.findByChat_IdAndUser_Id(chat.getId(), user.getId())
-                            .orElse(null);
+                    ChatParticipant chatParticipant = myParticipants.get(chat.getId());
                     Boolean isPinned = chatParticipant != null ? chatParticipant.getIsPinned() : false;
                     java.time.LocalDateTime pinnedAt = chatParticipant != null ? chatParticipant.getPinnedAt() : null;
 
-                    return ChatListResponse.from(chat, lastMessage, participantCount, isPinned, pinnedAt, senderProfile);
+                    return ChatListResponse.from(chat, lastMessage, participantCounts.getOrDefault(chat.getId(), 0L),
+                            isPinned, pinnedAt, senderProfile);
                 })
                 .collect(Collectors.toList());
     }
@@ -140,7 +173,7 @@ public class AgoraChatServiceImpl implements AgoraChatService {
     }
 
     @Override
-    public List<MessageDto> getMessages(String userEmail, Long chatId, Long cursor, int limit) {
+    public List<MessageDto> getMessages(String userEmail, Long chatId, MessageCursor cursor, int limit) {
         User user = findUserByEmail(userEmail);
 
         // Verify user is participant
@@ -148,22 +181,48 @@ public class AgoraChatServiceImpl implements AgoraChatService {
             throw new IllegalStateException("User is not a participant of this chat");
         }
 
-        Pageable pageable = PageRequest.of(0, limit);
-        List<Message> messages;
+        // 최신 페이지는 최근 메시지 캐시에서 (활성 채팅은 메시지 조회 없이)
+        if (cursor.direction() == MessageCursor.Direction.LATEST) {
+            return recentMessageCache.getLatest(chatId, user.getId(), clampMessageLimit(limit));
+        }
+        return messageHistoryService.getPage(user.getId(), chatId, cursor, clampMessageLimit(limit));
+    }
+
+    private int clampMessageLimit(int limit) {
+        return Math.min(Math.max(limit, 1), MAX_MESSAGE_PAGE_SIZE);
+    }
 
-        if (cursor == null) {
-            messages = messageRepository.findByChat_IdOrderByIdDesc(chatId, pageable);
-        } else {
-            messages = messageRepository.findByChat_IdAndIdLessThanOrderByIdDesc(chatId, cursor, pageable);
+    /**
+     * 프로필을 한 번에 조회해 사용자 ID 로 찾을 수 있게 (메시지/채팅마다 조회하지 않도록)
+     */
+    private Map<Long, AgoraUserProfile> findProfilesByIds(Set<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return Map.of();
         }
+        return agoraUserProfileRepository.findAllById(userIds).stream()
+                .collect(Collectors.toMap(AgoraUserProfile::getId, Function.identity()));
+    }
 
-        return messages.stream()
-                .map(message -> {
-                    AgoraUserProfile senderProfile = agoraUserProfileRepository.findById(message.getSender().getId())
-                            .orElse(null);
-                    return MessageDto.from(message, senderProfile);
-                })
-                .collect(Collectors.toList());
+    @Override
+    public List<MessageSearchResult> searchMessages(String userEmail, Long chatId, String keyword, Long cursor, int limit) {
+        User user = findUserByEmail(userEmail);
+
+        // Verify user is participant
+        if (!chatParticipantRepository.existsByChat_IdAndUser_Id(chatId, user.getId())) {
+            throw new IllegalStateException("User is not a participant of this chat");
+        }
+
+        return messageSearchService.searchInChat(user.getId(), chatId, keyword, cursor, clampSearchLimit(limit));
+    }
+
+    @Override
+    public List<MessageSearchResult> searchAllMessages(String userEmail, String keyword, Long cursor, int limit) {
+        User user = findUserByEmail(userEmail);
+        return messageSearchService.searchAllChats(user.getId(), keyword, cursor, clampSearchLimit(limit));
+    }
+
+    private int clampSearchLimit(int limit) {
+        return Math.min(Math.max(limit, 1), MAX_SEARCH_SIZE);
     }
 
     @Override
@@ -188,11 +247,20 @@ public class AgoraChatServiceImpl implements AgoraChatService {
             }
         }
 
+        // 답장 대상은 같은 채팅의 메시지만 허용
+        Message replyTo = null;
+        if (request.getReplyToId() != null) {
+            replyTo = messageRepository.findById(request.getReplyToId())
+                    .filter(target -> target.getChat().getId().equals(chatId))
+                    .orElseThrow(() -> new IllegalArgumentException("Reply target not found"));
+        }
+
         Message message = Message.builder()
                 .chat(chat)
                 .sender(sender)
                 .content(request.getContent())
                 .type(messageType)
+                .replyTo(replyTo)
                 .build();
 
         Message savedMessage = messageRepository.save(message);
@@ -209,7 +277,18 @@ public class AgoraChatServiceImpl implements AgoraChatService {
         messageReadStatusRepository.save(readStatus);
 
         AgoraUserProfile senderProfile = agoraUserProfileRepository.findById(sender.getId()).orElse(null);
-        return MessageDto.from(savedMessage, senderProfile);
+
+        // 다른 참여자에게 알림 (커밋 후 처리)
+        List<Long> recipientIds = chatParticipantRepository.findUserIdsByChatId(chatId).stream()
+                .filter(userId -> !userId.equals(sender.getId()))
+                .collect(Collectors.toList());
+        eventPublisher.publishEvent(NotificationEvent.message(this, recipientIds,
+                senderProfile != null ? senderProfile.getDisplayName() : "Unknown", savedMessage.getContent(), chatId));
+
+        MessageDto response = MessageDto.from(savedMessage, senderProfile);
+        recentMessageCache.messageSent(chatId,
+                savedMessage.getPrivateOnlyUser() != null ? savedMessage.getPrivateOnlyUser().getId() : null, response);
+        return response;
     }
 
     @Override
@@ -227,6 +306,7 @@ public class AgoraChatServiceImpl implements AgoraChatService {
 
         // Soft delete
         messageRepository.softDeleteById(messageId);
+        recentMessageCache.messagesChanged(message.getChat().getId());
 
         return "Message deleted";
     }
@@ -241,18 +321,17 @@ public class AgoraChatServiceImpl implements AgoraChatService {
             throw new IllegalStateException("User is not a participant of this chat");
         }
 
-        // Get all messages in chat that haven't been read by user
-        List<Message> messages = messageRepository.findByChat_IdOrderByIdDesc(chatId, PageRequest.of(0, Integer.MAX_VALUE));
-
-        for (Message message : messages) {
-            if (!messageReadStatusRepository.existsByMessage_IdAndUser_Id(message.getId(), user.getId())) {
-                MessageReadStatus readStatus = MessageReadStatus.builder()
-                        .message(message)
+        // 아직 읽지 않은 메시지 ID만 조회한 뒤 읽음 상태를 배치로 저장 (시퀀스 ID라 INSERT가 묶임)
+        // 보존 기간이 지난 메시지는 읽음 상태를 다시 만들지 않는다 (정리된 행이 되살아나지 않도록)
+        List<MessageReadStatus> readStatuses = messageReadStatusRepository.findUnreadMessageIds(chatId, user.getId(),
+                        dataRetentionService.messageReadStatusCutoff())
+                .stream()
+                .map(messageId -> MessageReadStatus.builder()
+                        .message(messageRepository.getReferenceById(messageId))
                         .user(user)
-                        .build();
-                messageReadStatusRepository.save(readStatus);
-            }
-        }
+                        .build())
+                .collect(Collectors.toList());
+        messageReadStatusRepository.saveAll(readStatuses);
 
         return "Chat marked as read";
     }
@@ -354,45 +433,21 @@ public class AgoraChatServiceImpl implements AgoraChatService {
                 .readEnabled(true)
                 .build();
 
-        Chat savedChat = chatRepository.save(chat);
-
-        // 생성자를 ADMIN으로 추가
-        chatParticipantRepository.save(ChatParticipant.builder()
-                .chat(savedChat)
-                .user(creator)
-                .role(ChatParticipant.Role.ADMIN)
-                .build());
+        // 참여자는 JDBC 로 추가하므로 chats 행을 먼저 INSERT (시퀀스 ID 는 flush 전까지 INSERT 를 미룸)
+        Chat savedChat = chatRepository.saveAndFlush(chat);
 
-        // 멤버 추가 (agoraId로)
+        // 멤버 확인 (agoraId, userId 각각 IN 쿼리 한 번, 없는 사용자는 제외)
+        Set<Long> memberIds = new LinkedHashSet<>();
         if (request.getMemberAgoraIds() != null && !request.getMemberAgoraIds().isEmpty()) {
-            for (String agoraId : request.getMemberAgoraIds()) {
-                AgoraUserProfile profile = agoraUserProfileRepository.findByAgoraId(agoraId).orElse(null);
-                if (profile != null && !profile.getUser().getId().equals(creator.getId())) {
-                    chatParticipantRepository.save(ChatParticipant.builder()
-                            .chat(savedChat)
-                            .user(profile.getUser())
-                            .role(ChatParticipant.Role.MEMBER)
-                            .build());
-                }
-            }
+            memberIds.addAll(agoraUserProfileRepository.findUserIdsByAgoraIdIn(request.getMemberAgoraIds()));
         }
-
-        // 멤버 추가 (userId로)
         if (request.getMemberUserIds() != null && !request.getMemberUserIds().isEmpty()) {
-            for (Long userId : request.getMemberUserIds()) {
-                if (!userId.equals(creator.getId())) {
-                    User user = userRepository.findById(userId).orElse(null);
-                    if (user != null) {
-                        chatParticipantRepository.save(ChatParticipant.builder()
-                                .chat(savedChat)
-                                .user(user)
-                                .role(ChatParticipant.Role.MEMBER)
-                                .build());
-                    }
-                }
-            }
+            memberIds.addAll(userRepository.findExistingIds(request.getMemberUserIds()));
         }
 
+        // 생성자(ADMIN)와 멤버를 한 번의 배치로 추가
+        chatParticipantWriter.addParticipants(savedChat.getId(), creator.getId(), memberIds);
+
         return convertToResponse(savedChat, creator.getId());
     }
 
@@ -420,20 +475,11 @@ public class AgoraChatServiceImpl implements AgoraChatService {
                 .readEnabled(true)
                 .build();
 
-        Chat savedChat = chatRepository.save(chat);
+        // 참여자는 JDBC 로 추가하므로 chats 행을 먼저 INSERT (시퀀스 ID 는 flush 전까지 INSERT 를 미룸)
+        Chat savedChat = chatRepository.saveAndFlush(chat);
 
-        // 팀 멤버들을 채팅 참여자로 추가
-        for (var member : team.getMembers()) {
-            ChatParticipant.Role role = member.getUser().getId().equals(creatorUserId)
-                    ? ChatParticipant.Role.ADMIN
-                    : ChatParticipant.Role.MEMBER;
-
-            chatParticipantRepository.save(ChatParticipant.builder()
-                    .chat(savedChat)
-                    .user(member.getUser())
-                    .role(role)
-                    .build());
-        }
+        // 팀 멤버 전체를 INSERT ... SELECT 한 문장으로 채팅 참여자로 추가
+        chatParticipantWriter.addTeamMembers(savedChat.getId(), teamId, creatorUserId);
 
         return convertToResponse(savedChat, creatorUserId);
     }
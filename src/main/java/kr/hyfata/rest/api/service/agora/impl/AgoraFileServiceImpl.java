@@ -1,5 +1,8 @@
 package kr.hyfata.rest.api.service.agora.impl;
 
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import kr.hyfata.rest.api.config.FileStorageConfig;
 import kr.hyfata.rest.api.dto.agora.FileUploadResponse;
 import kr.hyfata.rest.api.entity.User;
@@ -22,7 +25,13 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.UUID;
+import java.util.function.Supplier;
 
+/**
+ * 파일 업로드/조회
+ * 업로드 시간과 크기(hyfata.file.upload, hyfata.file.upload.size / kind: file, image)와
+ * 파일 조회 시간(hyfata.file.serve / result: found, missing)을 메트릭으로 남긴다.
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -31,9 +40,14 @@ public class AgoraFileServiceImpl implements AgoraFileService {
 
     private final UserRepository userRepository;
     private final AgoraFileRepository agoraFileRepository;
+    private final MeterRegistry meterRegistry;
 
     @Override
     public FileUploadResponse uploadFile(String userEmail, MultipartFile file) {
+        return timedUpload("file", file, () -> store(userEmail, file));
+    }
+
+    private FileUploadResponse store(String userEmail, MultipartFile file) {
         User user = findUser(userEmail);
 
         if (file.isEmpty()) {
@@ -49,7 +63,7 @@ public class AgoraFileServiceImpl implements AgoraFileService {
             throw new IllegalArgumentException("파일 크기가 너무 큽니다");
         }
 
-        AgoraFile.FileType fileType = determineFileType(mimeType);
+        AgoraFile.FileType fileType = AgoraFile.FileType.fromMimeType(mimeType);
         String fileName = UUID.randomUUID() + "_" + file.getOriginalFilename();
         Path uploadPath = FileStorageConfig.getUploadPath().resolve(fileName);
 
@@ -77,7 +91,11 @@ public class AgoraFileServiceImpl implements AgoraFileService {
 
     @Override
     public FileUploadResponse uploadImage(String userEmail, MultipartFile file) {
-        FileUploadResponse response = uploadFile(userEmail, file);
+        return timedUpload("image", file, () -> storeImage(userEmail, file));
+    }
+
+    private FileUploadResponse storeImage(String userEmail, MultipartFile file) {
+        FileUploadResponse response = store(userEmail, file);
 
         // 썸네일 생성
         try {
@@ -135,36 +153,50 @@ public class AgoraFileServiceImpl implements AgoraFileService {
         return "파일이 삭제되었습니다";
     }
 
+    /**
+     * 업로드 시간(성공/실패 모두)과 성공한 업로드의 크기 기록
+     */
+    private FileUploadResponse timedUpload(String kind, MultipartFile file, Supplier<FileUploadResponse> upload) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            FileUploadResponse response = upload.get();
+            outcome = "success";
+            DistributionSummary.builder("hyfata.file.upload.size")
+                    .baseUnit("bytes")
+                    .tag("kind", kind)
+                    .register(meterRegistry)
+                    .record(file.getSize());
+            return response;
+        } finally {
+            sample.stop(meterRegistry.timer("hyfata.file.upload", "kind", kind, "outcome", outcome));
+        }
+    }
+
     private User findUser(String userEmail) {
         return userRepository.findByEmail(userEmail)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다"));
     }
 
-    private AgoraFile.FileType determineFileType(String mimeType) {
-        if (mimeType.startsWith("image/")) {
-            return AgoraFile.FileType.IMAGE;
-        } else if (mimeType.startsWith("video/")) {
-            return AgoraFile.FileType.VIDEO;
-        } else if (mimeType.contains("pdf") || mimeType.contains("document")) {
-            return AgoraFile.FileType.DOCUMENT;
-        }
-        return AgoraFile.FileType.OTHER;
-    }
-
     @Override
     @Transactional(readOnly = true)
     public Resource loadFileAsResource(String fileName) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String result = "missing";
         try {
             Path filePath = FileStorageConfig.getUploadPath().resolve(fileName).normalize();
             Resource resource = new UrlResource(filePath.toUri());
 
             if (resource.exists() && resource.isReadable()) {
+                result = "found";
                 return resource;
             } else {
                 throw new RuntimeException("파일을 찾을 수 없습니다: " + fileName);
             }
         } catch (MalformedURLException e) {
             throw new RuntimeException("파일을 찾을 수 없습니다: " + fileName, e);
+        } finally {
+            sample.stop(meterRegistry.timer("hyfata.file.serve", "result", result));
         }
     }
 }
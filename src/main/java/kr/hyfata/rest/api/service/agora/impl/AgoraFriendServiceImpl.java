@@ -1,5 +1,6 @@
 package kr.hyfata.rest.api.service.agora.impl;
 
+import kr.hyfata.rest.api.dto.agora.friend.FriendBirthdayResponse;
 import kr.hyfata.rest.api.dto.agora.friend.FriendRequestResponse;
 import kr.hyfata.rest.api.dto.agora.friend.FriendResponse;
 import kr.hyfata.rest.api.entity.User;
@@ -7,20 +8,26 @@ import kr.hyfata.rest.api.entity.agora.AgoraUserProfile;
 import kr.hyfata.rest.api.entity.agora.BlockedUser;
 import kr.hyfata.rest.api.entity.agora.Friend;
 import kr.hyfata.rest.api.entity.agora.FriendRequest;
+import kr.hyfata.rest.api.event.NotificationEvent;
 import kr.hyfata.rest.api.repository.UserRepository;
 import kr.hyfata.rest.api.repository.agora.AgoraUserProfileRepository;
 import kr.hyfata.rest.api.repository.agora.BlockedUserRepository;
 import kr.hyfata.rest.api.repository.agora.FriendRepository;
 import kr.hyfata.rest.api.repository.agora.FriendRequestRepository;
 import kr.hyfata.rest.api.service.agora.AgoraFriendService;
+import kr.hyfata.rest.api.service.agora.BirthdayDigestService;
+import kr.hyfata.rest.api.service.agora.FriendGraphCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
-import java.time.Month;
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -34,17 +41,20 @@ public class AgoraFriendServiceImpl implements AgoraFriendService {
     private final FriendRepository friendRepository;
     private final FriendRequestRepository friendRequestRepository;
     private final BlockedUserRepository blockedUserRepository;
+    private final FriendGraphCache friendGraphCache;
+    private final BirthdayDigestService birthdayDigestService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public List<FriendResponse> getFriendList(String userEmail) {
         User user = findUserByEmail(userEmail);
-        return friendRepository.findByUser_IdOrderByIsFavoriteDescCreatedAtDesc(user.getId())
-                .stream()
-                .map(friend -> {
-                    AgoraUserProfile profile = agoraUserProfileRepository.findById(friend.getFriend().getId())
-                            .orElse(null);
-                    return FriendResponse.from(friend, profile);
-                })
+        List<Friend> friends = friendRepository.findByUser_IdOrderByIsFavoriteDescCreatedAtDesc(user.getId());
+        Map<Long, AgoraUserProfile> profiles = findProfiles(friends.stream()
+                .map(friend -> friend.getFriend().getId())
+                .collect(Collectors.toList()));
+
+        return friends.stream()
+                .map(friend -> FriendResponse.from(friend, profiles.get(friend.getFriend().getId())))
                 .collect(Collectors.toList());
     }
 
@@ -59,6 +69,7 @@ public class AgoraFriendServiceImpl implements AgoraFriendService {
         User toUser = targetProfile.getUser();
 
         // Check if already friends
+        // 쓰기 경로의 검사는 캐시 대신 DB 로 (다른 노드의 삭제/차단이 캐시에 늦게 반영될 수 있음)
         if (friendRepository.existsByUser_IdAndFriend_Id(fromUser.getId(), toUser.getId())) {
             throw new IllegalStateException("Already friends with this user");
         }
@@ -83,20 +94,25 @@ public class AgoraFriendServiceImpl implements AgoraFriendService {
         FriendRequest saved = friendRequestRepository.save(friendRequest);
         AgoraUserProfile fromUserProfile = agoraUserProfileRepository.findById(fromUser.getId())
                 .orElse(null);
+
+        eventPublisher.publishEvent(NotificationEvent.friendRequest(this, toUser.getId(),
+                fromUserProfile != null ? fromUserProfile.getDisplayName() : "Unknown", fromUser.getId()));
+
         return FriendRequestResponse.from(saved, fromUserProfile);
     }
 
     @Override
     public List<FriendRequestResponse> getReceivedFriendRequests(String userEmail) {
         User user = findUserByEmail(userEmail);
-        return friendRequestRepository.findByToUser_IdAndStatusOrderByCreatedAtDesc(
-                user.getId(), FriendRequest.Status.PENDING)
-                .stream()
-                .map(friendRequest -> {
-                    AgoraUserProfile fromUserProfile = agoraUserProfileRepository.findById(friendRequest.getFromUser().getId())
-                            .orElse(null);
-                    return FriendRequestResponse.from(friendRequest, fromUserProfile);
-                })
+        List<FriendRequest> requests = friendRequestRepository.findByToUser_IdAndStatusOrderByCreatedAtDesc(
+                user.getId(), FriendRequest.Status.PENDING);
+        Map<Long, AgoraUserProfile> profiles = findProfiles(requests.stream()
+                .map(friendRequest -> friendRequest.getFromUser().getId())
+                .collect(Collectors.toList()));
+
+        return requests.stream()
+                .map(friendRequest -> FriendRequestResponse.from(friendRequest,
+                        profiles.get(friendRequest.getFromUser().getId())))
                 .collect(Collectors.toList());
     }
 
@@ -113,12 +129,15 @@ public class AgoraFriendServiceImpl implements AgoraFriendService {
             throw new IllegalStateException("You cannot accept this friend request");
         }
 
+        User fromUser = friendRequest.getFromUser();
+        if (friendRepository.existsByUser_IdAndFriend_Id(toUser.getId(), fromUser.getId())) {
+            throw new IllegalStateException("Already friends with this user");
+        }
+
         // Update request status
         friendRequest.setStatus(FriendRequest.Status.ACCEPTED);
         friendRequestRepository.save(friendRequest);
 
-        User fromUser = friendRequest.getFromUser();
-
         // Create bidirectional friendship
         Friend friend1 = Friend.builder()
                 .user(toUser)
@@ -134,6 +153,7 @@ public class AgoraFriendServiceImpl implements AgoraFriendService {
 
         friendRepository.save(friend1);
         friendRepository.save(friend2);
+        friendGraphCache.friendshipCreated(toUser.getId(), fromUser.getId());
 
         AgoraUserProfile fromUserProfile = agoraUserProfileRepository.findById(fromUser.getId())
                 .orElse(null);
@@ -167,6 +187,7 @@ public class AgoraFriendServiceImpl implements AgoraFriendService {
         // Delete both directions of friendship
         friendRepository.deleteByUser_IdAndFriend_Id(user.getId(), friendId);
         friendRepository.deleteByUser_IdAndFriend_Id(friendId, user.getId());
+        friendGraphCache.friendshipDeleted(user.getId(), friendId);
 
         return "Friend deleted";
     }
@@ -226,6 +247,7 @@ public class AgoraFriendServiceImpl implements AgoraFriendService {
                 .build();
 
         blockedUserRepository.save(blockedUser);
+        friendGraphCache.userBlocked(user.getId(), targetUserId);
         return "User blocked";
     }
 
@@ -235,6 +257,7 @@ public class AgoraFriendServiceImpl implements AgoraFriendService {
         User user = findUserByEmail(userEmail);
 
         blockedUserRepository.deleteByUser_IdAndBlockedUser_Id(user.getId(), blockedUserId);
+        friendGraphCache.userUnblocked(user.getId(), blockedUserId);
         return "User unblocked";
     }
 
@@ -242,12 +265,15 @@ public class AgoraFriendServiceImpl implements AgoraFriendService {
     public List<FriendResponse> getBlockedUserList(String userEmail) {
         User user = findUserByEmail(userEmail);
 
-        return blockedUserRepository.findByUser_IdOrderByCreatedAtDesc(user.getId())
-                .stream()
+        List<BlockedUser> blockedUsers = blockedUserRepository.findByUser_IdOrderByCreatedAtDesc(user.getId());
+        Map<Long, AgoraUserProfile> profiles = findProfiles(blockedUsers.stream()
+                .map(blockedUser -> blockedUser.getBlockedUser().getId())
+                .collect(Collectors.toList()));
+
+        return blockedUsers.stream()
                 .map(blockedUser -> {
                     Long blockedUserId = blockedUser.getBlockedUser().getId();
-                    AgoraUserProfile profile = agoraUserProfileRepository.findById(blockedUserId)
-                            .orElse(null);
+                    AgoraUserProfile profile = profiles.get(blockedUserId);
                     return FriendResponse.builder()
                             .friendId(blockedUserId)
                             .agoraId(profile != null ? profile.getAgoraId() : "")
@@ -261,37 +287,17 @@ public class AgoraFriendServiceImpl implements AgoraFriendService {
     }
 
     @Override
-    public List<FriendResponse> getFriendBirthdayList(String userEmail) {
+    public List<FriendBirthdayResponse> getFriendBirthdayList(String userEmail) {
         User user = findUserByEmail(userEmail);
-        LocalDateTime now = LocalDateTime.now();
-        Month currentMonth = now.getMonth();
-        int currentDay = now.getDayOfMonth();
-
-        return friendRepository.findByUser_IdOrderByIsFavoriteDescCreatedAtDesc(user.getId())
-                .stream()
-                .filter(friend -> {
-                    AgoraUserProfile profile = agoraUserProfileRepository.findById(friend.getFriend().getId())
-                            .orElse(null);
-                    if (profile == null || profile.getBirthday() == null) {
-                        return false;
-                    }
-                    Month birthMonth = profile.getBirthday().getMonth();
-                    int birthDay = profile.getBirthday().getDayOfMonth();
-                    // Check if birthday is today or in the next 7 days
-                    if (birthMonth == currentMonth) {
-                        return birthDay >= currentDay && birthDay < currentDay + 7;
-                    } else if (birthMonth == currentMonth.plus(1)) {
-                        int daysInMonth = currentMonth.length(false);
-                        return birthDay < (7 - (daysInMonth - currentDay));
-                    }
-                    return false;
-                })
-                .map(friend -> {
-                    AgoraUserProfile profile = agoraUserProfileRepository.findById(friend.getFriend().getId())
-                            .orElse(null);
-                    return FriendResponse.from(friend, profile);
-                })
-                .collect(Collectors.toList());
+        return birthdayDigestService.getUpcomingBirthdays(user.getId(), LocalDate.now());
+    }
+
+    /**
+     * 프로필 일괄 조회 (사용자 ID → 프로필, 프로필이 없는 사용자는 제외)
+     */
+    private Map<Long, AgoraUserProfile> findProfiles(Collection<Long> userIds) {
+        return agoraUserProfileRepository.findAllById(userIds).stream()
+                .collect(Collectors.toMap(AgoraUserProfile::getId, Function.identity()));
     }
 
     private User findUserByEmail(String userEmail) {
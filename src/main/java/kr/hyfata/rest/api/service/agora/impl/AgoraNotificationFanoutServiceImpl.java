@@ -0,0 +1,92 @@
+package kr.hyfata.rest.api.service.agora.impl;
+
+import kr.hyfata.rest.api.event.NotificationEvent;
+import kr.hyfata.rest.api.service.FCMService;
+import kr.hyfata.rest.api.service.agora.AgoraNotificationFanoutService;
+import kr.hyfata.rest.api.service.agora.NotificationCounterService;
+import kr.hyfata.rest.api.service.agora.NotificationPreferenceCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AgoraNotificationFanoutServiceImpl implements AgoraNotificationFanoutService {
+
+    private static final String INSERT_NOTIFICATION_SQL =
+            "INSERT INTO notifications (id, user_id, type, title, content, related_id, related_type, is_read, created_at) " +
+            "VALUES (nextval('notifications_seq'), ?, ?, ?, ?, ?, ?, false, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NotificationPreferenceCache notificationPreferenceCache;
+    private final FCMService fcmService;
+    private final NotificationCounterService notificationCounterService;
+
+    @Override
+    @Transactional
+    public int fanout(NotificationEvent event) {
+        Set<Long> recipients = new LinkedHashSet<>(event.getRecipientUserIds());
+        if (recipients.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, NotificationPreferenceCache.Preference> preferences = notificationPreferenceCache.getAll(recipients);
+        LocalTime now = LocalTime.now();
+
+        List<Long> inboxRecipients = new ArrayList<>();
+        List<Long> pushRecipients = new ArrayList<>();
+        for (Long userId : recipients) {
+            NotificationPreferenceCache.Preference preference = preferences.get(userId);
+            if (!preference.allows(event.getCategory())) {
+                continue;
+            }
+            inboxRecipients.add(userId);
+            if (preference.pushEnabled() && !preference.isDoNotDisturb(now)) {
+                pushRecipients.add(userId);
+            }
+        }
+
+        if (inboxRecipients.isEmpty()) {
+            return 0;
+        }
+
+        // 수신자 전체를 하나의 JDBC 배치로 저장
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now());
+        String type = event.getCategory().name();
+        jdbcTemplate.batchUpdate(INSERT_NOTIFICATION_SQL, inboxRecipients, inboxRecipients.size(), (ps, userId) -> {
+            ps.setLong(1, userId);
+            ps.setString(2, type);
+            ps.setString(3, event.getTitle());
+            ps.setString(4, event.getContent());
+            ps.setObject(5, event.getRelatedId());
+            ps.setString(6, event.getRelatedType());
+            ps.setTimestamp(7, createdAt);
+        });
+        notificationCounterService.onNotificationsCreated(inboxRecipients);
+
+        if (!pushRecipients.isEmpty()) {
+            Map<String, String> data = Map.of(
+                    "type", type,
+                    "relatedId", String.valueOf(event.getRelatedId()),
+                    "relatedType", String.valueOf(event.getRelatedType())
+            );
+            fcmService.sendNotificationToMultipleUsers(pushRecipients, event.getTitle(), event.getContent(), data);
+        }
+
+        log.debug("Notification fan-out {}: {} recipients, {} stored, {} pushed",
+                type, recipients.size(), inboxRecipients.size(), pushRecipients.size());
+        return inboxRecipients.size();
+    }
+}
@@ -9,6 +9,7 @@ import kr.hyfata.rest.api.repository.UserRepository;
 import kr.hyfata.rest.api.repository.agora.NotificationRepository;
 import kr.hyfata.rest.api.repository.agora.FcmTokenRepository;
 import kr.hyfata.rest.api.service.agora.AgoraNotificationService;
+import kr.hyfata.rest.api.service.agora.NotificationCounterService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
@@ -28,6 +29,7 @@ public class AgoraNotificationServiceImpl implements AgoraNotificationService {
     private final UserRepository userRepository;
     private final NotificationRepository notificationRepository;
     private final FcmTokenRepository fcmTokenRepository;
+    private final NotificationCounterService notificationCounterService;
 
     @Override
     public List<NotificationResponse> getNotifications(String userEmail) {
@@ -45,7 +47,7 @@ public class AgoraNotificationServiceImpl implements AgoraNotificationService {
     @Override
     public long getUnreadCount(String userEmail) {
         User user = findUserByEmail(userEmail);
-        return notificationRepository.countByUser_IdAndIsReadFalse(user.getId());
+        return notificationCounterService.getUnreadCount(user.getId());
     }
 
     @Override
@@ -61,10 +63,13 @@ public class AgoraNotificationServiceImpl implements AgoraNotificationService {
             throw new IllegalStateException("You don't have permission to update this notification");
         }
 
+        // 조건부 UPDATE로 처리하여 동시에 읽음 처리해도 카운터는 한 번만 감소
+        if (notificationRepository.markAsReadIfUnread(notificationId) > 0) {
+            notificationCounterService.onUnreadRemoved(user.getId(), userEmail);
+        }
         notification.setIsRead(true);
-        Notification updated = notificationRepository.save(notification);
 
-        return NotificationResponse.from(updated);
+        return NotificationResponse.from(notification);
     }
 
     @Override
@@ -72,13 +77,9 @@ public class AgoraNotificationServiceImpl implements AgoraNotificationService {
     public String markAllAsRead(String userEmail) {
         User user = findUserByEmail(userEmail);
 
-        List<Notification> unreadNotifications = notificationRepository.findByUser_IdAndIsReadFalseOrderByCreatedAtDesc(user.getId());
-
-        for (Notification notification : unreadNotifications) {
-            notification.setIsRead(true);
-        }
-
-        notificationRepository.saveAll(unreadNotifications);
+        // 엔티티를 읽지 않고 단일 UPDATE로 처리
+        int marked = notificationRepository.markAllAsReadByUserId(user.getId());
+        notificationCounterService.onAllRead(user.getId(), userEmail, marked);
 
         return "All notifications marked as read";
     }
@@ -96,7 +97,12 @@ public class AgoraNotificationServiceImpl implements AgoraNotificationService {
             throw new IllegalStateException("You don't have permission to delete this notification");
         }
 
-        notificationRepository.deleteById(notificationId);
+        // 삭제 시점에 읽지 않은 상태였던 경우에만 카운터 감소
+        if (notificationRepository.deleteIfUnread(notificationId) > 0) {
+            notificationCounterService.onUnreadRemoved(user.getId(), userEmail);
+        } else {
+            notificationRepository.deleteById(notificationId);
+        }
         return "Notification deleted";
     }
 
@@ -8,22 +8,30 @@ import kr.hyfata.rest.api.entity.User;
 import kr.hyfata.rest.api.entity.agora.AgoraUserProfile;
 import kr.hyfata.rest.api.repository.UserRepository;
 import kr.hyfata.rest.api.repository.agora.AgoraUserProfileRepository;
+import kr.hyfata.rest.api.repository.agora.ChatParticipantRepository;
 import kr.hyfata.rest.api.service.agora.AgoraProfileService;
+import kr.hyfata.rest.api.service.agora.RecentMessageCache;
+import kr.hyfata.rest.api.service.agora.UserSearchService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
 @Transactional(readOnly = true)
 public class AgoraProfileServiceImpl implements AgoraProfileService {
 
+    private static final int MAX_SEARCH_SIZE = 50;
+
     private final UserRepository userRepository;
     private final AgoraUserProfileRepository agoraUserProfileRepository;
+    private final UserSearchService userSearchService;
+    private final ChatParticipantRepository chatParticipantRepository;
+    private final RecentMessageCache recentMessageCache;
 
     @Override
     public AgoraProfileResponse getMyProfile(String userEmail) {
@@ -60,6 +68,7 @@ public class AgoraProfileServiceImpl implements AgoraProfileService {
                 .build();
 
         AgoraUserProfile saved = agoraUserProfileRepository.save(profile);
+        senderProfileChanged(user.getId());
         return AgoraProfileResponse.from(saved);
     }
 
@@ -72,6 +81,7 @@ public class AgoraProfileServiceImpl implements AgoraProfileService {
         AgoraUserProfile profile = agoraUserProfileRepository.findById(user.getId())
                 .orElseThrow(() -> new IllegalStateException("Agora profile not found. Please create a profile first."));
 
+        boolean senderChanged = false;
         if (request.getAgoraId() != null) {
             String newAgoraId = request.getAgoraId();
             if (!newAgoraId.equals(profile.getAgoraId())) {
@@ -79,13 +89,16 @@ public class AgoraProfileServiceImpl implements AgoraProfileService {
                     throw new IllegalArgumentException("agoraId already taken");
                 }
                 profile.setAgoraId(newAgoraId);
+                senderChanged = true;
             }
         }
-        if (request.getDisplayName() != null) {
+        if (request.getDisplayName() != null && !request.getDisplayName().equals(profile.getDisplayName())) {
             profile.setDisplayName(request.getDisplayName());
+            senderChanged = true;
         }
-        if (request.getProfileImage() != null) {
+        if (request.getProfileImage() != null && !request.getProfileImage().equals(profile.getProfileImage())) {
             profile.setProfileImage(request.getProfileImage());
+            senderChanged = true;
         }
         if (request.getBio() != null) {
             profile.setBio(request.getBio());
@@ -96,6 +109,9 @@ public class AgoraProfileServiceImpl implements AgoraProfileService {
         if (request.getBirthday() != null) {
             profile.setBirthday(request.getBirthday());
         }
+        if (senderChanged) {
+            senderProfileChanged(user.getId());
+        }
 
         return AgoraProfileResponse.from(profile);
     }
@@ -108,10 +124,20 @@ public class AgoraProfileServiceImpl implements AgoraProfileService {
     }
 
     @Override
-    public Page<PublicAgoraProfileResponse> searchUsers(String keyword, Pageable pageable) {
-        return agoraUserProfileRepository.findByAgoraIdContainingIgnoreCaseOrDisplayNameContainingIgnoreCase(
-                keyword, keyword, pageable
-        ).map(PublicAgoraProfileResponse::from);
+    public List<PublicAgoraProfileResponse> searchUsers(String userEmail, String keyword, String cursor, int limit) {
+        User user = userRepository.findByEmail(userEmail)
+                .orElseThrow(() -> new IllegalArgumentException("User not found"));
+
+        if (keyword == null || keyword.isBlank()) {
+            throw new IllegalArgumentException("Search keyword must not be blank");
+        }
+
+        AgoraUserProfile after = null;
+        if (cursor != null) {
+            after = agoraUserProfileRepository.findByAgoraId(cursor)
+                    .orElseThrow(() -> new IllegalArgumentException("Invalid cursor: " + cursor));
+        }
+        return userSearchService.search(user.getId(), keyword, after, Math.min(Math.max(limit, 1), MAX_SEARCH_SIZE));
     }
 
     @Override
@@ -125,6 +151,7 @@ public class AgoraProfileServiceImpl implements AgoraProfileService {
 
         profile.setProfileImage(imageUrl);
         agoraUserProfileRepository.save(profile);
+        senderProfileChanged(user.getId());
 
         return AgoraProfileResponse.from(profile);
     }
@@ -133,4 +160,11 @@ public class AgoraProfileServiceImpl implements AgoraProfileService {
     public boolean checkAgoraIdExists(String agoraId) {
         return agoraUserProfileRepository.existsByAgoraId(agoraId);
     }
+
+    /**
+     * 최근 메시지 캐시에 남은 이전 발신자 프로필을 비운다
+     */
+    private void senderProfileChanged(Long userId) {
+        recentMessageCache.senderProfileChanged(chatParticipantRepository.findChatIdsByUserId(userId));
+    }
 }
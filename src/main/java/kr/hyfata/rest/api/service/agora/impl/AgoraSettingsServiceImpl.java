@@ -10,8 +10,10 @@ import kr.hyfata.rest.api.entity.agora.UserSettings;
 import kr.hyfata.rest.api.repository.UserRepository;
 import kr.hyfata.rest.api.repository.agora.UserSettingsRepository;
 import kr.hyfata.rest.api.service.agora.AgoraSettingsService;
+import kr.hyfata.rest.api.service.agora.NotificationPreferenceCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,6 +25,10 @@ public class AgoraSettingsServiceImpl implements AgoraSettingsService {
 
     private final UserRepository userRepository;
     private final UserSettingsRepository userSettingsRepository;
+    private final NotificationPreferenceCache notificationPreferenceCache;
+
+    @Value("${birthday.reminder.max-days-before:30}")
+    private int maxBirthdayReminderDaysBefore;
 
     @Override
     public NotificationSettingsResponse getNotificationSettings(String userEmail) {
@@ -78,6 +84,7 @@ public class AgoraSettingsServiceImpl implements AgoraSettingsService {
         }
 
         UserSettings updated = userSettingsRepository.save(settings);
+        notificationPreferenceCache.evict(user.getId());
         return NotificationSettingsResponse.from(updated);
     }
 
@@ -137,6 +144,11 @@ public class AgoraSettingsServiceImpl implements AgoraSettingsService {
         }
 
         if (request.getBirthdayReminderDaysBefore() != null) {
+            int daysBefore = request.getBirthdayReminderDaysBefore();
+            if (daysBefore < 1 || daysBefore > maxBirthdayReminderDaysBefore) {
+                throw new IllegalArgumentException(
+                        "생일 알림은 1~" + maxBirthdayReminderDaysBefore + "일 전까지만 설정할 수 있습니다");
+            }
             settings.setBirthdayReminderDaysBefore(request.getBirthdayReminderDaysBefore());
         }
 
@@ -3,19 +3,25 @@ package kr.hyfata.rest.api.service.agora.impl;
 import kr.hyfata.rest.api.dto.agora.team.EventResponse;
 import kr.hyfata.rest.api.dto.agora.team.CreateEventRequest;
 import kr.hyfata.rest.api.dto.agora.team.UpdateEventRequest;
-import kr.hyfata.rest.api.entity.User;
 import kr.hyfata.rest.api.entity.agora.Team;
 import kr.hyfata.rest.api.entity.agora.Event;
+import kr.hyfata.rest.api.event.NotificationEvent;
 import kr.hyfata.rest.api.repository.UserRepository;
 import kr.hyfata.rest.api.repository.agora.TeamRepository;
 import kr.hyfata.rest.api.repository.agora.EventRepository;
 import kr.hyfata.rest.api.repository.agora.TeamMemberRepository;
 import kr.hyfata.rest.api.service.agora.AgoraTeamEventService;
+import kr.hyfata.rest.api.service.agora.TeamAuthorizationService;
+import kr.hyfata.rest.api.service.agora.TeamAuthorizationService.TeamMembership;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -29,18 +35,30 @@ public class AgoraTeamEventServiceImpl implements AgoraTeamEventService {
     private final TeamRepository teamRepository;
     private final EventRepository eventRepository;
     private final TeamMemberRepository teamMemberRepository;
+    private final TeamAuthorizationService teamAuthorizationService;
+    private final ApplicationEventPublisher eventPublisher;
 
-    @Override
-    public List<EventResponse> getEventList(String userEmail, Long teamId) {
-        User user = findUserByEmail(userEmail);
-        Team team = findTeamById(teamId);
+    private static final int MAX_PAGE_SIZE = 100;
 
+    @Override
+    public List<EventResponse> getEventList(String userEmail, Long teamId, LocalDateTime from, LocalDateTime to,
+                                            Long cursor, int limit) {
         // 팀 멤버 확인
-        if (!isTeamMember(teamId, user.getId())) {
-            throw new IllegalStateException("팀의 멤버가 아닙니다");
-        }
+        requireMember(userEmail, teamId);
+
+        Pageable pageable = PageRequest.of(0, Math.min(Math.max(limit, 1), MAX_PAGE_SIZE));
 
-        List<Event> events = eventRepository.findByTeam_IdOrderByStartTimeAsc(teamId);
+        List<Event> events;
+        if (cursor == null) {
+            events = eventRepository.findPage(teamId, from, to, pageable);
+        } else {
+            // 커서 일정의 정렬 키(시작 시각, ID) 이후부터 조회
+            Event last = findEventById(cursor);
+            if (!last.getTeam().getId().equals(teamId)) {
+                throw new IllegalArgumentException("잘못된 커서입니다");
+            }
+            events = eventRepository.findPageAfter(teamId, from, to, last.getStartTime(), cursor, pageable);
+        }
         return events.stream()
                 .map(EventResponse::from)
                 .collect(Collectors.toList());
@@ -48,13 +66,8 @@ public class AgoraTeamEventServiceImpl implements AgoraTeamEventService {
 
     @Override
     public EventResponse getEventDetail(String userEmail, Long teamId, Long eventId) {
-        User user = findUserByEmail(userEmail);
-        Team team = findTeamById(teamId);
-
         // 팀 멤버 확인
-        if (!isTeamMember(teamId, user.getId())) {
-            throw new IllegalStateException("팀의 멤버가 아닙니다");
-        }
+        requireMember(userEmail, teamId);
 
         Event event = findEventById(eventId);
 
@@ -69,47 +82,52 @@ public class AgoraTeamEventServiceImpl implements AgoraTeamEventService {
     @Override
     @Transactional
     public EventResponse createEvent(String userEmail, Long teamId, CreateEventRequest request) {
-        User user = findUserByEmail(userEmail);
-        Team team = findTeamById(teamId);
-
         // 팀 멤버 확인
-        if (!isTeamMember(teamId, user.getId())) {
-            throw new IllegalStateException("팀의 멤버가 아닙니다");
-        }
+        TeamMembership member = requireMember(userEmail, teamId);
+        Team team = teamRepository.findById(teamId)
+                .orElseThrow(() -> new IllegalArgumentException("팀을 찾을 수 없습니다"));
 
         // 관리자인지 확인 (팀 생성자는 관리자)
-        if (!team.getCreatedBy().getId().equals(user.getId())) {
+        if (!member.isCreator()) {
             throw new IllegalStateException("일정을 작성할 권한이 없습니다");
         }
 
         Event event = Event.builder()
                 .team(team)
-                .createdBy(user)
+                .createdBy(userRepository.getReferenceById(member.userId()))
                 .title(request.getTitle())
                 .description(request.getDescription())
                 .location(request.getLocation())
                 .startTime(request.getStartTime())
                 .endTime(request.getEndTime())
                 .isAllDay(request.getIsAllDay() != null ? request.getIsAllDay() : false)
+                .recurrence(request.getRecurrence() != null
+                        ? Event.Recurrence.valueOf(request.getRecurrence().toUpperCase())
+                        : Event.Recurrence.NONE)
+                .recurrenceInterval(request.getRecurrenceInterval())
+                .recurrenceUntil(request.getRecurrenceUntil())
                 .build();
 
         Event savedEvent = eventRepository.save(event);
+
+        // 작성자를 제외한 팀 멤버에게 알림 (커밋 후 처리)
+        List<Long> recipientIds = teamMemberRepository.findUserIdsByTeamId(teamId).stream()
+                .filter(userId -> !userId.equals(member.userId()))
+                .collect(Collectors.toList());
+        eventPublisher.publishEvent(NotificationEvent.event(this, recipientIds,
+                team.getName(), savedEvent.getTitle(), savedEvent.getId()));
+
         return EventResponse.from(savedEvent);
     }
 
     @Override
     @Transactional
     public EventResponse updateEvent(String userEmail, Long teamId, Long eventId, UpdateEventRequest request) {
-        User user = findUserByEmail(userEmail);
-        Team team = findTeamById(teamId);
-
         // 팀 멤버 확인
-        if (!isTeamMember(teamId, user.getId())) {
-            throw new IllegalStateException("팀의 멤버가 아닙니다");
-        }
+        TeamMembership member = requireMember(userEmail, teamId);
 
         // 관리자인지 확인
-        if (!team.getCreatedBy().getId().equals(user.getId())) {
+        if (!member.isCreator()) {
             throw new IllegalStateException("일정을 수정할 권한이 없습니다");
         }
 
@@ -144,6 +162,18 @@ public class AgoraTeamEventServiceImpl implements AgoraTeamEventService {
             event.setIsAllDay(request.getIsAllDay());
         }
 
+        if (request.getRecurrence() != null) {
+            event.setRecurrence(Event.Recurrence.valueOf(request.getRecurrence().toUpperCase()));
+        }
+
+        if (request.getRecurrenceInterval() != null) {
+            event.setRecurrenceInterval(request.getRecurrenceInterval());
+        }
+
+        if (request.getRecurrenceUntil() != null) {
+            event.setRecurrenceUntil(request.getRecurrenceUntil());
+        }
+
         Event updated = eventRepository.save(event);
         return EventResponse.from(updated);
     }
@@ -151,16 +181,11 @@ public class AgoraTeamEventServiceImpl implements AgoraTeamEventService {
     @Override
     @Transactional
     public String deleteEvent(String userEmail, Long teamId, Long eventId) {
-        User user = findUserByEmail(userEmail);
-        Team team = findTeamById(teamId);
-
         // 팀 멤버 확인
-        if (!isTeamMember(teamId, user.getId())) {
-            throw new IllegalStateException("팀의 멤버가 아닙니다");
-        }
+        TeamMembership member = requireMember(userEmail, teamId);
 
         // 관리자인지 확인
-        if (!team.getCreatedBy().getId().equals(user.getId())) {
+        if (!member.isCreator()) {
             throw new IllegalStateException("일정을 삭제할 권한이 없습니다");
         }
 
@@ -175,22 +200,13 @@ public class AgoraTeamEventServiceImpl implements AgoraTeamEventService {
         return "일정이 삭제되었습니다";
     }
 
-    private User findUserByEmail(String userEmail) {
-        return userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다"));
-    }
-
-    private Team findTeamById(Long teamId) {
-        return teamRepository.findById(teamId)
-                .orElseThrow(() -> new IllegalArgumentException("팀을 찾을 수 없습니다"));
+    private TeamMembership requireMember(String userEmail, Long teamId) {
+        return teamAuthorizationService.findMembership(userEmail, teamId)
+                .orElseThrow(() -> new IllegalStateException("팀의 멤버가 아닙니다"));
     }
 
     private Event findEventById(Long eventId) {
         return eventRepository.findById(eventId)
                 .orElseThrow(() -> new IllegalArgumentException("일정을 찾을 수 없습니다"));
     }
-
-    private boolean isTeamMember(Long teamId, Long userId) {
-        return teamMemberRepository.existsByTeam_IdAndUser_Id(teamId, userId);
-    }
 }
@@ -3,16 +3,21 @@ package kr.hyfata.rest.api.service.agora.impl;
 import kr.hyfata.rest.api.dto.agora.team.NoticeResponse;
 import kr.hyfata.rest.api.dto.agora.team.CreateNoticeRequest;
 import kr.hyfata.rest.api.dto.agora.team.UpdateNoticeRequest;
-import kr.hyfata.rest.api.entity.User;
 import kr.hyfata.rest.api.entity.agora.Team;
 import kr.hyfata.rest.api.entity.agora.Notice;
+import kr.hyfata.rest.api.event.NotificationEvent;
 import kr.hyfata.rest.api.repository.UserRepository;
 import kr.hyfata.rest.api.repository.agora.TeamRepository;
 import kr.hyfata.rest.api.repository.agora.NoticeRepository;
 import kr.hyfata.rest.api.repository.agora.TeamMemberRepository;
 import kr.hyfata.rest.api.service.agora.AgoraTeamNoticeService;
+import kr.hyfata.rest.api.service.agora.TeamAuthorizationService;
+import kr.hyfata.rest.api.service.agora.TeamAuthorizationService.TeamMembership;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -29,18 +34,20 @@ public class AgoraTeamNoticeServiceImpl implements AgoraTeamNoticeService {
     private final TeamRepository teamRepository;
     private final NoticeRepository noticeRepository;
     private final TeamMemberRepository teamMemberRepository;
+    private final TeamAuthorizationService teamAuthorizationService;
+    private final ApplicationEventPublisher eventPublisher;
 
-    @Override
-    public List<NoticeResponse> getNoticeList(String userEmail, Long teamId) {
-        User user = findUserByEmail(userEmail);
-        Team team = findTeamById(teamId);
+    private static final int MAX_PAGE_SIZE = 100;
 
+    @Override
+    public List<NoticeResponse> getNoticeList(String userEmail, Long teamId, Long cursor, int limit) {
         // 팀 멤버 확인
-        if (!isTeamMember(teamId, user.getId())) {
-            throw new IllegalStateException("팀의 멤버가 아닙니다");
-        }
+        requireMember(userEmail, teamId);
 
-        List<Notice> notices = noticeRepository.findByTeam_IdOrderByCreatedAtDesc(teamId);
+        Pageable pageable = PageRequest.of(0, Math.min(Math.max(limit, 1), MAX_PAGE_SIZE));
+        List<Notice> notices = cursor == null
+                ? noticeRepository.findPageByTeamId(teamId, pageable)
+                : noticeRepository.findPageByTeamIdBefore(teamId, cursor, pageable);
         return notices.stream()
                 .map(NoticeResponse::from)
                 .collect(Collectors.toList());
@@ -48,13 +55,8 @@ public class AgoraTeamNoticeServiceImpl implements AgoraTeamNoticeService {
 
     @Override
     public NoticeResponse getNoticeDetail(String userEmail, Long teamId, Long noticeId) {
-        User user = findUserByEmail(userEmail);
-        Team team = findTeamById(teamId);
-
         // 팀 멤버 확인
-        if (!isTeamMember(teamId, user.getId())) {
-            throw new IllegalStateException("팀의 멤버가 아닙니다");
-        }
+        requireMember(userEmail, teamId);
 
         Notice notice = findNoticeById(noticeId);
 
@@ -69,44 +71,44 @@ public class AgoraTeamNoticeServiceImpl implements AgoraTeamNoticeService {
     @Override
     @Transactional
     public NoticeResponse createNotice(String userEmail, Long teamId, CreateNoticeRequest request) {
-        User user = findUserByEmail(userEmail);
-        Team team = findTeamById(teamId);
-
         // 팀 멤버 확인
-        if (!isTeamMember(teamId, user.getId())) {
-            throw new IllegalStateException("팀의 멤버가 아닙니다");
-        }
+        TeamMembership member = requireMember(userEmail, teamId);
+        Team team = teamRepository.findById(teamId)
+                .orElseThrow(() -> new IllegalArgumentException("팀을 찾을 수 없습니다"));
 
         // 관리자인지 확인 (팀 생성자는 관리자)
-        if (!team.getCreatedBy().getId().equals(user.getId())) {
+        if (!member.isCreator()) {
             throw new IllegalStateException("공지를 작성할 권한이 없습니다");
         }
 
         Notice notice = Notice.builder()
                 .team(team)
-                .author(user)
+                .author(userRepository.getReferenceById(member.userId()))
                 .title(request.getTitle())
                 .content(request.getContent())
                 .isPinned(request.getIsPinned() != null ? request.getIsPinned() : false)
                 .build();
 
         Notice savedNotice = noticeRepository.save(notice);
+
+        // 작성자를 제외한 팀 멤버에게 알림 (커밋 후 처리)
+        List<Long> recipientIds = teamMemberRepository.findUserIdsByTeamId(teamId).stream()
+                .filter(userId -> !userId.equals(member.userId()))
+                .collect(Collectors.toList());
+        eventPublisher.publishEvent(NotificationEvent.notice(this, recipientIds,
+                team.getName(), savedNotice.getTitle(), savedNotice.getId()));
+
         return NoticeResponse.from(savedNotice);
     }
 
     @Override
     @Transactional
     public NoticeResponse updateNotice(String userEmail, Long teamId, Long noticeId, UpdateNoticeRequest request) {
-        User user = findUserByEmail(userEmail);
-        Team team = findTeamById(teamId);
-
         // 팀 멤버 확인
-        if (!isTeamMember(teamId, user.getId())) {
-            throw new IllegalStateException("팀의 멤버가 아닙니다");
-        }
+        TeamMembership member = requireMember(userEmail, teamId);
 
         // 관리자인지 확인
-        if (!team.getCreatedBy().getId().equals(user.getId())) {
+        if (!member.isCreator()) {
             throw new IllegalStateException("공지를 수정할 권한이 없습니다");
         }
 
@@ -136,16 +138,11 @@ public class AgoraTeamNoticeServiceImpl implements AgoraTeamNoticeService {
     @Override
     @Transactional
     public String deleteNotice(String userEmail, Long teamId, Long noticeId) {
-        User user = findUserByEmail(userEmail);
-        Team team = findTeamById(teamId);
-
         // 팀 멤버 확인
-        if (!isTeamMember(teamId, user.getId())) {
-            throw new IllegalStateException("팀의 멤버가 아닙니다");
-        }
+        TeamMembership member = requireMember(userEmail, teamId);
 
         // 관리자인지 확인
-        if (!team.getCreatedBy().getId().equals(user.getId())) {
+        if (!member.isCreator()) {
             throw new IllegalStateException("공지를 삭제할 권한이 없습니다");
         }
 
@@ -160,22 +157,13 @@ public class AgoraTeamNoticeServiceImpl implements AgoraTeamNoticeService {
         return "공지가 삭제되었습니다";
     }
 
-    private User findUserByEmail(String userEmail) {
-        return userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다"));
-    }
-
-    private Team findTeamById(Long teamId) {
-        return teamRepository.findById(teamId)
-                .orElseThrow(() -> new IllegalArgumentException("팀을 찾을 수 없습니다"));
+    private TeamMembership requireMember(String userEmail, Long teamId) {
+        return teamAuthorizationService.findMembership(userEmail, teamId)
+                .orElseThrow(() -> new IllegalStateException("팀의 멤버가 아닙니다"));
     }
 
     private Notice findNoticeById(Long noticeId) {
         return noticeRepository.findById(noticeId)
                 .orElseThrow(() -> new IllegalArgumentException("공지를 찾을 수 없습니다"));
     }
-
-    private boolean isTeamMember(Long teamId, Long userId) {
-        return teamMemberRepository.existsByTeam_IdAndUser_Id(teamId, userId);
-    }
 }
@@ -2,13 +2,15 @@ package kr.hyfata.rest.api.service.agora.impl;
 
 import kr.hyfata.rest.api.dto.agora.team.TeamProfileResponse;
 import kr.hyfata.rest.api.dto.agora.team.CreateTeamProfileRequest;
-import kr.hyfata.rest.api.entity.User;
-import kr.hyfata.rest.api.entity.agora.Team;
 import kr.hyfata.rest.api.entity.agora.TeamProfile;
 import kr.hyfata.rest.api.repository.UserRepository;
+import kr.hyfata.rest.api.repository.agora.ChatParticipantRepository;
 import kr.hyfata.rest.api.repository.agora.TeamRepository;
 import kr.hyfata.rest.api.repository.agora.TeamProfileRepository;
 import kr.hyfata.rest.api.service.agora.AgoraTeamProfileService;
+import kr.hyfata.rest.api.service.agora.RecentMessageCache;
+import kr.hyfata.rest.api.service.agora.TeamAuthorizationService;
+import kr.hyfata.rest.api.service.agora.TeamAuthorizationService.TeamMembership;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -23,18 +25,16 @@ public class AgoraTeamProfileServiceImpl implements AgoraTeamProfileService {
     private final UserRepository userRepository;
     private final TeamRepository teamRepository;
     private final TeamProfileRepository teamProfileRepository;
+    private final TeamAuthorizationService teamAuthorizationService;
+    private final ChatParticipantRepository chatParticipantRepository;
+    private final RecentMessageCache recentMessageCache;
 
     @Override
     public TeamProfileResponse getMyTeamProfile(String userEmail, Long teamId) {
-        User user = findUserByEmail(userEmail);
-        Team team = findTeamById(teamId);
-
         // Verify user is member
-        if (!isTeamMember(teamId, user.getId())) {
-            throw new IllegalStateException("You are not a member of this team");
-        }
+        TeamMembership member = requireMember(userEmail, teamId);
 
-        TeamProfile profile = teamProfileRepository.findByTeamIdAndUserId(teamId, user.getId())
+        TeamProfile profile = teamProfileRepository.findByTeamIdAndUserId(teamId, member.userId())
                 .orElseThrow(() -> new IllegalStateException("Team profile not found"));
 
         return TeamProfileResponse.from(profile);
@@ -43,42 +43,33 @@ public class AgoraTeamProfileServiceImpl implements AgoraTeamProfileService {
     @Override
     @Transactional
     public TeamProfileResponse createTeamProfile(String userEmail, Long teamId, CreateTeamProfileRequest request) {
-        User user = findUserByEmail(userEmail);
-        Team team = findTeamById(teamId);
-
         // Verify user is member
-        if (!isTeamMember(teamId, user.getId())) {
-            throw new IllegalStateException("You are not a member of this team");
-        }
+        TeamMembership member = requireMember(userEmail, teamId);
 
         // Check if profile already exists
-        if (teamProfileRepository.existsByTeamIdAndUserId(teamId, user.getId())) {
+        if (teamProfileRepository.existsByTeamIdAndUserId(teamId, member.userId())) {
             throw new IllegalStateException("Team profile already exists");
         }
 
         TeamProfile profile = TeamProfile.builder()
-                .team(team)
-                .user(user)
+                .team(teamRepository.getReferenceById(teamId))
+                .user(userRepository.getReferenceById(member.userId()))
                 .displayName(request.getDisplayName())
                 .profileImage(request.getProfileImage())
                 .build();
 
         TeamProfile savedProfile = teamProfileRepository.save(profile);
+        senderProfileChanged(member.userId(), teamId);
         return TeamProfileResponse.from(savedProfile);
     }
 
     @Override
     @Transactional
     public TeamProfileResponse updateTeamProfile(String userEmail, Long teamId, String displayName, String profileImage) {
-        User user = findUserByEmail(userEmail);
-        Team team = findTeamById(teamId);
-
         // Verify user is member
-        if (!isTeamMember(teamId, user.getId())) {
-            throw new IllegalStateException("You are not a member of this team");
-        }
+        TeamMembership member = requireMember(userEmail, teamId);
 
-        TeamProfile profile = teamProfileRepository.findByTeamIdAndUserId(teamId, user.getId())
+        TeamProfile profile = teamProfileRepository.findByTeamIdAndUserId(teamId, member.userId())
                 .orElseThrow(() -> new IllegalStateException("Team profile not found"));
 
         if (displayName != null && !displayName.isEmpty()) {
@@ -90,21 +81,17 @@ public class AgoraTeamProfileServiceImpl implements AgoraTeamProfileService {
         }
 
         TeamProfile updated = teamProfileRepository.save(profile);
+        senderProfileChanged(member.userId(), teamId);
         return TeamProfileResponse.from(updated);
     }
 
     @Override
     @Transactional
     public TeamProfileResponse updateTeamProfileImage(String userEmail, Long teamId, String profileImage) {
-        User user = findUserByEmail(userEmail);
-        Team team = findTeamById(teamId);
-
         // Verify user is member
-        if (!isTeamMember(teamId, user.getId())) {
-            throw new IllegalStateException("You are not a member of this team");
-        }
+        TeamMembership member = requireMember(userEmail, teamId);
 
-        TeamProfile profile = teamProfileRepository.findByTeamIdAndUserId(teamId, user.getId())
+        TeamProfile profile = teamProfileRepository.findByTeamIdAndUserId(teamId, member.userId())
                 .orElseThrow(() -> new IllegalStateException("Team profile not found"));
 
         if (profileImage != null) {
@@ -112,16 +99,14 @@ public class AgoraTeamProfileServiceImpl implements AgoraTeamProfileService {
         }
 
         TeamProfile updated = teamProfileRepository.save(profile);
+        senderProfileChanged(member.userId(), teamId);
         return TeamProfileResponse.from(updated);
     }
 
     @Override
     public TeamProfileResponse getTeamMemberProfile(Long teamId, Long userId) {
-        Team team = findTeamById(teamId);
-        User user = findUserById(userId);
-
         // Verify user is member of team
-        if (!isTeamMember(teamId, userId)) {
+        if (!teamAuthorizationService.isMember(userId, teamId)) {
             throw new IllegalStateException("User is not a member of this team");
         }
 
@@ -131,22 +116,15 @@ public class AgoraTeamProfileServiceImpl implements AgoraTeamProfileService {
         return TeamProfileResponse.from(profile);
     }
 
-    private User findUserByEmail(String userEmail) {
-        return userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new IllegalArgumentException("User not found"));
-    }
-
-    private User findUserById(Long userId) {
-        return userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("User not found"));
-    }
-
-    private Team findTeamById(Long teamId) {
-        return teamRepository.findById(teamId)
-                .orElseThrow(() -> new IllegalArgumentException("Team not found"));
+    /**
+     * 최근 메시지 캐시에 남은 이 팀 채팅들의 이전 발신자 프로필을 비운다
+     */
+    private void senderProfileChanged(Long userId, Long teamId) {
+        recentMessageCache.senderProfileChanged(chatParticipantRepository.findChatIdsByUserIdAndTeamId(userId, teamId));
     }
 
-    private boolean isTeamMember(Long teamId, Long userId) {
-        return teamProfileRepository.existsByTeamIdAndUserId(teamId, userId);
+    private TeamMembership requireMember(String userEmail, Long teamId) {
+        return teamAuthorizationService.findMembership(userEmail, teamId)
+                .orElseThrow(() -> new IllegalStateException("You are not a member of this team"));
     }
 }
@@ -7,13 +7,16 @@ import kr.hyfata.rest.api.entity.User;
 import kr.hyfata.rest.api.entity.agora.Team;
 import kr.hyfata.rest.api.entity.agora.TeamMember;
 import kr.hyfata.rest.api.entity.agora.TeamRole;
+import kr.hyfata.rest.api.event.TeamMemberEvent;
 import kr.hyfata.rest.api.repository.UserRepository;
 import kr.hyfata.rest.api.repository.agora.TeamRepository;
 import kr.hyfata.rest.api.repository.agora.TeamMemberRepository;
 import kr.hyfata.rest.api.repository.agora.TeamRoleRepository;
 import kr.hyfata.rest.api.service.agora.AgoraTeamService;
+import kr.hyfata.rest.api.service.agora.TeamAuthorizationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -30,14 +33,13 @@ public class AgoraTeamServiceImpl implements AgoraTeamService {
     private final TeamRepository teamRepository;
     private final TeamMemberRepository teamMemberRepository;
     private final TeamRoleRepository teamRoleRepository;
+    private final TeamAuthorizationService teamAuthorizationService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public List<TeamResponse> getTeamList(String userEmail) {
         User user = findUserByEmail(userEmail);
-        List<Team> teams = teamRepository.findTeamsByUserId(user.getId());
-        return teams.stream()
-                .map(TeamResponse::from)
-                .collect(Collectors.toList());
+        return teamRepository.findTeamSummariesByUserId(user.getId());
     }
 
     @Override
@@ -70,23 +72,24 @@ public class AgoraTeamServiceImpl implements AgoraTeamService {
                 .role(savedRole)
                 .build();
         teamMemberRepository.save(member);
+        teamAuthorizationService.evict(savedTeam.getId(), creator.getId());
+        eventPublisher.publishEvent(new TeamMemberEvent.TeamCreatedEvent(this, savedTeam.getId(), creator.getId()));
 
-        return TeamResponse.from(savedTeam);
+        return findTeamSummary(savedTeam.getId());
     }
 
     @Override
     public TeamResponse getTeamDetail(String userEmail, Long teamId) {
         User user = findUserByEmail(userEmail);
 
-        Team team = teamRepository.findById(teamId)
-                .orElseThrow(() -> new IllegalArgumentException("Team not found"));
+        TeamResponse team = findTeamSummary(teamId);
 
         // Verify user is member
-        if (!teamMemberRepository.existsByTeam_IdAndUser_Id(teamId, user.getId())) {
+        if (!teamAuthorizationService.isMember(user.getId(), teamId)) {
             throw new IllegalStateException("You are not a member of this team");
         }
 
-        return TeamResponse.from(team);
+        return team;
     }
 
     @Override
@@ -112,8 +115,8 @@ public class AgoraTeamServiceImpl implements AgoraTeamService {
             team.setProfileImage(profileImage);
         }
 
-        Team updated = teamRepository.save(team);
-        return TeamResponse.from(updated);
+        teamRepository.save(team);
+        return findTeamSummary(teamId);
     }
 
     @Override
@@ -130,19 +133,18 @@ public class AgoraTeamServiceImpl implements AgoraTeamService {
         }
 
         teamRepository.deleteById(teamId);
+        teamAuthorizationService.evictTeam(teamId);
         return "Team deleted";
     }
 
     @Override
     public List<TeamMemberResponse> getTeamMembers(String userEmail, Long teamId) {
-        User user = findUserByEmail(userEmail);
-
         // Verify user is member
-        if (!teamMemberRepository.existsByTeam_IdAndUser_Id(teamId, user.getId())) {
+        if (teamAuthorizationService.findMembership(userEmail, teamId).isEmpty()) {
             throw new IllegalStateException("You are not a member of this team");
         }
 
-        List<TeamMember> members = teamMemberRepository.findByTeam_IdOrderByJoinedAtAsc(teamId);
+        List<TeamMember> members = teamMemberRepository.findWithUserAndRoleByTeamId(teamId);
         return members.stream()
                 .map(TeamMemberResponse::from)
                 .collect(Collectors.toList());
@@ -185,6 +187,7 @@ public class AgoraTeamServiceImpl implements AgoraTeamService {
                 .build();
 
         TeamMember saved = teamMemberRepository.save(newMember);
+        eventPublisher.publishEvent(new TeamMemberEvent.TeamMemberAddedEvent(this, teamId, targetUser.getId()));
         return TeamMemberResponse.from(saved);
     }
 
@@ -210,6 +213,7 @@ public class AgoraTeamServiceImpl implements AgoraTeamService {
         }
 
         teamMemberRepository.deleteById(memberId);
+        eventPublisher.publishEvent(new TeamMemberEvent.TeamMemberRemovedEvent(this, teamId, member.getUser().getId()));
         return "Member removed";
     }
 
@@ -234,10 +238,16 @@ public class AgoraTeamServiceImpl implements AgoraTeamService {
 
         member.setRole(role);
         teamMemberRepository.save(member);
+        teamAuthorizationService.evict(teamId, member.getUser().getId());
 
         return "Member role changed";
     }
 
+    private TeamResponse findTeamSummary(Long teamId) {
+        return teamRepository.findTeamSummaryById(teamId)
+                .orElseThrow(() -> new IllegalArgumentException("Team not found"));
+    }
+
     private User findUserByEmail(String userEmail) {
         return userRepository.findByEmail(userEmail)
                 .orElseThrow(() -> new IllegalArgumentException("User not found"));
@@ -4,15 +4,17 @@ import kr.hyfata.rest.api.dto.agora.team.TodoResponse;
 import kr.hyfata.rest.api.dto.agora.team.CreateTodoRequest;
 import kr.hyfata.rest.api.dto.agora.team.UpdateTodoRequest;
 import kr.hyfata.rest.api.entity.User;
-import kr.hyfata.rest.api.entity.agora.Team;
 import kr.hyfata.rest.api.entity.agora.Todo;
 import kr.hyfata.rest.api.repository.UserRepository;
 import kr.hyfata.rest.api.repository.agora.TeamRepository;
 import kr.hyfata.rest.api.repository.agora.TodoRepository;
-import kr.hyfata.rest.api.repository.agora.TeamMemberRepository;
 import kr.hyfata.rest.api.service.agora.AgoraTeamTodoService;
+import kr.hyfata.rest.api.service.agora.TeamAuthorizationService;
+import kr.hyfata.rest.api.service.agora.TeamAuthorizationService.TeamMembership;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -29,19 +31,34 @@ public class AgoraTeamTodoServiceImpl implements AgoraTeamTodoService {
     private final UserRepository userRepository;
     private final TeamRepository teamRepository;
     private final TodoRepository todoRepository;
-    private final TeamMemberRepository teamMemberRepository;
+    private final TeamAuthorizationService teamAuthorizationService;
 
-    @Override
-    public List<TodoResponse> getTodoList(String userEmail, Long teamId) {
-        User user = findUserByEmail(userEmail);
-        Team team = findTeamById(teamId);
+    private static final int MAX_PAGE_SIZE = 100;
 
+    @Override
+    public List<TodoResponse> getTodoList(String userEmail, Long teamId, String status, Long assigneeId,
+                                          Long cursor, int limit) {
         // 팀 멤버 확인
-        if (!isTeamMember(teamId, user.getId())) {
-            throw new IllegalStateException("팀의 멤버가 아닙니다");
+        requireMember(userEmail, teamId);
+
+        Todo.Status statusFilter = status != null && !status.isEmpty()
+                ? Todo.Status.valueOf(status.toUpperCase())
+                : null;
+        Pageable pageable = PageRequest.of(0, Math.min(Math.max(limit, 1), MAX_PAGE_SIZE));
+
+        List<Todo> todos;
+        if (cursor == null) {
+            todos = todoRepository.findPage(teamId, statusFilter, assigneeId, pageable);
+        } else {
+            // 커서 할일의 정렬 키(마감일, ID) 이후부터 조회
+            Todo last = findTodoById(cursor);
+            if (!last.getTeam().getId().equals(teamId)) {
+                throw new IllegalArgumentException("잘못된 커서입니다");
+            }
+            todos = last.getDueDate() != null
+                    ? todoRepository.findPageAfter(teamId, statusFilter, assigneeId, last.getDueDate(), cursor, pageable)
+                    : todoRepository.findPageAfterUndated(teamId, statusFilter, assigneeId, cursor, pageable);
         }
-
-        List<Todo> todos = todoRepository.findByTeam_IdOrderByDueDateAscCreatedAtDesc(teamId);
         return todos.stream()
                 .map(TodoResponse::from)
                 .collect(Collectors.toList());
@@ -49,13 +66,8 @@ public class AgoraTeamTodoServiceImpl implements AgoraTeamTodoService {
 
     @Override
     public TodoResponse getTodoDetail(String userEmail, Long teamId, Long todoId) {
-        User user = findUserByEmail(userEmail);
-        Team team = findTeamById(teamId);
-
         // 팀 멤버 확인
-        if (!isTeamMember(teamId, user.getId())) {
-            throw new IllegalStateException("팀의 멤버가 아닙니다");
-        }
+        requireMember(userEmail, teamId);
 
         Todo todo = findTodoById(todoId);
 
@@ -70,21 +82,16 @@ public class AgoraTeamTodoServiceImpl implements AgoraTeamTodoService {
     @Override
     @Transactional
     public TodoResponse createTodo(String userEmail, Long teamId, CreateTodoRequest request) {
-        User user = findUserByEmail(userEmail);
-        Team team = findTeamById(teamId);
-
         // 팀 멤버 확인
-        if (!isTeamMember(teamId, user.getId())) {
-            throw new IllegalStateException("팀의 멤버가 아닙니다");
-        }
+        TeamMembership member = requireMember(userEmail, teamId);
 
         // 할당 대상 확인 (없으면 null)
         User assignedTo = null;
         if (request.getAssignedToId() != null) {
-            assignedTo = findUserById(request.getAssignedToId());
-            if (!isTeamMember(teamId, assignedTo.getId())) {
+            if (!teamAuthorizationService.isMember(request.getAssignedToId(), teamId)) {
                 throw new IllegalStateException("할당 대상이 팀의 멤버가 아닙니다");
             }
+            assignedTo = userRepository.getReferenceById(request.getAssignedToId());
         }
 
         // Priority 파싱
@@ -93,8 +100,8 @@ public class AgoraTeamTodoServiceImpl implements AgoraTeamTodoService {
                 : Todo.Priority.MEDIUM;
 
         Todo todo = Todo.builder()
-                .team(team)
-                .createdBy(user)
+                .team(teamRepository.getReferenceById(teamId))
+                .createdBy(userRepository.getReferenceById(member.userId()))
                 .assignedTo(assignedTo)
                 .title(request.getTitle())
                 .description(request.getDescription())
@@ -110,13 +117,8 @@ public class AgoraTeamTodoServiceImpl implements AgoraTeamTodoService {
     @Override
     @Transactional
     public TodoResponse updateTodo(String userEmail, Long teamId, Long todoId, UpdateTodoRequest request) {
-        User user = findUserByEmail(userEmail);
-        Team team = findTeamById(teamId);
-
         // 팀 멤버 확인
-        if (!isTeamMember(teamId, user.getId())) {
-            throw new IllegalStateException("팀의 멤버가 아닙니다");
-        }
+        requireMember(userEmail, teamId);
 
         Todo todo = findTodoById(todoId);
 
@@ -135,11 +137,10 @@ public class AgoraTeamTodoServiceImpl implements AgoraTeamTodoService {
 
         // 할당 대상 변경
         if (request.getAssignedToId() != null) {
-            User assignedTo = findUserById(request.getAssignedToId());
-            if (!isTeamMember(teamId, assignedTo.getId())) {
+            if (!teamAuthorizationService.isMember(request.getAssignedToId(), teamId)) {
                 throw new IllegalStateException("할당 대상이 팀의 멤버가 아닙니다");
             }
-            todo.setAssignedTo(assignedTo);
+            todo.setAssignedTo(userRepository.getReferenceById(request.getAssignedToId()));
         }
 
         if (request.getPriority() != null) {
@@ -157,13 +158,8 @@ public class AgoraTeamTodoServiceImpl implements AgoraTeamTodoService {
     @Override
     @Transactional
     public TodoResponse completeTodo(String userEmail, Long teamId, Long todoId) {
-        User user = findUserByEmail(userEmail);
-        Team team = findTeamById(teamId);
-
         // 팀 멤버 확인
-        if (!isTeamMember(teamId, user.getId())) {
-            throw new IllegalStateException("팀의 멤버가 아닙니다");
-        }
+        requireMember(userEmail, teamId);
 
         Todo todo = findTodoById(todoId);
 
@@ -182,13 +178,8 @@ public class AgoraTeamTodoServiceImpl implements AgoraTeamTodoService {
     @Override
     @Transactional
     public String deleteTodo(String userEmail, Long teamId, Long todoId) {
-        User user = findUserByEmail(userEmail);
-        Team team = findTeamById(teamId);
-
         // 팀 멤버 확인
-        if (!isTeamMember(teamId, user.getId())) {
-            throw new IllegalStateException("팀의 멤버가 아닙니다");
-        }
+        requireMember(userEmail, teamId);
 
         Todo todo = findTodoById(todoId);
 
@@ -201,27 +192,13 @@ public class AgoraTeamTodoServiceImpl implements AgoraTeamTodoService {
         return "할일이 삭제되었습니다";
     }
 
-    private User findUserByEmail(String userEmail) {
-        return userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다"));
-    }
-
-    private User findUserById(Long userId) {
-        return userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다"));
-    }
-
-    private Team findTeamById(Long teamId) {
-        return teamRepository.findById(teamId)
-                .orElseThrow(() -> new IllegalArgumentException("팀을 찾을 수 없습니다"));
+    private TeamMembership requireMember(String userEmail, Long teamId) {
+        return teamAuthorizationService.findMembership(userEmail, teamId)
+                .orElseThrow(() -> new IllegalStateException("팀의 멤버가 아닙니다"));
     }
 
     private Todo findTodoById(Long todoId) {
         return todoRepository.findById(todoId)
                 .orElseThrow(() -> new IllegalArgumentException("할일을 찾을 수 없습니다"));
     }
-
-    private boolean isTeamMember(Long teamId, Long userId) {
-        return teamMemberRepository.existsByTeam_IdAndUser_Id(teamId, userId);
-    }
 }
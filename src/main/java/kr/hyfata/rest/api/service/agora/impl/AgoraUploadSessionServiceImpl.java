@@ -0,0 +1,573 @@
+package kr.hyfata.rest.api.service.agora.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import kr.hyfata.rest.api.config.FileStorageConfig;
+import kr.hyfata.rest.api.dto.agora.CreateUploadSessionRequest;
+import kr.hyfata.rest.api.dto.agora.FileUploadResponse;
+import kr.hyfata.rest.api.dto.agora.UploadSessionResponse;
+import kr.hyfata.rest.api.entity.User;
+import kr.hyfata.rest.api.entity.agora.AgoraFile;
+import kr.hyfata.rest.api.repository.UserRepository;
+import kr.hyfata.rest.api.repository.agora.AgoraFileRepository;
+import kr.hyfata.rest.api.service.agora.AgoraUploadSessionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.codec.binary.Hex;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * 청크 업로드 세션
+ * <p>
+ * 세션 정보와 수신한 청크 목록은 임시 파일 옆 메타데이터 파일({uploadId}.json)에 기록해 두고,
+ * 서버가 재시작되면 다시 읽어 이어받을 수 있게 한다 (해시는 앞에서부터 연속으로 수신된 구간을 다시 읽어 복원).
+ * 청크 기록은 세션의 읽기 잠금으로 병렬로 진행하고, 완료/취소/만료 정리는 쓰기 잠금으로 진행 중인 기록이 끝난 뒤 세션을 닫는다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AgoraUploadSessionServiceImpl implements AgoraUploadSessionService {
+
+    private static final int IO_BUFFER_SIZE = 64 * 1024;
+    private static final String PARTIAL_SUFFIX = ".part";
+    private static final String METADATA_SUFFIX = ".json";
+
+    private final UserRepository userRepository;
+    private final AgoraFileRepository agoraFileRepository;
+    private final ObjectMapper objectMapper;
+
+    @Value("${agora.upload.chunk-size:5242880}")
+    private int chunkSize;
+
+    @Value("${agora.upload.session-ttl-hours:24}")
+    private long sessionTtlHours;
+
+    @Value("${agora.upload.max-sessions-per-user:5}")
+    private int maxSessionsPerUser;
+
+    private Path partialDir = FileStorageConfig.getPartialUploadPath();
+    private Path uploadDir = FileStorageConfig.getUploadPath();
+
+    private final Map<String, UploadSession> sessions = new ConcurrentHashMap<>();
+
+    /**
+     * 재시작 전에 진행 중이던 세션 복원 (만료됐거나 임시 파일이 없으면 정리)
+     */
+    @PostConstruct
+    void restoreSessions() {
+        if (!Files.isDirectory(partialDir)) {
+            return;
+        }
+        try (Stream<Path> files = Files.list(partialDir)) {
+            for (Path path : (Iterable<Path>) files::iterator) {
+                if (path.getFileName().toString().endsWith(METADATA_SUFFIX)) {
+                    restore(path);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("업로드 세션 복원 실패: {}", e.getMessage());
+        }
+        if (!sessions.isEmpty()) {
+            log.info("Upload sessions restored: {}", sessions.size());
+        }
+    }
+
+    @Override
+    public UploadSessionResponse createSession(String userEmail, CreateUploadSessionRequest request) {
+        User user = findUser(userEmail);
+
+        String mimeType = request.getMimeType();
+        if (!FileStorageConfig.isAllowedMimeType(mimeType)) {
+            throw new IllegalArgumentException("허용되지 않는 파일 형식입니다: " + mimeType);
+        }
+
+        if (!FileStorageConfig.isValidFileSize(request.getTotalSize(), mimeType)) {
+            throw new IllegalArgumentException("파일 크기가 너무 큽니다");
+        }
+
+        String uploadId = UUID.randomUUID().toString();
+        Path partialPath = partialDir.resolve(uploadId + PARTIAL_SUFFIX);
+
+        RandomAccessFile file = null;
+        boolean created = false;
+        try {
+            file = new RandomAccessFile(partialPath.toFile(), "rw");
+            UploadSession session = new UploadSession(
+                    uploadId,
+                    user.getId(),
+                    StringUtils.getFilename(request.getFileName()),
+                    mimeType,
+                    request.getTotalSize(),
+                    chunkSize,
+                    request.getSha256(),
+                    partialPath,
+                    file.getChannel(),
+                    LocalDateTime.now().plusHours(sessionTtlHours),
+                    new BitSet()
+            );
+
+            // 한도 확인과 등록 사이에 같은 사용자의 다른 세션이 끼어들지 않도록 (등록까지만 잠금 안에서)
+            synchronized (sessions) {
+                if (activeSessionCount(user.getId()) >= maxSessionsPerUser) {
+                    throw new IllegalStateException("진행 중인 업로드가 너무 많습니다. 최대 " + maxSessionsPerUser + "개");
+                }
+                sessions.put(uploadId, session);
+            }
+
+            // 전체 크기만큼 미리 할당해두고 청크는 각자의 위치에 기록
+            // 큰 파일은 오래 걸릴 수 있으므로 잠금 밖에서 진행 (uploadId 를 응답하기 전이라 다른 요청은 이 세션을 쓰지 않음)
+            file.setLength(request.getTotalSize());
+            persist(session);
+            created = true;
+
+            log.info("Upload session created: {} ({} bytes, {} chunks)", uploadId, session.totalSize, session.totalChunks);
+            return session.toResponse();
+        } catch (IOException e) {
+            throw new RuntimeException("업로드 세션 생성 실패: " + e.getMessage(), e);
+        } finally {
+            if (!created) {
+                sessions.remove(uploadId);
+                closeQuietly(file);
+                deleteQuietly(partialPath);
+                deleteQuietly(metadataPath(uploadId));
+            }
+        }
+    }
+
+    @Override
+    public UploadSessionResponse writeChunk(String userEmail, String uploadId, long offset, long contentLength, InputStream data) {
+        UploadSession session = findSession(userEmail, uploadId);
+
+        if (offset < 0 || offset >= session.totalSize || offset % session.chunkSize != 0) {
+            throw new IllegalArgumentException("잘못된 청크 offset입니다: " + offset);
+        }
+
+        int index = (int) (offset / session.chunkSize);
+        long expectedLength = Math.min(session.chunkSize, session.totalSize - offset);
+
+        if (contentLength >= 0 && contentLength != expectedLength) {
+            throw new IllegalArgumentException("청크 크기가 올바르지 않습니다. 예상: " + expectedLength + ", 실제: " + contentLength);
+        }
+
+        session.lock.readLock().lock();
+        try {
+            if (session.closed) {
+                throw new IllegalArgumentException("업로드 세션을 찾을 수 없습니다");
+            }
+
+            // 이미 받은 청크의 재전송은 무시 (재시도 멱등성)
+            if (session.isReceived(index)) {
+                return session.toResponse();
+            }
+
+            byte[] buffer = new byte[IO_BUFFER_SIZE];
+            long written = 0;
+            int read;
+            while ((read = data.read(buffer)) != -1) {
+                if (written + read > expectedLength) {
+                    throw new IllegalArgumentException("청크 크기가 올바르지 않습니다. 예상: " + expectedLength);
+                }
+                ByteBuffer byteBuffer = ByteBuffer.wrap(buffer, 0, read);
+                while (byteBuffer.hasRemaining()) {
+                    written += session.channel.write(byteBuffer, offset + written);
+                }
+            }
+
+            if (written != expectedLength) {
+                throw new IllegalArgumentException("청크 크기가 올바르지 않습니다. 예상: " + expectedLength + ", 실제: " + written);
+            }
+
+            // 청크 데이터를 디스크에 내린 뒤에 수신 목록에 기록 (재시작 후 빈 청크를 받은 것으로 보지 않도록)
+            session.channel.force(false);
+            synchronized (session) {
+                session.markReceived(index, expectedLength);
+                persist(session);
+            }
+            return session.toResponse();
+        } catch (IOException e) {
+            throw new RuntimeException("청크 저장 실패: " + e.getMessage(), e);
+        } finally {
+            session.lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public UploadSessionResponse getStatus(String userEmail, String uploadId) {
+        return findSession(userEmail, uploadId).toResponse();
+    }
+
+    @Override
+    public FileUploadResponse complete(String userEmail, String uploadId) {
+        User user = findUser(userEmail);
+        UploadSession session = findSession(user, uploadId);
+
+        // 진행 중인 청크 기록이 끝나기를 기다린 뒤 닫아서, 이후 기록이 옮겨진 파일에 쓰지 않도록
+        String checksum;
+        session.lock.writeLock().lock();
+        try {
+            if (session.closed) {
+                throw new IllegalArgumentException("업로드 세션을 찾을 수 없습니다");
+            }
+            if (!session.isComplete()) {
+                throw new IllegalStateException("아직 수신되지 않은 청크가 있습니다");
+            }
+            checksum = Hex.encodeHexString(session.digest.digest());
+            session.closed = true;
+            sessions.remove(uploadId);
+        } finally {
+            session.lock.writeLock().unlock();
+        }
+
+        if (StringUtils.hasText(session.expectedSha256) && !session.expectedSha256.equalsIgnoreCase(checksum)) {
+            discard(session);
+            throw new IllegalStateException("파일 해시가 일치하지 않습니다");
+        }
+
+        String fileName = UUID.randomUUID() + "_" + session.originalName;
+        Path uploadPath = uploadDir.resolve(fileName);
+
+        try {
+            session.channel.force(false);
+            session.channel.close();
+            try {
+                Files.move(session.partialPath, uploadPath, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                // 임시 디렉터리와 업로드 디렉터리가 다른 파일시스템이면 복사 후 삭제로 옮김
+                // (옮기는 중인 파일은 아직 DB 에 등록되지 않아 노출되지 않음)
+                Files.move(session.partialPath, uploadPath);
+            }
+            Files.deleteIfExists(metadataPath(uploadId));
+        } catch (IOException e) {
+            discard(session);
+            throw new RuntimeException("파일 저장 실패: " + e.getMessage(), e);
+        }
+
+        AgoraFile agoraFile = AgoraFile.builder()
+                .uploadedBy(user)
+                .fileName(fileName)
+                .originalName(session.originalName)
+                .filePath(uploadPath.toString())
+                .fileUrl("/api/agora/files/" + fileName)
+                .fileSize(session.totalSize)
+                .mimeType(session.mimeType)
+                .fileType(AgoraFile.FileType.fromMimeType(session.mimeType))
+                .build();
+
+        AgoraFile saved = agoraFileRepository.save(agoraFile);
+        log.info("Upload session completed: {} -> fileId {} (sha256 {})", uploadId, saved.getId(), checksum);
+        return FileUploadResponse.from(saved);
+    }
+
+    @Override
+    public String abort(String userEmail, String uploadId) {
+        UploadSession session = findSession(userEmail, uploadId);
+        if (close(session)) {
+            sessions.remove(uploadId);
+            discard(session);
+        }
+        return "업로드가 취소되었습니다";
+    }
+
+    @Override
+    public int cleanupExpiredSessions() {
+        LocalDateTime now = LocalDateTime.now();
+        int removed = 0;
+
+        Iterator<UploadSession> iterator = sessions.values().iterator();
+        while (iterator.hasNext()) {
+            UploadSession session = iterator.next();
+            if (session.expiresAt.isBefore(now) && close(session)) {
+                iterator.remove();
+                discard(session);
+                removed++;
+            }
+        }
+
+        // 재시작 등으로 세션이 사라진 임시 파일 정리
+        long ttlMillis = sessionTtlHours * 3600_000L;
+        try (Stream<Path> files = Files.list(partialDir)) {
+            for (Path path : (Iterable<Path>) files::iterator) {
+                // {uploadId}.part, {uploadId}.json, {uploadId}.json.tmp
+                String name = path.getFileName().toString();
+                String uploadId = name.contains(".") ? name.substring(0, name.indexOf('.')) : name;
+                if (!sessions.containsKey(uploadId)
+                        && Files.getLastModifiedTime(path).toMillis() < System.currentTimeMillis() - ttlMillis) {
+                    Files.deleteIfExists(path);
+                    removed++;
+                }
+            }
+        } catch (IOException e) {
+            log.warn("임시 업로드 파일 정리 실패: {}", e.getMessage());
+        }
+
+        return removed;
+    }
+
+    private User findUser(String userEmail) {
+        return userRepository.findByEmail(userEmail)
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다"));
+    }
+
+    private UploadSession findSession(String userEmail, String uploadId) {
+        return findSession(findUser(userEmail), uploadId);
+    }
+
+    private UploadSession findSession(User user, String uploadId) {
+        UploadSession session = sessions.get(uploadId);
+        if (session == null || session.expiresAt.isBefore(LocalDateTime.now())) {
+            throw new IllegalArgumentException("업로드 세션을 찾을 수 없습니다");
+        }
+        if (!session.userId.equals(user.getId())) {
+            throw new IllegalStateException("본인의 업로드 세션만 사용할 수 있습니다");
+        }
+        return session;
+    }
+
+    private long activeSessionCount(Long userId) {
+        LocalDateTime now = LocalDateTime.now();
+        return sessions.values().stream()
+                .filter(session -> session.userId.equals(userId) && !session.expiresAt.isBefore(now))
+                .count();
+    }
+
+    /**
+     * 진행 중인 청크 기록이 끝나기를 기다려 세션을 닫는다
+     *
+     * @return 이 호출이 닫았으면 true (이미 닫혀 있으면 false)
+     */
+    private boolean close(UploadSession session) {
+        session.lock.writeLock().lock();
+        try {
+            if (session.closed) {
+                return false;
+            }
+            session.closed = true;
+            return true;
+        } finally {
+            session.lock.writeLock().unlock();
+        }
+    }
+
+    private void discard(UploadSession session) {
+        try {
+            session.channel.close();
+            Files.deleteIfExists(session.partialPath);
+            Files.deleteIfExists(metadataPath(session.uploadId));
+        } catch (IOException e) {
+            log.warn("임시 업로드 파일 삭제 실패: {}", e.getMessage());
+        }
+    }
+
+    private Path metadataPath(String uploadId) {
+        return partialDir.resolve(uploadId + METADATA_SUFFIX);
+    }
+
+    /**
+     * 세션 메타데이터를 임시 파일에 쓴 뒤 원자적으로 교체 (세션 잠금 안에서 호출)
+     */
+    private void persist(UploadSession session) throws IOException {
+        Path target = metadataPath(session.uploadId);
+        Path temp = partialDir.resolve(session.uploadId + METADATA_SUFFIX + ".tmp");
+        objectMapper.writeValue(temp.toFile(), session.toMetadata());
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private void restore(Path metadataFile) {
+        try {
+            SessionMetadata metadata = objectMapper.readValue(metadataFile.toFile(), SessionMetadata.class);
+            Path partialPath = partialDir.resolve(metadata.uploadId() + PARTIAL_SUFFIX);
+            if (metadata.expiresAt().isBefore(LocalDateTime.now()) || !Files.exists(partialPath)) {
+                deleteQuietly(partialPath);
+                deleteQuietly(metadataFile);
+                return;
+            }
+
+            FileChannel channel = new RandomAccessFile(partialPath.toFile(), "rw").getChannel();
+            try {
+                UploadSession session = new UploadSession(metadata.uploadId(), metadata.userId(),
+                        metadata.originalName(), metadata.mimeType(), metadata.totalSize(), metadata.chunkSize(),
+                        metadata.expectedSha256(), partialPath, channel, metadata.expiresAt(),
+                        BitSet.valueOf(metadata.receivedChunks()));
+                session.advanceDigest();
+                sessions.put(session.uploadId, session);
+            } catch (IOException | RuntimeException e) {
+                channel.close();
+                throw e;
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("업로드 세션 복원 실패 ({}): {}", metadataFile.getFileName(), e.getMessage());
+        }
+    }
+
+    private void closeQuietly(RandomAccessFile file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            file.close();
+        } catch (IOException e) {
+            log.warn("임시 업로드 파일 닫기 실패: {}", e.getMessage());
+        }
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("임시 업로드 파일 삭제 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 재시작 후 세션을 복원하기 위한 메타데이터 ({uploadId}.json)
+     *
+     * @param receivedChunks 수신한 청크 번호 (BitSet.toLongArray)
+     */
+    record SessionMetadata(String uploadId, Long userId, String originalName, String mimeType, long totalSize,
+                           int chunkSize, String expectedSha256, LocalDateTime expiresAt, long[] receivedChunks) {
+    }
+
+    /**
+     * 진행 중인 업로드 상태
+     * 청크는 병렬로 도착할 수 있으므로, 해시는 앞에서부터 연속으로 수신된 구간까지만 순서대로 누적한다.
+     */
+    private static class UploadSession {
+
+        private final String uploadId;
+        private final Long userId;
+        private final String originalName;
+        private final String mimeType;
+        private final long totalSize;
+        private final int chunkSize;
+        private final int totalChunks;
+        private final String expectedSha256;
+        private final Path partialPath;
+        private final FileChannel channel;
+        private final LocalDateTime expiresAt;
+
+        private final BitSet received;
+        private final MessageDigest digest;
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        private boolean closed; // lock 의 쓰기 잠금 안에서만 변경
+        private long receivedBytes;
+        private int hashedChunks;
+
+        UploadSession(String uploadId, Long userId, String originalName, String mimeType, long totalSize,
+                      int chunkSize, String expectedSha256, Path partialPath, FileChannel channel,
+                      LocalDateTime expiresAt, BitSet received) {
+            this.uploadId = uploadId;
+            this.userId = userId;
+            this.originalName = originalName;
+            this.mimeType = mimeType;
+            this.totalSize = totalSize;
+            this.chunkSize = chunkSize;
+            this.totalChunks = (int) ((totalSize + chunkSize - 1) / chunkSize);
+            this.expectedSha256 = expectedSha256;
+            this.partialPath = partialPath;
+            this.channel = channel;
+            this.expiresAt = expiresAt;
+            this.received = received;
+            for (int i = received.nextSetBit(0); i >= 0 && i < totalChunks; i = received.nextSetBit(i + 1)) {
+                receivedBytes += Math.min(chunkSize, totalSize - (long) i * chunkSize);
+            }
+            try {
+                this.digest = MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 not available", e);
+            }
+        }
+
+        synchronized boolean isReceived(int index) {
+            return received.get(index);
+        }
+
+        synchronized boolean isComplete() {
+            return hashedChunks == totalChunks;
+        }
+
+        synchronized void markReceived(int index, long length) throws IOException {
+            if (received.get(index)) {
+                return;
+            }
+            received.set(index);
+            receivedBytes += length;
+            advanceDigest();
+        }
+
+        /**
+         * 앞에서부터 연속으로 수신된 청크까지 해시 누적
+         */
+        synchronized void advanceDigest() throws IOException {
+            ByteBuffer buffer = null;
+            while (hashedChunks < totalChunks && received.get(hashedChunks)) {
+                if (buffer == null) {
+                    buffer = ByteBuffer.allocate(IO_BUFFER_SIZE);
+                }
+                long position = (long) hashedChunks * chunkSize;
+                long end = Math.min(position + chunkSize, totalSize);
+                while (position < end) {
+                    buffer.clear();
+                    buffer.limit((int) Math.min(buffer.capacity(), end - position));
+                    int read = channel.read(buffer, position);
+                    if (read < 0) {
+                        throw new EOFException("Unexpected end of partial upload " + uploadId);
+                    }
+                    buffer.flip();
+                    digest.update(buffer);
+                    position += read;
+                }
+                hashedChunks++;
+            }
+        }
+
+        synchronized SessionMetadata toMetadata() {
+            return new SessionMetadata(uploadId, userId, originalName, mimeType, totalSize, chunkSize,
+                    expectedSha256, expiresAt, received.toLongArray());
+        }
+
+        synchronized UploadSessionResponse toResponse() {
+            List<Long> missingOffsets = new ArrayList<>();
+            for (int i = received.nextClearBit(0); i < totalChunks; i = received.nextClearBit(i + 1)) {
+                missingOffsets.add((long) i * chunkSize);
+            }
+
+            return UploadSessionResponse.builder()
+                    .uploadId(uploadId)
+                    .originalName(originalName)
+                    .mimeType(mimeType)
+                    .totalSize(totalSize)
+                    .chunkSize(chunkSize)
+                    .totalChunks(totalChunks)
+                    .receivedBytes(receivedBytes)
+                    .missingOffsets(missingOffsets)
+                    .completable(missingOffsets.isEmpty())
+                    .expiresAt(expiresAt)
+                    .build();
+        }
+    }
+}
@@ -1,63 +1,204 @@
 package kr.hyfata.rest.api.service.impl;
 
-import com.google.firebase.messaging.FirebaseMessaging;
-import com.google.firebase.messaging.Message;
-import com.google.firebase.messaging.Notification;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import kr.hyfata.rest.api.repository.agora.FcmTokenRepository;
 import kr.hyfata.rest.api.service.FCMService;
+import kr.hyfata.rest.api.service.PushGateway;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
+/**
+ * 푸시 발송 엔진
+ * <p>
+ * 수신자 전체의 토큰을 한 번에 조회한 뒤 최대 500개씩 묶어 멀티캐스트로 발송합니다.
+ * 발송은 기본 @Async 풀과 분리된 전용 풀에서 실행되고, 일시적 오류는 지수 백오프로 재시도하며,
+ * 더 이상 유효하지 않은 토큰은 삭제합니다.
+ * 배치 호출 시간(hyfata.push.batch), 토큰별 결과(hyfata.push.tokens), 버린 작업 수(hyfata.push.dropped)와
+ * 발송 풀의 대기열(executor.*, name=push)을 메트릭으로 남깁니다.
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class FCMServiceImpl implements FCMService {
 
-    private final FirebaseMessaging firebaseMessaging;
+    private final PushGateway pushGateway;
     private final FcmTokenRepository fcmTokenRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${push.executor.pool-size:4}")
+    private int poolSize;
+
+    @Value("${push.executor.queue-capacity:1000}")
+    private int queueCapacity;
+
+    @Value("${push.retry.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${push.retry.initial-backoff-ms:500}")
+    private long initialBackoffMs;
+
+    private ExecutorService pushExecutor;
+
+    @PostConstruct
+    void initExecutor() {
+        AtomicInteger threadCount = new AtomicInteger();
+        pushExecutor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "push-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        new ExecutorServiceMetrics(pushExecutor, "push", Tags.empty()).bindTo(meterRegistry);
+    }
+
+    @PreDestroy
+    void shutdownExecutor() {
+        pushExecutor.shutdown();
+    }
 
     @Override
     public void sendNotification(String fcmToken, String title, String message) {
-        if (firebaseMessaging == null || fcmToken == null || fcmToken.isEmpty()) {
-            log.warn("Cannot send notification: FirebaseMessaging is null or token is empty");
+        if (fcmToken == null || fcmToken.isEmpty()) {
+            log.warn("Cannot send notification: token is empty");
             return;
         }
+        submit(() -> deliver(List.of(fcmToken), title, message, null));
+    }
 
-        try {
-            Message msg = Message.builder()
-                    .setNotification(Notification.builder()
-                            .setTitle(title)
-                            .setBody(message)
-                            .build())
-                    .setToken(fcmToken)
-                    .build();
+    @Override
+    public void sendNotificationToUser(Long userId, String title, String message) {
+        sendNotificationToMultipleUsers(List.of(userId), title, message, null);
+    }
 
-            String response = firebaseMessaging.send(msg);
-            log.info("Successfully sent notification to token: {}, messageId: {}", fcmToken, response);
-        } catch (Exception e) {
-            log.error("Failed to send notification to token {}: {}", fcmToken, e.getMessage());
-        }
+    @Override
+    public void sendNotificationToMultipleUsers(List<Long> userIds, String title, String message) {
+        sendNotificationToMultipleUsers(userIds, title, message, null);
     }
 
     @Override
-    public void sendNotificationToUser(Long userId, String title, String message) {
+    public void sendNotificationToMultipleUsers(List<Long> userIds, String title, String message, Map<String, String> data) {
+        if (userIds == null || userIds.isEmpty()) {
+            return;
+        }
+        submit(() -> {
+            List<String> tokens = fcmTokenRepository.findTokensByUserIdIn(new LinkedHashSet<>(userIds));
+            deliver(tokens, title, message, data);
+        });
+    }
+
+    private void submit(Runnable task) {
+        if (!pushGateway.isAvailable()) {
+            // Firebase 미설정 환경: 토큰 조회와 발송 모두 생략
+            log.debug("Push gateway unavailable, skipping push task");
+            return;
+        }
         try {
-            List<String> tokens = fcmTokenRepository.findTokensByUserId(userId);
-            for (String token : tokens) {
-                sendNotification(token, title, message);
-            }
-        } catch (Exception e) {
-            log.error("Failed to send notification to user {}: {}", userId, e.getMessage());
+            pushExecutor.execute(() -> {
+                try {
+                    task.run();
+                } catch (Exception e) {
+                    log.error("Push delivery failed: {}", e.getMessage(), e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 푸시는 best-effort: 큐가 가득 차면 요청 스레드를 막지 않고 버림
+            meterRegistry.counter("hyfata.push.dropped").increment();
+            log.warn("Push executor saturated (queue {}), dropping push task", queueCapacity);
         }
     }
 
-    @Override
-    public void sendNotificationToMultipleUsers(List<Long> userIds, String title, String message) {
-        for (Long userId : userIds) {
-            sendNotificationToUser(userId, title, message);
+    /**
+     * 토큰 목록을 배치 단위로 발송 (발송 스레드에서 실행)
+     */
+    void deliver(List<String> tokens, String title, String message, Map<String, String> data) {
+        if (tokens.isEmpty()) {
+            return;
+        }
+
+        List<String> unregistered = new ArrayList<>();
+        int sent = 0;
+
+        for (int from = 0; from < tokens.size(); from += PushGateway.MAX_BATCH_SIZE) {
+            List<String> batch = tokens.subList(from, Math.min(from + PushGateway.MAX_BATCH_SIZE, tokens.size()));
+            sent += deliverBatch(batch, title, message, data, unregistered);
+        }
+
+        if (!unregistered.isEmpty()) {
+            int deleted = fcmTokenRepository.deleteByTokenIn(unregistered);
+            log.info("Pruned {} unregistered FCM tokens", deleted);
         }
+
+        log.info("Push delivered to {}/{} tokens", sent, tokens.size());
+    }
+
+    private int deliverBatch(List<String> batch, String title, String message, Map<String, String> data,
+                             List<String> unregistered) {
+        List<String> pending = batch;
+        long backoff = initialBackoffMs;
+        int sent = 0;
+
+        for (int attempt = 1; attempt <= maxAttempts && !pending.isEmpty(); attempt++) {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            List<PushGateway.Result> results = pushGateway.sendEach(pending, title, message, data);
+            sample.stop(meterRegistry.timer("hyfata.push.batch"));
+            countResults(results);
+
+            List<String> retry = new ArrayList<>();
+            for (int i = 0; i < pending.size(); i++) {
+                switch (results.get(i)) {
+                    case SUCCESS -> sent++;
+                    case UNREGISTERED -> unregistered.add(pending.get(i));
+                    case RETRYABLE -> retry.add(pending.get(i));
+                    case FAILED -> log.warn("Failed to send notification to token {}", pending.get(i));
+                }
+            }
+
+            pending = retry;
+            if (!pending.isEmpty() && attempt < maxAttempts) {
+                try {
+                    Thread.sleep(backoff);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+                backoff *= 2;
+            }
+        }
+
+        if (!pending.isEmpty()) {
+            log.warn("Giving up on {} tokens after {} attempts", pending.size(), maxAttempts);
+        }
+        return sent;
+    }
+
+    private void countResults(List<PushGateway.Result> results) {
+        Map<PushGateway.Result, Integer> counts = new EnumMap<>(PushGateway.Result.class);
+        results.forEach(result -> counts.merge(result, 1, Integer::sum));
+        counts.forEach((result, count) -> meterRegistry
+                .counter("hyfata.push.tokens", "result", result.name().toLowerCase(Locale.ROOT))
+                .increment(count));
     }
 }
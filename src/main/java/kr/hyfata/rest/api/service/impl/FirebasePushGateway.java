@@ -0,0 +1,87 @@
+package kr.hyfata.rest.api.service.impl;
+
+import com.google.firebase.messaging.BatchResponse;
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.MessagingErrorCode;
+import com.google.firebase.messaging.MulticastMessage;
+import com.google.firebase.messaging.Notification;
+import com.google.firebase.messaging.SendResponse;
+import kr.hyfata.rest.api.service.PushGateway;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+@Component
+@Slf4j
+public class FirebasePushGateway implements PushGateway {
+
+    // Firebase 설정이 없으면 null (FCMConfig 참고)
+    private final FirebaseMessaging firebaseMessaging;
+
+    public FirebasePushGateway(ObjectProvider<FirebaseMessaging> firebaseMessaging) {
+        this.firebaseMessaging = firebaseMessaging.getIfAvailable();
+    }
+
+    @Override
+    public boolean isAvailable() {
+        return firebaseMessaging != null;
+    }
+
+    @Override
+    public List<Result> sendEach(List<String> tokens, String title, String body, Map<String, String> data) {
+        if (firebaseMessaging == null) {
+            log.warn("Cannot send notification: FirebaseMessaging is null");
+            return Collections.nCopies(tokens.size(), Result.FAILED);
+        }
+
+        MulticastMessage.Builder builder = MulticastMessage.builder()
+                .setNotification(Notification.builder()
+                        .setTitle(title)
+                        .setBody(body)
+                        .build())
+                .addAllTokens(tokens);
+        if (data != null && !data.isEmpty()) {
+            builder.putAllData(data);
+        }
+
+        try {
+            BatchResponse response = firebaseMessaging.sendEachForMulticast(builder.build());
+
+            List<Result> results = new ArrayList<>(tokens.size());
+            for (SendResponse sendResponse : response.getResponses()) {
+                results.add(sendResponse.isSuccessful()
+                        ? Result.SUCCESS
+                        : classify(sendResponse.getException()));
+            }
+            return results;
+        } catch (FirebaseMessagingException e) {
+            // 배치 전체 실패
+            log.warn("Multicast send failed for {} tokens: {}", tokens.size(), e.getMessage());
+            return Collections.nCopies(tokens.size(), classify(e));
+        }
+    }
+
+    private Result classify(FirebaseMessagingException e) {
+        if (e == null || e.getMessagingErrorCode() == null) {
+            return Result.FAILED;
+        }
+        MessagingErrorCode code = e.getMessagingErrorCode();
+        switch (code) {
+            case UNREGISTERED:
+            case SENDER_ID_MISMATCH:
+                return Result.UNREGISTERED;
+            case UNAVAILABLE:
+            case INTERNAL:
+            case QUOTA_EXCEEDED:
+                return Result.RETRYABLE;
+            default:
+                return Result.FAILED;
+        }
+    }
+}
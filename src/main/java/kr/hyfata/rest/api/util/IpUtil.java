@@ -4,6 +4,8 @@ import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
+import java.util.function.Predicate;
+
 /**
  * 클라이언트 IP 주소 추출 유틸리티
  */
@@ -51,6 +53,35 @@ public class IpUtil {
         return StringUtils.hasText(remoteAddr) ? remoteAddr : "unknown";
     }
 
+    /**
+     * 신뢰하는 프록시를 거친 경우에만 X-Forwarded-For 를 따라 클라이언트 IP 추출
+     * 직접 연결한 주소가 신뢰 프록시가 아니면 헤더는 클라이언트가 마음대로 넣을 수 있으므로 remoteAddr 를 그대로 쓰고,
+     * 신뢰 프록시면 X-Forwarded-For 를 오른쪽(가까운 홉)부터 읽어 처음 나오는 신뢰하지 않는 주소를 쓴다.
+     * 요청 한도처럼 위조되면 안 되는 곳에서 사용
+     */
+    public String getClientIp(HttpServletRequest request, Predicate<String> trustedProxy) {
+        String client = request.getRemoteAddr();
+        if (!StringUtils.hasText(client)) {
+            return "unknown";
+        }
+        String forwardedFor = request.getHeader("X-Forwarded-For");
+        if (!trustedProxy.test(client) || !StringUtils.hasText(forwardedFor)) {
+            return client;
+        }
+        String[] hops = forwardedFor.split(",");
+        for (int i = hops.length - 1; i >= 0; i--) {
+            String hop = hops[i].trim();
+            if (!StringUtils.hasText(hop)) {
+                break;
+            }
+            client = hop;
+            if (!trustedProxy.test(hop)) {
+                break;
+            }
+        }
+        return client;
+    }
+
     /**
      * IP 주소가 유효한지 확인
      */
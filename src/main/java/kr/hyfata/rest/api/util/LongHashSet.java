@@ -0,0 +1,176 @@
+package kr.hyfata.rest.api.util;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * long 값 전용 해시 집합 (open addressing, linear probing)
+ * Long 박싱 없이 ID 집합을 보관하여 contains 를 O(1) 로 처리한다.
+ * 스레드 안전하지 않으므로 공유할 때는 copy() 로 복사한 뒤 수정하고 교체해야 한다.
+ */
+public final class LongHashSet {
+
+    private static final long EMPTY = 0L;
+    private static final int MIN_CAPACITY = 8;
+
+    private long[] keys;
+    private int mask;
+    private int size;
+    private boolean containsZero;
+
+    public LongHashSet() {
+        this(MIN_CAPACITY / 2);
+    }
+
+    public LongHashSet(int expectedSize) {
+        int capacity = MIN_CAPACITY;
+        while (capacity < expectedSize * 2) {
+            capacity <<= 1;
+        }
+        keys = new long[capacity];
+        mask = capacity - 1;
+    }
+
+    public static LongHashSet of(Collection<Long> values) {
+        LongHashSet set = new LongHashSet(values.size());
+        for (Long value : values) {
+            set.add(value);
+        }
+        return set;
+    }
+
+    public boolean contains(long value) {
+        if (value == EMPTY) {
+            return containsZero;
+        }
+        for (int i = slot(value); ; i = (i + 1) & mask) {
+            long key = keys[i];
+            if (key == EMPTY) {
+                return false;
+            }
+            if (key == value) {
+                return true;
+            }
+        }
+    }
+
+    public boolean add(long value) {
+        if (value == EMPTY) {
+            if (containsZero) {
+                return false;
+            }
+            containsZero = true;
+            size++;
+            return true;
+        }
+        int i = slot(value);
+        for (; keys[i] != EMPTY; i = (i + 1) & mask) {
+            if (keys[i] == value) {
+                return false;
+            }
+        }
+        keys[i] = value;
+        if (++size * 2 > keys.length) {
+            resize(keys.length << 1);
+        }
+        return true;
+    }
+
+    public boolean remove(long value) {
+        if (value == EMPTY) {
+            if (!containsZero) {
+                return false;
+            }
+            containsZero = false;
+            size--;
+            return true;
+        }
+        int i = slot(value);
+        for (; keys[i] != value; i = (i + 1) & mask) {
+            if (keys[i] == EMPTY) {
+                return false;
+            }
+        }
+        keys[i] = EMPTY;
+        size--;
+
+        // 뒤따르는 키를 당겨 탐색 체인이 끊기지 않게 한다 (삭제 표식 없이 유지)
+        for (int j = (i + 1) & mask; keys[j] != EMPTY; j = (j + 1) & mask) {
+            int home = slot(keys[j]);
+            boolean between = i <= j ? (i < home && home <= j) : (i < home || home <= j);
+            if (!between) {
+                keys[i] = keys[j];
+                keys[j] = EMPTY;
+                i = j;
+            }
+        }
+        return true;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public long[] toArray() {
+        long[] result = new long[size];
+        int n = 0;
+        if (containsZero) {
+            result[n++] = EMPTY;
+        }
+        for (long key : keys) {
+            if (key != EMPTY) {
+                result[n++] = key;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 두 집합에 모두 있는 값 (작은 집합을 순회)
+     */
+    public long[] intersect(LongHashSet other) {
+        LongHashSet small = size <= other.size ? this : other;
+        LongHashSet large = small == this ? other : this;
+        long[] result = new long[small.size];
+        int n = 0;
+        for (long value : small.toArray()) {
+            if (large.contains(value)) {
+                result[n++] = value;
+            }
+        }
+        return Arrays.copyOf(result, n);
+    }
+
+    public LongHashSet copy() {
+        LongHashSet copy = new LongHashSet(0);
+        copy.keys = keys.clone();
+        copy.mask = mask;
+        copy.size = size;
+        copy.containsZero = containsZero;
+        return copy;
+    }
+
+    private void resize(int capacity) {
+        long[] old = keys;
+        keys = new long[capacity];
+        mask = capacity - 1;
+        for (long key : old) {
+            if (key != EMPTY) {
+                int i = slot(key);
+                while (keys[i] != EMPTY) {
+                    i = (i + 1) & mask;
+                }
+                keys[i] = key;
+            }
+        }
+    }
+
+    private int slot(long value) {
+        long h = value * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+}
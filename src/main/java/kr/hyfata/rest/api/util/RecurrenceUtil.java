@@ -0,0 +1,80 @@
+package kr.hyfata.rest.api.util;
+
+import kr.hyfata.rest.api.entity.agora.Event;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 반복 일정 전개 유틸리티
+ * 원본 일정의 반복 규칙을 조회 구간 [windowStart, windowEnd) 안에서만 펼친다.
+ */
+public final class RecurrenceUtil {
+
+    private RecurrenceUtil() {
+    }
+
+    /**
+     * 조회 구간과 겹치는 발생 시작 시각 목록
+     *
+     * @param recurrence     반복 주기 (NONE이면 원본 한 번)
+     * @param interval       반복 간격 (null 또는 1 미만이면 1)
+     * @param start          원본 시작 시각
+     * @param end            원본 종료 시각
+     * @param until          반복 종료 시각 (포함, null이면 무기한)
+     * @param windowStart    조회 구간 시작 (포함)
+     * @param windowEnd      조회 구간 끝 (미포함)
+     * @param maxOccurrences 최대 반환 개수
+     */
+    public static List<LocalDateTime> expand(Event.Recurrence recurrence, Integer interval,
+                                             LocalDateTime start, LocalDateTime end, LocalDateTime until,
+                                             LocalDateTime windowStart, LocalDateTime windowEnd,
+                                             int maxOccurrences) {
+        Duration duration = end.isBefore(start) ? Duration.ZERO : Duration.between(start, end);
+        List<LocalDateTime> occurrences = new ArrayList<>();
+
+        if (recurrence == null || recurrence == Event.Recurrence.NONE) {
+            if (overlaps(start, start.plus(duration), windowStart, windowEnd)) {
+                occurrences.add(start);
+            }
+            return occurrences;
+        }
+
+        int step = interval == null || interval < 1 ? 1 : interval;
+        ChronoUnit unit = switch (recurrence) {
+            case DAILY -> ChronoUnit.DAYS;
+            case WEEKLY -> ChronoUnit.WEEKS;
+            case MONTHLY -> ChronoUnit.MONTHS;
+            case YEARLY -> ChronoUnit.YEARS;
+            case NONE -> throw new IllegalStateException();
+        };
+
+        // 구간 이전의 발생은 계산으로 건너뛴다 (한 칸 앞에서 시작해 경계 오차를 흡수)
+        long skip = unit.between(start, windowStart.minus(duration)) / step - 1;
+        long index = Math.max(0, skip);
+
+        while (occurrences.size() < maxOccurrences) {
+            // 월/연 반복은 원본 기준으로 더해야 31일 등이 말일로 고정되지 않는다
+            LocalDateTime occurrence = start.plus(index * step, unit);
+            if (!occurrence.isBefore(windowEnd) || (until != null && occurrence.isAfter(until))) {
+                break;
+            }
+            if (overlaps(occurrence, occurrence.plus(duration), windowStart, windowEnd)) {
+                occurrences.add(occurrence);
+            }
+            index++;
+        }
+        return occurrences;
+    }
+
+    /**
+     * [start, end] 가 [windowStart, windowEnd) 와 겹치는지 확인 (길이 0인 일정 포함)
+     */
+    public static boolean overlaps(LocalDateTime start, LocalDateTime end,
+                                   LocalDateTime windowStart, LocalDateTime windowEnd) {
+        return start.isBefore(windowEnd) && (end.isAfter(windowStart) || !start.isBefore(windowStart));
+    }
+}
@@ -0,0 +1,94 @@
+package kr.hyfata.rest.api.util;
+
+import java.text.Normalizer;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 검색어/검색 키 정규화 유틸리티
+ * <p>
+ * 사용자 검색: 한글 음절은 NFKD 로 자모까지 분해하여 두 글자 이름도 트라이그램(3글자) 인덱스를 탈 수 있게 하고,
+ * 전각 문자는 반각으로, 대소문자는 소문자로 맞추며 공백은 제거한다.
+ * V11 마이그레이션의 기존 행 채우기(normalize(lower(...), NFKD))와 같은 규칙이어야 한다.
+ * <p>
+ * 메시지 검색: V12 의 message_search_vector 와 같은 규칙으로 tsquery 를 만든다.
+ */
+public final class SearchTextUtil {
+
+    private static final char HANGUL_FIRST = '가';
+    private static final char HANGUL_LAST = '힣';
+
+    private SearchTextUtil() {
+    }
+
+    /**
+     * 표시 이름 검색 키 (agora_user_profiles.search_name)
+     */
+    public static String normalizeName(String text) {
+        if (text == null) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(text.toLowerCase(Locale.ROOT), Normalizer.Form.NFKD);
+        return normalized.replaceAll("\\s+", "");
+    }
+
+    /**
+     * agoraId 검색 키 (lower(agora_id) 와 비교)
+     */
+    public static String normalizeAgoraId(String text) {
+        return text == null ? "" : text.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * LIKE 패턴에 그대로 넣을 수 있도록 와일드카드(%, _)와 이스케이프 문자(\) 이스케이프
+     */
+    public static String escapeLike(String text) {
+        return text.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    /**
+     * 메시지 검색어를 to_tsquery('simple', ...) 입력으로 변환 (검색할 단어가 없으면 null)
+     * 두 글자 이상의 한글 구간은 2글자 어휘소의 AND 로(조사가 붙은 단어도 찾도록),
+     * 나머지 단어는 접두어 일치로 바꾸고 모든 조건을 AND 로 묶는다.
+     * 예: "철수가 보낸 file" → '철수' & '수가' & '보낸' & 'file':*
+     */
+    public static String toMessageTsQuery(String keyword) {
+        if (keyword == null) {
+            return null;
+        }
+        Set<String> terms = new LinkedHashSet<>();
+        String lower = keyword.toLowerCase(Locale.ROOT);
+        int i = 0;
+        while (i < lower.length()) {
+            char c = lower.charAt(i);
+            if (!Character.isLetterOrDigit(c)) {
+                i++;
+                continue;
+            }
+            boolean hangul = isHangul(c);
+            int start = i;
+            while (i < lower.length() && Character.isLetterOrDigit(lower.charAt(i))
+                    && isHangul(lower.charAt(i)) == hangul) {
+                i++;
+            }
+            String run = lower.substring(start, i);
+            if (hangul && run.length() >= 2) {
+                for (int j = 0; j + 2 <= run.length(); j++) {
+                    terms.add(quoteLexeme(run.substring(j, j + 2)));
+                }
+            } else {
+                terms.add(quoteLexeme(run) + ":*");
+            }
+        }
+        return terms.isEmpty() ? null : String.join(" & ", terms);
+    }
+
+    private static boolean isHangul(char c) {
+        return c >= HANGUL_FIRST && c <= HANGUL_LAST;
+    }
+
+    private static String quoteLexeme(String lexeme) {
+        return "'" + lexeme.replace("\\", "\\\\").replace("'", "''") + "'";
+    }
+}
@@ -0,0 +1,27 @@
+-- 생일 조회용 월·일 서수 인덱스와 매일 미리 계산하는 생일 알림 다이제스트
+-- 연중 일수(day-of-year)는 윤년 여부에 따라 3월 이후 값이 하루씩 밀리므로 월*100+일(MMDD) 값을 키로 쓴다.
+-- 조회 쿼리는 BirthdayDigestService.BIRTHDAY_MMDD 와 같은 식을 써야 이 인덱스를 탄다.
+CREATE INDEX IF NOT EXISTS idx_agora_profiles_birthday_mmdd
+    ON agora_user_profiles ((EXTRACT(MONTH FROM birthday)::int * 100 + EXTRACT(DAY FROM birthday)::int))
+    WHERE birthday IS NOT NULL;
+
+-- 사용자별로 다가오는 친구 생일 (digest_date 기준으로 계산된 값, 매일 새벽 다시 만든다)
+CREATE TABLE IF NOT EXISTS birthday_digests (
+    user_id BIGINT NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    friend_id BIGINT NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    birthday DATE NOT NULL,
+    next_birthday DATE NOT NULL,
+    days_until INTEGER NOT NULL,
+    digest_date DATE NOT NULL,
+    PRIMARY KEY (user_id, friend_id)
+);
+CREATE INDEX IF NOT EXISTS idx_birthday_digests_date_days ON birthday_digests (digest_date, days_until);
+
+-- 다이제스트 생성이 끝난 날짜 (해당 날짜의 행이 없을 때 "생일 없음"과 "아직 생성 전"을 구분)
+CREATE TABLE IF NOT EXISTS birthday_digest_runs (
+    digest_date DATE PRIMARY KEY,
+    row_count INTEGER NOT NULL,
+    completed_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    -- 생일 알림을 발행한 시각 (여러 인스턴스/재실행에서 한 번만 발행되도록 UPDATE 로 선점)
+    reminders_enqueued_at TIMESTAMP
+);
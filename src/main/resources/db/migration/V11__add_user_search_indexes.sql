@@ -0,0 +1,21 @@
+-- 사용자 검색 (AgoraProfileServiceImpl.searchUsers) 인덱스
+-- '%keyword%' 검색은 B-tree 로 받칠 수 없으므로 pg_trgm GIN 인덱스를, 짧은 검색어의 접두어 검색은
+-- text_pattern_ops B-tree 인덱스를 사용한다.
+-- 표시 이름은 SearchTextUtil.normalizeName 과 같은 규칙(소문자, NFKD 로 한글 자모 분해, 공백 제거)으로
+-- search_name 에 저장해 두 글자 한글 이름도 트라이그램을 만들 수 있게 한다.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+ALTER TABLE agora_user_profiles ADD COLUMN IF NOT EXISTS search_name VARCHAR(400);
+UPDATE agora_user_profiles
+SET search_name = regexp_replace(normalize(lower(display_name), NFKD), '\s+', '', 'g')
+WHERE search_name IS NULL;
+ALTER TABLE agora_user_profiles ALTER COLUMN search_name SET NOT NULL;
+
+CREATE INDEX IF NOT EXISTS idx_agora_profiles_agora_id_trgm
+    ON agora_user_profiles USING gin (lower(agora_id) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_agora_profiles_search_name_trgm
+    ON agora_user_profiles USING gin (search_name gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_agora_profiles_agora_id_prefix
+    ON agora_user_profiles (lower(agora_id) text_pattern_ops);
+CREATE INDEX IF NOT EXISTS idx_agora_profiles_search_name_prefix
+    ON agora_user_profiles (search_name text_pattern_ops);
@@ -0,0 +1,24 @@
+-- 메시지 전문 검색
+-- search_vector 는 content 로부터 계산되는 생성 컬럼이라 메시지 전송(INSERT)과 삭제(is_deleted 갱신) 시
+-- 그 행만 다시 계산된다. 삭제된 메시지는 NULL 이 되어 인덱스에서 빠진다.
+-- 한국어는 조사가 붙어 띄어쓰기 단위 단어로는 찾을 수 없으므로 한글 구간을 2글자(bigram) 단위 어휘소로도 넣는다.
+-- 검색어 쪽은 SearchTextUtil.toMessageTsQuery 가 같은 규칙으로 tsquery 를 만든다.
+CREATE EXTENSION IF NOT EXISTS btree_gin;
+
+CREATE OR REPLACE FUNCTION message_search_vector(content TEXT) RETURNS tsvector
+    LANGUAGE sql IMMUTABLE PARALLEL SAFE AS
+$$
+SELECT to_tsvector('simple', COALESCE(content, ''))
+    || COALESCE((
+        SELECT array_to_tsvector(array_agg(DISTINCT substr(run[1], i, 2)))
+        FROM regexp_matches(lower(COALESCE(content, '')), '[가-힣]{2,}', 'g') AS run,
+             generate_series(1, length(run[1]) - 1) AS i
+    ), ''::tsvector)
+$$;
+
+-- 기존 행이 있으면 테이블을 한 번 다시 쓴다 (트래픽이 적은 시간에 적용)
+ALTER TABLE messages ADD COLUMN IF NOT EXISTS search_vector tsvector
+    GENERATED ALWAYS AS (CASE WHEN is_deleted THEN NULL ELSE message_search_vector(content) END) STORED;
+
+-- 채팅방 검색(chat_id = ?)과 참여 중인 전체 채팅 검색(chat_id IN (...)) 모두 이 인덱스를 사용한다
+CREATE INDEX IF NOT EXISTS idx_messages_chat_search ON messages USING gin (chat_id, search_vector);
@@ -0,0 +1,24 @@
+-- 메일 발송 대기열 (outbox)
+-- 가입/2FA/비밀번호 재설정 트랜잭션 안에서 행을 넣고, EmailDispatcher 가 커밋 후 꺼내 SMTP 로 발송한다.
+-- 발송 중인 행은 next_attempt_at 을 임대 만료 시각으로 밀어 두므로, 노드가 발송 중에 죽어도 임대가 끝나면 다시 발송된다.
+-- 여러 노드는 FOR UPDATE SKIP LOCKED 로 서로 다른 행을 가져간다.
+CREATE SEQUENCE IF NOT EXISTS email_outbox_seq INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS email_outbox (
+    id BIGINT PRIMARY KEY DEFAULT nextval('email_outbox_seq'),
+    recipient VARCHAR(255) NOT NULL,
+    template VARCHAR(50) NOT NULL,
+    -- 템플릿 변수 (JSON 객체, 발송이 끝나면 비운다)
+    variables TEXT NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    attempts INTEGER NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP NOT NULL,
+    last_error VARCHAR(1000),
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    sent_at TIMESTAMP
+);
+
+-- 발송할 행 조회 (PENDING 이면서 next_attempt_at 이 지난 것)
+CREATE INDEX IF NOT EXISTS idx_email_outbox_due ON email_outbox (next_attempt_at) WHERE status = 'PENDING';
+-- 보관 기간이 지난 발송 완료/실패 행 정리
+CREATE INDEX IF NOT EXISTS idx_email_outbox_created ON email_outbox (created_at) WHERE status <> 'PENDING';
@@ -0,0 +1,36 @@
+-- 모듈 간 부수 효과(팀 채팅 참여자, 알림 등)를 위한 이벤트 outbox
+-- 발행하는 트랜잭션 안에서 행을 넣고, EventOutboxDispatcher 가 커밋 후 꺼내 핸들러에 전달한다 (최소 한 번 전달).
+-- 같은 aggregate 의 이벤트는 id 순서대로 하나씩 처리된다 (앞선 PENDING 이벤트가 있으면 뒤의 이벤트는 가져가지 않음).
+-- 처리 중인 행은 next_attempt_at 을 임대 만료 시각으로 밀어 두므로 노드가 죽어도 임대가 끝나면 다시 처리된다.
+CREATE SEQUENCE IF NOT EXISTS event_outbox_seq INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS event_outbox (
+    id BIGINT PRIMARY KEY DEFAULT nextval('event_outbox_seq'),
+    aggregate_type VARCHAR(50) NOT NULL,
+    aggregate_id BIGINT NOT NULL,
+    event_type VARCHAR(100) NOT NULL,
+    -- 같은 이벤트를 두 번 발행하지 않도록 발행자가 정하는 키
+    idempotency_key VARCHAR(200) NOT NULL UNIQUE,
+    payload TEXT NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    attempts INTEGER NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP NOT NULL,
+    last_error VARCHAR(1000),
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    processed_at TIMESTAMP
+);
+
+-- 처리할 이벤트 조회와 aggregate 별 앞선 이벤트 확인
+CREATE INDEX IF NOT EXISTS idx_event_outbox_due ON event_outbox (next_attempt_at) WHERE status = 'PENDING';
+CREATE INDEX IF NOT EXISTS idx_event_outbox_aggregate ON event_outbox (aggregate_type, aggregate_id, id) WHERE status = 'PENDING';
+-- 보관 기간이 지난 처리 완료/실패 행 정리
+CREATE INDEX IF NOT EXISTS idx_event_outbox_created ON event_outbox (created_at) WHERE status <> 'PENDING';
+
+-- 핸들러별 처리 기록 (재전달된 이벤트를 같은 핸들러가 다시 처리하지 않도록, 핸들러 트랜잭션 안에서 기록)
+CREATE TABLE IF NOT EXISTS processed_events (
+    consumer VARCHAR(100) NOT NULL,
+    idempotency_key VARCHAR(200) NOT NULL,
+    processed_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (consumer, idempotency_key)
+);
+CREATE INDEX IF NOT EXISTS idx_processed_events_processed_at ON processed_events (processed_at);
@@ -0,0 +1,5 @@
+-- messages / notices 는 ID 순서로 정렬하고 커서 페이지네이션을 하므로 ID 가 생성 순서를 따라야 한다.
+-- 50개 블록을 노드마다 미리 받아 두면 노드 간 ID 가 생성 순서와 어긋나므로 INCREMENT BY 1 로 되돌리고
+-- 엔티티도 allocationSize = 1 로 INSERT 마다 nextval 을 받는다. (다른 테이블은 ID 순서에 의존하지 않아 50 을 유지)
+ALTER SEQUENCE messages_seq INCREMENT BY 1;
+ALTER SEQUENCE notices_seq INCREMENT BY 1;
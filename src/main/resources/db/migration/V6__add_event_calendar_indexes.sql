@@ -0,0 +1,15 @@
+-- Calendar overlap indexes for events
+-- 단일 일정 겹침 조회: tsrange(start, end) && tsrange(from, to)
+-- 반복 일정 조회: 반복 원본만 담는 부분 인덱스
+DO $$
+BEGIN
+    -- events 테이블과 반복 컬럼은 JPA가 생성하므로 존재할 때만 인덱스를 만든다
+    IF EXISTS (SELECT 1 FROM information_schema.columns
+               WHERE table_name = 'events' AND column_name = 'recurrence') THEN
+        CREATE INDEX IF NOT EXISTS idx_events_time_range
+            ON events USING gist (tsrange(start_time, GREATEST(end_time, start_time), '[]'));
+        CREATE INDEX IF NOT EXISTS idx_events_recurring
+            ON events (team_id, start_time)
+            WHERE recurrence <> 'NONE';
+    END IF;
+END $$;
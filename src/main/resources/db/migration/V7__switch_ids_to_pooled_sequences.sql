@@ -0,0 +1,43 @@
+-- IDENTITY/BIGSERIAL 기본 키를 {table}_seq 시퀀스(INCREMENT BY 50)로 전환
+-- 엔티티는 @SequenceGenerator(allocationSize = 50) 로 ID 를 50개씩 미리 받아 INSERT 를 JDBC 배치로 묶는다.
+-- JDBC 로 직접 INSERT 하는 경로(알림 fan-out, 채팅 참여자 일괄 추가 등)도 같은 시퀀스를 쓰도록 컬럼 기본값을 바꾼다.
+-- nextval 한 번이 (v - 50, v] 범위를 차지하므로 기본값으로 받은 ID 와 Hibernate 가 할당한 ID 는 겹치지 않는다.
+-- 아직 없는 테이블(새 DB)은 V8 에서 같은 규칙으로 만든다.
+DO $$
+DECLARE
+    t TEXT;
+    seq TEXT;
+    old_seq TEXT;
+BEGIN
+    FOREACH t IN ARRAY ARRAY[
+        'users', 'clients', 'authorization_codes', 'login_history',
+        'chats', 'chat_participants', 'chat_folders', 'chat_folder_items',
+        'messages', 'message_attachments', 'message_read_status', 'files',
+        'friends', 'friend_requests', 'blocked_users', 'notifications', 'fcm_tokens',
+        'teams', 'team_members', 'team_roles', 'team_profiles', 'notices', 'todos', 'events'
+    ] LOOP
+        -- JPA 가 아직 만들지 않은 테이블은 건너뛴다
+        IF to_regclass(t) IS NULL THEN
+            CONTINUE;
+        END IF;
+
+        seq := t || '_seq';
+        old_seq := pg_get_serial_sequence(t, 'id');
+
+        EXECUTE format('CREATE SEQUENCE IF NOT EXISTS %I INCREMENT BY 50', seq);
+        EXECUTE format('ALTER SEQUENCE %I INCREMENT BY 50', seq);
+        -- 다음 nextval 이 기존 최대 ID 보다 큰 블록을 돌려주도록 맞춘다 (재실행해도 뒤로 돌아가지 않음)
+        EXECUTE format('SELECT setval(%L, GREATEST((SELECT last_value FROM %I), COALESCE((SELECT MAX(id) FROM %I), 0), 1))',
+                       seq, seq, t);
+
+        EXECUTE format('ALTER TABLE %I ALTER COLUMN id DROP IDENTITY IF EXISTS', t);
+        EXECUTE format('ALTER TABLE %I ALTER COLUMN id SET DEFAULT nextval(%L)', t, seq);
+        EXECUTE format('ALTER SEQUENCE %I OWNED BY %I.id', seq, t);
+
+        -- BIGSERIAL 로 만들어진 기존 시퀀스는 더 이상 쓰이지 않는다
+        IF old_seq IS NOT NULL AND to_regclass(old_seq) IS NOT NULL
+                AND to_regclass(old_seq) <> to_regclass(seq) THEN
+            EXECUTE 'DROP SEQUENCE ' || old_seq;
+        END IF;
+    END LOOP;
+END $$;
@@ -0,0 +1,410 @@
+-- 지금까지 JPA(ddl-auto=update)가 만들던 나머지 테이블을 마이그레이션으로 정의
+-- 기존 DB 에서는 이미 있는 테이블을 건너뛰고(IF NOT EXISTS), 새 DB 에서는 전체 스키마를 만든다.
+-- 이후 스키마 변경은 모두 새 버전 파일로 추가하고 JPA 는 validate 만 수행한다.
+
+-- users: V1 이후 엔티티에 추가된 컬럼 ------------------------------------------------
+ALTER TABLE users ADD COLUMN IF NOT EXISTS status VARCHAR(255) NOT NULL DEFAULT 'ACTIVE';
+ALTER TABLE users ADD COLUMN IF NOT EXISTS deactivated_at TIMESTAMP;
+ALTER TABLE users ADD COLUMN IF NOT EXISTS deactivation_reason TEXT;
+ALTER TABLE users ADD COLUMN IF NOT EXISTS deleted_at TIMESTAMP;
+
+-- 세션 / 로그인 기록 ------------------------------------------------------------------
+CREATE TABLE IF NOT EXISTS user_sessions (
+    refresh_token_hash VARCHAR(64) PRIMARY KEY,
+    user_id BIGINT NOT NULL REFERENCES users(id),
+    access_token_jti VARCHAR(64),
+    device_type VARCHAR(50),
+    device_name VARCHAR(100),
+    ip_address VARCHAR(50) NOT NULL,
+    location VARCHAR(100),
+    user_agent TEXT,
+    expires_at TIMESTAMP NOT NULL,
+    is_revoked BOOLEAN NOT NULL DEFAULT FALSE,
+    pkce_flow BOOLEAN NOT NULL DEFAULT FALSE,
+    last_active_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+CREATE INDEX IF NOT EXISTS idx_user_sessions_user_id ON user_sessions (user_id);
+CREATE INDEX IF NOT EXISTS idx_user_sessions_last_active_at ON user_sessions (last_active_at);
+CREATE INDEX IF NOT EXISTS idx_user_sessions_expires_at ON user_sessions (expires_at);
+CREATE INDEX IF NOT EXISTS idx_user_sessions_is_revoked ON user_sessions (is_revoked);
+
+CREATE SEQUENCE IF NOT EXISTS login_history_seq INCREMENT BY 50;
+CREATE TABLE IF NOT EXISTS login_history (
+    id BIGINT PRIMARY KEY DEFAULT nextval('login_history_seq'),
+    user_id BIGINT NOT NULL REFERENCES users(id),
+    ip_address VARCHAR(50),
+    location VARCHAR(100),
+    device_type VARCHAR(50),
+    user_agent TEXT,
+    success BOOLEAN NOT NULL,
+    failure_reason VARCHAR(100),
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+CREATE INDEX IF NOT EXISTS idx_login_history_user_id ON login_history (user_id);
+CREATE INDEX IF NOT EXISTS idx_login_history_created_at ON login_history (created_at DESC);
+
+-- Agora 프로필 / 설정 -----------------------------------------------------------------
+CREATE TABLE IF NOT EXISTS agora_user_profiles (
+    id BIGINT PRIMARY KEY REFERENCES users(id),
+    agora_id VARCHAR(50) NOT NULL UNIQUE,
+    display_name VARCHAR(100) NOT NULL,
+    profile_image TEXT,
+    bio TEXT,
+    phone VARCHAR(20),
+    birthday DATE,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+CREATE INDEX IF NOT EXISTS idx_agora_profiles_agora_id ON agora_user_profiles (agora_id);
+
+CREATE TABLE IF NOT EXISTS user_settings (
+    user_id BIGINT PRIMARY KEY REFERENCES users(id),
+    push_enabled BOOLEAN NOT NULL DEFAULT TRUE,
+    message_notification BOOLEAN NOT NULL DEFAULT TRUE,
+    friend_request_notification BOOLEAN NOT NULL DEFAULT TRUE,
+    team_notification BOOLEAN NOT NULL DEFAULT TRUE,
+    notice_notification BOOLEAN NOT NULL DEFAULT TRUE,
+    sound_enabled BOOLEAN NOT NULL DEFAULT TRUE,
+    vibration_enabled BOOLEAN NOT NULL DEFAULT TRUE,
+    do_not_disturb_start TIME,
+    do_not_disturb_end TIME,
+    profile_visibility VARCHAR(20),
+    phone_visibility VARCHAR(20),
+    birthday_visibility VARCHAR(20),
+    allow_friend_requests BOOLEAN NOT NULL DEFAULT TRUE,
+    allow_group_invites BOOLEAN NOT NULL DEFAULT TRUE,
+    show_online_status BOOLEAN NOT NULL DEFAULT TRUE,
+    login_notification BOOLEAN NOT NULL DEFAULT TRUE,
+    session_timeout INTEGER,
+    birthday_reminder_enabled BOOLEAN NOT NULL DEFAULT TRUE,
+    birthday_reminder_days_before INTEGER,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- 파일 ----------------------------------------------------------------------------
+CREATE SEQUENCE IF NOT EXISTS files_seq INCREMENT BY 50;
+CREATE TABLE IF NOT EXISTS files (
+    id BIGINT PRIMARY KEY DEFAULT nextval('files_seq'),
+    uploaded_by BIGINT NOT NULL REFERENCES users(id),
+    file_name VARCHAR(255) NOT NULL,
+    original_name VARCHAR(255) NOT NULL,
+    file_path TEXT NOT NULL,
+    file_url TEXT NOT NULL,
+    thumbnail_url TEXT,
+    file_size BIGINT NOT NULL,
+    mime_type VARCHAR(100) NOT NULL,
+    file_type VARCHAR(20) NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+CREATE INDEX IF NOT EXISTS idx_files_uploaded_by ON files (uploaded_by);
+CREATE INDEX IF NOT EXISTS idx_files_file_type ON files (file_type);
+
+CREATE TABLE IF NOT EXISTS file_metadata (
+    file_id BIGINT PRIMARY KEY REFERENCES files(id),
+    width INTEGER,
+    height INTEGER,
+    duration INTEGER,
+    metadata TEXT
+);
+
+-- 친구 / 차단 ------------------------------------------------------------------------
+CREATE SEQUENCE IF NOT EXISTS friends_seq INCREMENT BY 50;
+CREATE TABLE IF NOT EXISTS friends (
+    id BIGINT PRIMARY KEY DEFAULT nextval('friends_seq'),
+    user_id BIGINT NOT NULL REFERENCES users(id),
+    friend_id BIGINT NOT NULL REFERENCES users(id),
+    is_favorite BOOLEAN NOT NULL DEFAULT FALSE,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    UNIQUE (user_id, friend_id)
+);
+CREATE INDEX IF NOT EXISTS idx_friends_user_id ON friends (user_id);
+CREATE INDEX IF NOT EXISTS idx_friends_friend_id ON friends (friend_id);
+
+CREATE SEQUENCE IF NOT EXISTS friend_requests_seq INCREMENT BY 50;
+CREATE TABLE IF NOT EXISTS friend_requests (
+    id BIGINT PRIMARY KEY DEFAULT nextval('friend_requests_seq'),
+    from_user_id BIGINT NOT NULL REFERENCES users(id),
+    to_user_id BIGINT NOT NULL REFERENCES users(id),
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    UNIQUE (from_user_id, to_user_id)
+);
+CREATE INDEX IF NOT EXISTS idx_friend_requests_to_user_id ON friend_requests (to_user_id);
+CREATE INDEX IF NOT EXISTS idx_friend_requests_status ON friend_requests (status);
+
+CREATE SEQUENCE IF NOT EXISTS blocked_users_seq INCREMENT BY 50;
+CREATE TABLE IF NOT EXISTS blocked_users (
+    id BIGINT PRIMARY KEY DEFAULT nextval('blocked_users_seq'),
+    user_id BIGINT NOT NULL REFERENCES users(id),
+    blocked_user_id BIGINT NOT NULL REFERENCES users(id),
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    UNIQUE (user_id, blocked_user_id)
+);
+CREATE INDEX IF NOT EXISTS idx_blocked_users_user_id ON blocked_users (user_id);
+
+-- 알림 / FCM ----------------------------------------------------------------------
+CREATE SEQUENCE IF NOT EXISTS notifications_seq INCREMENT BY 50;
+CREATE TABLE IF NOT EXISTS notifications (
+    id BIGINT PRIMARY KEY DEFAULT nextval('notifications_seq'),
+    user_id BIGINT NOT NULL REFERENCES users(id),
+    type VARCHAR(50) NOT NULL,
+    title VARCHAR(200) NOT NULL,
+    content TEXT,
+    related_id BIGINT,
+    related_type VARCHAR(50),
+    is_read BOOLEAN NOT NULL DEFAULT FALSE,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+CREATE INDEX IF NOT EXISTS idx_notifications_user_id ON notifications (user_id);
+CREATE INDEX IF NOT EXISTS idx_notifications_is_read ON notifications (is_read);
+CREATE INDEX IF NOT EXISTS idx_notifications_created_at ON notifications (created_at DESC);
+
+CREATE SEQUENCE IF NOT EXISTS fcm_tokens_seq INCREMENT BY 50;
+CREATE TABLE IF NOT EXISTS fcm_tokens (
+    id BIGINT PRIMARY KEY DEFAULT nextval('fcm_tokens_seq'),
+    user_id BIGINT NOT NULL REFERENCES users(id),
+    token VARCHAR(500) NOT NULL UNIQUE,
+    device_type VARCHAR(20) NOT NULL,
+    device_id VARCHAR(100),
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+CREATE INDEX IF NOT EXISTS idx_fcm_tokens_user_id ON fcm_tokens (user_id);
+CREATE INDEX IF NOT EXISTS idx_fcm_tokens_token ON fcm_tokens (token);
+
+-- 팀 ------------------------------------------------------------------------------
+CREATE SEQUENCE IF NOT EXISTS teams_seq INCREMENT BY 50;
+CREATE TABLE IF NOT EXISTS teams (
+    id BIGINT PRIMARY KEY DEFAULT nextval('teams_seq'),
+    name VARCHAR(100) NOT NULL,
+    description TEXT,
+    profile_image TEXT,
+    is_main BOOLEAN NOT NULL DEFAULT FALSE,
+    created_by BIGINT NOT NULL REFERENCES users(id),
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+CREATE INDEX IF NOT EXISTS idx_teams_created_by ON teams (created_by);
+
+CREATE SEQUENCE IF NOT EXISTS team_roles_seq INCREMENT BY 50;
+CREATE TABLE IF NOT EXISTS team_roles (
+    id BIGINT PRIMARY KEY DEFAULT nextval('team_roles_seq'),
+    team_id BIGINT NOT NULL REFERENCES teams(id),
+    name VARCHAR(50) NOT NULL,
+    permissions TEXT,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    UNIQUE (team_id, name)
+);
+CREATE INDEX IF NOT EXISTS idx_team_roles_team_id ON team_roles (team_id);
+
+CREATE SEQUENCE IF NOT EXISTS team_members_seq INCREMENT BY 50;
+CREATE TABLE IF NOT EXISTS team_members (
+    id BIGINT PRIMARY KEY DEFAULT nextval('team_members_seq'),
+    team_id BIGINT NOT NULL REFERENCES teams(id),
+    user_id BIGINT NOT NULL REFERENCES users(id),
+    role_id BIGINT REFERENCES team_roles(id),
+    joined_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    UNIQUE (team_id, user_id)
+);
+CREATE INDEX IF NOT EXISTS idx_team_members_team_id ON team_members (team_id);
+CREATE INDEX IF NOT EXISTS idx_team_members_user_id ON team_members (user_id);
+
+CREATE SEQUENCE IF NOT EXISTS team_profiles_seq INCREMENT BY 50;
+CREATE TABLE IF NOT EXISTS team_profiles (
+    id BIGINT PRIMARY KEY DEFAULT nextval('team_profiles_seq'),
+    team_id BIGINT NOT NULL REFERENCES teams(id),
+    user_id BIGINT NOT NULL REFERENCES users(id),
+    display_name VARCHAR(100) NOT NULL,
+    profile_image TEXT,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    UNIQUE (team_id, user_id)
+);
+CREATE INDEX IF NOT EXISTS idx_team_profiles_team_id ON team_profiles (team_id);
+CREATE INDEX IF NOT EXISTS idx_team_profiles_user_id ON team_profiles (user_id);
+CREATE INDEX IF NOT EXISTS idx_team_profiles_team_user ON team_profiles (team_id, user_id);
+
+CREATE SEQUENCE IF NOT EXISTS notices_seq INCREMENT BY 50;
+CREATE TABLE IF NOT EXISTS notices (
+    id BIGINT PRIMARY KEY DEFAULT nextval('notices_seq'),
+    team_id BIGINT NOT NULL REFERENCES teams(id),
+    author_id BIGINT NOT NULL REFERENCES users(id),
+    title VARCHAR(200) NOT NULL,
+    content TEXT NOT NULL,
+    is_pinned BOOLEAN NOT NULL DEFAULT FALSE,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+CREATE INDEX IF NOT EXISTS idx_notices_team_id ON notices (team_id);
+CREATE INDEX IF NOT EXISTS idx_notices_created_at ON notices (created_at DESC);
+CREATE INDEX IF NOT EXISTS idx_notices_team_id_id ON notices (team_id, id DESC);
+
+CREATE SEQUENCE IF NOT EXISTS todos_seq INCREMENT BY 50;
+CREATE TABLE IF NOT EXISTS todos (
+    id BIGINT PRIMARY KEY DEFAULT nextval('todos_seq'),
+    team_id BIGINT NOT NULL REFERENCES teams(id),
+    created_by BIGINT NOT NULL REFERENCES users(id),
+    assigned_to BIGINT REFERENCES users(id),
+    title VARCHAR(200) NOT NULL,
+    description TEXT,
+    status VARCHAR(20) NOT NULL DEFAULT 'TODO',
+    priority VARCHAR(20),
+    due_date TIMESTAMP,
+    completed_at TIMESTAMP,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+CREATE INDEX IF NOT EXISTS idx_todos_team_id ON todos (team_id);
+CREATE INDEX IF NOT EXISTS idx_todos_assigned_to ON todos (assigned_to);
+CREATE INDEX IF NOT EXISTS idx_todos_status ON todos (status);
+CREATE INDEX IF NOT EXISTS idx_todos_team_status_due ON todos (team_id, status, due_date, id);
+CREATE INDEX IF NOT EXISTS idx_todos_team_due ON todos (team_id, due_date, id);
+
+CREATE SEQUENCE IF NOT EXISTS events_seq INCREMENT BY 50;
+CREATE TABLE IF NOT EXISTS events (
+    id BIGINT PRIMARY KEY DEFAULT nextval('events_seq'),
+    team_id BIGINT NOT NULL REFERENCES teams(id),
+    created_by BIGINT NOT NULL REFERENCES users(id),
+    title VARCHAR(200) NOT NULL,
+    description TEXT,
+    location VARCHAR(200),
+    start_time TIMESTAMP NOT NULL,
+    end_time TIMESTAMP NOT NULL,
+    is_all_day BOOLEAN NOT NULL DEFAULT FALSE,
+    recurrence VARCHAR(20) DEFAULT 'NONE',
+    recurrence_interval INTEGER,
+    recurrence_until TIMESTAMP,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+-- 기존 DB 의 events 는 반복 일정 컬럼 없이 만들어졌으므로 인덱스보다 먼저 추가한다
+ALTER TABLE events ADD COLUMN IF NOT EXISTS recurrence VARCHAR(20) DEFAULT 'NONE';
+ALTER TABLE events ADD COLUMN IF NOT EXISTS recurrence_interval INTEGER;
+ALTER TABLE events ADD COLUMN IF NOT EXISTS recurrence_until TIMESTAMP;
+CREATE INDEX IF NOT EXISTS idx_events_team_id ON events (team_id);
+CREATE INDEX IF NOT EXISTS idx_events_start_time ON events (start_time);
+CREATE INDEX IF NOT EXISTS idx_events_team_start ON events (team_id, start_time, id);
+-- V6 은 events 가 없으면 건너뛰므로 새 DB 를 위해 다시 만든다
+CREATE INDEX IF NOT EXISTS idx_events_time_range
+    ON events USING gist (tsrange(start_time, GREATEST(end_time, start_time), '[]'));
+CREATE INDEX IF NOT EXISTS idx_events_recurring
+    ON events (team_id, start_time)
+    WHERE recurrence <> 'NONE';
+
+-- 채팅 ----------------------------------------------------------------------------
+CREATE SEQUENCE IF NOT EXISTS chats_seq INCREMENT BY 50;
+CREATE TABLE IF NOT EXISTS chats (
+    id BIGINT PRIMARY KEY DEFAULT nextval('chats_seq'),
+    type VARCHAR(20) NOT NULL,
+    context VARCHAR(20) NOT NULL DEFAULT 'FRIEND',
+    team_id BIGINT REFERENCES teams(id),
+    name VARCHAR(100),
+    profile_image TEXT,
+    read_count BIGINT NOT NULL DEFAULT 1,
+    read_enabled BOOLEAN NOT NULL DEFAULT FALSE,
+    created_by BIGINT REFERENCES users(id),
+    last_message_at TIMESTAMP,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uk_team_group_chat UNIQUE (team_id, type, context)
+);
+CREATE INDEX IF NOT EXISTS idx_chats_type ON chats (type);
+CREATE INDEX IF NOT EXISTS idx_chats_context ON chats (context);
+CREATE INDEX IF NOT EXISTS idx_chats_team_id ON chats (team_id);
+CREATE INDEX IF NOT EXISTS idx_chats_last_message_at ON chats (last_message_at);
+CREATE INDEX IF NOT EXISTS idx_chats_created_by ON chats (created_by);
+
+CREATE SEQUENCE IF NOT EXISTS chat_participants_seq INCREMENT BY 50;
+CREATE TABLE IF NOT EXISTS chat_participants (
+    id BIGINT PRIMARY KEY DEFAULT nextval('chat_participants_seq'),
+    chat_id BIGINT NOT NULL REFERENCES chats(id),
+    user_id BIGINT NOT NULL REFERENCES users(id),
+    role VARCHAR(20),
+    is_pinned BOOLEAN NOT NULL DEFAULT FALSE,
+    pinned_at TIMESTAMP,
+    joined_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    UNIQUE (chat_id, user_id)
+);
+CREATE INDEX IF NOT EXISTS idx_chat_participants_chat_id ON chat_participants (chat_id);
+CREATE INDEX IF NOT EXISTS idx_chat_participants_user_id ON chat_participants (user_id);
+CREATE INDEX IF NOT EXISTS idx_chat_participants_pinned ON chat_participants (user_id, is_pinned, pinned_at DESC);
+
+CREATE SEQUENCE IF NOT EXISTS chat_folders_seq INCREMENT BY 50;
+CREATE TABLE IF NOT EXISTS chat_folders (
+    id BIGINT PRIMARY KEY DEFAULT nextval('chat_folders_seq'),
+    user_id BIGINT NOT NULL REFERENCES users(id),
+    name VARCHAR(100) NOT NULL,
+    order_index INTEGER NOT NULL DEFAULT 0,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+CREATE INDEX IF NOT EXISTS idx_chat_folders_user_id ON chat_folders (user_id);
+
+CREATE SEQUENCE IF NOT EXISTS chat_folder_items_seq INCREMENT BY 50;
+CREATE TABLE IF NOT EXISTS chat_folder_items (
+    id BIGINT PRIMARY KEY DEFAULT nextval('chat_folder_items_seq'),
+    folder_id BIGINT NOT NULL REFERENCES chat_folders(id),
+    chat_id BIGINT NOT NULL REFERENCES chats(id),
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    UNIQUE (folder_id, chat_id)
+);
+CREATE INDEX IF NOT EXISTS idx_chat_folder_items_folder_id ON chat_folder_items (folder_id);
+CREATE INDEX IF NOT EXISTS idx_chat_folder_items_chat_id ON chat_folder_items (chat_id);
+
+CREATE SEQUENCE IF NOT EXISTS messages_seq INCREMENT BY 50;
+CREATE TABLE IF NOT EXISTS messages (
+    id BIGINT PRIMARY KEY DEFAULT nextval('messages_seq'),
+    chat_id BIGINT NOT NULL REFERENCES chats(id),
+    sender_id BIGINT NOT NULL REFERENCES users(id),
+    content TEXT,
+    type VARCHAR(20) NOT NULL DEFAULT 'TEXT',
+    reply_to_id BIGINT REFERENCES messages(id),
+    is_deleted BOOLEAN NOT NULL DEFAULT FALSE,
+    is_pinned BOOLEAN NOT NULL DEFAULT FALSE,
+    private_only_user_id BIGINT REFERENCES users(id),
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+CREATE INDEX IF NOT EXISTS idx_messages_chat_id ON messages (chat_id);
+CREATE INDEX IF NOT EXISTS idx_messages_sender_id ON messages (sender_id);
+CREATE INDEX IF NOT EXISTS idx_messages_created_at ON messages (created_at DESC);
+
+CREATE SEQUENCE IF NOT EXISTS message_attachments_seq INCREMENT BY 50;
+CREATE TABLE IF NOT EXISTS message_attachments (
+    id BIGINT PRIMARY KEY DEFAULT nextval('message_attachments_seq'),
+    message_id BIGINT NOT NULL REFERENCES messages(id),
+    file_id BIGINT NOT NULL REFERENCES files(id),
+    order_index INTEGER NOT NULL DEFAULT 0,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    UNIQUE (message_id, file_id)
+);
+CREATE INDEX IF NOT EXISTS idx_message_attachments_message_id ON message_attachments (message_id);
+CREATE INDEX IF NOT EXISTS idx_message_attachments_file_id ON message_attachments (file_id);
+
+CREATE SEQUENCE IF NOT EXISTS message_read_status_seq INCREMENT BY 50;
+CREATE TABLE IF NOT EXISTS message_read_status (
+    id BIGINT PRIMARY KEY DEFAULT nextval('message_read_status_seq'),
+    message_id BIGINT NOT NULL REFERENCES messages(id),
+    user_id BIGINT NOT NULL REFERENCES users(id),
+    UNIQUE (message_id, user_id)
+);
+CREATE INDEX IF NOT EXISTS idx_message_read_status_message_id ON message_read_status (message_id);
+CREATE INDEX IF NOT EXISTS idx_message_read_status_user_id ON message_read_status (user_id);
+
+-- 새 DB 에서 만든 시퀀스를 테이블과 함께 관리되도록 연결 (V7 에서 전환한 테이블은 이미 연결됨)
+DO $$
+DECLARE
+    t TEXT;
+BEGIN
+    FOREACH t IN ARRAY ARRAY[
+        'login_history', 'files', 'friends', 'friend_requests', 'blocked_users', 'notifications', 'fcm_tokens',
+        'teams', 'team_roles', 'team_members', 'team_profiles', 'notices', 'todos', 'events',
+        'chats', 'chat_participants', 'chat_folders', 'chat_folder_items',
+        'messages', 'message_attachments', 'message_read_status'
+    ] LOOP
+        EXECUTE format('ALTER SEQUENCE %I OWNED BY %I.id', t || '_seq', t);
+    END LOOP;
+END $$;
@@ -0,0 +1,54 @@
+-- 리포지토리 쿼리의 조건/정렬 순서에 맞춘 복합·부분 인덱스
+-- 새 인덱스의 앞부분(prefix)과 같은 단일 컬럼 인덱스, 유니크 제약과 겹치는 인덱스는 제거한다.
+
+-- messages: findByChat_IdOrderByIdDesc, ...AndIdLessThan / GreaterThan (커서 페이지)
+CREATE INDEX IF NOT EXISTS idx_messages_chat_id_id ON messages (chat_id, id DESC);
+DROP INDEX IF EXISTS idx_messages_chat_id;
+-- findActiveMessagesByChatId, countByChat_IdAndIsDeletedFalse
+CREATE INDEX IF NOT EXISTS idx_messages_chat_active ON messages (chat_id, id DESC) WHERE is_deleted = false;
+-- findByChat_IdAndIsPinnedTrue
+CREATE INDEX IF NOT EXISTS idx_messages_chat_pinned ON messages (chat_id) WHERE is_pinned = true;
+
+-- message_read_status: findReadMessageIdsByUserAndChat, findUnreadMessageIds (user_id 로 찾고 message_id 로 조인)
+CREATE INDEX IF NOT EXISTS idx_message_read_status_user_message ON message_read_status (user_id, message_id);
+DROP INDEX IF EXISTS idx_message_read_status_user_id;
+-- (message_id, user_id) 유니크 제약이 message_id 조회를 담당
+DROP INDEX IF EXISTS idx_message_read_status_message_id;
+
+-- friends: findByUser_IdOrderByIsFavoriteDescCreatedAtDesc, findByUser_IdAndIsFavoriteTrue
+CREATE INDEX IF NOT EXISTS idx_friends_user_favorite_created ON friends (user_id, is_favorite DESC, created_at DESC);
+DROP INDEX IF EXISTS idx_friends_user_id;
+
+-- friend_requests: findByToUser_IdAndStatusOrderByCreatedAtDesc, countByToUser_IdAndStatus
+CREATE INDEX IF NOT EXISTS idx_friend_requests_to_status_created ON friend_requests (to_user_id, status, created_at DESC);
+DROP INDEX IF EXISTS idx_friend_requests_to_user_id;
+DROP INDEX IF EXISTS idx_friend_requests_status;
+
+-- blocked_users: (user_id, blocked_user_id) 유니크 제약이 user_id 조회를 담당
+DROP INDEX IF EXISTS idx_blocked_users_user_id;
+
+-- notifications: findByUser_IdOrderByCreatedAtDesc, ...AndIsReadFalse..., countUnreadByUserIds
+CREATE INDEX IF NOT EXISTS idx_notifications_user_read_created ON notifications (user_id, is_read, created_at DESC);
+CREATE INDEX IF NOT EXISTS idx_notifications_user_created ON notifications (user_id, created_at DESC);
+DROP INDEX IF EXISTS idx_notifications_user_id;
+DROP INDEX IF EXISTS idx_notifications_is_read;
+-- findByRelatedIdAndRelatedType
+CREATE INDEX IF NOT EXISTS idx_notifications_related ON notifications (related_type, related_id);
+
+-- chat_participants: (chat_id, user_id) 유니크 제약이 chat_id 조회를, idx_chat_participants_pinned 가 user_id 조회를 담당
+DROP INDEX IF EXISTS idx_chat_participants_chat_id;
+DROP INDEX IF EXISTS idx_chat_participants_user_id;
+
+-- user_sessions: findActiveSessionsByUser (폐기되지 않은 세션만, 최근 활동 순)
+CREATE INDEX IF NOT EXISTS idx_user_sessions_user_active ON user_sessions (user_id, last_active_at DESC) WHERE is_revoked = false;
+CREATE INDEX IF NOT EXISTS idx_user_sessions_access_token_jti ON user_sessions (access_token_jti);
+DROP INDEX IF EXISTS idx_user_sessions_is_revoked;
+
+-- fcm_tokens: findByUser_IdAndDeviceType / token 은 유니크 제약이 담당
+CREATE INDEX IF NOT EXISTS idx_fcm_tokens_user_device ON fcm_tokens (user_id, device_type);
+DROP INDEX IF EXISTS idx_fcm_tokens_user_id;
+DROP INDEX IF EXISTS idx_fcm_tokens_token;
+
+-- team_profiles: (team_id, user_id) 유니크 제약과 같은 인덱스
+DROP INDEX IF EXISTS idx_team_profiles_team_user;
+DROP INDEX IF EXISTS idx_team_profiles_team_id;
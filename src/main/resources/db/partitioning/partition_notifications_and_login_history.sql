@@ -0,0 +1,96 @@
+-- Opt-in: notifications / login_history 를 created_at 기준 월 단위 RANGE 파티션 테이블로 전환
+-- 적용 후 retention.partitioning.enabled=true 로 설정하면 DataRetentionScheduler 가
+-- 다음 달 파티션을 미리 생성하고, 보존 기간이 지난 파티션을 DETACH/DROP 합니다.
+-- 파티션 키가 기본 키에 포함되어야 하므로 PK 는 (id, created_at) 이 됩니다.
+-- 점검 시간에 실행하세요 (기존 데이터를 복사합니다).
+
+BEGIN;
+
+-- notifications ---------------------------------------------------------------
+ALTER TABLE notifications RENAME TO notifications_legacy;
+ALTER TABLE notifications_legacy RENAME CONSTRAINT notifications_pkey TO notifications_legacy_pkey;
+-- 엔티티가 쓰는 notifications_seq 를 그대로 이어 쓴다 (기존 테이블 삭제 시 함께 지워지지 않도록 소유 해제)
+CREATE SEQUENCE IF NOT EXISTS notifications_seq INCREMENT BY 50;
+ALTER SEQUENCE notifications_seq OWNED BY NONE;
+SELECT setval('notifications_seq', GREATEST((SELECT last_value FROM notifications_seq), COALESCE((SELECT MAX(id) FROM notifications_legacy), 0), 1));
+
+CREATE TABLE notifications (
+    id BIGINT NOT NULL DEFAULT nextval('notifications_seq'),
+    user_id BIGINT NOT NULL REFERENCES users(id),
+    type VARCHAR(50) NOT NULL,
+    title VARCHAR(200) NOT NULL,
+    content TEXT,
+    related_id BIGINT,
+    related_type VARCHAR(50),
+    is_read BOOLEAN NOT NULL DEFAULT FALSE,
+    created_at TIMESTAMP NOT NULL,
+    PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+-- 기존 데이터 범위의 월 파티션 생성 (이번 달 + 2개월 포함)
+DO $$
+DECLARE
+    m DATE;
+BEGIN
+    m := date_trunc('month', COALESCE((SELECT MIN(created_at) FROM notifications_legacy), now()))::date;
+    WHILE m <= (date_trunc('month', now()) + interval '2 month')::date LOOP
+        EXECUTE format('CREATE TABLE IF NOT EXISTS %I PARTITION OF notifications FOR VALUES FROM (%L) TO (%L)',
+                       'notifications_p' || to_char(m, 'YYYYMM'), m, (m + interval '1 month')::date);
+        m := (m + interval '1 month')::date;
+    END LOOP;
+END $$;
+
+INSERT INTO notifications SELECT id, user_id, type, title, content, related_id, related_type, is_read, created_at
+FROM notifications_legacy;
+DROP TABLE notifications_legacy;
+
+-- 인덱스 이름이 기존 테이블과 겹치므로 기존 테이블 삭제 후 생성 (V9 의 복합 인덱스 구성과 같게)
+CREATE INDEX idx_notifications_user_read_created ON notifications (user_id, is_read, created_at DESC);
+CREATE INDEX idx_notifications_user_created ON notifications (user_id, created_at DESC);
+CREATE INDEX idx_notifications_related ON notifications (related_type, related_id);
+CREATE INDEX idx_notifications_created_at ON notifications (created_at DESC);
+ALTER SEQUENCE notifications_seq OWNED BY notifications.id;
+
+-- login_history ---------------------------------------------------------------
+ALTER TABLE login_history RENAME TO login_history_legacy;
+ALTER TABLE login_history_legacy RENAME CONSTRAINT login_history_pkey TO login_history_legacy_pkey;
+-- 엔티티가 쓰는 login_history_seq 를 그대로 이어 쓴다 (기존 테이블 삭제 시 함께 지워지지 않도록 소유 해제)
+CREATE SEQUENCE IF NOT EXISTS login_history_seq INCREMENT BY 50;
+ALTER SEQUENCE login_history_seq OWNED BY NONE;
+SELECT setval('login_history_seq', GREATEST((SELECT last_value FROM login_history_seq), COALESCE((SELECT MAX(id) FROM login_history_legacy), 0), 1));
+
+CREATE TABLE login_history (
+    id BIGINT NOT NULL DEFAULT nextval('login_history_seq'),
+    user_id BIGINT NOT NULL REFERENCES users(id),
+    ip_address VARCHAR(50),
+    location VARCHAR(100),
+    device_type VARCHAR(50),
+    user_agent TEXT,
+    success BOOLEAN NOT NULL,
+    failure_reason VARCHAR(100),
+    created_at TIMESTAMP NOT NULL,
+    PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+DO $$
+DECLARE
+    m DATE;
+BEGIN
+    m := date_trunc('month', COALESCE((SELECT MIN(created_at) FROM login_history_legacy), now()))::date;
+    WHILE m <= (date_trunc('month', now()) + interval '2 month')::date LOOP
+        EXECUTE format('CREATE TABLE IF NOT EXISTS %I PARTITION OF login_history FOR VALUES FROM (%L) TO (%L)',
+                       'login_history_p' || to_char(m, 'YYYYMM'), m, (m + interval '1 month')::date);
+        m := (m + interval '1 month')::date;
+    END LOOP;
+END $$;
+
+INSERT INTO login_history SELECT id, user_id, ip_address, location, device_type, user_agent, success, failure_reason, created_at
+FROM login_history_legacy;
+DROP TABLE login_history_legacy;
+
+-- 인덱스 이름이 기존 테이블과 겹치므로 기존 테이블 삭제 후 생성
+CREATE INDEX idx_login_history_user_id ON login_history (user_id);
+CREATE INDEX idx_login_history_created_at ON login_history (created_at DESC);
+ALTER SEQUENCE login_history_seq OWNED BY login_history.id;
+
+COMMIT;
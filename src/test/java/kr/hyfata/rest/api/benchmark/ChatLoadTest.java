@@ -0,0 +1,424 @@
+package kr.hyfata.rest.api.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.hyfata.rest.api.dto.AuthRequest;
+import kr.hyfata.rest.api.dto.AuthResponse;
+import kr.hyfata.rest.api.dto.ClientRegistrationRequest;
+import kr.hyfata.rest.api.dto.RegisterRequest;
+import kr.hyfata.rest.api.dto.agora.AgoraProfileResponse;
+import kr.hyfata.rest.api.dto.agora.CreateAgoraProfileRequest;
+import kr.hyfata.rest.api.dto.agora.chat.ChatMessageDto;
+import kr.hyfata.rest.api.dto.agora.chat.CreateGroupChatRequest;
+import kr.hyfata.rest.api.dto.agora.chat.GroupChatResponse;
+import kr.hyfata.rest.api.dto.agora.chat.ReadStatusDto;
+import kr.hyfata.rest.api.service.ClientService;
+import kr.hyfata.rest.api.service.EmailService;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+import org.springframework.web.socket.sockjs.client.SockJsClient;
+import org.springframework.web.socket.sockjs.client.WebSocketTransport;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 채팅 REST + STOMP 부하 테스트
+ * <p>
+ * 로컬 PostgreSQL/Redis 에 앱을 띄우고(loadtest 프로필) AuthController 로 합성 사용자를 만든 뒤,
+ * 그룹 채팅에 나눠 넣고 SockJS/STOMP 세션으로 /app/agora/chat/{id}/send, /read 를 설정한 비율로 보낸다.
+ * 팬아웃 지연(전송 시각 → 각 구독 세션 수신)과 읽음 처리 지연(전송 → 본인 세션에 READ 이벤트 도착)을
+ * HdrHistogram 으로 기록하고, 워밍업 이후 구간만 report-dir/실행ID 에 .hgrm 과 요약(summary.txt)으로 남긴다.
+ * 설정은 application-loadtest.properties (LOAD_TEST_* 환경 변수) 참고.
+ * <pre>
+ * LOAD_TEST_DB_URL=jdbc:postgresql://localhost:5432/hyfata_loadtest LOAD_TEST_DB_USER=... LOAD_TEST_DB_PASSWORD=... \
+ *   LOAD_TEST_USERS=200 LOAD_TEST_SESSIONS=400 ./gradlew test --tests '*ChatLoadTest'
+ * </pre>
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("loadtest")
+@EnabledIfEnvironmentVariable(named = "LOAD_TEST_DB_URL", matches = ".+")
+class ChatLoadTest {
+
+    private static final String PASSWORD = "LoadTest123!";
+
+    /**
+     * 메시지 본문 머리말: "lt|전송 nanoTime|agoraId" (같은 JVM 안이므로 nanoTime 을 그대로 비교할 수 있다)
+     */
+    private static final String CONTENT_PREFIX = "lt|";
+
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private ClientService clientService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockitoBean
+    private EmailService emailService;
+
+    @Value("${loadtest.users}")
+    private int userCount;
+
+    @Value("${loadtest.sessions}")
+    private int sessionCount;
+
+    @Value("${loadtest.chat-size}")
+    private int chatSize;
+
+    @Value("${loadtest.rate-per-session}")
+    private int ratePerSession;
+
+    @Value("${loadtest.mix.send}")
+    private int sendWeight;
+
+    @Value("${loadtest.mix.read}")
+    private int readWeight;
+
+    @Value("${loadtest.warmup-seconds}")
+    private int warmupSeconds;
+
+    @Value("${loadtest.duration-seconds}")
+    private int durationSeconds;
+
+    @Value("${loadtest.report-dir}")
+    private String reportDir;
+
+    // 지연은 마이크로초로 기록
+    private final Recorder fanOutLatency = new Recorder(SIGNIFICANT_DIGITS);
+    private final Recorder readLatency = new Recorder(SIGNIFICANT_DIGITS);
+
+    private final LongAdder sends = new LongAdder();
+    private final LongAdder reads = new LongAdder();
+    private final LongAdder deliveries = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+
+    @Test
+    @DisplayName("채팅 STOMP 부하 - 팬아웃 지연 백분위와 초당 메시지 수")
+    void chatTraffic() throws Exception {
+        // given
+        String runId = Long.toString(System.currentTimeMillis(), 36);
+        String clientId = registerClient(runId);
+        // BCrypt 해싱이 대부분이므로 사용자 생성은 병렬로
+        List<SyntheticUser> users = IntStream.range(0, userCount).parallel()
+                .mapToObj(index -> createUser(runId, index, clientId))
+                .toList();
+        List<Long> chatIds = createChats(runId, users);
+
+        WebSocketStompClient stompClient = stompClient();
+        List<LoadSession> sessions = new ArrayList<>();
+        for (int i = 0; i < sessionCount; i++) {
+            int userIndex = i % users.size();
+            sessions.add(connect(stompClient, users.get(userIndex), chatIds.get(userIndex / chatSize)));
+        }
+
+        // when
+        ScheduledExecutorService scheduler =
+                Executors.newScheduledThreadPool(Math.max(4, Runtime.getRuntime().availableProcessors()));
+        long periodMicros = Math.max(1, TimeUnit.SECONDS.toMicros(1) / Math.max(1, ratePerSession));
+        for (LoadSession session : sessions) {
+            scheduler.scheduleAtFixedRate(session::tick, ThreadLocalRandom.current().nextLong(periodMicros),
+                    periodMicros, TimeUnit.MICROSECONDS);
+        }
+
+        Thread.sleep(TimeUnit.SECONDS.toMillis(warmupSeconds));
+        fanOutLatency.getIntervalHistogram();
+        readLatency.getIntervalHistogram();
+        sends.reset();
+        reads.reset();
+        deliveries.reset();
+        long startedAt = System.nanoTime();
+
+        Thread.sleep(TimeUnit.SECONDS.toMillis(durationSeconds));
+        double elapsedSeconds = (System.nanoTime() - startedAt) / 1e9;
+        Histogram fanOut = fanOutLatency.getIntervalHistogram();
+        Histogram read = readLatency.getIntervalHistogram();
+        Summary summary = new Summary(elapsedSeconds, sends.sum(), reads.sum(), deliveries.sum(), errors.sum());
+
+        scheduler.shutdownNow();
+        sessions.forEach(LoadSession::disconnect);
+        stompClient.stop();
+
+        // then
+        writeReport(Path.of(reportDir, runId), chatIds.size(), summary, fanOut, read);
+        assertThat(summary.errors()).isZero();
+        assertThat(fanOut.getTotalCount()).isPositive();
+    }
+
+    private String registerClient(String runId) {
+        return clientService.registerClient(ClientRegistrationRequest.builder()
+                .name("loadtest-" + runId)
+                .description("ChatLoadTest")
+                .frontendUrl("http://localhost:3000")
+                .redirectUris(List.of("http://localhost:3000/callback"))
+                .build()).getClientId();
+    }
+
+    /**
+     * 회원가입 → 로그인 → Agora 프로필 생성
+     */
+    private SyntheticUser createUser(String runId, int index, String clientId) {
+        String name = "lt_" + runId + "_" + index;
+        String email = name + "@loadtest.hyfata.kr";
+
+        ResponseEntity<Map> registered = restTemplate.postForEntity("/api/auth/register", RegisterRequest.builder()
+                .email(email)
+                .username(name)
+                .password(PASSWORD)
+                .firstName("Load")
+                .lastName("User" + index)
+                .clientId(clientId)
+                .build(), Map.class);
+        assertThat(registered.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+
+        AuthResponse login = restTemplate.postForObject("/api/auth/login", AuthRequest.builder()
+                .email(email)
+                .password(PASSWORD)
+                .clientId(clientId)
+                .build(), AuthResponse.class);
+        assertThat(login.getAccessToken()).isNotBlank();
+
+        CreateAgoraProfileRequest profile = new CreateAgoraProfileRequest();
+        profile.setAgoraId(name);
+        profile.setDisplayName("부하 사용자 " + index);
+        ResponseEntity<AgoraProfileResponse> created = restTemplate.exchange("/api/agora/profile", HttpMethod.POST,
+                new HttpEntity<>(profile, bearer(login.getAccessToken())), AgoraProfileResponse.class);
+        assertThat(created.getStatusCode().is2xxSuccessful()).isTrue();
+
+        return new SyntheticUser(name, login.getAccessToken());
+    }
+
+    /**
+     * 사용자를 chatSize 명씩 묶어 그룹 채팅 생성 (첫 사용자가 방장)
+     */
+    private List<Long> createChats(String runId, List<SyntheticUser> users) {
+        List<Long> chatIds = new ArrayList<>();
+        for (int from = 0; from < users.size(); from += chatSize) {
+            List<SyntheticUser> members = users.subList(from, Math.min(from + chatSize, users.size()));
+            CreateGroupChatRequest request = CreateGroupChatRequest.builder()
+                    .name("부하 테스트 " + runId + "-" + chatIds.size())
+                    .memberAgoraIds(members.subList(1, members.size()).stream().map(SyntheticUser::agoraId).toList())
+                    .build();
+            GroupChatResponse chat = restTemplate.exchange("/api/agora/chats/groups", HttpMethod.POST,
+                    new HttpEntity<>(request, bearer(members.get(0).accessToken())), GroupChatResponse.class).getBody();
+            assertThat(chat).isNotNull();
+            chatIds.add(chat.getChatId());
+        }
+        return chatIds;
+    }
+
+    private WebSocketStompClient stompClient() {
+        WebSocketStompClient stompClient = new WebSocketStompClient(
+                new SockJsClient(List.of(new WebSocketTransport(new StandardWebSocketClient()))));
+        MappingJackson2MessageConverter converter = new MappingJackson2MessageConverter();
+        converter.setObjectMapper(objectMapper);
+        stompClient.setMessageConverter(converter);
+        return stompClient;
+    }
+
+    private LoadSession connect(WebSocketStompClient stompClient, SyntheticUser user, Long chatId) throws Exception {
+        StompHeaders connectHeaders = new StompHeaders();
+        connectHeaders.add(HttpHeaders.AUTHORIZATION, "Bearer " + user.accessToken());
+        LoadSession session = new LoadSession(user.agoraId(), chatId);
+        stompClient.connectAsync("http://localhost:" + port + "/ws/agora/chat", new WebSocketHttpHeaders(),
+                connectHeaders, session).get(10, TimeUnit.SECONDS);
+        return session;
+    }
+
+    private static HttpHeaders bearer(String accessToken) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(accessToken);
+        return headers;
+    }
+
+    private void writeReport(Path dir, int chatCount, Summary summary, Histogram fanOut, Histogram read)
+            throws IOException {
+        Files.createDirectories(dir);
+        writeHistogram(dir.resolve("fanout.hgrm"), fanOut);
+        writeHistogram(dir.resolve("read.hgrm"), read);
+
+        String text = String.format(
+                "users=%d sessions=%d chats=%d chatSize=%d ratePerSession=%d mix(send/read)=%d/%d duration=%.1fs%n" +
+                "send %.1f msg/s, read %.1f ops/s, fan-out delivery %.1f msg/s, errors %d%n" +
+                "fan-out latency ms: p50 %.2f, p90 %.2f, p99 %.2f, p99.9 %.2f, max %.2f (n=%d)%n" +
+                "read latency ms:    p50 %.2f, p90 %.2f, p99 %.2f, p99.9 %.2f, max %.2f (n=%d)%n",
+                userCount, sessionCount, chatCount, chatSize, ratePerSession, sendWeight, readWeight,
+                summary.seconds(),
+                summary.sends() / summary.seconds(), summary.reads() / summary.seconds(),
+                summary.deliveries() / summary.seconds(), summary.errors(),
+                millis(fanOut, 50), millis(fanOut, 90), millis(fanOut, 99), millis(fanOut, 99.9),
+                fanOut.getMaxValue() / 1000.0, fanOut.getTotalCount(),
+                millis(read, 50), millis(read, 90), millis(read, 99), millis(read, 99.9),
+                read.getMaxValue() / 1000.0, read.getTotalCount());
+        Files.writeString(dir.resolve("summary.txt"), text);
+        System.out.print("[loadtest] " + dir + System.lineSeparator() + text);
+    }
+
+    /**
+     * 마이크로초로 기록한 히스토그램을 밀리초 단위 백분위 분포(.hgrm)로 저장
+     */
+    private static void writeHistogram(Path file, Histogram histogram) throws IOException {
+        try (PrintStream out = new PrintStream(Files.newOutputStream(file), true, StandardCharsets.UTF_8)) {
+            histogram.outputPercentileDistribution(out, 1000.0);
+        }
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    private record SyntheticUser(String agoraId, String accessToken) {
+    }
+
+    private record Summary(double seconds, long sends, long reads, long deliveries, long errors) {
+    }
+
+    /**
+     * STOMP 세션 하나: 자기 채팅방을 구독하고, 스케줄러가 부를 때마다 send/read 중 하나를 보낸다.
+     * tick 은 같은 세션에 대해 겹쳐 실행되지 않으므로 세션당 전송은 한 스레드에서만 일어난다.
+     */
+    private class LoadSession extends StompSessionHandlerAdapter {
+
+        private final String agoraId;
+        private final Long chatId;
+        private final Map<Long, Long> pendingReads = new ConcurrentHashMap<>();
+        private volatile long lastMessageId;
+        private volatile StompSession session;
+
+        LoadSession(String agoraId, Long chatId) {
+            this.agoraId = agoraId;
+            this.chatId = chatId;
+        }
+
+        @Override
+        public void afterConnected(StompSession session, StompHeaders connectedHeaders) {
+            this.session = session;
+            session.subscribe("/topic/agora/chat/" + chatId, new StompFrameHandler() {
+                @Override
+                public Type getPayloadType(StompHeaders headers) {
+                    return Map.class;
+                }
+
+                @Override
+                public void handleFrame(StompHeaders headers, Object payload) {
+                    onEvent((Map<?, ?>) payload);
+                }
+            });
+        }
+
+        void tick() {
+            try {
+                long messageId = lastMessageId;
+                if (messageId > 0 && ThreadLocalRandom.current().nextInt(sendWeight + readWeight) >= sendWeight) {
+                    pendingReads.put(messageId, System.nanoTime());
+                    session.send("/app/agora/chat/" + chatId + "/read",
+                            ReadStatusDto.builder().chatId(chatId).messageId(messageId).build());
+                    reads.increment();
+                } else {
+                    session.send("/app/agora/chat/" + chatId + "/send", ChatMessageDto.builder()
+                            .content(CONTENT_PREFIX + System.nanoTime() + "|" + agoraId)
+                            .type("TEXT")
+                            .build());
+                    sends.increment();
+                }
+            } catch (RuntimeException e) {
+                // 예외가 나가면 scheduleAtFixedRate 가 이 세션의 작업을 멈추므로 세기만 한다
+                errors.increment();
+            }
+        }
+
+        private void onEvent(Map<?, ?> event) {
+            long receivedAt = System.nanoTime();
+            Object eventType = event.get("eventType");
+            if ("MESSAGE".equals(eventType)) {
+                deliveries.increment();
+                long messageId = ((Number) event.get("messageId")).longValue();
+                if (messageId > lastMessageId) {
+                    lastMessageId = messageId;
+                }
+                Object content = event.get("content");
+                if (content instanceof String text && text.startsWith(CONTENT_PREFIX)) {
+                    long sentAt = Long.parseLong(text.substring(CONTENT_PREFIX.length(),
+                            text.indexOf('|', CONTENT_PREFIX.length())));
+                    fanOutLatency.recordValue(TimeUnit.NANOSECONDS.toMicros(receivedAt - sentAt));
+                }
+            } else if ("READ".equals(eventType) && agoraId.equals(event.get("userAgoraId"))) {
+                Long sentAt = pendingReads.remove(((Number) event.get("messageId")).longValue());
+                if (sentAt != null) {
+                    readLatency.recordValue(TimeUnit.NANOSECONDS.toMicros(receivedAt - sentAt));
+                }
+            }
+        }
+
+        /**
+         * 서버가 보낸 ERROR 프레임
+         */
+        @Override
+        public void handleFrame(StompHeaders headers, Object payload) {
+            errors.increment();
+        }
+
+        @Override
+        public void handleException(StompSession session, StompCommand command,
+                                    StompHeaders headers, byte[] payload, Throwable exception) {
+            errors.increment();
+        }
+
+        @Override
+        public void handleTransportError(StompSession session, Throwable exception) {
+            errors.increment();
+        }
+
+        void disconnect() {
+            if (session != null && session.isConnected()) {
+                session.disconnect();
+            }
+        }
+    }
+}
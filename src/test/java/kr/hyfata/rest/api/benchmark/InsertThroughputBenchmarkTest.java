@@ -0,0 +1,233 @@
+package kr.hyfata.rest.api.benchmark;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 메시지/알림 INSERT 처리량 비교 (IDENTITY 단건 INSERT vs 시퀀스 + 배치 INSERT)
+ * <p>
+ * PostgreSQL 이 필요하므로 BENCHMARK_DB_URL 이 설정된 경우에만 실행됩니다.
+ * 임시 테이블만 사용하며 실제 스키마는 건드리지 않습니다.
+ * <pre>
+ * BENCHMARK_DB_URL=jdbc:postgresql://localhost:5432/hyfata BENCHMARK_DB_USER=... BENCHMARK_DB_PASSWORD=... \
+ *   ./gradlew test --tests '*InsertThroughputBenchmarkTest'
+ * </pre>
+ */
+@EnabledIfEnvironmentVariable(named = "BENCHMARK_DB_URL", matches = ".+")
+class InsertThroughputBenchmarkTest {
+
+    private static final int ROWS = 20_000;
+    private static final int BATCH_SIZE = 50;
+    private static final int WARMUP_ROWS = 2_000;
+
+    private Connection plain;
+    private Connection rewritten;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        plain = connect(false);
+        rewritten = connect(true);
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        plain.close();
+        rewritten.close();
+    }
+
+    @Test
+    @DisplayName("메시지 저장 - IDENTITY 단건 INSERT 대비 시퀀스 배치 INSERT 처리량")
+    void messageInserts() throws SQLException {
+        createMessageTable(plain, "GENERATED BY DEFAULT AS IDENTITY");
+        createMessageTable(rewritten, "DEFAULT nextval('bench_messages_seq')");
+
+        // when
+        insertMessagesIdentity(plain, WARMUP_ROWS);
+        insertMessagesSequence(rewritten, WARMUP_ROWS);
+        double before = measure(() -> insertMessagesIdentity(plain, ROWS));
+        double after = measure(() -> insertMessagesSequence(rewritten, ROWS));
+
+        // then
+        report("messages", before, after);
+        assertThat(count(plain, "bench_messages")).isEqualTo(WARMUP_ROWS + ROWS);
+        assertThat(count(rewritten, "bench_messages")).isEqualTo(WARMUP_ROWS + ROWS);
+    }
+
+    @Test
+    @DisplayName("알림 fan-out - 배치 INSERT 재작성(reWriteBatchedInserts) 전후 처리량")
+    void notificationInserts() throws SQLException {
+        createNotificationTable(plain, "GENERATED BY DEFAULT AS IDENTITY");
+        createNotificationTable(rewritten, "DEFAULT nextval('bench_notifications_seq')");
+
+        // when
+        insertNotifications(plain, WARMUP_ROWS);
+        insertNotifications(rewritten, WARMUP_ROWS);
+        double before = measure(() -> insertNotifications(plain, ROWS));
+        double after = measure(() -> insertNotifications(rewritten, ROWS));
+
+        // then
+        report("notifications", before, after);
+        assertThat(count(plain, "bench_notifications")).isEqualTo(WARMUP_ROWS + ROWS);
+        assertThat(count(rewritten, "bench_notifications")).isEqualTo(WARMUP_ROWS + ROWS);
+    }
+
+    /**
+     * 변경 전: Hibernate IDENTITY 전략처럼 엔티티마다 INSERT ... RETURNING id 를 실행
+     */
+    private void insertMessagesIdentity(Connection connection, int rows) throws SQLException {
+        String sql = "INSERT INTO bench_messages (chat_id, sender_id, content, type, created_at) VALUES (?, ?, ?, 'TEXT', ?)";
+        try (PreparedStatement ps = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+            for (int i = 0; i < rows; i++) {
+                bindMessage(ps, i);
+                ps.executeUpdate();
+                try (ResultSet keys = ps.getGeneratedKeys()) {
+                    keys.next();
+                }
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    connection.commit();
+                }
+            }
+            connection.commit();
+        }
+    }
+
+    /**
+     * 변경 후: 시퀀스 블록(50개)을 한 번에 받아 ID 를 직접 채우고 배치로 INSERT
+     */
+    private void insertMessagesSequence(Connection connection, int rows) throws SQLException {
+        String sql = "INSERT INTO bench_messages (id, chat_id, sender_id, content, type, created_at) VALUES (?, ?, ?, ?, 'TEXT', ?)";
+        try (PreparedStatement ps = connection.prepareStatement(sql);
+             PreparedStatement nextval = connection.prepareStatement("SELECT nextval('bench_messages_seq')")) {
+            long hi = 0;
+            for (int i = 0; i < rows; i++) {
+                if (i % BATCH_SIZE == 0) {
+                    try (ResultSet rs = nextval.executeQuery()) {
+                        rs.next();
+                        hi = rs.getLong(1);
+                    }
+                }
+                ps.setLong(1, hi - BATCH_SIZE + 1 + (i % BATCH_SIZE));
+                ps.setLong(2, 1 + i % 100);
+                ps.setLong(3, 1 + i % 1000);
+                ps.setString(4, "benchmark message " + i);
+                ps.setTimestamp(5, Timestamp.valueOf(LocalDateTime.now()));
+                ps.addBatch();
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    ps.executeBatch();
+                    connection.commit();
+                }
+            }
+            ps.executeBatch();
+            connection.commit();
+        }
+    }
+
+    /**
+     * AgoraNotificationFanoutServiceImpl 과 같은 형태의 JDBC 배치 (연결 설정만 다름)
+     */
+    private void insertNotifications(Connection connection, int rows) throws SQLException {
+        String sql = "INSERT INTO bench_notifications (user_id, type, title, content, related_id, related_type, is_read, created_at) " +
+                "VALUES (?, 'MESSAGE', ?, ?, ?, 'CHAT', false, ?)";
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            for (int i = 0; i < rows; i++) {
+                ps.setLong(1, 1 + i % 1000);
+                ps.setString(2, "새 메시지");
+                ps.setString(3, "benchmark notification " + i);
+                ps.setLong(4, i);
+                ps.setTimestamp(5, Timestamp.valueOf(LocalDateTime.now()));
+                ps.addBatch();
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    ps.executeBatch();
+                    connection.commit();
+                }
+            }
+            ps.executeBatch();
+            connection.commit();
+        }
+    }
+
+    private void bindMessage(PreparedStatement ps, int i) throws SQLException {
+        ps.setLong(1, 1 + i % 100);
+        ps.setLong(2, 1 + i % 1000);
+        ps.setString(3, "benchmark message " + i);
+        ps.setTimestamp(4, Timestamp.valueOf(LocalDateTime.now()));
+    }
+
+    private void createMessageTable(Connection connection, String idDefinition) throws SQLException {
+        execute(connection, "CREATE TEMP SEQUENCE bench_messages_seq INCREMENT BY " + BATCH_SIZE);
+        execute(connection, "CREATE TEMP TABLE bench_messages (" +
+                "id BIGINT " + idDefinition + " PRIMARY KEY, chat_id BIGINT NOT NULL, sender_id BIGINT NOT NULL, " +
+                "content TEXT, type VARCHAR(20) NOT NULL, created_at TIMESTAMP NOT NULL)");
+        execute(connection, "CREATE INDEX ON bench_messages (chat_id)");
+        execute(connection, "CREATE INDEX ON bench_messages (created_at DESC)");
+    }
+
+    private void createNotificationTable(Connection connection, String idDefinition) throws SQLException {
+        execute(connection, "CREATE TEMP SEQUENCE bench_notifications_seq INCREMENT BY " + BATCH_SIZE);
+        execute(connection, "CREATE TEMP TABLE bench_notifications (" +
+                "id BIGINT " + idDefinition + " PRIMARY KEY, user_id BIGINT NOT NULL, type VARCHAR(50) NOT NULL, " +
+                "title VARCHAR(200) NOT NULL, content TEXT, related_id BIGINT, related_type VARCHAR(50), " +
+                "is_read BOOLEAN NOT NULL, created_at TIMESTAMP NOT NULL)");
+        execute(connection, "CREATE INDEX ON bench_notifications (user_id)");
+    }
+
+    private Connection connect(boolean reWriteBatchedInserts) throws SQLException {
+        Properties properties = new Properties();
+        properties.setProperty("user", System.getenv().getOrDefault("BENCHMARK_DB_USER", "postgres"));
+        properties.setProperty("password", System.getenv().getOrDefault("BENCHMARK_DB_PASSWORD", ""));
+        properties.setProperty("reWriteBatchedInserts", String.valueOf(reWriteBatchedInserts));
+        Connection connection = DriverManager.getConnection(System.getenv("BENCHMARK_DB_URL"), properties);
+        connection.setAutoCommit(false);
+        return connection;
+    }
+
+    private void execute(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+        connection.commit();
+    }
+
+    private long count(Connection connection, String table) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT COUNT(*) FROM " + table)) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    /**
+     * @return 초당 INSERT 행 수
+     */
+    private double measure(Work work) throws SQLException {
+        long started = System.nanoTime();
+        work.run();
+        double seconds = (System.nanoTime() - started) / 1_000_000_000.0;
+        return ROWS / seconds;
+    }
+
+    private void report(String name, double before, double after) {
+        System.out.printf("[benchmark] %s: before %.0f rows/s, after %.0f rows/s (x%.1f)%n",
+                name, before, after, after / before);
+    }
+
+    @FunctionalInterface
+    private interface Work {
+        void run() throws SQLException;
+    }
+}
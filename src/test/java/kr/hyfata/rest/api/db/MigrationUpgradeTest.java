@@ -0,0 +1,132 @@
+package kr.hyfata.rest.api.db;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 기존 DB 업그레이드 검사
+ * <p>
+ * 운영 DB 는 V5 까지의 테이블과 JPA(ddl-auto=update)가 만든 나머지 테이블을 가진 상태에서
+ * V5 로 baseline 된 뒤 V6 부터 적용됩니다. 그 상태를 별도 스키마에 재현한 뒤 마이그레이션이 끝까지 적용되고
+ * 엔티티에 추가된 컬럼이 채워지는지 확인합니다.
+ * TEST_POSTGRES_URL 이 설정된 경우에만 실행됩니다 (QueryPlanTest 참고).
+ */
+@EnabledIfEnvironmentVariable(named = "TEST_POSTGRES_URL", matches = ".+")
+class MigrationUpgradeTest {
+
+    private static final String SCHEMA = "migration_upgrade_test";
+
+    private String url;
+    private String user;
+    private String password;
+
+    @BeforeEach
+    void setUp() {
+        url = System.getenv("TEST_POSTGRES_URL");
+        user = System.getenv().getOrDefault("TEST_POSTGRES_USER", "postgres");
+        password = System.getenv().getOrDefault("TEST_POSTGRES_PASSWORD", "");
+        flyway(null).clean();
+    }
+
+    @AfterEach
+    void tearDown() {
+        flyway(null).clean();
+    }
+
+    @Test
+    @DisplayName("V5 로 baseline 된 기존 DB 에도 V6 이후 마이그레이션이 적용되고 events 에 반복 일정 컬럼이 추가됨")
+    void migrate_fromBaselineSchema() throws SQLException {
+        // given: V1~V5 로 만든 테이블 + JPA 가 만든 반복 일정 이전의 teams/events, 이력은 없음
+        flyway("5").migrate();
+        try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE flyway_schema_history");
+            statement.execute("CREATE TABLE teams (" +
+                    "id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, " +
+                    "name VARCHAR(100) NOT NULL, description TEXT, profile_image TEXT, " +
+                    "is_main BOOLEAN NOT NULL, created_by BIGINT NOT NULL REFERENCES users(id), " +
+                    "created_at TIMESTAMP(6) NOT NULL, updated_at TIMESTAMP(6) NOT NULL)");
+            statement.execute("CREATE TABLE events (" +
+                    "id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, " +
+                    "team_id BIGINT NOT NULL REFERENCES teams(id), created_by BIGINT NOT NULL REFERENCES users(id), " +
+                    "title VARCHAR(200) NOT NULL, description TEXT, location VARCHAR(200), " +
+                    "start_time TIMESTAMP(6) NOT NULL, end_time TIMESTAMP(6) NOT NULL, is_all_day BOOLEAN NOT NULL, " +
+                    "created_at TIMESTAMP(6) NOT NULL, updated_at TIMESTAMP(6) NOT NULL)");
+            statement.execute("INSERT INTO users (email, username, password) VALUES ('legacy@example.com', 'legacy', 'pw')");
+            statement.execute("INSERT INTO teams (name, is_main, created_by, created_at, updated_at) " +
+                    "SELECT 'legacy', false, id, now(), now() FROM users");
+            statement.execute("INSERT INTO events (team_id, created_by, title, start_time, end_time, is_all_day, " +
+                    "created_at, updated_at) SELECT t.id, t.created_by, 'legacy', now(), now(), false, now(), now() FROM teams t");
+        }
+
+        // when
+        Flyway.configure()
+                .configuration(flyway(null).getConfiguration())
+                .baselineOnMigrate(true)
+                .baselineVersion("5")
+                .load()
+                .migrate();
+
+        // then
+        try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+            statement.execute("SET search_path TO " + SCHEMA);
+            assertThat(columns(statement, "events"))
+                    .contains("recurrence", "recurrence_interval", "recurrence_until");
+            try (ResultSet rs = statement.executeQuery("SELECT recurrence FROM events")) {
+                rs.next();
+                assertThat(rs.getString(1)).isEqualTo("NONE");
+            }
+            try (ResultSet rs = statement.executeQuery(
+                    "SELECT COUNT(*) FROM pg_indexes WHERE schemaname = '" + SCHEMA + "' " +
+                    "AND indexname IN ('idx_events_recurring', 'idx_events_time_range')")) {
+                rs.next();
+                assertThat(rs.getInt(1)).isEqualTo(2);
+            }
+        }
+    }
+
+    private Flyway flyway(String target) {
+        var configuration = Flyway.configure()
+                .dataSource(url, user, password)
+                .schemas(SCHEMA)
+                .createSchemas(true)
+                .cleanDisabled(false)
+                .locations("classpath:db/migration");
+        if (target != null) {
+            configuration.target(target);
+        }
+        return configuration.load();
+    }
+
+    private Connection connect() throws SQLException {
+        Connection connection = DriverManager.getConnection(url, user, password);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SET search_path TO " + SCHEMA);
+        }
+        return connection;
+    }
+
+    private List<String> columns(Statement statement, String table) throws SQLException {
+        List<String> columns = new ArrayList<>();
+        try (ResultSet rs = statement.executeQuery("SELECT column_name FROM information_schema.columns " +
+                "WHERE table_schema = '" + SCHEMA + "' AND table_name = '" + table + "'")) {
+            while (rs.next()) {
+                columns.add(rs.getString(1));
+            }
+        }
+        return columns;
+    }
+}
@@ -0,0 +1,173 @@
+package kr.hyfata.rest.api.db;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 주요 리포지토리 쿼리의 실행 계획 검사
+ * <p>
+ * 로컬 PostgreSQL 의 별도 스키마에 db/migration 을 적용한 뒤 enable_seqscan=off 로 EXPLAIN 을 실행합니다.
+ * 이 설정에서도 Seq Scan 이 나오면 쿼리를 받칠 인덱스가 없다는 뜻이므로 실패합니다.
+ * TEST_POSTGRES_URL 이 설정된 경우에만 실행됩니다.
+ * <pre>
+ * TEST_POSTGRES_URL=jdbc:postgresql://localhost:5432/hyfata TEST_POSTGRES_USER=... TEST_POSTGRES_PASSWORD=... \
+ *   ./gradlew test --tests '*QueryPlanTest'
+ * </pre>
+ */
+@EnabledIfEnvironmentVariable(named = "TEST_POSTGRES_URL", matches = ".+")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QueryPlanTest {
+
+    private static final String SCHEMA = "query_plan_test";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private Flyway flyway;
+    private Connection connection;
+
+    @BeforeAll
+    void setUp() throws SQLException {
+        String url = System.getenv("TEST_POSTGRES_URL");
+        String user = System.getenv().getOrDefault("TEST_POSTGRES_USER", "postgres");
+        String password = System.getenv().getOrDefault("TEST_POSTGRES_PASSWORD", "");
+
+        flyway = Flyway.configure()
+                .dataSource(url, user, password)
+                .schemas(SCHEMA)
+                .createSchemas(true)
+                .cleanDisabled(false)
+                .locations("classpath:db/migration")
+                .load();
+        flyway.clean();
+        flyway.migrate();
+
+        connection = DriverManager.getConnection(url, user, password);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SET search_path TO " + SCHEMA);
+            statement.execute("SET enable_seqscan = off");
+        }
+    }
+
+    @AfterAll
+    void tearDown() throws SQLException {
+        connection.close();
+        flyway.clean();
+    }
+
+    static Stream<Arguments> keyQueries() {
+        return Stream.of(
+                Arguments.of("메시지 최신 페이지",
+                        "SELECT * FROM messages WHERE chat_id = 1 ORDER BY id DESC LIMIT 50"),
+                Arguments.of("메시지 이전 페이지 (커서)",
+                        "SELECT * FROM messages WHERE chat_id = 1 AND id < 1000 ORDER BY id DESC LIMIT 50"),
+                Arguments.of("메시지 목록 (보이는 메시지, 발신자/첨부 포함)",
+                        "SELECT m.id, p.display_name, f.file_url FROM (SELECT m.id, m.sender_id FROM messages m " +
+                        "WHERE m.chat_id = 1 AND m.is_deleted = false AND (m.private_only_user_id IS NULL OR " +
+                        "m.private_only_user_id = 2) AND m.id < 1000 ORDER BY m.id DESC LIMIT 50) m " +
+                        "LEFT JOIN agora_user_profiles p ON p.id = m.sender_id " +
+                        "LEFT JOIN message_attachments a ON a.message_id = m.id " +
+                        "LEFT JOIN files f ON f.id = a.file_id ORDER BY m.id DESC, a.order_index, a.id"),
+                Arguments.of("메시지 다음 페이지 (after 커서)",
+                        "SELECT m.id FROM messages m WHERE m.chat_id = 1 AND m.is_deleted = false " +
+                        "AND m.id > 1000 ORDER BY m.id ASC LIMIT 50"),
+                Arguments.of("삭제되지 않은 메시지 수",
+                        "SELECT COUNT(*) FROM messages WHERE chat_id = 1 AND is_deleted = false"),
+                Arguments.of("고정 메시지",
+                        "SELECT * FROM messages WHERE chat_id = 1 AND is_pinned = true"),
+                Arguments.of("읽지 않은 메시지 ID",
+                        "SELECT m.id FROM messages m WHERE m.chat_id = 1 AND NOT EXISTS " +
+                        "(SELECT 1 FROM message_read_status r WHERE r.message_id = m.id AND r.user_id = 2)"),
+                Arguments.of("사용자가 읽은 메시지 ID",
+                        "SELECT r.message_id FROM message_read_status r JOIN messages m ON m.id = r.message_id " +
+                        "WHERE r.user_id = 2 AND m.chat_id = 1 ORDER BY r.message_id DESC"),
+                Arguments.of("친구 목록 (즐겨찾기 우선)",
+                        "SELECT * FROM friends WHERE user_id = 1 ORDER BY is_favorite DESC, created_at DESC"),
+                Arguments.of("받은 친구 요청",
+                        "SELECT * FROM friend_requests WHERE to_user_id = 1 AND status = 'PENDING' ORDER BY created_at DESC"),
+                Arguments.of("알림 목록",
+                        "SELECT * FROM notifications WHERE user_id = 1 ORDER BY created_at DESC LIMIT 20"),
+                Arguments.of("읽지 않은 알림 수 (일괄)",
+                        "SELECT user_id, COUNT(*) FROM notifications WHERE user_id IN (1, 2, 3) AND is_read = false GROUP BY user_id"),
+                Arguments.of("참여 중인 채팅 (고정 우선)",
+                        "SELECT * FROM chat_participants WHERE user_id = 1 ORDER BY is_pinned DESC, pinned_at DESC"),
+                Arguments.of("채팅 참여 여부",
+                        "SELECT 1 FROM chat_participants WHERE chat_id = 1 AND user_id = 2"),
+                Arguments.of("활성 세션",
+                        "SELECT * FROM user_sessions WHERE user_id = 1 AND is_revoked = false " +
+                        "AND expires_at > now() ORDER BY last_active_at DESC"),
+                Arguments.of("팀 공지 페이지",
+                        "SELECT * FROM notices WHERE team_id = 1 AND id < 1000 ORDER BY id DESC LIMIT 20"),
+                Arguments.of("팀 할일 페이지 (상태 필터)",
+                        "SELECT * FROM todos WHERE team_id = 1 AND status = 'TODO' ORDER BY due_date, id LIMIT 20"),
+                Arguments.of("팀 일정 페이지",
+                        "SELECT * FROM events WHERE team_id = 1 AND start_time >= '2025-01-01' ORDER BY start_time, id LIMIT 20"),
+                Arguments.of("팀 멤버십 확인",
+                        "SELECT 1 FROM team_members WHERE team_id = 1 AND user_id = 2"),
+                Arguments.of("다가오는 생일 (MMDD 범위)",
+                        "SELECT p.id FROM agora_user_profiles p WHERE p.birthday IS NOT NULL AND " +
+                        "(EXTRACT(MONTH FROM p.birthday)::int * 100 + EXTRACT(DAY FROM p.birthday)::int) BETWEEN 301 AND 331"),
+                Arguments.of("다가오는 생일 (연말을 넘는 범위)",
+                        "SELECT p.id FROM agora_user_profiles p WHERE p.birthday IS NOT NULL AND " +
+                        "((EXTRACT(MONTH FROM p.birthday)::int * 100 + EXTRACT(DAY FROM p.birthday)::int) >= 1225 OR " +
+                        "(EXTRACT(MONTH FROM p.birthday)::int * 100 + EXTRACT(DAY FROM p.birthday)::int) <= 105)"),
+                Arguments.of("사용자 검색 (부분 일치)",
+                        "SELECT id FROM agora_user_profiles WHERE lower(agora_id) LIKE '%john%' OR search_name LIKE '%john%'"),
+                Arguments.of("사용자 검색 (짧은 검색어 접두어 일치)",
+                        "SELECT id FROM agora_user_profiles WHERE lower(agora_id) LIKE 'jo%' OR search_name LIKE 'jo%'"),
+                Arguments.of("채팅방 메시지 검색",
+                        "SELECT id FROM messages WHERE chat_id = 1 AND search_vector @@ to_tsquery('simple', '''회의'' & ''hello'':*') " +
+                        "ORDER BY id DESC LIMIT 20"),
+                Arguments.of("참여 중인 채팅 메시지 검색",
+                        "SELECT m.id FROM messages m WHERE m.chat_id IN " +
+                        "(SELECT cp.chat_id FROM chat_participants cp WHERE cp.user_id = 1) " +
+                        "AND m.search_vector @@ to_tsquery('simple', '''hello'':*') ORDER BY m.id DESC LIMIT 20"),
+                Arguments.of("생일 다이제스트",
+                        "SELECT * FROM birthday_digests WHERE user_id = 1 AND digest_date = '2025-01-01' AND days_until <= 7")
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("keyQueries")
+    @DisplayName("주요 쿼리는 Seq Scan 없이 인덱스로 실행")
+    void keyQueriesUseIndexes(String name, String sql) throws Exception {
+        // when
+        List<String> seqScans = new ArrayList<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("EXPLAIN (FORMAT JSON) " + sql)) {
+            rs.next();
+            JsonNode plan = objectMapper.readTree(rs.getString(1)).get(0).get("Plan");
+            collectSeqScans(plan, seqScans);
+        }
+
+        // then
+        assertThat(seqScans).as("%s: %s", name, sql).isEmpty();
+    }
+
+    private void collectSeqScans(JsonNode node, List<String> seqScans) {
+        if ("Seq Scan".equals(node.path("Node Type").asText())) {
+            seqScans.add(node.path("Relation Name").asText());
+        }
+        for (JsonNode child : node.path("Plans")) {
+            collectSeqScans(child, seqScans);
+        }
+    }
+}
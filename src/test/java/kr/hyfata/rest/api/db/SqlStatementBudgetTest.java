@@ -0,0 +1,204 @@
+package kr.hyfata.rest.api.db;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.hyfata.rest.api.entity.User;
+import kr.hyfata.rest.api.entity.agora.AgoraUserProfile;
+import kr.hyfata.rest.api.entity.agora.Chat;
+import kr.hyfata.rest.api.entity.agora.ChatParticipant;
+import kr.hyfata.rest.api.entity.agora.Message;
+import kr.hyfata.rest.api.metrics.SqlBudgetExceededException;
+import kr.hyfata.rest.api.metrics.SqlStatementCounter;
+import kr.hyfata.rest.api.repository.UserRepository;
+import kr.hyfata.rest.api.repository.agora.AgoraUserProfileRepository;
+import kr.hyfata.rest.api.repository.agora.ChatParticipantRepository;
+import kr.hyfata.rest.api.repository.agora.ChatRepository;
+import kr.hyfata.rest.api.repository.agora.MessageRepository;
+import kr.hyfata.rest.api.service.EmailService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 엔드포인트별 SQL 문 한도 검사
+ * <p>
+ * 테스트 프로필은 sql.budget.mode=REJECT 이므로 같은 모양의 SQL 이 sql.budget.max-repeats 를 넘게 반복되면(N+1) 요청이 실패하고,
+ * 여기서는 그보다 좁은 엔드포인트별 한도를 hyfata.http.sql.statements 로 확인합니다.
+ * 데이터 건수(채팅 수, 발신자 수)를 반복 한도보다 크게 잡아 건수에 비례하는 쿼리가 생기면 실패하도록 합니다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class SqlStatementBudgetTest {
+
+    private static final String METRIC_NAME = "hyfata.http.sql.statements";
+    private static final int CHAT_COUNT = 12;
+    private static final int SENDER_COUNT = 15;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AgoraUserProfileRepository agoraUserProfileRepository;
+
+    @Autowired
+    private ChatRepository chatRepository;
+
+    @Autowired
+    private ChatParticipantRepository chatParticipantRepository;
+
+    @Autowired
+    private MessageRepository messageRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @MockitoBean
+    private EmailService emailService;
+
+    private User me;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+        me = createUser("me");
+    }
+
+    @AfterEach
+    void cleanUp() {
+        messageRepository.deleteAllInBatch();
+        chatParticipantRepository.deleteAllInBatch();
+        chatRepository.deleteAllInBatch();
+        agoraUserProfileRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("채팅 목록 - 채팅 수와 무관하게 SQL 8개 이내")
+    void chatList_withinBudget() throws Exception {
+        // given
+        User friend = createUser("friend");
+        for (int i = 0; i < CHAT_COUNT; i++) {
+            Chat chat = createChat(me, friend);
+            messageRepository.save(Message.builder().chat(chat).sender(friend).content("hello " + i).build());
+        }
+
+        // when
+        int statements = statementsOf(get("/api/agora/chats").with(user(me.getEmail())), "GET", "/api/agora/chats");
+
+        // then
+        assertThat(statements).isLessThanOrEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("메시지 목록 - 발신자 수와 무관하게 SQL 6개 이내")
+    void messages_withinBudget() throws Exception {
+        // given
+        List<User> senders = new ArrayList<>();
+        senders.add(me);
+        for (int i = 0; i < SENDER_COUNT; i++) {
+            senders.add(createUser("sender" + i));
+        }
+        Chat chat = createChat(senders.toArray(User[]::new));
+        for (User sender : senders) {
+            messageRepository.save(Message.builder().chat(chat).sender(sender).content("hi").build());
+        }
+
+        // when
+        int statements = statementsOf(
+                get("/api/agora/chats/{chatId}/messages", chat.getId()).param("limit", "50").with(user(me.getEmail())),
+                "GET", "/api/agora/chats/{chatId}/messages");
+
+        // then
+        assertThat(statements).isLessThanOrEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("같은 모양의 SQL 이 반복 한도를 넘으면 거부 (IN 목록 길이는 무시)")
+    void counter_rejectsRepeatedShape() {
+        // given
+        SqlStatementCounter counter = new SqlStatementCounter();
+        SqlStatementCounter.start(new SqlStatementCounter.Limits(true, 0, 2));
+
+        try {
+            counter.inspect("select * from agora_user_profiles where user_id in (?,?)");
+            counter.inspect("select * from agora_user_profiles where user_id in (?,?,?)");
+
+            // when & then
+            assertThatThrownBy(() -> counter.inspect("select * from agora_user_profiles where user_id in (?)"))
+                    .isInstanceOf(SqlBudgetExceededException.class)
+                    .hasMessageContaining("N+1");
+        } finally {
+            assertThat(SqlStatementCounter.stop().count()).isEqualTo(3);
+        }
+    }
+
+    private int statementsOf(RequestBuilder request, String method, String uri) throws Exception {
+        double before = summary(method, uri);
+        mockMvc.perform(request).andExpect(status().isOk());
+        return (int) (summary(method, uri) - before);
+    }
+
+    private double summary(String method, String uri) {
+        DistributionSummary summary = meterRegistry.find(METRIC_NAME).tags("method", method, "uri", uri).summary();
+        return summary != null ? summary.totalAmount() : 0;
+    }
+
+    /**
+     * 프로필은 사용자 ID 를 공유하므로(@MapsId) 사용자와 같은 트랜잭션에서 저장한다
+     */
+    private User createUser(String name) {
+        return transactionTemplate.execute(status -> {
+            User user = userRepository.save(User.builder()
+                    .email(name + "@example.com")
+                    .username(name)
+                    .password("password")
+                    .enabled(true)
+                    .twoFactorEnabled(false)
+                    .emailVerified(true)
+                    .build());
+            agoraUserProfileRepository.save(AgoraUserProfile.builder()
+                    .user(user)
+                    .agoraId(name)
+                    .displayName(name)
+                    .build());
+            return user;
+        });
+    }
+
+    private Chat createChat(User... members) {
+        Chat chat = chatRepository.save(Chat.builder()
+                .type(Chat.ChatType.GROUP)
+                .name("chat")
+                .createdBy(members[0])
+                .build());
+        for (User member : members) {
+            chatParticipantRepository.save(ChatParticipant.builder().chat(chat).user(member).build());
+        }
+        return chat;
+    }
+}
@@ -0,0 +1,117 @@
+package kr.hyfata.rest.api.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.hyfata.rest.api.util.IpUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RateLimitFilterTest {
+
+    @Mock
+    private RateLimiter rateLimiter;
+
+    private final RateLimitRules rules = new RateLimitRules(true, "10/1m", "5/1m", "3/10m", "10/1m", "600/1m",
+            "30/1m", "20/10m", "300/1m", "10/10m", "3/1h", "20/10s", "10.0.0.0/8");
+
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new RateLimitFilter(rateLimiter, rules, new IpUtil(), new ObjectMapper());
+        lenient().when(rateLimiter.tryAcquire(any(), anyString())).thenReturn(RateLimiter.Decision.ALLOWED);
+    }
+
+    @Test
+    @DisplayName("신뢰하지 않는 주소에서 온 X-Forwarded-For 는 무시하고 연결 주소로 IP 버킷을 고름")
+    void spoofedForwardedFor_isIgnored() throws Exception {
+        // given
+        MockHttpServletRequest request = loginRequest("203.0.113.5", "{}");
+        request.addHeader("X-Forwarded-For", "1.1.1.1");
+
+        // when
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        // then
+        verify(rateLimiter).tryAcquire(rules.getAuthLogin(), "203.0.113.5");
+    }
+
+    @Test
+    @DisplayName("신뢰 프록시를 거친 요청은 X-Forwarded-For 의 가장 가까운 비신뢰 주소를 사용")
+    void trustedProxy_usesNearestUntrustedHop() throws Exception {
+        // given
+        MockHttpServletRequest request = loginRequest("10.0.0.2", "{}");
+        request.addHeader("X-Forwarded-For", "1.1.1.1, 198.51.100.7, 10.0.0.3");
+
+        // when
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        // then
+        verify(rateLimiter).tryAcquire(rules.getAuthLogin(), "198.51.100.7");
+    }
+
+    @Test
+    @DisplayName("로그인은 계정과 client_id 별로도 검사하고, 본문은 컨트롤러가 그대로 읽을 수 있음")
+    void login_checksAccountAndClient_andReplaysBody() throws Exception {
+        // given
+        String body = "{\"email\":\"Victim@Example.com\",\"password\":\"pw\",\"clientId\":\"app\"}";
+        MockFilterChain chain = new MockFilterChain();
+
+        // when
+        filter.doFilter(loginRequest("203.0.113.5", body), new MockHttpServletResponse(), chain);
+
+        // then
+        verify(rateLimiter).tryAcquire(rules.getLoginPerAccount(), "victim@example.com");
+        verify(rateLimiter).tryAcquire(rules.getLoginPerClient(), "app");
+        assertThat(new String(chain.getRequest().getInputStream().readAllBytes(), StandardCharsets.UTF_8))
+                .isEqualTo(body);
+    }
+
+    @Test
+    @DisplayName("계정 한도를 넘으면 IP 를 바꿔도 429 로 거부하고 client_id 버킷은 소비하지 않음")
+    void accountLimitExceeded_rejects() throws Exception {
+        // given
+        when(rateLimiter.tryAcquire(eq(rules.getLoginPerAccount()), anyString()))
+                .thenReturn(new RateLimiter.Decision(false, 30_000));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // when
+        filter.doFilter(loginRequest("198.51.100.99", "{\"email\":\"victim@example.com\",\"clientId\":\"app\"}"),
+                response, chain);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(429);
+        assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("30");
+        assertThat(chain.getRequest()).isNull();
+        verify(rateLimiter, never()).tryAcquire(eq(rules.getLoginPerClient()), anyString());
+    }
+
+    private MockHttpServletRequest loginRequest(String remoteAddr, String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/auth/login");
+        request.setServletPath("/api/auth/login");
+        request.setRemoteAddr(remoteAddr);
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+}
@@ -0,0 +1,108 @@
+package kr.hyfata.rest.api.ratelimit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RateLimiterTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @InjectMocks
+    private RateLimiter rateLimiter;
+
+    private final RateLimitRule rule = new RateLimitRule("test", 3, Duration.ofHours(1));
+
+    @Test
+    @DisplayName("로컬 버킷이 비면 Redis 호출 없이 거부하고 남은 시간을 알려줌")
+    void tryAcquire_localLimitRejectsWithoutRedis() {
+        // given
+        when(redisTemplate.execute(ArgumentMatchers.<RedisScript<Long>>any(), anyList(), any(), any())).thenReturn(0L);
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            assertThat(rateLimiter.tryAcquire(rule, "1.2.3.4").allowed()).isTrue();
+        }
+        RateLimiter.Decision rejected = rateLimiter.tryAcquire(rule, "1.2.3.4");
+
+        // then
+        assertThat(rejected.allowed()).isFalse();
+        assertThat(rejected.retryAfterSeconds()).isBetween(1190L, 1200L);
+        verify(redisTemplate, times(3)).execute(ArgumentMatchers.<RedisScript<Long>>any(), eq(List.of("ratelimit:test:1.2.3.4")),
+                eq("1200000"), eq("3600000"));
+        assertThat(rateLimiter.tryAcquire(rule, "5.6.7.8").allowed()).isTrue();
+        assertThat(meterRegistry.get("hyfata.ratelimit.decisions")
+                .tags("rule", "test", "result", "rejected").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 이미 한도를 쓴 경우 Redis 결과로 거부")
+    void tryAcquire_globalLimitRejects() {
+        // given
+        when(redisTemplate.execute(ArgumentMatchers.<RedisScript<Long>>any(), anyList(), any(), any())).thenReturn(1500L);
+
+        // when
+        RateLimiter.Decision decision = rateLimiter.tryAcquire(rule, "user@example.com");
+
+        // then
+        assertThat(decision.allowed()).isFalse();
+        assertThat(decision.retryAfterSeconds()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Redis 오류 시 로컬 한도로만 판단하고 잠시 Redis 호출을 멈춤")
+    void tryAcquire_redisErrorFallsBackToLocal() {
+        // given
+        when(redisTemplate.execute(ArgumentMatchers.<RedisScript<Long>>any(), anyList(), any(), any()))
+                .thenThrow(new RedisConnectionFailureException("connection refused"));
+
+        // when
+        boolean first = rateLimiter.tryAcquire(rule, "client_001").allowed();
+        boolean second = rateLimiter.tryAcquire(rule, "client_001").allowed();
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        verify(redisTemplate, times(1)).execute(ArgumentMatchers.<RedisScript<Long>>any(), anyList(), any(), any());
+        assertThat(meterRegistry.get("hyfata.ratelimit.redis.fallback").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("\"횟수/기간\" 설정 파싱")
+    void parseRule() {
+        RateLimitRule parsed = RateLimitRule.parse("chat-send", "20/10s");
+
+        assertThat(parsed.limit()).isEqualTo(20);
+        assertThat(parsed.period()).isEqualTo(Duration.ofSeconds(10));
+        assertThat(parsed.emissionIntervalMillis()).isEqualTo(500);
+        assertThatThrownBy(() -> RateLimitRule.parse("bad", "20"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
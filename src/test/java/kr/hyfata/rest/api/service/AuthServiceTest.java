@@ -47,7 +47,7 @@ class AuthServiceTest {
 
         User retrievedUser = userRepository.findByEmail("test@example.com").orElse(null);
         assertNotNull(retrievedUser);
-        assertEquals("testuser", retrievedUser.getUsername());
+        assertEquals("testuser", retrievedUser.getDisplayName());
         assertEquals("Test", retrievedUser.getFirstName());
         assertFalse(retrievedUser.getEmailVerified());
     }
@@ -0,0 +1,259 @@
+package kr.hyfata.rest.api.service;
+
+import kr.hyfata.rest.api.entity.User;
+import kr.hyfata.rest.api.entity.UserSession;
+import kr.hyfata.rest.api.entity.agora.Chat;
+import kr.hyfata.rest.api.entity.agora.ChatParticipant;
+import kr.hyfata.rest.api.entity.agora.Message;
+import kr.hyfata.rest.api.entity.agora.MessageReadStatus;
+import kr.hyfata.rest.api.entity.agora.Notification;
+import kr.hyfata.rest.api.repository.UserRepository;
+import kr.hyfata.rest.api.repository.UserSessionRepository;
+import kr.hyfata.rest.api.repository.agora.ChatParticipantRepository;
+import kr.hyfata.rest.api.repository.agora.ChatRepository;
+import kr.hyfata.rest.api.repository.agora.MessageReadStatusRepository;
+import kr.hyfata.rest.api.repository.agora.MessageRepository;
+import kr.hyfata.rest.api.repository.agora.NotificationRepository;
+import kr.hyfata.rest.api.service.agora.AgoraChatService;
+import kr.hyfata.rest.api.service.agora.NotificationCounterService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 보존 정책 실행 검사
+ * <p>
+ * 작은 배치 크기로 여러 배치에 걸쳐 삭제되는지, 만료 세션과 폐기 세션이 각자의 보존 기간을 따르는지,
+ * 정리된 읽음 상태가 읽음 처리로 되살아나지 않는지 확인한다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class DataRetentionServiceTest {
+
+    @Autowired
+    private DataRetentionService dataRetentionService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private UserSessionRepository userSessionRepository;
+
+    @Autowired
+    private ChatRepository chatRepository;
+
+    @Autowired
+    private ChatParticipantRepository chatParticipantRepository;
+
+    @Autowired
+    private MessageRepository messageRepository;
+
+    @Autowired
+    private MessageReadStatusRepository messageReadStatusRepository;
+
+    @Autowired
+    private AgoraChatService agoraChatService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @MockitoBean
+    private EmailService emailService;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(dataRetentionService, "batchSize", 2);
+        ReflectionTestUtils.setField(dataRetentionService, "batchPauseMs", 0L);
+        String name = "retention-" + UUID.randomUUID().toString().substring(0, 8);
+        user = transactionTemplate.execute(status -> userRepository.save(User.builder()
+                .email(name + "@example.com")
+                .username(name)
+                .password("password")
+                .enabled(true)
+                .twoFactorEnabled(false)
+                .emailVerified(true)
+                .build()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReflectionTestUtils.setField(dataRetentionService, "batchSize", 1000);
+        ReflectionTestUtils.setField(dataRetentionService, "batchPauseMs", 50L);
+        messageReadStatusRepository.deleteAllInBatch();
+        messageRepository.deleteAllInBatch();
+        chatParticipantRepository.deleteAllInBatch();
+        chatRepository.deleteAllInBatch();
+        transactionTemplate.executeWithoutResult(status -> {
+            notificationRepository.deleteAll(notificationRepository.findAll().stream()
+                    .filter(notification -> notification.getUser().getId().equals(user.getId()))
+                    .toList());
+            userSessionRepository.deleteAll(userSessionRepository.findAll().stream()
+                    .filter(session -> session.getUser().getId().equals(user.getId()))
+                    .toList());
+            userRepository.deleteById(user.getId());
+        });
+    }
+
+    @Test
+    @DisplayName("보존 기간이 지난 알림만 배치로 나누어 삭제")
+    void purgeAll_deletesOldNotificationsInBatches() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> oldIds = List.of(
+                saveNotification(now.minusDays(120)),
+                saveNotification(now.minusDays(100)),
+                saveNotification(now.minusDays(95)),
+                saveNotification(now.minusDays(91)),
+                saveNotification(now.minusDays(91)));
+        Long recentId = saveNotification(now.minusDays(10));
+
+        // when
+        Map<String, Integer> result = dataRetentionService.purgeAll();
+
+        // then
+        assertThat(result.get("notifications")).isGreaterThanOrEqualTo(oldIds.size());
+        assertThat(notificationRepository.findAllById(oldIds)).isEmpty();
+        assertThat(notificationRepository.existsById(recentId)).isTrue();
+    }
+
+    @Test
+    @DisplayName("만료 세션과 폐기 세션은 각자의 보존 기간으로 삭제")
+    void purgeAll_appliesSeparatePoliciesToExpiredAndRevokedSessions() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        String expiredLongAgo = saveSession(now.minusDays(2), false, now.minusDays(2));
+        String expiredJustNow = saveSession(now.minusHours(1), false, now.minusHours(1));
+        String revokedLongAgo = saveSession(now.plusDays(7), true, now.minusDays(40));
+        String revokedRecently = saveSession(now.plusDays(7), true, now.minusDays(3));
+        String active = saveSession(now.plusDays(7), false, now.minusDays(40));
+
+        // when
+        Map<String, Integer> result = dataRetentionService.purgeAll();
+
+        // then
+        assertThat(result).containsKeys("user_sessions.expired", "user_sessions.revoked");
+        assertThat(userSessionRepository.existsById(expiredLongAgo)).isFalse();
+        assertThat(userSessionRepository.existsById(revokedLongAgo)).isFalse();
+        assertThat(userSessionRepository.existsById(expiredJustNow)).isTrue();
+        assertThat(userSessionRepository.existsById(revokedRecently)).isTrue();
+        assertThat(userSessionRepository.existsById(active)).isTrue();
+    }
+
+    @Test
+    @DisplayName("만료 세션 보존 기간을 0으로 두면 폐기 세션만 정리")
+    void purgeAll_expiredPolicyDisabled_stillPurgesRevokedSessions() {
+        // given
+        ReflectionTestUtils.setField(dataRetentionService, "expiredSessionDays", 0);
+        LocalDateTime now = LocalDateTime.now();
+        String expiredLongAgo = saveSession(now.minusDays(2), false, now.minusDays(2));
+        String revokedLongAgo = saveSession(now.plusDays(7), true, now.minusDays(40));
+
+        try {
+            // when
+            Map<String, Integer> result = dataRetentionService.purgeAll();
+
+            // then
+            assertThat(result).doesNotContainKey("user_sessions.expired");
+            assertThat(userSessionRepository.existsById(expiredLongAgo)).isTrue();
+            assertThat(userSessionRepository.existsById(revokedLongAgo)).isFalse();
+        } finally {
+            ReflectionTestUtils.setField(dataRetentionService, "expiredSessionDays", 1);
+        }
+    }
+
+    @Test
+    @DisplayName("보존 기간이 지난 메시지의 읽음 상태는 정리 후 채팅 읽음 처리로 다시 만들어지지 않음")
+    void markChatAsRead_afterPurge_doesNotRecreateReadStatusOfOldMessages() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        Long[] ids = transactionTemplate.execute(status -> {
+            Chat chat = chatRepository.save(Chat.builder()
+                    .type(Chat.ChatType.GROUP)
+                    .name("retention")
+                    .createdBy(user)
+                    .build());
+            chatParticipantRepository.save(ChatParticipant.builder().chat(chat).user(user).build());
+            Message old = messageRepository.save(Message.builder()
+                    .chat(chat).sender(user).content("old").createdAt(now.minusDays(200)).build());
+            Message recent = messageRepository.save(Message.builder()
+                    .chat(chat).sender(user).content("recent").createdAt(now.minusDays(1)).build());
+            messageReadStatusRepository.save(MessageReadStatus.builder().message(old).user(user).build());
+            return new Long[]{chat.getId(), old.getId(), recent.getId()};
+        });
+
+        // when
+        dataRetentionService.purgeAll();
+        agoraChatService.markChatAsRead(user.getEmail(), ids[0]);
+
+        // then
+        assertThat(messageReadStatusRepository.existsByMessage_IdAndUser_Id(ids[1], user.getId())).isFalse();
+        assertThat(messageReadStatusRepository.existsByMessage_IdAndUser_Id(ids[2], user.getId())).isTrue();
+    }
+
+    @Test
+    @DisplayName("알림 파티션을 DROP 해도 미읽음 카운터를 무효화")
+    void purgeAll_droppedNotificationPartitions_invalidateCounters() {
+        // given
+        PartitionMaintenanceService partitionMaintenanceService = mock(PartitionMaintenanceService.class);
+        NotificationCounterService notificationCounterService = mock(NotificationCounterService.class);
+        DataRetentionService service = new DataRetentionService(
+                mock(NamedParameterJdbcTemplate.class), partitionMaintenanceService, notificationCounterService);
+        ReflectionTestUtils.setField(service, "notificationDays", 90);
+        when(partitionMaintenanceService.isManaged("notifications")).thenReturn(true);
+        when(partitionMaintenanceService.dropPartitionsBefore(eq("notifications"), any())).thenReturn(1);
+
+        // when
+        Map<String, Integer> result = service.purgeAll();
+
+        // then
+        assertThat(result).containsEntry("notifications", 1);
+        verify(notificationCounterService).invalidateAll();
+    }
+
+    private Long saveNotification(LocalDateTime createdAt) {
+        return transactionTemplate.execute(status -> notificationRepository.save(Notification.builder()
+                .user(user)
+                .type("TEST")
+                .title("retention")
+                .createdAt(createdAt)
+                .build()).getId());
+    }
+
+    private String saveSession(LocalDateTime expiresAt, boolean revoked, LocalDateTime lastActiveAt) {
+        String hash = UUID.randomUUID().toString().replace("-", "");
+        transactionTemplate.executeWithoutResult(status -> userSessionRepository.save(UserSession.builder()
+                .refreshTokenHash(hash)
+                .user(user)
+                .ipAddress("127.0.0.1")
+                .expiresAt(expiresAt)
+                .isRevoked(revoked)
+                .lastActiveAt(lastActiveAt)
+                .build()));
+        return hash;
+    }
+}
@@ -0,0 +1,119 @@
+package kr.hyfata.rest.api.service;
+
+import com.icegreen.greenmail.configuration.GreenMailConfiguration;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.GreenMailUtil;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.mail.internet.MimeMessage;
+import kr.hyfata.rest.api.entity.EmailOutbox;
+import kr.hyfata.rest.api.repository.EmailOutboxRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * 메일 발송 대기열 → 로컬 SMTP(GreenMail, 테스트 프로필의 spring.mail.port=3025) 발송 검사
+ */
+@SpringBootTest(properties = {
+        "spring.mail.enabled=true",
+        "mail.outbox.initial-backoff=1h",
+        "mail.outbox.max-backoff=4h",
+        "mail.outbox.poll-interval-ms=3600000"
+})
+@ActiveProfiles("test")
+class EmailOutboxTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP)
+            // 테스트 프로필의 spring.mail.username/password 로 로그인
+            .withConfiguration(GreenMailConfiguration.aConfig().withUser("test@example.com", "testpassword"));
+
+    @Autowired
+    private EmailService emailService;
+
+    @Autowired
+    private EmailDispatcher emailDispatcher;
+
+    @Autowired
+    private EmailOutboxRepository emailOutboxRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        emailOutboxRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("대기열에 넣은 메일을 커밋 후 발송하고 SENT 로 표시 (변수는 비움)")
+    void queuedEmail_isSentAfterCommit() throws Exception {
+        // when
+        emailService.sendTwoFactorEmail("user@example.com", "123456", null);
+
+        // then
+        assertThat(greenMail.waitForIncomingEmail(5000, 1)).isTrue();
+        MimeMessage received = greenMail.getReceivedMessages()[0];
+        assertThat(received.getSubject()).isEqualTo("Your Two-Factor Authentication Code");
+        assertThat(GreenMailUtil.getBody(received)).contains("Your authentication code is: 123456");
+
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> {
+            EmailOutbox email = emailOutboxRepository.findAll().get(0);
+            assertThat(email.getStatus()).isEqualTo(EmailOutbox.Status.SENT);
+            assertThat(email.getVariables()).isEqualTo("{}");
+        });
+        assertThat(meterRegistry.get("hyfata.mail.deliveries")
+                .tags("template", "TWO_FACTOR", "result", "sent").counter().count()).isPositive();
+    }
+
+    @Test
+    @DisplayName("SMTP 서버가 없으면 백오프 후 재시도하고, 서버가 돌아오면 발송")
+    void unavailableSmtp_isRetriedWithBackoff() {
+        // given
+        greenMail.stop();
+
+        // when
+        emailService.sendPasswordResetEmail("user@example.com", "reset-token", null);
+
+        // then
+        await().atMost(Duration.ofSeconds(10)).untilAsserted(() -> {
+            EmailOutbox email = emailOutboxRepository.findAll().get(0);
+            assertThat(email.getLastError()).isNotNull();
+            assertThat(email.getStatus()).isEqualTo(EmailOutbox.Status.PENDING);
+            assertThat(email.getAttempts()).isEqualTo(1);
+            assertThat(email.getNextAttemptAt()).isAfter(LocalDateTime.now().plusMinutes(50));
+        });
+
+        // when (서버 복구 후 재시도 시각 도래)
+        greenMail.start();
+        EmailOutbox email = emailOutboxRepository.findAll().get(0);
+        email.setNextAttemptAt(LocalDateTime.now());
+        emailOutboxRepository.save(email);
+        emailDispatcher.wakeUp();
+
+        // then
+        assertThat(greenMail.waitForIncomingEmail(5000, 1)).isTrue();
+        assertThat(GreenMailUtil.getBody(greenMail.getReceivedMessages()[0]))
+                .contains("/reset-password?token=reset-token");
+    }
+
+    @Test
+    @DisplayName("재시도 간격은 두 배씩 늘고 최대값에서 멈춤")
+    void backoff_doublesUpToMax() {
+        assertThat(emailDispatcher.backoff(1)).isEqualTo(Duration.ofHours(1));
+        assertThat(emailDispatcher.backoff(2)).isEqualTo(Duration.ofHours(2));
+        assertThat(emailDispatcher.backoff(3)).isEqualTo(Duration.ofHours(4));
+        assertThat(emailDispatcher.backoff(10)).isEqualTo(Duration.ofHours(4));
+    }
+}
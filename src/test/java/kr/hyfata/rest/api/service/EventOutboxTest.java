@@ -0,0 +1,296 @@
+package kr.hyfata.rest.api.service;
+
+import kr.hyfata.rest.api.dto.agora.team.CreateTeamRequest;
+import kr.hyfata.rest.api.entity.EventOutbox;
+import kr.hyfata.rest.api.entity.User;
+import kr.hyfata.rest.api.entity.agora.Chat;
+import kr.hyfata.rest.api.entity.agora.Team;
+import kr.hyfata.rest.api.entity.agora.TeamMember;
+import kr.hyfata.rest.api.entity.agora.TeamRole;
+import kr.hyfata.rest.api.event.OutboxEventHandler;
+import kr.hyfata.rest.api.event.TeamMemberEvent;
+import kr.hyfata.rest.api.repository.EventOutboxRepository;
+import kr.hyfata.rest.api.repository.ProcessedEventRepository;
+import kr.hyfata.rest.api.repository.UserRepository;
+import kr.hyfata.rest.api.repository.agora.ChatParticipantRepository;
+import kr.hyfata.rest.api.repository.agora.ChatRepository;
+import kr.hyfata.rest.api.repository.agora.TeamMemberRepository;
+import kr.hyfata.rest.api.repository.agora.TeamRepository;
+import kr.hyfata.rest.api.repository.agora.TeamRoleRepository;
+import kr.hyfata.rest.api.service.agora.AgoraTeamService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * 이벤트 outbox 전달 검사 (커밋 후 전달, aggregate 단위 순서, 재전달 시 핸들러별 멱등 처리, 팀 채팅 반영)
+ */
+@SpringBootTest(properties = {
+        "events.outbox.initial-backoff=100ms",
+        "events.outbox.max-backoff=100ms",
+        "events.outbox.poll-interval-ms=200"
+})
+@ActiveProfiles("test")
+class EventOutboxTest {
+
+    private static final String EVENT_TYPE = "test.recorded";
+
+    @Autowired
+    private EventOutboxService eventOutboxService;
+
+    @Autowired
+    private EventOutboxRepository eventOutboxRepository;
+
+    @Autowired
+    private ProcessedEventRepository processedEventRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private RecordingHandler recordingHandler;
+
+    @Autowired
+    private FlakyHandler flakyHandler;
+
+    @Autowired
+    private AgoraTeamService agoraTeamService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ChatRepository chatRepository;
+
+    @Autowired
+    private ChatParticipantRepository chatParticipantRepository;
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    @Autowired
+    private TeamRoleRepository teamRoleRepository;
+
+    @Autowired
+    private TeamMemberRepository teamMemberRepository;
+
+    @BeforeEach
+    void setUp() {
+        cleanUpTeams();
+        eventOutboxRepository.deleteAll();
+        processedEventRepository.deleteAll();
+        recordingHandler.received.clear();
+        flakyHandler.calls.set(0);
+        flakyHandler.failuresLeft.set(0);
+    }
+
+    @Test
+    @DisplayName("커밋된 이벤트만 aggregate 단위 발행 순서대로 한 번씩 전달")
+    void committedEvents_areDeliveredInOrderOnce() {
+        // given
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        // when
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int i = 1; i <= 3; i++) {
+                eventOutboxService.append("TEST", 1L, EVENT_TYPE, "order-" + i, new TestPayload("a" + i));
+            }
+            eventOutboxService.append("TEST", 2L, EVENT_TYPE, "order-other", new TestPayload("b1"));
+        });
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(status -> {
+            eventOutboxService.append("TEST", 1L, EVENT_TYPE, "rolled-back", new TestPayload("x"));
+            throw new IllegalStateException("rollback");
+        })).isInstanceOf(IllegalStateException.class);
+        boolean duplicated = eventOutboxService.append("TEST", 1L, EVENT_TYPE, "order-1", new TestPayload("dup"));
+
+        // then
+        assertThat(duplicated).isFalse();
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+                assertThat(eventOutboxRepository.countByStatus(EventOutbox.Status.DONE)).isEqualTo(4));
+        assertThat(recordingHandler.received).containsExactlyInAnyOrder("a1", "a2", "a3", "b1");
+        assertThat(recordingHandler.received.stream().filter(value -> value.startsWith("a")).toList())
+                .containsExactly("a1", "a2", "a3");
+        assertThat(flakyHandler.calls.get()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("핸들러 실패 시 재시도하고, 이미 성공한 핸들러는 다시 실행하지 않으며 뒤 이벤트는 기다림")
+    void failedHandler_isRetriedWithoutRepeatingOthers() {
+        // given
+        flakyHandler.failuresLeft.set(2);
+
+        // when
+        eventOutboxService.append("TEST", 3L, EVENT_TYPE, "retry-1", new TestPayload("r1"));
+        eventOutboxService.append("TEST", 3L, EVENT_TYPE, "retry-2", new TestPayload("r2"));
+
+        // then
+        await().atMost(Duration.ofSeconds(10)).untilAsserted(() ->
+                assertThat(eventOutboxRepository.countByStatus(EventOutbox.Status.DONE)).isEqualTo(2));
+        assertThat(recordingHandler.received).containsExactly("r1", "r2");
+        assertThat(flakyHandler.calls.get()).isEqualTo(4);
+        assertThat(eventOutboxRepository.findAll())
+                .filteredOn(event -> event.getIdempotencyKey().equals("retry-1"))
+                .singleElement()
+                .satisfies(event -> assertThat(event.getAttempts()).isEqualTo(3));
+    }
+
+    @Test
+    @DisplayName("팀 생성과 멤버 초대가 outbox 를 거쳐 팀 채팅과 참여자로 반영")
+    void teamCreation_createsTeamChatWithMembers() {
+        // given
+        User owner = createUser("owner");
+        User invitee = createUser("invitee");
+
+        // when
+        Long teamId = agoraTeamService.createTeam(owner.getEmail(), new CreateTeamRequest("team", null, null))
+                .getTeamId();
+        agoraTeamService.inviteMember(owner.getEmail(), teamId, invitee.getEmail());
+
+        // then
+        await().atMost(Duration.ofSeconds(10)).untilAsserted(() ->
+                assertThat(eventOutboxRepository.countByStatus(EventOutbox.Status.DONE)).isEqualTo(2));
+        Chat chat = chatRepository.findByTeam_IdAndTypeAndContext(teamId, Chat.ChatType.GROUP, Chat.ChatContext.TEAM)
+                .orElseThrow();
+        assertThat(chatParticipantRepository.findByChat_Id(chat.getId()))
+                .extracting(participant -> participant.getUser().getId())
+                .containsExactlyInAnyOrder(owner.getId(), invitee.getId());
+        cleanUpTeams();
+    }
+
+    @Test
+    @DisplayName("팀 채팅이 없는 팀(팀 생성 이벤트 실패)은 멤버 추가 이벤트에서 채팅을 만들어 복구")
+    void memberAdded_withoutTeamChat_createsIt() {
+        // given
+        User owner = createUser("owner");
+        User invitee = createUser("invitee");
+        Long teamId = new TransactionTemplate(transactionManager).execute(status -> {
+            Team team = teamRepository.save(Team.builder().name("team").createdBy(owner).isMain(false).build());
+            TeamRole role = teamRoleRepository.save(TeamRole.builder().team(team).name("admin").permissions("all").build());
+            teamMemberRepository.save(TeamMember.builder().team(team).user(owner).role(role).build());
+            teamMemberRepository.save(TeamMember.builder().team(team).user(invitee).role(role).build());
+            return team.getId();
+        });
+
+        // when
+        eventOutboxService.append(TeamMemberEvent.AGGREGATE_TYPE, teamId, TeamMemberEvent.MEMBER_ADDED,
+                "member.added:late", new TeamMemberEvent.Payload(teamId, invitee.getId()));
+
+        // then
+        await().atMost(Duration.ofSeconds(10)).untilAsserted(() ->
+                assertThat(eventOutboxRepository.countByStatus(EventOutbox.Status.DONE)).isEqualTo(1));
+        Chat chat = chatRepository.findByTeam_IdAndTypeAndContext(teamId, Chat.ChatType.GROUP, Chat.ChatContext.TEAM)
+                .orElseThrow();
+        assertThat(chatParticipantRepository.findByChat_Id(chat.getId()))
+                .extracting(participant -> participant.getUser().getId())
+                .containsExactlyInAnyOrder(owner.getId(), invitee.getId());
+        cleanUpTeams();
+    }
+
+    private void cleanUpTeams() {
+        chatParticipantRepository.deleteAllInBatch();
+        chatRepository.deleteAllInBatch();
+        teamMemberRepository.deleteAllInBatch();
+        teamRoleRepository.deleteAllInBatch();
+        teamRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    private User createUser(String name) {
+        return userRepository.save(User.builder()
+                .email(name + "@example.com")
+                .username(name)
+                .password("password")
+                .enabled(true)
+                .twoFactorEnabled(false)
+                .emailVerified(true)
+                .build());
+    }
+
+    record TestPayload(String value) {
+    }
+
+    static class RecordingHandler implements OutboxEventHandler<TestPayload> {
+
+        final List<String> received = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String name() {
+            return "test-recording";
+        }
+
+        @Override
+        public Set<String> eventTypes() {
+            return Set.of(EVENT_TYPE);
+        }
+
+        @Override
+        public Class<TestPayload> payloadType() {
+            return TestPayload.class;
+        }
+
+        @Override
+        public void handle(String eventType, TestPayload payload) {
+            received.add(payload.value());
+        }
+    }
+
+    static class FlakyHandler implements OutboxEventHandler<TestPayload> {
+
+        final AtomicInteger calls = new AtomicInteger();
+        final AtomicInteger failuresLeft = new AtomicInteger();
+
+        @Override
+        public String name() {
+            return "test-flaky";
+        }
+
+        @Override
+        public Set<String> eventTypes() {
+            return Set.of(EVENT_TYPE);
+        }
+
+        @Override
+        public Class<TestPayload> payloadType() {
+            return TestPayload.class;
+        }
+
+        @Override
+        public void handle(String eventType, TestPayload payload) {
+            calls.incrementAndGet();
+            if (failuresLeft.getAndUpdate(left -> Math.max(left - 1, 0)) > 0) {
+                throw new IllegalStateException("temporary failure");
+            }
+        }
+    }
+
+    @TestConfiguration
+    static class HandlerConfig {
+
+        @Bean
+        RecordingHandler recordingHandler() {
+            return new RecordingHandler();
+        }
+
+        @Bean
+        FlakyHandler flakyHandler() {
+            return new FlakyHandler();
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package kr.hyfata.rest.api.service;
+
+import kr.hyfata.rest.api.repository.agora.BlockedUserRepository;
+import kr.hyfata.rest.api.repository.agora.FriendRepository;
+import kr.hyfata.rest.api.service.agora.FriendGraphCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class FriendGraphCacheTest {
+
+    @Mock
+    private FriendRepository friendRepository;
+
+    @Mock
+    private BlockedUserRepository blockedUserRepository;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @InjectMocks
+    private FriendGraphCache cache;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(cache, "maxSize", 100);
+        ReflectionTestUtils.setField(cache, "ttlSeconds", 600L);
+    }
+
+    @Test
+    @DisplayName("인접 목록은 사용자당 한 번만 조회")
+    void areFriends_loadsAdjacencyOnce() {
+        // given
+        when(friendRepository.findFriendIdsByUserId(1L)).thenReturn(List.of(2L, 3L));
+        when(blockedUserRepository.findBlockedUserIdsByUserId(1L)).thenReturn(List.of(9L));
+
+        // when
+        boolean friendWith2 = cache.areFriends(1L, 2L);
+        boolean friendWith4 = cache.areFriends(1L, 4L);
+        boolean blocked9 = cache.isBlocked(1L, 9L);
+
+        // then
+        assertThat(friendWith2).isTrue();
+        assertThat(friendWith4).isFalse();
+        assertThat(blocked9).isTrue();
+        verify(friendRepository, times(1)).findFriendIdsByUserId(1L);
+        verify(blockedUserRepository, times(1)).findBlockedUserIdsByUserId(1L);
+    }
+
+    @Test
+    @DisplayName("함께 아는 친구")
+    void getMutualFriendIds() {
+        // given
+        when(friendRepository.findFriendIdsByUserId(1L)).thenReturn(List.of(3L, 4L, 5L));
+        when(friendRepository.findFriendIdsByUserId(2L)).thenReturn(List.of(4L, 5L, 6L, 7L));
+        when(blockedUserRepository.findBlockedUserIdsByUserId(1L)).thenReturn(List.of());
+        when(blockedUserRepository.findBlockedUserIdsByUserId(2L)).thenReturn(List.of());
+
+        // when
+        long[] mutual = cache.getMutualFriendIds(1L, 2L);
+
+        // then
+        assertThat(mutual).containsExactlyInAnyOrder(4L, 5L);
+    }
+
+    @Test
+    @DisplayName("친구 수락/차단이 캐시된 양쪽 사용자에 반영")
+    void mutations_updateBothSides() {
+        // given
+        when(friendRepository.findFriendIdsByUserId(1L)).thenReturn(List.of());
+        when(friendRepository.findFriendIdsByUserId(2L)).thenReturn(List.of());
+        when(blockedUserRepository.findBlockedUserIdsByUserId(1L)).thenReturn(List.of());
+        when(blockedUserRepository.findBlockedUserIdsByUserId(2L)).thenReturn(List.of());
+        cache.areFriends(1L, 2L);
+        cache.areFriends(2L, 1L);
+
+        // when
+        cache.friendshipCreated(1L, 2L);
+        boolean friendsAfterAccept = cache.areFriends(2L, 1L);
+        cache.userBlocked(1L, 2L);
+
+        // then
+        assertThat(friendsAfterAccept).isTrue();
+        assertThat(cache.areFriends(1L, 2L)).isFalse();
+        assertThat(cache.areFriends(2L, 1L)).isFalse();
+        assertThat(cache.isBlockedEitherWay(2L, 1L)).isTrue();
+        verify(friendRepository, times(1)).findFriendIdsByUserId(2L);
+    }
+
+    @Test
+    @DisplayName("변경은 Redis 채널로 다른 노드에 전달")
+    void mutations_publishEviction() {
+        // when
+        cache.friendshipDeleted(1L, 2L);
+        cache.userBlocked(3L, 4L);
+
+        // then
+        verify(redisTemplate).convertAndSend(FriendGraphCache.EVICT_CHANNEL, "1:2");
+        verify(redisTemplate).convertAndSend(FriendGraphCache.EVICT_CHANNEL, "3:4");
+    }
+
+    @Test
+    @DisplayName("다른 노드의 무효화 메시지를 받으면 두 사용자 모두 DB 에서 다시 읽음")
+    void onRemoteEviction_reloadsBothUsers() {
+        // given
+        when(friendRepository.findFriendIdsByUserId(1L)).thenReturn(List.of(2L), List.of());
+        when(friendRepository.findFriendIdsByUserId(2L)).thenReturn(List.of(1L), List.of());
+        when(blockedUserRepository.findBlockedUserIdsByUserId(1L)).thenReturn(List.of());
+        when(blockedUserRepository.findBlockedUserIdsByUserId(2L)).thenReturn(List.of());
+        assertThat(cache.areFriends(1L, 2L)).isTrue();
+        assertThat(cache.areFriends(2L, 1L)).isTrue();
+
+        // when
+        cache.onRemoteEviction("1:2");
+        cache.onRemoteEviction("malformed");
+
+        // then
+        assertThat(cache.areFriends(1L, 2L)).isFalse();
+        assertThat(cache.areFriends(2L, 1L)).isFalse();
+        verify(friendRepository, times(2)).findFriendIdsByUserId(1L);
+        verify(friendRepository, times(2)).findFriendIdsByUserId(2L);
+    }
+}
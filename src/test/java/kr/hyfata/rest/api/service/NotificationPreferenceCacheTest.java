@@ -0,0 +1,87 @@
+package kr.hyfata.rest.api.service;
+
+import kr.hyfata.rest.api.entity.agora.UserSettings;
+import kr.hyfata.rest.api.event.NotificationEvent;
+import kr.hyfata.rest.api.repository.agora.UserSettingsRepository;
+import kr.hyfata.rest.api.service.agora.NotificationPreferenceCache;
+import kr.hyfata.rest.api.service.agora.NotificationPreferenceCache.Preference;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationPreferenceCacheTest {
+
+    @Mock
+    private UserSettingsRepository userSettingsRepository;
+
+    @InjectMocks
+    private NotificationPreferenceCache cache;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(cache, "maxSize", 100);
+        ReflectionTestUtils.setField(cache, "ttlSeconds", 300L);
+    }
+
+    @Test
+    @DisplayName("설정을 일괄 조회하고, 설정이 없는 사용자는 기본값 적용")
+    void getAll_loadsMissingInBulkAndDefaultsAbsentRows() {
+        // given
+        UserSettings settings = UserSettings.builder()
+                .id(1L)
+                .messageNotification(false)
+                .build();
+        when(userSettingsRepository.findAllById(any())).thenReturn(List.of(settings));
+
+        // when
+        Map<Long, Preference> first = cache.getAll(List.of(1L, 2L));
+        Map<Long, Preference> second = cache.getAll(List.of(1L, 2L));
+
+        // then
+        assertThat(first.get(1L).allows(NotificationEvent.Category.MESSAGE)).isFalse();
+        assertThat(first.get(2L)).isEqualTo(Preference.DEFAULT);
+        assertThat(second).isEqualTo(first);
+        verify(userSettingsRepository, times(1)).findAllById(Set.of(1L, 2L));
+    }
+
+    @Test
+    @DisplayName("방해 금지 시간 - 같은 날 구간")
+    void isDoNotDisturb_sameDayWindow() {
+        Preference preference = new Preference(true, true, true, true, true,
+                LocalTime.of(13, 0), LocalTime.of(14, 0));
+
+        assertThat(preference.isDoNotDisturb(LocalTime.of(13, 0))).isTrue();
+        assertThat(preference.isDoNotDisturb(LocalTime.of(13, 59))).isTrue();
+        assertThat(preference.isDoNotDisturb(LocalTime.of(14, 0))).isFalse();
+        assertThat(preference.isDoNotDisturb(LocalTime.of(9, 0))).isFalse();
+    }
+
+    @Test
+    @DisplayName("방해 금지 시간 - 자정을 넘기는 구간")
+    void isDoNotDisturb_overnightWindow() {
+        Preference preference = new Preference(true, true, true, true, true,
+                LocalTime.of(23, 0), LocalTime.of(7, 0));
+
+        assertThat(preference.isDoNotDisturb(LocalTime.of(23, 30))).isTrue();
+        assertThat(preference.isDoNotDisturb(LocalTime.of(3, 0))).isTrue();
+        assertThat(preference.isDoNotDisturb(LocalTime.of(7, 0))).isFalse();
+        assertThat(preference.isDoNotDisturb(LocalTime.of(12, 0))).isFalse();
+    }
+}
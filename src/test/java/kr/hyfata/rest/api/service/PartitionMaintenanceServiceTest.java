@@ -0,0 +1,113 @@
+package kr.hyfata.rest.api.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PartitionMaintenanceServiceTest {
+
+    private static final DateTimeFormatter SUFFIX_FORMAT = DateTimeFormatter.ofPattern("yyyyMM");
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private PartitionMaintenanceService partitionMaintenanceService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(partitionMaintenanceService, "enabled", true);
+        ReflectionTestUtils.setField(partitionMaintenanceService, "premakeMonths", 2);
+    }
+
+    @Test
+    @DisplayName("파티셔닝이 꺼져 있으면 카탈로그를 조회하지 않고 관리 대상이 아님")
+    void isManaged_disabled_returnsFalseWithoutQuery() {
+        // given
+        ReflectionTestUtils.setField(partitionMaintenanceService, "enabled", false);
+
+        // when & then
+        assertThat(partitionMaintenanceService.isManaged("notifications")).isFalse();
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("파티션 테이블이면 관리 대상")
+    void isManaged_partitionedTable_returnsTrue() {
+        // given
+        when(jdbcTemplate.queryForObject(anyString(), eq(Boolean.class), eq("notifications")))
+                .thenReturn(true);
+
+        // when & then
+        assertThat(partitionMaintenanceService.isManaged("notifications")).isTrue();
+    }
+
+    @Test
+    @DisplayName("이번 달부터 premake-months 만큼의 월 파티션 생성")
+    void ensureFuturePartitions_createsCurrentAndUpcomingMonths() {
+        // given
+        YearMonth now = YearMonth.now();
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+
+        // when
+        partitionMaintenanceService.ensureFuturePartitions("notifications");
+
+        // then
+        verify(jdbcTemplate, times(3)).execute(sql.capture());
+        assertThat(sql.getAllValues()).containsExactly(
+                createSql(now), createSql(now.plusMonths(1)), createSql(now.plusMonths(2)));
+    }
+
+    @Test
+    @DisplayName("월 전체가 cutoff 이전인 파티션만 분리 후 삭제하고 규칙에 맞지 않는 이름은 무시")
+    void dropPartitionsBefore_dropsOnlyMonthsEndingBeforeCutoff() {
+        // given
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class), eq("notifications")))
+                .thenReturn(List.of(
+                        "notifications_p202501",
+                        "notifications_p202502",
+                        "notifications_p202503",
+                        "notifications_default",
+                        "notifications_p2025"));
+
+        // when
+        int dropped = partitionMaintenanceService.dropPartitionsBefore("notifications", LocalDate.of(2025, 3, 1));
+
+        // then
+        assertThat(dropped).isEqualTo(2);
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        verify(jdbcTemplate, times(4)).execute(sql.capture());
+        assertThat(sql.getAllValues()).containsExactly(
+                "ALTER TABLE notifications DETACH PARTITION notifications_p202501",
+                "DROP TABLE notifications_p202501",
+                "ALTER TABLE notifications DETACH PARTITION notifications_p202502",
+                "DROP TABLE notifications_p202502");
+    }
+
+    private String createSql(YearMonth month) {
+        return String.format(
+                "CREATE TABLE IF NOT EXISTS notifications_p%s PARTITION OF notifications FOR VALUES FROM ('%s') TO ('%s')",
+                month.format(SUFFIX_FORMAT), month.atDay(1), month.plusMonths(1).atDay(1));
+    }
+}
@@ -0,0 +1,87 @@
+package kr.hyfata.rest.api.service;
+
+import kr.hyfata.rest.api.repository.UserRepository;
+import kr.hyfata.rest.api.repository.agora.TeamMemberRepository;
+import kr.hyfata.rest.api.service.agora.TeamAuthorizationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TeamAuthorizationServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private TeamMemberRepository teamMemberRepository;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @InjectMocks
+    private TeamAuthorizationService service;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(service, "maxSize", 100);
+        ReflectionTestUtils.setField(service, "ttlSeconds", 300L);
+        ReflectionTestUtils.setField(service, "negativeTtlSeconds", 0L);
+    }
+
+    @Test
+    @DisplayName("멤버는 TTL 동안 캐시하고, 멤버가 아닌 결과는 negative-ttl 이 지나면 다시 조회")
+    void findMembership_cachesNegativeResultsBriefly() {
+        // given
+        when(teamMemberRepository.findMembershipRow(7L, 1L)).thenReturn(List.<Object[]>of(row()));
+        when(teamMemberRepository.findMembershipRow(7L, 2L)).thenReturn(List.of(), List.<Object[]>of(row()));
+
+        // when
+        service.isMember(1L, 7L);
+        boolean member = service.isMember(1L, 7L);
+        boolean before = service.isMember(2L, 7L);
+        boolean after = service.isMember(2L, 7L);
+
+        // then
+        assertThat(member).isTrue();
+        assertThat(before).isFalse();
+        assertThat(after).isTrue();
+        verify(teamMemberRepository, times(1)).findMembershipRow(7L, 1L);
+        verify(teamMemberRepository, times(2)).findMembershipRow(7L, 2L);
+    }
+
+    @Test
+    @DisplayName("무효화는 Redis 채널로 알리고, 다른 노드에서 받은 메시지로도 캐시를 비움")
+    void evict_isPublishedAndAppliedFromOtherNodes() {
+        // given
+        when(teamMemberRepository.findMembershipRow(7L, 1L)).thenReturn(List.<Object[]>of(row()));
+        service.isMember(1L, 7L);
+
+        // when
+        service.evict(7L, 1L);
+        service.isMember(1L, 7L);
+        service.onRemoteEviction("7");
+        service.isMember(1L, 7L);
+
+        // then
+        verify(redisTemplate).convertAndSend(TeamAuthorizationService.EVICT_CHANNEL, "7:1");
+        verify(teamMemberRepository, times(3)).findMembershipRow(7L, 1L);
+    }
+
+    private static Object[] row() {
+        return new Object[]{1L, "member", "read"};
+    }
+}
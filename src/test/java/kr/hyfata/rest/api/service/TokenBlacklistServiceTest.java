@@ -1,11 +1,14 @@
 package kr.hyfata.rest.api.service;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
@@ -27,6 +30,9 @@ class TokenBlacklistServiceTest {
     @Mock
     private ValueOperations<String, String> valueOperations;
 
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @InjectMocks
     private TokenBlacklistService blacklistService;
 
@@ -154,6 +160,9 @@ class TokenBlacklistServiceTest {
 
         // then
         assertThat(result).isFalse();
+        assertThat(meterRegistry.get("hyfata.redis.blacklist")
+                .tags("operation", "check", "result", "error")
+                .timer().count()).isEqualTo(1);
     }
 
     @Test
@@ -0,0 +1,101 @@
+package kr.hyfata.rest.api.service.agora;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 생일 MMDD 구간 계산 검사 (연말 넘김, 2월 29일생)
+ */
+class BirthdayDigestServiceTest {
+
+    @Test
+    @DisplayName("연내 구간은 BETWEEN 조건")
+    void window_withinYear() {
+        // when
+        BirthdayDigestService.MmddWindow window = BirthdayDigestService.MmddWindow.of(LocalDate.of(2026, 6, 10), 7);
+
+        // then
+        assertThat(window.from()).isEqualTo(610);
+        assertThat(window.to()).isEqualTo(617);
+        assertThat(window.wrapsYear()).isFalse();
+        assertThat(window.condition()).contains("BETWEEN :fromMmdd AND :toMmdd");
+    }
+
+    @Test
+    @DisplayName("12월에서 1월로 넘어가는 구간은 OR 조건")
+    void window_wrapsDecemberToJanuary() {
+        // when
+        BirthdayDigestService.MmddWindow window = BirthdayDigestService.MmddWindow.of(LocalDate.of(2026, 12, 28), 7);
+
+        // then
+        assertThat(window.from()).isEqualTo(1228);
+        assertThat(window.to()).isEqualTo(104);
+        assertThat(window.wrapsYear()).isTrue();
+        assertThat(window.condition()).contains(">= :fromMmdd OR").contains("<= :toMmdd");
+    }
+
+    @Test
+    @DisplayName("12월 31일 당일만 보는 구간은 넘김 없음")
+    void window_lastDayOfYear() {
+        // when
+        BirthdayDigestService.MmddWindow window = BirthdayDigestService.MmddWindow.of(LocalDate.of(2026, 12, 31), 0);
+
+        // then
+        assertThat(window.from()).isEqualTo(1231);
+        assertThat(window.to()).isEqualTo(1231);
+        assertThat(window.wrapsYear()).isFalse();
+    }
+
+    @Test
+    @DisplayName("윤년이 아닌 해에 2월 28일로 끝나는 구간은 2월 29일생을 포함")
+    void window_endingOnFeb28InCommonYear_includesFeb29() {
+        // when
+        BirthdayDigestService.MmddWindow window = BirthdayDigestService.MmddWindow.of(LocalDate.of(2027, 2, 21), 7);
+
+        // then
+        assertThat(window.from()).isEqualTo(221);
+        assertThat(window.to()).isEqualTo(229);
+    }
+
+    @Test
+    @DisplayName("윤년에는 2월 28일로 끝나는 구간에 2월 29일을 포함하지 않음")
+    void window_endingOnFeb28InLeapYear_excludesFeb29() {
+        // when
+        BirthdayDigestService.MmddWindow window = BirthdayDigestService.MmddWindow.of(LocalDate.of(2028, 2, 21), 7);
+
+        // then
+        assertThat(window.to()).isEqualTo(228);
+    }
+
+    @Test
+    @DisplayName("연말을 넘겨 2월 28일에 끝나는 구간도 2월 29일생을 포함")
+    void window_wrapsYearAndEndsOnFeb28() {
+        // when
+        BirthdayDigestService.MmddWindow window = BirthdayDigestService.MmddWindow.of(LocalDate.of(2026, 12, 30), 60);
+
+        // then
+        assertThat(window.from()).isEqualTo(1230);
+        assertThat(window.to()).isEqualTo(229);
+        assertThat(window.wrapsYear()).isTrue();
+    }
+
+    @Test
+    @DisplayName("구간 길이는 0~364일로 제한되고 경계값이 파라미터로 바인딩됨")
+    void window_clampsDaysAndBindsParameters() {
+        // when
+        BirthdayDigestService.MmddWindow negative = BirthdayDigestService.MmddWindow.of(LocalDate.of(2026, 5, 5), -3);
+        BirthdayDigestService.MmddWindow tooLong = BirthdayDigestService.MmddWindow.of(LocalDate.of(2026, 5, 5), 1000);
+        MapSqlParameterSource params = negative.bind(new MapSqlParameterSource());
+
+        // then
+        assertThat(negative.to()).isEqualTo(505);
+        assertThat(tooLong.to()).isEqualTo(504);
+        assertThat(params.getValue("fromMmdd")).isEqualTo(505);
+        assertThat(params.getValue("toMmdd")).isEqualTo(505);
+    }
+}
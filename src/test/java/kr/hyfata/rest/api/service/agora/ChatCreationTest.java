@@ -0,0 +1,153 @@
+package kr.hyfata.rest.api.service.agora;
+
+import kr.hyfata.rest.api.dto.agora.chat.ChatResponse;
+import kr.hyfata.rest.api.dto.agora.chat.CreateGroupChatRequest;
+import kr.hyfata.rest.api.entity.User;
+import kr.hyfata.rest.api.entity.agora.AgoraUserProfile;
+import kr.hyfata.rest.api.entity.agora.ChatParticipant;
+import kr.hyfata.rest.api.entity.agora.Team;
+import kr.hyfata.rest.api.entity.agora.TeamMember;
+import kr.hyfata.rest.api.entity.agora.TeamRole;
+import kr.hyfata.rest.api.repository.UserRepository;
+import kr.hyfata.rest.api.repository.agora.AgoraUserProfileRepository;
+import kr.hyfata.rest.api.repository.agora.ChatParticipantRepository;
+import kr.hyfata.rest.api.repository.agora.ChatRepository;
+import kr.hyfata.rest.api.repository.agora.TeamMemberRepository;
+import kr.hyfata.rest.api.repository.agora.TeamRepository;
+import kr.hyfata.rest.api.repository.agora.TeamRoleRepository;
+import kr.hyfata.rest.api.service.EmailService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 그룹/팀 채팅 생성 검사
+ * <p>
+ * 참여자는 ChatParticipantWriter 가 JDBC 로 추가하므로, chats 행이 먼저 INSERT 되지 않으면 chat_id 외래 키에 걸린다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ChatCreationTest {
+
+    @Autowired
+    private AgoraChatService agoraChatService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AgoraUserProfileRepository agoraUserProfileRepository;
+
+    @Autowired
+    private ChatRepository chatRepository;
+
+    @Autowired
+    private ChatParticipantRepository chatParticipantRepository;
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    @Autowired
+    private TeamRoleRepository teamRoleRepository;
+
+    @Autowired
+    private TeamMemberRepository teamMemberRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @MockitoBean
+    private EmailService emailService;
+
+    private User creator;
+    private User member;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+        creator = createUser("creator");
+        member = createUser("member");
+    }
+
+    @AfterEach
+    void cleanUp() {
+        chatParticipantRepository.deleteAllInBatch();
+        chatRepository.deleteAllInBatch();
+        teamMemberRepository.deleteAllInBatch();
+        teamRoleRepository.deleteAllInBatch();
+        teamRepository.deleteAllInBatch();
+        agoraUserProfileRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("그룹 채팅 생성 - 생성자는 ADMIN, 멤버는 MEMBER 로 참여")
+    void createGroupChat_addsCreatorAndMembers() {
+        // when
+        ChatResponse response = agoraChatService.createGroupChat(creator.getEmail(), CreateGroupChatRequest.builder()
+                .name("group")
+                .memberAgoraIds(List.of("member"))
+                .build());
+
+        // then
+        assertThat(participantRoles(response.getChatId()))
+                .containsExactlyInAnyOrder(ChatParticipant.Role.ADMIN, ChatParticipant.Role.MEMBER);
+    }
+
+    @Test
+    @DisplayName("팀 그룹 채팅 생성 - 팀 멤버 전체가 참여")
+    void createTeamGroupChat_addsAllTeamMembers() {
+        // given
+        Long teamId = transactionTemplate.execute(status -> {
+            Team team = teamRepository.save(Team.builder().name("team").createdBy(creator).isMain(false).build());
+            TeamRole role = teamRoleRepository.save(TeamRole.builder().team(team).name("admin").permissions("all").build());
+            teamMemberRepository.save(TeamMember.builder().team(team).user(creator).role(role).build());
+            teamMemberRepository.save(TeamMember.builder().team(team).user(member).role(role).build());
+            return team.getId();
+        });
+
+        // when
+        ChatResponse response = agoraChatService.createTeamGroupChat(teamId, creator.getId());
+
+        // then
+        assertThat(response.getTeamId()).isEqualTo(teamId);
+        assertThat(participantRoles(response.getChatId()))
+                .containsExactlyInAnyOrder(ChatParticipant.Role.ADMIN, ChatParticipant.Role.MEMBER);
+    }
+
+    private List<ChatParticipant.Role> participantRoles(Long chatId) {
+        return chatParticipantRepository.findAll().stream()
+                .filter(participant -> participant.getChat().getId().equals(chatId))
+                .map(ChatParticipant::getRole)
+                .toList();
+    }
+
+    private User createUser(String name) {
+        return transactionTemplate.execute(status -> {
+            User user = userRepository.save(User.builder()
+                    .email(name + "@example.com")
+                    .username(name)
+                    .password("password")
+                    .enabled(true)
+                    .twoFactorEnabled(false)
+                    .emailVerified(true)
+                    .build());
+            agoraUserProfileRepository.save(AgoraUserProfile.builder()
+                    .user(user)
+                    .agoraId(name)
+                    .displayName(name)
+                    .build());
+            return user;
+        });
+    }
+}
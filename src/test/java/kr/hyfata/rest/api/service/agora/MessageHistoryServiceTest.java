@@ -0,0 +1,190 @@
+package kr.hyfata.rest.api.service.agora;
+
+import kr.hyfata.rest.api.dto.agora.chat.MessageCursor;
+import kr.hyfata.rest.api.dto.agora.chat.MessageDto;
+import kr.hyfata.rest.api.entity.User;
+import kr.hyfata.rest.api.entity.agora.AgoraFile;
+import kr.hyfata.rest.api.entity.agora.AgoraUserProfile;
+import kr.hyfata.rest.api.entity.agora.Chat;
+import kr.hyfata.rest.api.entity.agora.Message;
+import kr.hyfata.rest.api.entity.agora.MessageAttachment;
+import kr.hyfata.rest.api.repository.UserRepository;
+import kr.hyfata.rest.api.repository.agora.AgoraFileRepository;
+import kr.hyfata.rest.api.repository.agora.AgoraUserProfileRepository;
+import kr.hyfata.rest.api.repository.agora.ChatRepository;
+import kr.hyfata.rest.api.repository.agora.MessageAttachmentRepository;
+import kr.hyfata.rest.api.repository.agora.MessageRepository;
+import kr.hyfata.rest.api.service.EmailService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class MessageHistoryServiceTest {
+
+    @Autowired
+    private MessageHistoryService messageHistoryService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AgoraUserProfileRepository agoraUserProfileRepository;
+
+    @Autowired
+    private ChatRepository chatRepository;
+
+    @Autowired
+    private MessageRepository messageRepository;
+
+    @Autowired
+    private AgoraFileRepository agoraFileRepository;
+
+    @Autowired
+    private MessageAttachmentRepository messageAttachmentRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @MockitoBean
+    private EmailService emailService;
+
+    private User me;
+    private User other;
+    private Chat chat;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+        me = createUser("me");
+        other = createUser("other");
+        chat = chatRepository.save(Chat.builder()
+                .type(Chat.ChatType.GROUP)
+                .name("chat")
+                .createdBy(me)
+                .build());
+    }
+
+    @AfterEach
+    void cleanUp() {
+        messageAttachmentRepository.deleteAllInBatch();
+        // 답장 참조를 먼저 끊어야 메시지를 한 번에 지울 수 있다
+        jdbcTemplate.update("UPDATE messages SET reply_to_id = NULL");
+        messageRepository.deleteAllInBatch();
+        agoraFileRepository.deleteAllInBatch();
+        chatRepository.deleteAllInBatch();
+        agoraUserProfileRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("삭제된 메시지와 다른 사용자 전용 메시지는 제외하고 발신자와 첨부를 함께 반환")
+    void latestPage_appliesVisibilityAndJoinsSenderAndAttachments() {
+        // given
+        Message visible = save(Message.builder().chat(chat).sender(other).content("visible"));
+        save(Message.builder().chat(chat).sender(other).content("deleted").isDeleted(true));
+        save(Message.builder().chat(chat).sender(other).content("for other").privateOnlyUser(other));
+        Message forMe = save(Message.builder().chat(chat).sender(other).content("for me").privateOnlyUser(me)
+                .replyTo(visible));
+        attach(visible, "a.png", 1);
+        attach(visible, "b.png", 0);
+
+        // when
+        List<MessageDto> page = messageHistoryService.getPage(me.getId(), chat.getId(), MessageCursor.LATEST, 10);
+
+        // then
+        assertThat(page).extracting(MessageDto::getMessageId).containsExactly(forMe.getId(), visible.getId());
+        assertThat(page.get(0).getReplyToId()).isEqualTo(visible.getId());
+        assertThat(page.get(1).getSenderName()).isEqualTo("other");
+        assertThat(page.get(1).getAttachments()).extracting("originalName").containsExactly("b.png", "a.png");
+        assertThat(page.get(0).getAttachments()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("before/after/around 커서 - 결과는 항상 최신순, 첨부가 많아도 메시지 수로 자름")
+    void cursors_returnNewestFirst() {
+        // given
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            Message message = save(Message.builder().chat(chat).sender(me).content("m" + i));
+            attach(message, "x" + i + ".png", 0);
+            attach(message, "y" + i + ".png", 1);
+            ids.add(message.getId());
+        }
+
+        // when
+        List<MessageDto> before = messageHistoryService.getPage(me.getId(), chat.getId(),
+                MessageCursor.of(ids.get(5), null, null), 3);
+        List<MessageDto> after = messageHistoryService.getPage(me.getId(), chat.getId(),
+                MessageCursor.of(null, ids.get(5), null), 3);
+        List<MessageDto> around = messageHistoryService.getPage(me.getId(), chat.getId(),
+                MessageCursor.of(null, null, ids.get(5)), 4);
+
+        // then
+        assertThat(before).extracting(MessageDto::getMessageId).containsExactly(ids.get(4), ids.get(3), ids.get(2));
+        assertThat(after).extracting(MessageDto::getMessageId).containsExactly(ids.get(8), ids.get(7), ids.get(6));
+        assertThat(around).extracting(MessageDto::getMessageId)
+                .containsExactly(ids.get(7), ids.get(6), ids.get(5), ids.get(4));
+        assertThat(around).allSatisfy(message -> assertThat(message.getAttachments()).hasSize(2));
+    }
+
+    private Message save(Message.MessageBuilder builder) {
+        return messageRepository.save(builder.build());
+    }
+
+    private void attach(Message message, String name, int orderIndex) {
+        AgoraFile file = agoraFileRepository.save(AgoraFile.builder()
+                .uploadedBy(me)
+                .fileName(name)
+                .originalName(name)
+                .filePath("/files/" + name)
+                .fileUrl("/files/" + name)
+                .fileSize(100L)
+                .mimeType("image/png")
+                .fileType(AgoraFile.FileType.IMAGE)
+                .build());
+        messageAttachmentRepository.save(MessageAttachment.builder()
+                .message(message)
+                .file(file)
+                .orderIndex(orderIndex)
+                .build());
+    }
+
+    /**
+     * 프로필은 사용자 ID 를 공유하므로(@MapsId) 사용자와 같은 트랜잭션에서 저장한다
+     */
+    private User createUser(String name) {
+        return transactionTemplate.execute(status -> {
+            User user = userRepository.save(User.builder()
+                    .email(name + "@example.com")
+                    .username(name)
+                    .password("password")
+                    .enabled(true)
+                    .twoFactorEnabled(false)
+                    .emailVerified(true)
+                    .build());
+            agoraUserProfileRepository.save(AgoraUserProfile.builder()
+                    .user(user)
+                    .agoraId(name)
+                    .displayName(name)
+                    .build());
+            return user;
+        });
+    }
+}
@@ -0,0 +1,126 @@
+package kr.hyfata.rest.api.service.agora;
+
+import kr.hyfata.rest.api.repository.UserRepository;
+import kr.hyfata.rest.api.repository.agora.NotificationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationCounterServiceTest {
+
+    private static final Long USER_ID = 1L;
+    private static final String EMAIL = "reader@example.com";
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    @InjectMocks
+    private NotificationCounterService notificationCounterService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(notificationCounterService, "ttlSeconds", 3600L);
+        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    @Test
+    @DisplayName("모두 읽음 처리 - 0으로 덮어쓰지 않고 읽음 처리된 건수만큼 원자적으로 감소")
+    void onAllRead_decrementsByMarkedCount() {
+        // given
+        when(redisTemplate.execute(ArgumentMatchers.<RedisScript<List>>any(), anyList(), any(Object[].class)))
+                .thenReturn(List.of(2L));
+
+        // when
+        notificationCounterService.onAllRead(USER_ID, EMAIL, 3);
+
+        // then
+        ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+        verify(redisTemplate).execute(ArgumentMatchers.<RedisScript<List>>any(), eq(List.of("notification:unread:1")),
+                args.capture());
+        assertThat(args.getValue()).containsExactly("-3");
+        verify(valueOperations, never()).set(anyString(), anyString());
+        verify(messagingTemplate).convertAndSendToUser(EMAIL, "/queue/notifications",
+                Map.of("eventType", "UNREAD_COUNT", "unreadCount", 2L));
+    }
+
+    @Test
+    @DisplayName("모두 읽음 처리 - 읽음 처리된 알림이 없으면 카운터를 건드리지 않음")
+    void onAllRead_nothingMarked_noop() {
+        // when
+        notificationCounterService.onAllRead(USER_ID, EMAIL, 0);
+
+        // then
+        verifyNoInteractions(redisTemplate, notificationRepository, messagingTemplate);
+    }
+
+    @Test
+    @DisplayName("감소 결과가 캐시에 없거나 음수로 제거되면 DB에서 다시 계산")
+    void onUnreadRemoved_counterMissing_recountsFromDatabase() {
+        // given
+        when(redisTemplate.execute(ArgumentMatchers.<RedisScript<List>>any(), anyList(), any(Object[].class)))
+                .thenReturn(List.of(-1L));
+        when(notificationRepository.countByUser_IdAndIsReadFalse(USER_ID)).thenReturn(4L);
+
+        // when
+        notificationCounterService.onUnreadRemoved(USER_ID, EMAIL);
+
+        // then
+        verify(valueOperations).setIfAbsent("notification:unread:1", "4", Duration.ofSeconds(3600));
+        verify(messagingTemplate).convertAndSendToUser(EMAIL, "/queue/notifications",
+                Map.of("eventType", "UNREAD_COUNT", "unreadCount", 4L));
+    }
+
+    @Test
+    @DisplayName("캐시에 없는 사용자는 DB 에서 세어 만료 시간과 함께 저장")
+    void getUnreadCount_missing_warmsWithExpiry() {
+        // given
+        when(valueOperations.get("notification:unread:1")).thenReturn(null);
+        when(notificationRepository.countByUser_IdAndIsReadFalse(USER_ID)).thenReturn(7L);
+
+        // when
+        long count = notificationCounterService.getUnreadCount(USER_ID);
+
+        // then
+        assertThat(count).isEqualTo(7L);
+        verify(valueOperations).setIfAbsent("notification:unread:1", "7", Duration.ofSeconds(3600));
+    }
+}
@@ -0,0 +1,183 @@
+package kr.hyfata.rest.api.service.agora;
+
+import kr.hyfata.rest.api.entity.User;
+import kr.hyfata.rest.api.entity.agora.Notification;
+import kr.hyfata.rest.api.entity.agora.UserSettings;
+import kr.hyfata.rest.api.event.NotificationEvent;
+import kr.hyfata.rest.api.repository.UserRepository;
+import kr.hyfata.rest.api.repository.agora.NotificationRepository;
+import kr.hyfata.rest.api.repository.agora.UserSettingsRepository;
+import kr.hyfata.rest.api.service.EmailService;
+import kr.hyfata.rest.api.service.FCMService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * 알림 fan-out 검사
+ * <p>
+ * 실제 DB 에 JDBC 배치로 저장되는지, 알림 설정으로 꺼진 카테고리는 저장하지 않는지,
+ * 방해 금지 시간대인 사용자는 저장만 하고 푸시는 보내지 않는지 확인한다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class NotificationFanoutServiceTest {
+
+    @Autowired
+    private AgoraNotificationFanoutService notificationFanoutService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserSettingsRepository userSettingsRepository;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @MockitoBean
+    private EmailService emailService;
+
+    @MockitoBean
+    private FCMService fcmService;
+
+    private final List<Long> userIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        userIds.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(status -> {
+            for (Long userId : userIds) {
+                notificationRepository.deleteAll(notificationRepository.findByUser_IdOrderByCreatedAtDesc(userId));
+                userSettingsRepository.deleteById(userId);
+            }
+            userRepository.deleteAllById(userIds);
+        });
+    }
+
+    @Test
+    @DisplayName("수신자 전체를 배치로 저장하고 푸시 허용 사용자에게만 발송")
+    void fanout_storesAllRecipientsInOneBatch() {
+        // given
+        Long first = createUser(null);
+        Long second = createUser(null);
+        Long third = createUser(null);
+
+        // when
+        int stored = notificationFanoutService.fanout(
+                NotificationEvent.message(this, List.of(first, second, third), "sender", "hello", 1L));
+
+        // then
+        assertThat(stored).isEqualTo(3);
+        for (Long userId : List.of(first, second, third)) {
+            List<Notification> notifications = notificationRepository.findByUser_IdOrderByCreatedAtDesc(userId);
+            assertThat(notifications).hasSize(1);
+            assertThat(notifications.get(0).getType()).isEqualTo("MESSAGE");
+            assertThat(notifications.get(0).getRelatedId()).isEqualTo(1L);
+        }
+        verify(fcmService).sendNotificationToMultipleUsers(
+                eq(List.of(first, second, third)), anyString(), anyString(), anyMap());
+    }
+
+    @Test
+    @DisplayName("해당 카테고리 알림을 끈 사용자는 저장하지도 발송하지도 않음")
+    void fanout_categoryDisabled_skipsRecipient() {
+        // given
+        Long enabled = createUser(null);
+        Long disabled = createUser(UserSettings.builder().messageNotification(false).build());
+
+        // when
+        int stored = notificationFanoutService.fanout(
+                NotificationEvent.message(this, List.of(enabled, disabled), "sender", "hello", 1L));
+
+        // then
+        assertThat(stored).isEqualTo(1);
+        assertThat(notificationRepository.findByUser_IdOrderByCreatedAtDesc(enabled)).hasSize(1);
+        assertThat(notificationRepository.findByUser_IdOrderByCreatedAtDesc(disabled)).isEmpty();
+        verify(fcmService).sendNotificationToMultipleUsers(eq(List.of(enabled)), anyString(), anyString(), anyMap());
+    }
+
+    @Test
+    @DisplayName("방해 금지 시간대인 사용자는 저장만 하고 푸시는 보내지 않음")
+    void fanout_doNotDisturb_storesWithoutPush() {
+        // given
+        LocalTime now = LocalTime.now();
+        Long quiet = createUser(UserSettings.builder()
+                .doNotDisturbStart(now.minusHours(1))
+                .doNotDisturbEnd(now.plusHours(1))
+                .build());
+        Long pushDisabled = createUser(UserSettings.builder().pushEnabled(false).build());
+
+        // when
+        int stored = notificationFanoutService.fanout(
+                NotificationEvent.message(this, List.of(quiet, pushDisabled), "sender", "hello", 1L));
+
+        // then
+        assertThat(stored).isEqualTo(2);
+        assertThat(notificationRepository.findByUser_IdOrderByCreatedAtDesc(quiet)).hasSize(1);
+        assertThat(notificationRepository.findByUser_IdOrderByCreatedAtDesc(pushDisabled)).hasSize(1);
+        verifyNoInteractions(fcmService);
+    }
+
+    @Test
+    @DisplayName("모든 수신자가 카테고리를 껐으면 저장 없이 0 반환")
+    void fanout_allDisabled_returnsZero() {
+        // given
+        Long disabled = createUser(UserSettings.builder().friendRequestNotification(false).build());
+
+        // when
+        int stored = notificationFanoutService.fanout(
+                NotificationEvent.friendRequest(this, disabled, "sender", 1L));
+
+        // then
+        assertThat(stored).isZero();
+        assertThat(notificationRepository.findByUser_IdOrderByCreatedAtDesc(disabled)).isEmpty();
+        verifyNoInteractions(fcmService);
+    }
+
+    private Long createUser(UserSettings settings) {
+        String name = "fanout-" + UUID.randomUUID().toString().substring(0, 8);
+        Long userId = transactionTemplate.execute(status -> {
+            User user = userRepository.save(User.builder()
+                    .email(name + "@example.com")
+                    .username(name)
+                    .password("password")
+                    .enabled(true)
+                    .twoFactorEnabled(false)
+                    .emailVerified(true)
+                    .build());
+            if (settings != null) {
+                settings.setUser(user);
+                userSettingsRepository.save(settings);
+            }
+            return user.getId();
+        });
+        userIds.add(userId);
+        return userId;
+    }
+}
@@ -0,0 +1,196 @@
+package kr.hyfata.rest.api.service.agora;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.hyfata.rest.api.dto.agora.chat.MessageDto;
+import kr.hyfata.rest.api.service.agora.MessageHistoryService.VisibleMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.ListOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RecentMessageCacheTest {
+
+    private static final Long CHAT_ID = 1L;
+    private static final Long USER_ID = 10L;
+    private static final Long OTHER_USER_ID = 20L;
+
+    @Mock
+    private MessageHistoryService messageHistoryService;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ListOperations<String, String> listOperations;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private RecentMessageCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new RecentMessageCache(messageHistoryService, redisTemplate, objectMapper, meterRegistry);
+        ReflectionTestUtils.setField(cache, "enabled", true);
+        ReflectionTestUtils.setField(cache, "capacity", 5);
+        ReflectionTestUtils.setField(cache, "maxBytes", DataSize.ofMegabytes(1));
+        ReflectionTestUtils.setField(cache, "redisMirror", false);
+        ReflectionTestUtils.setField(cache, "localTtl", Duration.ofSeconds(2));
+        ReflectionTestUtils.setField(cache, "redisTtl", Duration.ofHours(1));
+        cache.init();
+    }
+
+    @Test
+    @DisplayName("한 번 채운 뒤에는 DB 없이 응답하고, 전송된 메시지는 앞에 추가")
+    void servesFromMemoryAfterFill() {
+        when(messageHistoryService.getLatestForAll(CHAT_ID, 5)).thenReturn(visible(3, 2, 1));
+
+        assertThat(ids(cache.getLatest(CHAT_ID, USER_ID, 3))).containsExactly(3L, 2L, 1L);
+
+        cache.messageSent(CHAT_ID, null, message(4));
+        assertThat(ids(cache.getLatest(CHAT_ID, USER_ID, 3))).containsExactly(4L, 3L, 2L);
+
+        verify(messageHistoryService, times(1)).getLatestForAll(CHAT_ID, 5);
+        assertThat(meterRegistry.counter("hyfata.chat.recent_cache.requests", "result", "hit").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("hyfata.chat.recent_cache.requests", "result", "miss").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다른 사용자 전용 메시지는 거르고, 버퍼로 한 페이지를 못 채우면 DB 조회")
+    void filtersPrivateMessages() {
+        when(messageHistoryService.getLatestForAll(CHAT_ID, 5)).thenReturn(visible(3, 2, 1));
+        cache.getLatest(CHAT_ID, USER_ID, 1);
+
+        cache.messageSent(CHAT_ID, OTHER_USER_ID, message(4));
+        cache.messageSent(CHAT_ID, USER_ID, message(5));
+
+        assertThat(ids(cache.getLatest(CHAT_ID, USER_ID, 4))).containsExactly(5L, 3L, 2L, 1L);
+        assertThat(ids(cache.getLatest(CHAT_ID, OTHER_USER_ID, 4))).containsExactly(4L, 3L, 2L, 1L);
+
+        // 버퍼가 가득 찼는데 USER_ID 에게 보이는 메시지가 4개뿐이므로 더 오래된 메시지가 있을 수 있다
+        cache.getLatest(CHAT_ID, USER_ID, 5);
+        verify(messageHistoryService).getPage(eq(USER_ID), eq(CHAT_ID), any(), eq(5));
+        verify(messageHistoryService, times(1)).getLatestForAll(CHAT_ID, 5);
+    }
+
+    @Test
+    @DisplayName("메시지가 삭제되면 채팅을 비우고 다시 DB 에서 채움")
+    void messagesChangedEvicts() {
+        when(messageHistoryService.getLatestForAll(CHAT_ID, 5)).thenReturn(visible(2, 1), visible(1));
+        cache.getLatest(CHAT_ID, USER_ID, 5);
+
+        cache.messagesChanged(CHAT_ID);
+
+        assertThat(ids(cache.getLatest(CHAT_ID, USER_ID, 5))).containsExactly(1L);
+        verify(messageHistoryService, times(2)).getLatestForAll(CHAT_ID, 5);
+    }
+
+    @Test
+    @DisplayName("발신자 프로필이 바뀌면 참여한 채팅을 비워 새 이름으로 다시 채움")
+    void senderProfileChangedEvicts() {
+        MessageDto renamed = message(1);
+        renamed.setSenderName("new name");
+        when(messageHistoryService.getLatestForAll(CHAT_ID, 5))
+                .thenReturn(visible(1), List.of(new VisibleMessage(null, renamed)));
+        cache.getLatest(CHAT_ID, USER_ID, 5);
+
+        cache.senderProfileChanged(List.of(CHAT_ID));
+
+        assertThat(cache.getLatest(CHAT_ID, USER_ID, 5)).extracting(MessageDto::getSenderName)
+                .containsExactly("new name");
+    }
+
+    @Test
+    @DisplayName("Redis 미러가 꺼져 있어도 local-ttl 이 지난 버퍼는 다시 채움")
+    void localTtlAppliesWithoutMirror() {
+        ReflectionTestUtils.setField(cache, "localTtl", Duration.ZERO);
+        when(messageHistoryService.getLatestForAll(CHAT_ID, 5)).thenReturn(visible(1), visible(2, 1));
+        cache.getLatest(CHAT_ID, USER_ID, 5);
+
+        assertThat(ids(cache.getLatest(CHAT_ID, USER_ID, 5))).containsExactly(2L, 1L);
+        verify(messageHistoryService, times(2)).getLatestForAll(CHAT_ID, 5);
+    }
+
+    @Test
+    @DisplayName("Redis 미러가 켜져 있으면 처음부터 Redis 목록에서 채움")
+    void fillsFromRedisMirror() throws Exception {
+        ReflectionTestUtils.setField(cache, "redisMirror", true);
+        String json = objectMapper.writeValueAsString(new VisibleMessage(null, message(7)));
+        when(redisTemplate.opsForList()).thenReturn(listOperations);
+        when(listOperations.range("chat:recent:" + CHAT_ID, 0, 4)).thenReturn(List.of("7|" + json));
+
+        assertThat(ids(cache.getLatest(CHAT_ID, USER_ID, 1))).containsExactly(7L);
+        verify(messageHistoryService, never()).getLatestForAll(anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("메모리 예산을 넘으면 가장 오래 쓰이지 않은 채팅부터 버림")
+    void evictsLeastRecentlyUsedChat() {
+        when(messageHistoryService.getLatestForAll(anyLong(), eq(5))).thenReturn(visible(3, 2, 1));
+        cache.getLatest(1L, USER_ID, 1);
+        long perChat = cache.totalBytes();
+        ReflectionTestUtils.setField(cache, "maxBytes", DataSize.ofBytes(perChat * 2));
+
+        cache.getLatest(2L, USER_ID, 1);
+        cache.getLatest(1L, USER_ID, 1);
+        cache.getLatest(3L, USER_ID, 1);
+
+        assertThat(cache.chatCount()).isEqualTo(2);
+        assertThat(cache.totalBytes()).isEqualTo(perChat * 2);
+        cache.getLatest(1L, USER_ID, 1);
+        cache.getLatest(2L, USER_ID, 1);
+        verify(messageHistoryService, times(2)).getLatestForAll(2L, 5);
+        verify(messageHistoryService, times(1)).getLatestForAll(1L, 5);
+    }
+
+    @Test
+    @DisplayName("버퍼보다 큰 페이지는 캐시를 거치지 않음")
+    void bypassesLargePages() {
+        cache.getLatest(CHAT_ID, USER_ID, 10);
+
+        verify(messageHistoryService).getPage(eq(USER_ID), eq(CHAT_ID), any(), eq(10));
+        verify(messageHistoryService, never()).getLatestForAll(anyLong(), anyInt());
+    }
+
+    private static List<VisibleMessage> visible(long... messageIds) {
+        List<VisibleMessage> messages = new ArrayList<>();
+        for (long messageId : messageIds) {
+            messages.add(new VisibleMessage(null, message(messageId)));
+        }
+        return messages;
+    }
+
+    private static MessageDto message(long messageId) {
+        return MessageDto.builder()
+                .messageId(messageId)
+                .senderId(USER_ID)
+                .content("message " + messageId)
+                .type("TEXT")
+                .isDeleted(false)
+                .isPinned(false)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    private static List<Long> ids(List<MessageDto> messages) {
+        return messages.stream().map(MessageDto::getMessageId).toList();
+    }
+}
@@ -0,0 +1,115 @@
+package kr.hyfata.rest.api.service.impl;
+
+import kr.hyfata.rest.api.dto.agora.NotificationResponse;
+import kr.hyfata.rest.api.entity.User;
+import kr.hyfata.rest.api.entity.agora.Notification;
+import kr.hyfata.rest.api.repository.UserRepository;
+import kr.hyfata.rest.api.repository.agora.FcmTokenRepository;
+import kr.hyfata.rest.api.repository.agora.NotificationRepository;
+import kr.hyfata.rest.api.service.agora.NotificationCounterService;
+import kr.hyfata.rest.api.service.agora.impl.AgoraNotificationServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AgoraNotificationServiceImplTest {
+
+    private static final String EMAIL = "reader@example.com";
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    @Mock
+    private FcmTokenRepository fcmTokenRepository;
+
+    @Mock
+    private NotificationCounterService notificationCounterService;
+
+    @InjectMocks
+    private AgoraNotificationServiceImpl agoraNotificationService;
+
+    private User user;
+    private Notification notification;
+
+    @BeforeEach
+    void setUp() {
+        user = User.builder().id(1L).email(EMAIL).build();
+        notification = Notification.builder().id(10L).user(user).type("TEST").title("title").build();
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user));
+    }
+
+    @Test
+    @DisplayName("읽음 처리 - 조건부 UPDATE가 반영된 요청만 카운터 감소")
+    void markAsRead_decrementsOnlyWhenRowUpdated() {
+        // given
+        when(notificationRepository.findById(10L)).thenReturn(Optional.of(notification));
+        when(notificationRepository.markAsReadIfUnread(10L)).thenReturn(1);
+
+        // when
+        NotificationResponse response = agoraNotificationService.markAsRead(EMAIL, 10L);
+
+        // then
+        assertThat(response.getIsRead()).isTrue();
+        verify(notificationCounterService).onUnreadRemoved(1L, EMAIL);
+    }
+
+    @Test
+    @DisplayName("읽음 처리 - 동시 요청이 먼저 읽음 처리했으면 카운터를 다시 감소시키지 않음")
+    void markAsRead_alreadyMarkedConcurrently_doesNotDecrementAgain() {
+        // given
+        when(notificationRepository.findById(10L)).thenReturn(Optional.of(notification));
+        when(notificationRepository.markAsReadIfUnread(10L)).thenReturn(0);
+
+        // when
+        NotificationResponse response = agoraNotificationService.markAsRead(EMAIL, 10L);
+
+        // then
+        assertThat(response.getIsRead()).isTrue();
+        verify(notificationCounterService, never()).onUnreadRemoved(anyLong(), anyString());
+    }
+
+    @Test
+    @DisplayName("모두 읽음 처리 - 실제로 읽음 처리된 건수를 카운터에 전달")
+    void markAllAsRead_passesMarkedCount() {
+        // given
+        when(notificationRepository.markAllAsReadByUserId(1L)).thenReturn(3);
+
+        // when
+        agoraNotificationService.markAllAsRead(EMAIL);
+
+        // then
+        verify(notificationCounterService).onAllRead(1L, EMAIL, 3);
+    }
+
+    @Test
+    @DisplayName("삭제 - 읽은 알림이면 카운터를 건드리지 않고 삭제")
+    void deleteNotification_readNotification_doesNotDecrement() {
+        // given
+        when(notificationRepository.findById(10L)).thenReturn(Optional.of(notification));
+        when(notificationRepository.deleteIfUnread(10L)).thenReturn(0);
+
+        // when
+        agoraNotificationService.deleteNotification(EMAIL, 10L);
+
+        // then
+        verify(notificationRepository).deleteById(10L);
+        verify(notificationCounterService, never()).onUnreadRemoved(anyLong(), anyString());
+    }
+}
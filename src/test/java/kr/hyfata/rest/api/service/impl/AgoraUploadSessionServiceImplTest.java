@@ -0,0 +1,178 @@
+package kr.hyfata.rest.api.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import kr.hyfata.rest.api.dto.agora.CreateUploadSessionRequest;
+import kr.hyfata.rest.api.dto.agora.FileUploadResponse;
+import kr.hyfata.rest.api.dto.agora.UploadSessionResponse;
+import kr.hyfata.rest.api.entity.User;
+import kr.hyfata.rest.api.repository.UserRepository;
+import kr.hyfata.rest.api.repository.agora.AgoraFileRepository;
+import kr.hyfata.rest.api.service.agora.impl.AgoraUploadSessionServiceImpl;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AgoraUploadSessionServiceImplTest {
+
+    private static final String EMAIL = "uploader@example.com";
+    private static final byte[] CONTENT = "hello chunks".getBytes(StandardCharsets.UTF_8);
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private AgoraFileRepository agoraFileRepository;
+
+    @TempDir
+    private Path tempDir;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+
+    private AgoraUploadSessionServiceImpl service;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        Files.createDirectories(tempDir.resolve("partial"));
+        Files.createDirectories(tempDir.resolve("files"));
+        lenient().when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(User.builder().id(1L).email(EMAIL).build()));
+        service = newService();
+    }
+
+    @Test
+    @DisplayName("사용자별 진행 중인 세션 수를 넘으면 새 세션을 거부")
+    void createSession_rejectsOverPerUserLimit() {
+        // given
+        service.createSession(EMAIL, request());
+        service.createSession(EMAIL, request());
+
+        // when & then
+        assertThatThrownBy(() -> service.createSession(EMAIL, request()))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("한도 초과로 거부된 세션은 임시 파일을 남기지 않음")
+    void createSession_rejected_leavesNoPartialFiles() throws IOException {
+        // given
+        service.createSession(EMAIL, request());
+        service.createSession(EMAIL, request());
+
+        // when
+        assertThatThrownBy(() -> service.createSession(EMAIL, request()))
+                .isInstanceOf(IllegalStateException.class);
+
+        // then: 등록된 두 세션의 .part/.json 만 남음
+        try (var files = Files.list(tempDir.resolve("partial"))) {
+            assertThat(files).hasSize(4);
+        }
+    }
+
+    @Test
+    @DisplayName("재시작 후에도 받은 청크를 기억하고 이어받아 해시를 검증한 뒤 완료")
+    void session_resumesAfterRestart() throws IOException {
+        // given
+        when(agoraFileRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        String uploadId = service.createSession(EMAIL, request()).getUploadId();
+        writeChunk(service, uploadId, 4);
+        writeChunk(service, uploadId, 0);
+
+        // when
+        AgoraUploadSessionServiceImpl restarted = newService();
+        UploadSessionResponse status = restarted.getStatus(EMAIL, uploadId);
+        writeChunk(restarted, uploadId, 8);
+        FileUploadResponse completed = restarted.complete(EMAIL, uploadId);
+
+        // then
+        assertThat(status.getReceivedBytes()).isEqualTo(8);
+        assertThat(status.getMissingOffsets()).containsExactly(8L);
+        assertThat(Files.readAllBytes(tempDir.resolve("files").resolve(completed.getFileName()))).isEqualTo(CONTENT);
+        try (var files = Files.list(tempDir.resolve("partial"))) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("취소는 진행 중인 청크 기록이 끝날 때까지 기다린 뒤 세션을 닫음")
+    void abort_waitsForInFlightChunk() throws Exception {
+        // given
+        String uploadId = service.createSession(EMAIL, request()).getUploadId();
+        CountDownLatch reading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        InputStream slowChunk = new InputStream() {
+            private final InputStream delegate = new ByteArrayInputStream(CONTENT, 0, 4);
+
+            @Override
+            public int read() throws IOException {
+                reading.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return delegate.read();
+            }
+        };
+        CompletableFuture<UploadSessionResponse> write =
+                CompletableFuture.supplyAsync(() -> service.writeChunk(EMAIL, uploadId, 0, 4, slowChunk));
+        assertThat(reading.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when
+        CompletableFuture<String> abort = CompletableFuture.supplyAsync(() -> service.abort(EMAIL, uploadId));
+        Thread.sleep(200);
+        boolean abortedDuringWrite = abort.isDone();
+        release.countDown();
+
+        // then
+        assertThat(abortedDuringWrite).isFalse();
+        assertThat(write.get(5, TimeUnit.SECONDS).getReceivedBytes()).isEqualTo(4);
+        abort.get(5, TimeUnit.SECONDS);
+        assertThat(Files.exists(tempDir.resolve("partial").resolve(uploadId + ".part"))).isFalse();
+        assertThatThrownBy(() -> service.getStatus(EMAIL, uploadId)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private AgoraUploadSessionServiceImpl newService() {
+        AgoraUploadSessionServiceImpl created = new AgoraUploadSessionServiceImpl(userRepository, agoraFileRepository, objectMapper);
+        ReflectionTestUtils.setField(created, "chunkSize", 4);
+        ReflectionTestUtils.setField(created, "sessionTtlHours", 24L);
+        ReflectionTestUtils.setField(created, "maxSessionsPerUser", 2);
+        ReflectionTestUtils.setField(created, "partialDir", tempDir.resolve("partial"));
+        ReflectionTestUtils.setField(created, "uploadDir", tempDir.resolve("files"));
+        ReflectionTestUtils.invokeMethod(created, "restoreSessions");
+        return created;
+    }
+
+    private CreateUploadSessionRequest request() {
+        return new CreateUploadSessionRequest("notes.pdf", "application/pdf", (long) CONTENT.length, DigestUtils.sha256Hex(CONTENT));
+    }
+
+    private void writeChunk(AgoraUploadSessionServiceImpl target, String uploadId, int offset) {
+        byte[] chunk = Arrays.copyOfRange(CONTENT, offset, Math.min(offset + 4, CONTENT.length));
+        target.writeChunk(EMAIL, uploadId, offset, chunk.length, new ByteArrayInputStream(chunk));
+    }
+}
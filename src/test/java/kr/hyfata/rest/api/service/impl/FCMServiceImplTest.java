@@ -0,0 +1,147 @@
+package kr.hyfata.rest.api.service.impl;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.hyfata.rest.api.repository.agora.FcmTokenRepository;
+import kr.hyfata.rest.api.service.PushGateway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class FCMServiceImplTest {
+
+    @Mock
+    private FcmTokenRepository fcmTokenRepository;
+
+    private FakePushGateway pushGateway;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private FCMServiceImpl fcmService;
+
+    @BeforeEach
+    void setUp() {
+        pushGateway = new FakePushGateway();
+        meterRegistry = new SimpleMeterRegistry();
+        fcmService = new FCMServiceImpl(pushGateway, fcmTokenRepository, meterRegistry);
+        ReflectionTestUtils.setField(fcmService, "maxAttempts", 3);
+        ReflectionTestUtils.setField(fcmService, "initialBackoffMs", 0L);
+    }
+
+    @Test
+    @DisplayName("토큰을 500개 단위 배치로 묶어 발송")
+    void deliver_splitsIntoBatchesOf500() {
+        // given
+        List<String> tokens = tokens(1200);
+
+        // when
+        fcmService.deliver(tokens, "title", "body", null);
+
+        // then
+        assertThat(pushGateway.batchSizes).containsExactly(500, 500, 200);
+        verify(fcmTokenRepository, never()).deleteByTokenIn(any());
+    }
+
+    @Test
+    @DisplayName("일시적 오류 토큰만 재시도하고 등록 해제된 토큰은 삭제")
+    void deliver_retriesTransientFailuresAndPrunesUnregistered() {
+        // given
+        List<String> tokens = tokens(3);
+        pushGateway.script("token-1", PushGateway.Result.RETRYABLE, PushGateway.Result.SUCCESS);
+        pushGateway.script("token-2", PushGateway.Result.UNREGISTERED);
+
+        // when
+        fcmService.deliver(tokens, "title", "body", null);
+
+        // then
+        assertThat(pushGateway.batchSizes).containsExactly(3, 1);
+        verify(fcmTokenRepository).deleteByTokenIn(List.of("token-2"));
+        assertThat(meterRegistry.counter("hyfata.push.tokens", "result", "success").count()).isEqualTo(2);
+        assertThat(meterRegistry.counter("hyfata.push.tokens", "result", "retryable").count()).isEqualTo(1);
+        assertThat(meterRegistry.timer("hyfata.push.batch").count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("재시도 횟수를 초과하면 발송 포기")
+    void deliver_givesUpAfterMaxAttempts() {
+        // given
+        pushGateway.script("token-0",
+                PushGateway.Result.RETRYABLE, PushGateway.Result.RETRYABLE,
+                PushGateway.Result.RETRYABLE, PushGateway.Result.SUCCESS);
+
+        // when
+        fcmService.deliver(tokens(1), "title", "body", null);
+
+        // then
+        assertThat(pushGateway.batchSizes).containsExactly(1, 1, 1);
+    }
+
+    @Test
+    @DisplayName("푸시 게이트웨이를 쓸 수 없으면 토큰 조회 없이 요청을 무시")
+    void sendNotificationToMultipleUsers_gatewayUnavailable_doesNothing() {
+        // given
+        pushGateway.available = false;
+
+        // when
+        fcmService.sendNotificationToMultipleUsers(List.of(1L, 2L), "title", "body", Map.of());
+        fcmService.sendNotification("token-0", "title", "body");
+
+        // then
+        assertThat(pushGateway.batchSizes).isEmpty();
+        verifyNoInteractions(fcmTokenRepository);
+    }
+
+    private List<String> tokens(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> "token-" + i)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 토큰별로 미리 지정한 결과를 순서대로 반환하는 로컬 fake (지정이 없으면 SUCCESS)
+     */
+    private static class FakePushGateway implements PushGateway {
+
+        private final Map<String, List<Result>> scripted = new HashMap<>();
+        private final List<Integer> batchSizes = new ArrayList<>();
+        private boolean available = true;
+
+        void script(String token, Result... results) {
+            scripted.put(token, new ArrayList<>(List.of(results)));
+        }
+
+        @Override
+        public boolean isAvailable() {
+            return available;
+        }
+
+        @Override
+        public List<Result> sendEach(List<String> tokens, String title, String body, Map<String, String> data) {
+            assertThat(tokens.size()).isLessThanOrEqualTo(MAX_BATCH_SIZE);
+            batchSizes.add(tokens.size());
+            return tokens.stream()
+                    .map(token -> {
+                        List<Result> results = scripted.get(token);
+                        return results == null || results.isEmpty() ? Result.SUCCESS : results.remove(0);
+                    })
+                    .collect(Collectors.toList());
+        }
+    }
+}
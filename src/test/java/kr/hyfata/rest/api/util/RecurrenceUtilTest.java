@@ -0,0 +1,106 @@
+package kr.hyfata.rest.api.util;
+
+import kr.hyfata.rest.api.entity.agora.Event;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RecurrenceUtilTest {
+
+    private static final LocalDateTime JAN_1 = LocalDateTime.of(2025, 1, 1, 0, 0);
+    private static final LocalDateTime FEB_1 = LocalDateTime.of(2025, 2, 1, 0, 0);
+
+    @Test
+    @DisplayName("단일 일정 - 구간에 걸쳐 있으면 포함")
+    void expand_single_spanningWindow() {
+        // given
+        LocalDateTime start = LocalDateTime.of(2024, 12, 30, 9, 0);
+        LocalDateTime end = LocalDateTime.of(2025, 1, 2, 18, 0);
+
+        // when
+        List<LocalDateTime> result = RecurrenceUtil.expand(Event.Recurrence.NONE, null,
+                start, end, null, JAN_1, FEB_1, 100);
+
+        // then
+        assertThat(result).containsExactly(start);
+    }
+
+    @Test
+    @DisplayName("단일 일정 - 구간 시작 시각에 끝나면 제외")
+    void expand_single_endsAtWindowStart() {
+        // when
+        List<LocalDateTime> result = RecurrenceUtil.expand(Event.Recurrence.NONE, null,
+                LocalDateTime.of(2024, 12, 31, 23, 0), JAN_1, null, JAN_1, FEB_1, 100);
+
+        // then
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    @DisplayName("주간 반복 - 오래전 시작한 일정도 구간 안의 발생만 반환")
+    void expand_weekly_onlyWithinWindow() {
+        // given
+        LocalDateTime start = LocalDateTime.of(2020, 1, 6, 10, 0);  // 월요일
+
+        // when
+        List<LocalDateTime> result = RecurrenceUtil.expand(Event.Recurrence.WEEKLY, 1,
+                start, start.plusHours(1), null, JAN_1, FEB_1, 100);
+
+        // then
+        assertThat(result).containsExactly(
+                LocalDateTime.of(2025, 1, 6, 10, 0),
+                LocalDateTime.of(2025, 1, 13, 10, 0),
+                LocalDateTime.of(2025, 1, 20, 10, 0),
+                LocalDateTime.of(2025, 1, 27, 10, 0));
+    }
+
+    @Test
+    @DisplayName("일간 반복 - 간격과 종료 시각 적용")
+    void expand_daily_intervalAndUntil() {
+        // given
+        LocalDateTime start = LocalDateTime.of(2025, 1, 1, 9, 0);
+        LocalDateTime until = LocalDateTime.of(2025, 1, 7, 9, 0);
+
+        // when
+        List<LocalDateTime> result = RecurrenceUtil.expand(Event.Recurrence.DAILY, 3,
+                start, start.plusHours(1), until, JAN_1, FEB_1, 100);
+
+        // then
+        assertThat(result).containsExactly(
+                LocalDateTime.of(2025, 1, 1, 9, 0),
+                LocalDateTime.of(2025, 1, 4, 9, 0),
+                LocalDateTime.of(2025, 1, 7, 9, 0));
+    }
+
+    @Test
+    @DisplayName("월간 반복 - 31일 일정은 짧은 달에 말일로 조정")
+    void expand_monthly_endOfMonth() {
+        // given
+        LocalDateTime start = LocalDateTime.of(2024, 10, 31, 12, 0);
+
+        // when
+        List<LocalDateTime> result = RecurrenceUtil.expand(Event.Recurrence.MONTHLY, 1,
+                start, start.plusHours(1), null,
+                LocalDateTime.of(2025, 2, 1, 0, 0), LocalDateTime.of(2025, 4, 1, 0, 0), 100);
+
+        // then
+        assertThat(result).containsExactly(
+                LocalDateTime.of(2025, 2, 28, 12, 0),
+                LocalDateTime.of(2025, 3, 31, 12, 0));
+    }
+
+    @Test
+    @DisplayName("최대 개수 제한")
+    void expand_respectsMaxOccurrences() {
+        // when
+        List<LocalDateTime> result = RecurrenceUtil.expand(Event.Recurrence.DAILY, 1,
+                JAN_1, JAN_1.plusMinutes(30), null, JAN_1, FEB_1, 5);
+
+        // then
+        assertThat(result).hasSize(5);
+    }
+}
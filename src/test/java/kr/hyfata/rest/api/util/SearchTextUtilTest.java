@@ -0,0 +1,62 @@
+package kr.hyfata.rest.api.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SearchTextUtilTest {
+
+    @Test
+    @DisplayName("한글 이름은 자모로 분해되어 두 글자도 세 글자 이상이 됨")
+    void normalizeName_decomposesHangul() {
+        // when
+        String result = SearchTextUtil.normalizeName("철수");
+
+        // then
+        assertThat(result).hasSize(5);
+        assertThat(SearchTextUtil.normalizeName("김철수")).contains(result);
+    }
+
+    @Test
+    @DisplayName("대소문자, 전각 문자, 공백 차이는 무시")
+    void normalizeName_ignoresCaseWidthAndSpaces() {
+        // when
+        String result = SearchTextUtil.normalizeName(" Ｊｏｈｎ  Doe ");
+
+        // then
+        assertThat(result).isEqualTo("johndoe");
+    }
+
+    @Test
+    @DisplayName("LIKE 와일드카드 이스케이프")
+    void escapeLike() {
+        // when
+        String result = SearchTextUtil.escapeLike("john_100%\\");
+
+        // then
+        assertThat(result).isEqualTo("john\\_100\\%\\\\");
+    }
+
+    @Test
+    @DisplayName("메시지 검색어: 한글은 2글자 단위, 그 외 단어는 접두어")
+    void toMessageTsQuery() {
+        // when
+        String result = SearchTextUtil.toMessageTsQuery("철수가 보낸 File.pdf");
+
+        // then
+        assertThat(result).isEqualTo("'철수' & '수가' & '보낸' & 'file':* & 'pdf':*");
+    }
+
+    @Test
+    @DisplayName("메시지 검색어: 따옴표 이스케이프, 단어가 없으면 null")
+    void toMessageTsQuery_quotesAndEmpty() {
+        // when
+        String quoted = SearchTextUtil.toMessageTsQuery("it's");
+        String empty = SearchTextUtil.toMessageTsQuery(" !? ");
+
+        // then
+        assertThat(quoted).isEqualTo("'it':* & 's':*");
+        assertThat(empty).isNull();
+    }
+}